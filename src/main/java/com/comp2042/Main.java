@@ -12,12 +12,16 @@ import javafx.stage.Stage;
 
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Path;
 
 import com.comp2042.controllers.GameController;
 import com.comp2042.controllers.GuiController;
 import com.comp2042.controllers.MainMenuController;
 import com.comp2042.controllers.SettingsController;
+import com.comp2042.controllers.SplitScreenController;
 import com.comp2042.models.GameMode;
+import com.comp2042.records.RecordsJournal;
+import com.comp2042.save.SaveGame;
 
 /**
  * Main application class for TetrisJFX.
@@ -41,6 +45,7 @@ public class Main extends Application {
     private static final String GAME_FXML = "gameLayout.fxml";
     private static final String MAIN_MENU_FXML = "MainMenu.fxml";
     private static final String SETTINGS_FXML = "Settings.fxml";
+    private static final String SPLIT_SCREEN_FXML = "splitScreenLayout.fxml";
 
     // Primary stage is kept so we can swap scenes (menu <-> game).
     private Stage primaryStage;
@@ -175,6 +180,27 @@ public class Main extends Application {
      * @param mode the game mode to start (Classic, Survival, Hyper, or Rush 40)
      */
     public void showGameScene(GameMode mode) {
+        showGameScene(mode, null);
+    }
+
+    /**
+     * Continues the game saved when the player last left to the menu.
+     * The save is used up: it is deleted once loaded.
+     *
+     * @return false if there was no usable save
+     */
+    public boolean resumeSavedGame() {
+        Path file = SaveGame.defaultFile();
+        SaveGame save = SaveGame.read(file);
+        SaveGame.delete(file);
+        if (save == null) {
+            return false;
+        }
+        showGameScene(save.getMode(), save);
+        return true;
+    }
+
+    private void showGameScene(GameMode mode, SaveGame save) {
         System.out.println("showGameScene called with mode: " + mode);
         URL location = getClass().getClassLoader().getResource(GAME_FXML);
         if (location == null) {
@@ -222,7 +248,7 @@ public class Main extends Application {
             // Start game logic.
             System.out.println("Creating GameController...");
             try {
-            new GameController(guiController, mode);
+            new GameController(guiController, mode, save);
                 System.out.println("GameController created successfully");
             } catch (Exception e) {
                 System.err.println("ERROR: Failed to create GameController: " + e.getMessage());
@@ -240,6 +266,42 @@ public class Main extends Application {
         }
     }
 
+    /**
+     * Loads and shows local split-screen for 2-4 players. All boards share
+     * one controller, one timer and one image; see SplitScreenController.
+     *
+     * @param players number of players
+     */
+    public void showSplitScreenScene(int players) {
+        URL location = getClass().getClassLoader().getResource(SPLIT_SCREEN_FXML);
+        if (location == null) {
+            throw new IllegalStateException("Cannot find FXML file " + SPLIT_SCREEN_FXML);
+        }
+
+        try {
+            FXMLLoader loader = new FXMLLoader(location);
+            Parent root = loader.load();
+
+            bindRootToStageSize(root);
+
+            Scene scene = new Scene(root);
+            attachFullscreenToggle(scene);
+
+            primaryStage.setScene(scene);
+            primaryStage.show();
+
+            // Ensure fullscreen mode is maintained
+            if (!primaryStage.isFullScreen()) {
+                primaryStage.setFullScreen(true);
+            }
+
+            SplitScreenController controller = loader.getController();
+            controller.init(this, players);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load split screen", e);
+        }
+    }
+
     /**
      * If the root is a Region (BorderPane, AnchorPane, etc.), bind its preferred
      * size to the stage size so the layout always fills the window.
@@ -272,6 +334,14 @@ public class Main extends Application {
         });
     }
 
+    /**
+     * Makes sure finished runs queued for the records journal reach the disk.
+     */
+    @Override
+    public void stop() {
+        RecordsJournal.closeInstance();
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
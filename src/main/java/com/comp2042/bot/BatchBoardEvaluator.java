@@ -0,0 +1,214 @@
+package com.comp2042.bot;
+
+import java.util.Arrays;
+
+/**
+ * Computes feature vectors and linear scores for every board in a {@link CandidateBatch}.
+ *
+ * Three paths produce identical results:
+ * <ul>
+ *   <li>{@link #evaluateVector} runs the bit-parallel steps below on a vector of
+ *       candidates at once with the incubating Vector API ({@link VectorBoardKernel}).
+ *       It needs {@code --add-modules jdk.incubator.vector}.</li>
+ *   <li>{@link #evaluateSwar} works on whole packed rows at a time. All columns of a row are
+ *       handled by a few bitwise operations and {@link Integer#bitCount}, and the inner
+ *       loop runs across candidates over contiguous arrays so the JIT can vectorise it.</li>
+ *   <li>{@link #evaluateScalar} walks every board cell by cell, column by column.
+ *       It is the simple reference implementation and the fallback for debugging.</li>
+ * </ul>
+ * {@link #evaluate} takes the vector path when the module is present and the
+ * bit-parallel one otherwise.
+ *
+ * Features: aggregate height, holes (empty cells with a filled cell somewhere above),
+ * bumpiness (sum of height differences between neighbouring columns) and completed lines.
+ * An instance keeps scratch buffers and is not thread-safe; use one per worker.
+ */
+public final class BatchBoardEvaluator {
+
+    private static final boolean VECTOR_AVAILABLE =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    // Per-candidate "column already has a block above this row" masks.
+    private int[] covered = new int[0];
+
+    /**
+     * Whether the Vector API path can run in this JVM.
+     *
+     * @return true if jdk.incubator.vector was added to the boot layer
+     */
+    public static boolean isVectorAvailable() {
+        return VECTOR_AVAILABLE;
+    }
+
+    /**
+     * Evaluates every candidate with the fastest path this JVM supports.
+     *
+     * @param batch the candidates to evaluate (results are written back into it)
+     * @param weights linear weights used for the score
+     */
+    public void evaluate(CandidateBatch batch, EvaluationWeights weights) {
+        if (VECTOR_AVAILABLE) {
+            evaluateVector(batch, weights);
+        } else {
+            evaluateSwar(batch, weights);
+        }
+    }
+
+    /**
+     * Evaluates every candidate with the Vector API, a vector of candidates
+     * at a time; the candidates left over after the last whole vector take
+     * the bit-parallel path.
+     *
+     * @param batch the candidates to evaluate (results are written back into it)
+     * @param weights linear weights used for the score
+     * @throws IllegalStateException if jdk.incubator.vector is not available
+     */
+    public void evaluateVector(CandidateBatch batch, EvaluationWeights weights) {
+        if (!VECTOR_AVAILABLE) {
+            throw new IllegalStateException("jdk.incubator.vector is not available; run with "
+                    + "--add-modules jdk.incubator.vector");
+        }
+        int done = VectorBoardKernel.features(batch.rowMasks(), batch.getCapacity(), batch.size(),
+                batch.getRows(), batch.getFullRowMask(), batch.aggregateHeights(), batch.holesArray(),
+                batch.bumpinessArray(), batch.completedLinesArray());
+        features(batch, done);
+        applyWeights(batch, weights);
+    }
+
+    /**
+     * Evaluates every candidate with the bit-parallel path.
+     *
+     * @param batch the candidates to evaluate (results are written back into it)
+     * @param weights linear weights used for the score
+     */
+    public void evaluateSwar(CandidateBatch batch, EvaluationWeights weights) {
+        features(batch, 0);
+        applyWeights(batch, weights);
+    }
+
+    /** Bit-parallel features for the candidates from {@code from} on. */
+    private void features(CandidateBatch batch, int from) {
+        int count = batch.size();
+        if (from >= count) {
+            return;
+        }
+        int capacity = batch.getCapacity();
+        int rows = batch.getRows();
+        int fullRow = batch.getFullRowMask();
+        // Pairs (c, c + 1) that exist on the board, used to compare neighbouring columns.
+        int neighbourMask = fullRow >>> 1;
+
+        int[] masks = batch.rowMasks();
+        int[] heights = batch.aggregateHeights();
+        int[] holes = batch.holesArray();
+        int[] bumpiness = batch.bumpinessArray();
+        int[] lines = batch.completedLinesArray();
+
+        if (covered.length < capacity) {
+            covered = new int[capacity];
+        }
+        Arrays.fill(covered, from, count, 0);
+        Arrays.fill(heights, from, count, 0);
+        Arrays.fill(holes, from, count, 0);
+        Arrays.fill(bumpiness, from, count, 0);
+        Arrays.fill(lines, from, count, 0);
+
+        // Walk rows top to bottom. Once a column has a block it stays "covered", so:
+        //  - covered & ~row       -> holes in this row
+        //  - bitCount(covered)    -> this row's contribution to every column height
+        //  - covered ^ (covered >>> 1) -> neighbours whose heights differ at this level
+        for (int row = 0; row < rows; row++) {
+            int base = row * capacity;
+            for (int i = from; i < count; i++) {
+                int mask = masks[base + i];
+                int above = covered[i];
+                int now = above | mask;
+
+                holes[i] += Integer.bitCount(above & ~mask);
+                heights[i] += Integer.bitCount(now);
+                bumpiness[i] += Integer.bitCount((now ^ (now >>> 1)) & neighbourMask);
+                lines[i] += (mask == fullRow) ? 1 : 0;
+
+                covered[i] = now;
+            }
+        }
+    }
+
+    /**
+     * Evaluates every candidate one cell at a time. Slower, but trivially correct.
+     *
+     * @param batch the candidates to evaluate (results are written back into it)
+     * @param weights linear weights used for the score
+     */
+    public void evaluateScalar(CandidateBatch batch, EvaluationWeights weights) {
+        int count = batch.size();
+        int rows = batch.getRows();
+        int columns = batch.getColumns();
+
+        int[] heights = batch.aggregateHeights();
+        int[] holes = batch.holesArray();
+        int[] bumpiness = batch.bumpinessArray();
+        int[] lines = batch.completedLinesArray();
+        int[] columnHeights = new int[columns];
+
+        for (int i = 0; i < count; i++) {
+            int aggregate = 0;
+            int holeCount = 0;
+
+            for (int col = 0; col < columns; col++) {
+                int height = 0;
+                boolean seenBlock = false;
+                for (int row = 0; row < rows; row++) {
+                    boolean filled = ((batch.getRow(i, row) >>> col) & 1) != 0;
+                    if (filled && !seenBlock) {
+                        seenBlock = true;
+                        height = rows - row;
+                    } else if (!filled && seenBlock) {
+                        holeCount++;
+                    }
+                }
+                columnHeights[col] = height;
+                aggregate += height;
+            }
+
+            int bumps = 0;
+            for (int col = 0; col < columns - 1; col++) {
+                bumps += Math.abs(columnHeights[col] - columnHeights[col + 1]);
+            }
+
+            int full = 0;
+            for (int row = 0; row < rows; row++) {
+                boolean complete = true;
+                for (int col = 0; col < columns; col++) {
+                    if (((batch.getRow(i, row) >>> col) & 1) == 0) {
+                        complete = false;
+                        break;
+                    }
+                }
+                if (complete) {
+                    full++;
+                }
+            }
+
+            heights[i] = aggregate;
+            holes[i] = holeCount;
+            bumpiness[i] = bumps;
+            lines[i] = full;
+        }
+
+        applyWeights(batch, weights);
+    }
+
+    private static void applyWeights(CandidateBatch batch, EvaluationWeights weights) {
+        int count = batch.size();
+        int[] heights = batch.aggregateHeights();
+        int[] holes = batch.holesArray();
+        int[] bumpiness = batch.bumpinessArray();
+        int[] lines = batch.completedLinesArray();
+        double[] scores = batch.scoresArray();
+
+        for (int i = 0; i < count; i++) {
+            scores[i] = weights.score(heights[i], holes[i], bumpiness[i], lines[i]);
+        }
+    }
+}
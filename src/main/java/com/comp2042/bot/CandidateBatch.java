@@ -0,0 +1,199 @@
+package com.comp2042.bot;
+
+/**
+ * Reusable struct-of-arrays buffer of candidate boards and their evaluation results.
+ *
+ * Rows are stored row-major across candidates: the mask for row {@code r} of
+ * candidate {@code i} lives at {@code rowMasks[r * capacity + i]}. Keeping the same
+ * row of every candidate contiguous lets the batch evaluator sweep all boards with
+ * one tight loop per row, which the JIT can unroll and vectorise.
+ *
+ * The buffer is allocated once and cleared between searches, so evaluating
+ * hundreds of placements does not allocate per candidate.
+ */
+public final class CandidateBatch {
+
+    private final int capacity;
+    private final int rows;
+    private final int columns;
+    private final int fullRowMask;
+
+    private final int[] rowMasks;
+    private int count;
+
+    // Placement metadata for each candidate.
+    private final int[] rotation;
+    private final int[] offsetX;
+    private final int[] offsetY;
+
+    // Feature vectors and scores filled in by BatchBoardEvaluator.
+    private final int[] aggregateHeight;
+    private final int[] holes;
+    private final int[] bumpiness;
+    private final int[] completedLines;
+    private final double[] scores;
+
+    /**
+     * Creates an empty batch.
+     *
+     * @param capacity maximum number of candidates
+     * @param rows board rows
+     * @param columns board columns (at most 31)
+     */
+    public CandidateBatch(int capacity, int rows, int columns) {
+        if (columns <= 0 || columns > 31) {
+            throw new IllegalArgumentException("Columns must be between 1 and 31: " + columns);
+        }
+        this.capacity = capacity;
+        this.rows = rows;
+        this.columns = columns;
+        this.fullRowMask = (1 << columns) - 1;
+        this.rowMasks = new int[capacity * rows];
+        this.rotation = new int[capacity];
+        this.offsetX = new int[capacity];
+        this.offsetY = new int[capacity];
+        this.aggregateHeight = new int[capacity];
+        this.holes = new int[capacity];
+        this.bumpiness = new int[capacity];
+        this.completedLines = new int[capacity];
+        this.scores = new double[capacity];
+    }
+
+    /**
+     * Removes all candidates so the buffer can be refilled.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Appends a candidate by copying packed rows from another buffer.
+     *
+     * @param source packed rows of the candidate
+     * @param sourceOffset index of row 0 in {@code source}
+     * @param sourceStride distance between rows in {@code source}
+     * @param rotationIndex rotation used by the placement
+     * @param x board column of the placement
+     * @param y board row of the placement
+     * @return the candidate index, or -1 if the batch is full
+     */
+    public int add(int[] source, int sourceOffset, int sourceStride, int rotationIndex, int x, int y) {
+        if (count >= capacity) {
+            return -1;
+        }
+        int index = count++;
+        for (int row = 0; row < rows; row++) {
+            rowMasks[row * capacity + index] = source[sourceOffset + row * sourceStride];
+        }
+        rotation[index] = rotationIndex;
+        offsetX[index] = x;
+        offsetY[index] = y;
+        return index;
+    }
+
+    /**
+     * Returns the index of the highest scoring candidate after evaluation.
+     *
+     * @return best candidate index, or -1 if the batch is empty
+     */
+    public int bestIndex() {
+        int best = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            if (scores[i] > bestScore) {
+                bestScore = scores[i];
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getFullRowMask() {
+        return fullRowMask;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Gets a single packed row of a candidate.
+     *
+     * @param index candidate index
+     * @param row board row
+     * @return the row mask
+     */
+    public int getRow(int index, int row) {
+        return rowMasks[row * capacity + index];
+    }
+
+    public int getRotation(int index) {
+        return rotation[index];
+    }
+
+    public int getOffsetX(int index) {
+        return offsetX[index];
+    }
+
+    public int getOffsetY(int index) {
+        return offsetY[index];
+    }
+
+    public int getAggregateHeight(int index) {
+        return aggregateHeight[index];
+    }
+
+    public int getHoles(int index) {
+        return holes[index];
+    }
+
+    public int getBumpiness(int index) {
+        return bumpiness[index];
+    }
+
+    public int getCompletedLines(int index) {
+        return completedLines[index];
+    }
+
+    public double getScore(int index) {
+        return scores[index];
+    }
+
+    // Raw arrays for the evaluator (package-private on purpose).
+
+    int[] rowMasks() {
+        return rowMasks;
+    }
+
+    int[] aggregateHeights() {
+        return aggregateHeight;
+    }
+
+    int[] holesArray() {
+        return holes;
+    }
+
+    int[] bumpinessArray() {
+        return bumpiness;
+    }
+
+    int[] completedLinesArray() {
+        return completedLines;
+    }
+
+    double[] scoresArray() {
+        return scores;
+    }
+}
@@ -0,0 +1,104 @@
+package com.comp2042.bot;
+
+import java.util.Arrays;
+
+/**
+ * Immutable linear weights used to score a candidate board.
+ *
+ * A board's score is the dot product of these weights with its feature vector
+ * (aggregate height, holes, bumpiness, completed lines). Higher scores are better,
+ * so penalised features carry negative weights.
+ */
+public final class EvaluationWeights {
+
+    /** Index of each feature in a feature vector / weight array. */
+    public static final int AGGREGATE_HEIGHT = 0;
+    public static final int HOLES = 1;
+    public static final int BUMPINESS = 2;
+    public static final int COMPLETED_LINES = 3;
+
+    /** Number of features the evaluator produces. */
+    public static final int FEATURE_COUNT = 4;
+
+    private final double[] weights;
+
+    private EvaluationWeights(double[] weights) {
+        this.weights = weights;
+    }
+
+    /**
+     * Creates weights from individual values.
+     *
+     * @param aggregateHeight weight for the sum of column heights
+     * @param holes weight for empty cells covered by a filled cell
+     * @param bumpiness weight for the sum of height differences between neighbouring columns
+     * @param completedLines weight for rows that are completely filled
+     * @return the new weights
+     */
+    public static EvaluationWeights of(double aggregateHeight, double holes,
+                                       double bumpiness, double completedLines) {
+        return new EvaluationWeights(new double[]{aggregateHeight, holes, bumpiness, completedLines});
+    }
+
+    /**
+     * Returns a reasonable hand-tuned starting point for bots and tuning runs.
+     *
+     * @return default weights
+     */
+    public static EvaluationWeights defaults() {
+        return of(-0.510066, -0.35663, -0.184483, 0.760666);
+    }
+
+    /**
+     * Creates weights from an array laid out by the feature index constants.
+     *
+     * @param values weight values (length must be FEATURE_COUNT)
+     * @return the new weights
+     */
+    public static EvaluationWeights fromArray(double[] values) {
+        if (values == null || values.length != FEATURE_COUNT) {
+            throw new IllegalArgumentException("Expected " + FEATURE_COUNT + " weights");
+        }
+        return new EvaluationWeights(values.clone());
+    }
+
+    /**
+     * Returns a copy of the weights laid out by the feature index constants.
+     *
+     * @return weight array
+     */
+    public double[] toArray() {
+        return weights.clone();
+    }
+
+    /**
+     * Gets the weight of a single feature.
+     *
+     * @param feature feature index (e.g. {@link #HOLES})
+     * @return the weight
+     */
+    public double get(int feature) {
+        return weights[feature];
+    }
+
+    /**
+     * Scores a feature vector.
+     *
+     * @param aggregateHeight sum of column heights
+     * @param holes covered empty cells
+     * @param bumpiness sum of neighbouring height differences
+     * @param completedLines full rows
+     * @return the linear score
+     */
+    public double score(int aggregateHeight, int holes, int bumpiness, int completedLines) {
+        return weights[AGGREGATE_HEIGHT] * aggregateHeight
+                + weights[HOLES] * holes
+                + weights[BUMPINESS] * bumpiness
+                + weights[COMPLETED_LINES] * completedLines;
+    }
+
+    @Override
+    public String toString() {
+        return "EvaluationWeights" + Arrays.toString(weights);
+    }
+}
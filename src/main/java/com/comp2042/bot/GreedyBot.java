@@ -0,0 +1,95 @@
+package com.comp2042.bot;
+
+import com.comp2042.logic.bricks.BrickCatalog;
+import com.comp2042.models.SimpleBoard;
+
+import java.util.List;
+
+/**
+ * One-piece lookahead bot: enumerates every placement of the active brick,
+ * scores the resulting boards in one batch and picks the best.
+ *
+ * Holds its own buffers, so create one bot per thread.
+ */
+public final class GreedyBot {
+
+    // Enough for 4 rotations x 10+ columns with room to spare.
+    private static final int MAX_CANDIDATES = 64;
+
+    private final PlacementEnumerator enumerator;
+    private final BatchBoardEvaluator evaluator;
+    private final CandidateBatch batch;
+    private EvaluationWeights weights;
+
+    /**
+     * Creates a bot for boards of the given size.
+     *
+     * @param rows board rows
+     * @param columns board columns
+     * @param weights evaluation weights
+     */
+    public GreedyBot(int rows, int columns, EvaluationWeights weights) {
+        this.enumerator = new PlacementEnumerator(rows, columns);
+        this.evaluator = new BatchBoardEvaluator();
+        this.batch = new CandidateBatch(MAX_CANDIDATES, rows, columns);
+        this.weights = weights;
+    }
+
+    /**
+     * Chooses the best placement for the board's active brick.
+     *
+     * @param board the board to analyse (left unchanged)
+     * @return the chosen placement, or null if the brick has nowhere to go
+     */
+    public Placement choose(SimpleBoard board) {
+        if (board.getCurrentBrick() == null) {
+            return null;
+        }
+        enumerator.enumerate(board, batch);
+        return pickBest();
+    }
+
+    /**
+     * Chooses the best placement from a packed board, as received by external bot clients.
+     *
+     * @param boardMasks packed row bitmasks, one per board row (bit c = column c filled)
+     * @param brickType type id of the brick to place (see BrickCatalog)
+     * @param startY row the brick spawns at
+     * @return the chosen placement, or null if the brick has nowhere to go
+     */
+    public Placement choose(int[] boardMasks, int brickType, int startY) {
+        enumerator.enumerate(boardMasks, BrickCatalog.byType(brickType).getShapeMatrix(), startY, batch);
+        return pickBest();
+    }
+
+    /**
+     * Chooses the best placement from a copy of a board, for callers that
+     * analyse it away from the thread that owns the live board.
+     *
+     * @param matrix the board matrix (rows x columns)
+     * @param rotations every rotation of the brick, in rotation index order
+     * @param startY row the brick starts falling from
+     * @return the chosen placement, or null if the brick has nowhere to go
+     */
+    public Placement choose(int[][] matrix, List<int[][]> rotations, int startY) {
+        enumerator.enumerate(matrix, rotations, startY, batch);
+        return pickBest();
+    }
+
+    private Placement pickBest() {
+        evaluator.evaluate(batch, weights);
+        int best = batch.bestIndex();
+        if (best < 0) {
+            return null;
+        }
+        return new Placement(batch.getRotation(best), batch.getOffsetX(best), batch.getOffsetY(best));
+    }
+
+    public EvaluationWeights getWeights() {
+        return weights;
+    }
+
+    public void setWeights(EvaluationWeights weights) {
+        this.weights = weights;
+    }
+}
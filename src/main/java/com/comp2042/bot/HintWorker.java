@@ -0,0 +1,145 @@
+package com.comp2042.bot;
+
+import com.comp2042.logic.MatrixOperations;
+
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Works out suggested placements for the active brick on a background
+ * thread, so the game never waits for the bot.
+ *
+ * The game requests a hint with the board's version (see
+ * {@code SimpleBoard.getVersion()}). A request for the version already asked
+ * for is ignored; a new version cancels the search that has not started yet
+ * and queues a fresh one on a copy of the board. Results carry the version
+ * they were computed for and are only delivered while it is still the latest
+ * request; the receiver should check it against the live board once more,
+ * since the board may have moved on while the result was on its way.
+ *
+ * The worker thread is a daemon and exits after a second without requests.
+ */
+public final class HintWorker {
+
+    /**
+     * A suggested resting place for the active brick.
+     */
+    public static final class Hint {
+        private final long version;
+        private final int[][] shape;
+        private final int x;
+        private final int y;
+
+        Hint(long version, int[][] shape, int x, int y) {
+            this.version = version;
+            this.shape = shape;
+            this.x = x;
+            this.y = y;
+        }
+
+        /** Board version the hint was computed for. */
+        public long getVersion() {
+            return version;
+        }
+
+        /** The brick's shape in the suggested rotation (shared; do not modify). */
+        public int[][] getShape() {
+            return shape;
+        }
+
+        public int getX() {
+            return x;
+        }
+
+        public int getY() {
+            return y;
+        }
+    }
+
+    private final GreedyBot bot;
+    private final Consumer<Hint> onHint;
+    private final ThreadPoolExecutor executor;
+
+    // Guarded by this; only the latest request's result is delivered.
+    private Future<?> pending;
+    private long requested = Long.MIN_VALUE;
+    private volatile long latest = Long.MIN_VALUE;
+
+    /**
+     * Creates a worker for boards of the given size.
+     *
+     * @param rows board rows
+     * @param columns board columns
+     * @param weights evaluation weights for the bot
+     * @param onHint receives each result, on the worker thread
+     */
+    public HintWorker(int rows, int columns, EvaluationWeights weights, Consumer<Hint> onHint) {
+        this.bot = new GreedyBot(rows, columns, weights);
+        this.onHint = onHint;
+        this.executor = new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "hint-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Asks for a hint for the board as it is now. Returns at once; the board
+     * is copied on the calling thread, which must own it.
+     *
+     * @param version the board's current version
+     * @param matrix the board matrix
+     * @param rotations every rotation of the active brick, in rotation index order
+     * @param startY row the brick starts falling from
+     * @return true if this started a new search, false if the version was already requested
+     */
+    public synchronized boolean request(long version, int[][] matrix, List<int[][]> rotations, int startY) {
+        if (version == requested || executor.isShutdown()) {
+            return false;
+        }
+        requested = version;
+        latest = version;
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        int[][] board = MatrixOperations.copy(matrix);
+        pending = executor.submit(() -> compute(version, board, rotations, startY));
+        return true;
+    }
+
+    /**
+     * Drops any outstanding request, so its result is never delivered.
+     */
+    public synchronized void cancel() {
+        requested = Long.MIN_VALUE;
+        latest = Long.MIN_VALUE;
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+    }
+
+    /**
+     * Cancels outstanding work and stops the worker thread.
+     */
+    public synchronized void shutdown() {
+        cancel();
+        executor.shutdownNow();
+    }
+
+    private void compute(long version, int[][] board, List<int[][]> rotations, int startY) {
+        if (version != latest) {
+            return;
+        }
+        Placement placement = bot.choose(board, rotations, startY);
+        if (placement != null && version == latest) {
+            onHint.accept(new Hint(version, rotations.get(placement.getRotation()),
+                    placement.getX(), placement.getY()));
+        }
+    }
+}
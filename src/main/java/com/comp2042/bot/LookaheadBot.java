@@ -0,0 +1,147 @@
+package com.comp2042.bot;
+
+import java.util.List;
+
+/**
+ * Two-piece lookahead bot with a deadline.
+ *
+ * The active brick's placements are enumerated and scored as in
+ * {@link GreedyBot}. Then, best first, each placement's board has its full
+ * rows cleared and the next brick is placed on it; a placement is worth the
+ * lines it clears plus the best board the next brick can leave. Refining
+ * stops at the deadline and the best refined placement wins; if the deadline
+ * passes before any is refined, the one-piece best is used, so the bot always
+ * answers in about the time it was given.
+ *
+ * Holds its own buffers, so create one bot per thread.
+ */
+public final class LookaheadBot {
+
+    private static final int MAX_CANDIDATES = 64;
+
+    private final int rows;
+    private final PlacementEnumerator enumerator;
+    private final BatchBoardEvaluator evaluator;
+    private final CandidateBatch first;
+    private final CandidateBatch second;
+    private final int[] cleared;
+    private final int[] order = new int[MAX_CANDIDATES];
+    private EvaluationWeights weights;
+
+    private int lastRefined;
+
+    /**
+     * Creates a bot for boards of the given size.
+     *
+     * @param rows board rows
+     * @param columns board columns
+     * @param weights evaluation weights
+     */
+    public LookaheadBot(int rows, int columns, EvaluationWeights weights) {
+        this.rows = rows;
+        this.enumerator = new PlacementEnumerator(rows, columns);
+        this.evaluator = new BatchBoardEvaluator();
+        this.first = new CandidateBatch(MAX_CANDIDATES, rows, columns);
+        this.second = new CandidateBatch(MAX_CANDIDATES, rows, columns);
+        this.cleared = new int[rows];
+        this.weights = weights;
+    }
+
+    /**
+     * Chooses a placement for the active brick, looking at the next brick
+     * until the deadline.
+     *
+     * @param matrix the board matrix (rows x columns)
+     * @param rotations every rotation of the active brick, in rotation index order
+     * @param nextRotations every rotation of the next brick, or null to look one piece ahead only
+     * @param startY row the bricks start falling from
+     * @param deadlineNanos {@link System#nanoTime()} by which to answer
+     * @return the chosen placement, or null if the brick has nowhere to go
+     */
+    public Placement choose(int[][] matrix, List<int[][]> rotations, List<int[][]> nextRotations,
+                            int startY, long deadlineNanos) {
+        lastRefined = 0;
+        int count = enumerator.enumerate(matrix, rotations, startY, first);
+        if (count == 0) {
+            return null;
+        }
+        evaluator.evaluate(first, weights);
+        int best = first.bestIndex();
+        if (nextRotations == null) {
+            return placementOf(best);
+        }
+
+        sortByScore(count);
+        int refinedBest = -1;
+        double refinedScore = Double.NEGATIVE_INFINITY;
+        double lineWeight = weights.get(EvaluationWeights.COMPLETED_LINES);
+        for (int i = 0; i < count && System.nanoTime() < deadlineNanos; i++) {
+            int candidate = order[i];
+            clearFullRows(candidate);
+            double score;
+            if (enumerator.enumerate(cleared, nextRotations, startY, second) == 0) {
+                // The next brick could not enter: the worst outcome there is.
+                score = Double.NEGATIVE_INFINITY;
+            } else {
+                evaluator.evaluate(second, weights);
+                score = lineWeight * first.getCompletedLines(candidate) + second.getScore(second.bestIndex());
+            }
+            lastRefined++;
+            if (refinedBest < 0 || score > refinedScore) {
+                refinedBest = candidate;
+                refinedScore = score;
+            }
+        }
+        return placementOf(refinedBest >= 0 ? refinedBest : best);
+    }
+
+    /** Orders candidates by their one-piece score, best first (insertion sort; at most 64). */
+    private void sortByScore(int count) {
+        for (int i = 0; i < count; i++) {
+            int candidate = i;
+            double score = first.getScore(candidate);
+            int j = i;
+            while (j > 0 && first.getScore(order[j - 1]) < score) {
+                order[j] = order[j - 1];
+                j--;
+            }
+            order[j] = candidate;
+        }
+    }
+
+    /** Copies a candidate's rows into {@link #cleared} with full rows removed. */
+    private void clearFullRows(int candidate) {
+        int full = first.getFullRowMask();
+        int target = rows - 1;
+        for (int row = rows - 1; row >= 0; row--) {
+            int mask = first.getRow(candidate, row);
+            if (mask != full) {
+                cleared[target--] = mask;
+            }
+        }
+        while (target >= 0) {
+            cleared[target--] = 0;
+        }
+    }
+
+    private Placement placementOf(int index) {
+        return new Placement(first.getRotation(index), first.getOffsetX(index), first.getOffsetY(index));
+    }
+
+    /**
+     * Placements whose next brick was searched in the last call.
+     *
+     * @return refined candidate count
+     */
+    public int getLastRefined() {
+        return lastRefined;
+    }
+
+    public EvaluationWeights getWeights() {
+        return weights;
+    }
+
+    public void setWeights(EvaluationWeights weights) {
+        this.weights = weights;
+    }
+}
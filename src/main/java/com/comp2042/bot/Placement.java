@@ -0,0 +1,42 @@
+package com.comp2042.bot;
+
+/**
+ * A final resting position for the active brick: rotation index plus board offset.
+ * Coordinates use the same (x, y) offset convention as SimpleBoard / ViewData.
+ */
+public final class Placement {
+
+    private final int rotation;
+    private final int x;
+    private final int y;
+
+    /**
+     * Creates a placement.
+     *
+     * @param rotation rotation index into the brick's shape list
+     * @param x board column of shape column 0
+     * @param y board row of shape row 0 after the drop
+     */
+    public Placement(int rotation, int x, int y) {
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    @Override
+    public String toString() {
+        return "Placement{rotation=" + rotation + ", x=" + x + ", y=" + y + "}";
+    }
+}
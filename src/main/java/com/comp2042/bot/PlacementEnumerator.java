@@ -0,0 +1,107 @@
+package com.comp2042.bot;
+
+import com.comp2042.logic.MatrixOperations;
+import com.comp2042.logic.ShapeMask;
+import com.comp2042.models.SimpleBoard;
+import com.comp2042.models.ViewData;
+
+import java.util.List;
+
+/**
+ * Forks a board into every reachable "rotate, shift, hard drop" placement of a brick
+ * and writes the resulting boards into a {@link CandidateBatch}.
+ *
+ * The fork works on packed row masks, so each candidate costs one AND per row while
+ * dropping and one OR per piece row when merging, with no board matrix copies.
+ */
+public final class PlacementEnumerator {
+
+    private final int rows;
+    private final int columns;
+
+    // Packed copy of the source board and a scratch board for one candidate.
+    private final int[] boardMasks;
+    private final int[] scratch;
+
+    /**
+     * Creates an enumerator for boards of the given size.
+     *
+     * @param rows board rows
+     * @param columns board columns
+     */
+    public PlacementEnumerator(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.boardMasks = new int[rows];
+        this.scratch = new int[rows];
+    }
+
+    /**
+     * Enumerates placements of the active brick on a live board.
+     *
+     * @param board the board to fork (left unchanged)
+     * @param out batch receiving the candidates (cleared first)
+     * @return number of candidates written
+     */
+    public int enumerate(SimpleBoard board, CandidateBatch out) {
+        ViewData view = board.getViewData();
+        return enumerate(board.getBoardMatrix(),
+                board.getRotationStates(),
+                view.getyPosition(),
+                out);
+    }
+
+    /**
+     * Enumerates placements of a brick on the given board matrix.
+     *
+     * @param matrix the board matrix (rows x columns)
+     * @param rotations every rotation of the brick, in rotation index order
+     * @param startY row the brick starts falling from
+     * @param out batch receiving the candidates (cleared first)
+     * @return number of candidates written
+     */
+    public int enumerate(int[][] matrix, List<int[][]> rotations, int startY, CandidateBatch out) {
+        MatrixOperations.toRowMasks(matrix, boardMasks, 0, 1);
+        return enumerate(boardMasks, rotations, startY, out);
+    }
+
+    /**
+     * Enumerates placements of a brick on a packed board.
+     *
+     * @param masks packed board rows (length rows)
+     * @param rotations every rotation of the brick, in rotation index order
+     * @param startY row the brick starts falling from
+     * @param out batch receiving the candidates (cleared first)
+     * @return number of candidates written
+     */
+    public int enumerate(int[] masks, List<int[][]> rotations, int startY, CandidateBatch out) {
+        out.clear();
+
+        for (int rotation = 0; rotation < rotations.size(); rotation++) {
+            ShapeMask shape = new ShapeMask(rotations.get(rotation));
+            int minX = -shape.getMinCol();
+            int maxX = columns - 1 - shape.getMaxCol();
+
+            for (int x = minX; x <= maxX; x++) {
+                // Skip columns the brick cannot even enter at its starting row.
+                if (!shape.fits(masks, 0, 1, rows, columns, x, startY)) {
+                    continue;
+                }
+                int y = startY;
+                while (shape.fits(masks, 0, 1, rows, columns, x, y + 1)) {
+                    y++;
+                }
+
+                System.arraycopy(masks, 0, scratch, 0, rows);
+                for (int row = shape.getTopRow(); row <= shape.getBottomRow(); row++) {
+                    scratch[y + row] |= shape.rowAt(row, x);
+                }
+
+                if (out.add(scratch, 0, 1, rotation, x, y) < 0) {
+                    return out.size();
+                }
+            }
+        }
+        return out.size();
+    }
+}
@@ -0,0 +1,68 @@
+package com.comp2042.bot;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The {@link BatchBoardEvaluator} feature loop written with the incubating
+ * Vector API: one lane per candidate, so a whole vector of boards is walked
+ * row by row with the same bitwise steps as the bit-parallel path, and the
+ * counters stay in registers until the last row.
+ *
+ * Only loaded when the jdk.incubator.vector module is in the boot layer
+ * ({@code --add-modules jdk.incubator.vector}); see
+ * {@link BatchBoardEvaluator#isVectorAvailable()}.
+ */
+final class VectorBoardKernel {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private VectorBoardKernel() {
+    }
+
+    /**
+     * Computes the features of the candidates that fill whole vectors.
+     * Arrays are laid out as in {@link CandidateBatch}: row masks at
+     * {@code row * capacity + candidate}.
+     *
+     * @return the first candidate not computed; the caller does the rest
+     */
+    static int features(int[] masks, int capacity, int count, int rows, int fullRow,
+                        int[] heights, int[] holes, int[] bumpiness, int[] lines) {
+        int neighbourMask = fullRow >>> 1;
+        int bound = SPECIES.loopBound(count);
+        IntVector zero = IntVector.zero(SPECIES);
+        IntVector one = IntVector.broadcast(SPECIES, 1);
+
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            IntVector covered = zero;
+            IntVector heightSum = zero;
+            IntVector holeSum = zero;
+            IntVector bumpSum = zero;
+            IntVector lineSum = zero;
+
+            for (int row = 0; row < rows; row++) {
+                IntVector mask = IntVector.fromArray(SPECIES, masks, row * capacity + i);
+                IntVector now = covered.or(mask);
+
+                holeSum = holeSum.add(covered.and(mask.not()).lanewise(VectorOperators.BIT_COUNT));
+                heightSum = heightSum.add(now.lanewise(VectorOperators.BIT_COUNT));
+                bumpSum = bumpSum.add(now.lanewise(VectorOperators.XOR, now.lanewise(VectorOperators.LSHR, 1))
+                        .and(neighbourMask)
+                        .lanewise(VectorOperators.BIT_COUNT));
+                VectorMask<Integer> full = mask.eq(fullRow);
+                lineSum = lineSum.add(one, full);
+
+                covered = now;
+            }
+
+            heightSum.intoArray(heights, i);
+            holeSum.intoArray(holes, i);
+            bumpSum.intoArray(bumpiness, i);
+            lineSum.intoArray(lines, i);
+        }
+        return bound;
+    }
+}
@@ -1,99 +1,304 @@
 package com.comp2042.controllers;
 
+import com.comp2042.bot.EvaluationWeights;
+import com.comp2042.bot.HintWorker;
 import com.comp2042.models.Board;
 import com.comp2042.models.ClearRow;
 import com.comp2042.models.DownData;
 import com.comp2042.models.EventSource;
 import com.comp2042.models.GameConfig;
 import com.comp2042.models.GameMode;
+import com.comp2042.models.GameSettings;
 import com.comp2042.models.MoveEvent;
 import com.comp2042.models.Score;
 import com.comp2042.models.SimpleBoard;
 import com.comp2042.models.ViewData;
 import com.comp2042.interfaces.InputEventListener;
+import com.comp2042.logic.AutoRepeat;
+import com.comp2042.logic.LogicThread;
+import com.comp2042.mode.CpuOpponent;
+import com.comp2042.mode.GameCore;
 import com.comp2042.mode.RushModeHandler;
 import com.comp2042.mode.SurvivalModeHandler;
+import com.comp2042.mode.VersusModeHandler;
+import com.comp2042.records.RunRecord;
+import com.comp2042.replay.ReplayFile;
+import com.comp2042.replay.ReplayRecorder;
+import com.comp2042.save.SaveGame;
+import javafx.application.Platform;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * Connects the board (game logic) with the JavaFX GUI.
- * Receives input events from GuiController and updates the board.
+ * Connects the game (a {@link GameCore}) with the JavaFX GUI.
+ * Receives input events from GuiController, plays them on the core and
+ * shows what they changed.
  */
 public class GameController implements InputEventListener {
 
     // Board size (easier to change here than using magic numbers everywhere).
-    private static final int BOARD_ROWS = 25;
-    private static final int BOARD_COLUMNS = 10;
+    static final int BOARD_ROWS = GameCore.BOARD_ROWS;
+    static final int BOARD_COLUMNS = GameCore.BOARD_COLUMNS;
+
+    // Pieces the player can undo in a row.
+    private static final int REWIND_DEPTH = 64;
+
+    // The game's rules: board, gravity, finesse, landing and mode handlers.
+    private final GameCore core;
 
     // Core game model and GUI controller.
     private final Board board;
+
+    // The same board, for hints.
+    private final SimpleBoard simpleBoard;
     private final GuiController guiController;
 
-    // Selected game mode for this run (Classic, Survival, Hyper, Rush-40).
+    // Selected game mode for this run (Classic, Survival, Hyper, Rush-40, Versus CPU).
     private final GameMode gameMode;
 
     // Immutable configuration derived from the chosen mode.
     private final GameConfig config;
 
-    // Mode-specific handlers (only initialized for relevant modes)
-    private SurvivalModeHandler survivalHandler;
-    private RushModeHandler rushHandler;
+    // The core's mode-specific handlers (null outside their modes)
+    private final SurvivalModeHandler survivalHandler;
+    private final RushModeHandler rushHandler;
+    private final VersusModeHandler versusHandler;
+
+    // Versus: the CPU side, on its own thread; replaced on restart.
+    private CpuOpponent opponent;
+
+    // Versus garbage counts last shown on the HUD.
+    private int shownIncoming = -1;
+    private int shownSent = -1;
+
+    // Seed of the brick sequence and garbage, kept with the run's record.
+    private final long seed;
 
-    // Total lines cleared in this run (all modes).
-    private int totalLinesCleared = 0;
+    // When the current run started, for its play time.
+    private long startNanos;
+
+    // Set when the game runs on a LogicThread; GUI calls are then posted to the FX thread.
+    private LogicThread logicThread;
+    private Executor guiThread = Runnable::run;
+
+    // True once the result screen has been requested. Written on the logic thread
+    // and read by the hint callback on the FX thread.
+    private volatile boolean finished;
+
+    // Records the game's input for a replay file; null when replays are off.
+    private ReplayRecorder recorder;
+
+    // Works out placement hints in the background; null when hints are off.
+    private HintWorker hintWorker;
 
     /**
      * Creates a new game controller and uses the default board size
      * for the selected mode. Behavior diverges via GameConfig values.
      *
      * @param guiController the GUI controller for rendering and input
-     * @param gameMode the game mode to play (Classic, Survival, Hyper, or Rush 40)
+     * @param gameMode the game mode to play (Classic, Survival, Hyper, Rush 40 or Versus CPU)
      */
     public GameController(GuiController guiController, GameMode gameMode) {
+        this(guiController, gameMode, null);
+    }
+
+    /**
+     * Creates a game controller that continues a suspended game.
+     *
+     * @param guiController the GUI controller for rendering and input
+     * @param gameMode the game mode to play; must match the save's
+     * @param save the suspended game, or null to start a new one
+     */
+    public GameController(GuiController guiController, GameMode gameMode, SaveGame save) {
         this.guiController = guiController;
         this.gameMode = gameMode;
         this.config = gameMode.getConfig();
-        this.board = new SimpleBoard(BOARD_ROWS, BOARD_COLUMNS);
-
-        // Initialize mode-specific handlers
-        if (gameMode == GameMode.SURVIVAL) {
-            this.survivalHandler = new SurvivalModeHandler(board, config);
-        }
-        
-        if (gameMode == GameMode.RUSH_40) {
-            int target = config.getTargetLinesToWin();
-            if (target > 0) {
-                this.rushHandler = new RushModeHandler(target, config);
-            }
-        }
-
-        initialiseGame();
+        // Seeded like HeadlessGame, so a recorded run can be played again.
+        this.seed = save != null ? save.getSeed() : ThreadLocalRandom.current().nextLong();
+        this.core = new GameCore(gameMode, seed, REWIND_DEPTH);
+        this.simpleBoard = core.getBoard();
+        this.board = simpleBoard;
+        this.survivalHandler = core.getSurvivalHandler();
+        this.rushHandler = core.getRushHandler();
+        this.versusHandler = core.getVersusHandler();
+
+        initialiseGame(save);
     }
 
     /**
-     * One-time setup: create first brick, hook GUI listeners, bind HUD fields.
+     * One-time setup: restore the saved game if there is one, hook GUI
+     * listeners, bind HUD fields.
      */
-    private void initialiseGame() {
-        board.createNewBrick();
-        guiController.setEventListener(this);
+    private void initialiseGame(SaveGame save) {
+        startNanos = System.nanoTime();
+        if (save != null) {
+            startNanos -= core.restoreState(save.getState());
+        }
+
+        // With replays on, every input passes through the recorder first.
+        // Versus games are not recorded: a replay cannot reproduce the CPU's timing.
+        GameSettings settings = GameSettings.getInstance();
+        InputEventListener listener = this;
+        if (settings.isRecordReplaysEnabled() && versusHandler == null) {
+            recorder = new ReplayRecorder(this, this::writeReplayState);
+            recorder.start();
+            listener = recorder;
+        }
+        guiController.setEventListener(listener);
+        // Versus boards are drawn as images, which have no hint outline.
+        if (settings.isShowHintsEnabled() && versusHandler == null) {
+            hintWorker = new HintWorker(BOARD_ROWS, BOARD_COLUMNS, EvaluationWeights.defaults(), this::deliverHint);
+        }
 
         guiController.setGameMode(gameMode);
         guiController.applyConfig(config);
 
+        // The logic thread needs tick gravity; modes without it stay on the FX timer.
+        if (settings.isLogicThreadEnabled() && core.hasGravity()) {
+            AutoRepeat autoRepeat = new AutoRepeat(settings.getDasMs(), settings.getArrMs(),
+                    settings.getSoftDropFactor());
+            logicThread = new LogicThread(listener, board, config.getGravityProfile(), autoRepeat, () -> finished);
+            guiThread = Platform::runLater;
+            guiController.setLogicThread(logicThread);
+        }
+
         guiController.initGameView(board.getBoardMatrix(), board.getViewData());
+        startOpponent();
 
+        // With a logic thread the HUD is fed from snapshots instead.
         Score score = board.getScore();
-        guiController.bindScore(score.scoreProperty());
-        guiController.bindLevel(score.levelProperty());
-        guiController.bindLines(score.totalLinesProperty());  // LINES counter on HUD
-        guiController.bindCombo(score.comboProperty());
+        if (logicThread == null) {
+            guiController.setScore(score);
+        }
 
-        totalLinesCleared = 0;
+        initialiseProgressHud(score);
+        guiThread.execute(() -> guiController.updateFinesse(0, 0, false));
+        requestHint();
+    }
 
-        if (rushHandler != null) {
-            rushHandler.start();
+    /**
+     * Versus: starts a fresh CPU side and links its garbage with the player's.
+     */
+    private void startOpponent() {
+        if (versusHandler == null) {
+            return;
         }
+        // Same seed, so both sides get the same bricks and garbage holes.
+        CpuOpponent cpu = new CpuOpponent(seed);
+        versusHandler.connect(cpu.getVersus());
+        opponent = cpu;
+        shownIncoming = -1;
+        shownSent = -1;
+        guiThread.execute(() -> guiController.setOpponent(cpu));
+        cpu.start();
+    }
 
-        initialiseProgressHud(score);
+    /**
+     * Versus: keeps the garbage counts on the HUD current, since the CPU
+     * attacks from its own thread.
+     */
+    private void updateVersusStatus() {
+        if (versusHandler == null || finished) {
+            return;
+        }
+        int incoming = versusHandler.getIncoming();
+        int sent = versusHandler.getSent();
+        if (incoming != shownIncoming || sent != shownSent) {
+            shownIncoming = incoming;
+            shownSent = sent;
+            guiThread.execute(() -> guiController.updateVersusStatus(incoming, sent));
+        }
+    }
+
+    /**
+     * Asks the hint worker for the current brick's best placement. Only a
+     * new board version starts a search: moving or turning the brick does not
+     * change the suggestion, which is made from the spawn row.
+     */
+    private void requestHint() {
+        if (hintWorker == null) {
+            return;
+        }
+        if (finished || simpleBoard.getCurrentBrick() == null) {
+            hintWorker.cancel();
+            return;
+        }
+        if (hintWorker.request(simpleBoard.getVersion(), simpleBoard.getBoardMatrix(),
+                simpleBoard.getRotationStates(), SimpleBoard.SPAWN_Y)) {
+            guiThread.execute(guiController::hideHint);
+        }
+    }
+
+    /**
+     * Called on the hint worker's thread. The hint is shown only if the board
+     * has not changed since it was requested.
+     */
+    private void deliverHint(HintWorker.Hint hint) {
+        Platform.runLater(() -> {
+            if (!finished && hint.getVersion() == simpleBoard.getVersion()) {
+                guiController.showHint(hint.getShape(), hint.getX(), hint.getY());
+            }
+        });
+    }
+
+    /**
+     * Saves the game to the default save file so it can be resumed from the
+     * main menu. Finished games are not saved. Called when leaving to the menu,
+     * after the timers have stopped.
+     */
+    @Override
+    public void suspendGame() {
+        // A Versus game cannot be resumed without its CPU, so it is not saved.
+        if (finished || versusHandler != null) {
+            return;
+        }
+        if (logicThread != null) {
+            // The board belongs to the logic thread until it has exited.
+            logicThread.stop();
+            try {
+                if (!logicThread.awaitStop(500)) {
+                    System.err.println("Game not saved: logic thread did not stop");
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        finishRecording();
+        try {
+            SaveGame.capture(gameMode, seed, this::saveState).write(SaveGame.defaultFile());
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Failed to save game: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the saved-game state: run counters, the board and the mode handlers' state.
+     */
+    private void saveState(ByteBuffer out) {
+        core.saveState(out, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Full state for a replay: the saved-game state plus gravity and lock
+     * delay, in ReplayGame's layout.
+     */
+    private void writeReplayState(ByteBuffer out) {
+        core.saveReplayState(out, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Ends the replay recording, if there is one, and writes it out in the background.
+     */
+    private void finishRecording() {
+        byte[] events = recorder != null ? recorder.finish() : null;
+        if (events != null) {
+            ReplayFile.writeInBackground(gameMode, seed, events);
+        }
     }
 
     /**
@@ -104,65 +309,83 @@ public class GameController implements InputEventListener {
      */
     private void initialiseProgressHud(Score score) {
         if (rushHandler != null) {
-            guiController.updateRushProgress(rushHandler.getLinesCleared(), rushHandler.getTargetLines());
+            int rushLines = rushHandler.getLinesCleared();
+            int rushTarget = rushHandler.getTargetLines();
+            guiThread.execute(() -> guiController.updateRushProgress(rushLines, rushTarget));
             return;
         }
 
         if (survivalHandler != null) {
             int baseThreshold = config.getMaxNoClearBeforeGarbage();
-            if (baseThreshold > 0) {
-                int landingsUntilGarbage = survivalHandler.getLandingsUntilGarbage(score, baseThreshold);
-                guiController.updateSurvivalStatus(survivalHandler.getShields(), landingsUntilGarbage);
-            } else {
-                guiController.updateSurvivalStatus(survivalHandler.getShields(), -1);
-            }
+            int landingsUntilGarbage = baseThreshold > 0
+                    ? survivalHandler.getLandingsUntilGarbage(score, baseThreshold)
+                    : -1;
+            int shields = survivalHandler.getShields();
+            guiThread.execute(() -> guiController.updateSurvivalStatus(shields, landingsUntilGarbage));
             return;
         }
 
-        guiController.clearProgressText();
+        if (versusHandler != null) {
+            int incoming = versusHandler.getIncoming();
+            int sent = versusHandler.getSent();
+            guiThread.execute(() -> guiController.updateVersusStatus(incoming, sent));
+            return;
+        }
+
+        guiThread.execute(guiController::clearProgressText);
     }
 
     // ========================= INPUT HANDLERS =========================
 
     @Override
     public DownData onDownEvent(MoveEvent event) {
-        boolean moved = board.moveBrickDown();
-        ClearRow clearRow = null;
-
-        if (!moved) {
-            clearRow = handleBrickLanded();
-        } else if (event.getEventSource() == EventSource.USER) {
-            // Soft drop bonus per cell (only when user presses DOWN).
-            board.getScore().add(1);
+        // Soft drop bonus per cell (only when user presses DOWN).
+        ClearRow clearRow = core.moveDown(event.getEventSource() == EventSource.USER);
+        if (clearRow != null) {
+            handleBrickLanded();
         }
-
         return new DownData(clearRow, board.getViewData());
     }
 
+    /**
+     * Runs one gravity tick: lets the brick fall the rows it has earned at the
+     * current level and locks it once its lock delay has run out.
+     *
+     * @return DownData if anything changed (clearRow set when the brick locked), or null
+     */
+    @Override
+    public DownData onGravityTick() {
+        if (!core.hasGravity()) {
+            return null;
+        }
+        ClearRow clearRow = core.tick();
+        if (clearRow != null) {
+            handleBrickLanded();
+            return new DownData(clearRow, board.getViewData());
+        }
+        // Versus: the CPU may have topped out between the player's locks.
+        if (checkFinished()) {
+            requestHint();
+            return null;
+        }
+        updateVersusStatus();
+        return core.getLastTickRows() > 0 ? new DownData(null, board.getViewData()) : null;
+    }
+
     /**
      * Handles hard drop (space bar) input.
      * Moves the current brick straight down until it lands, then processes
-     * line clearing. Does not award points for the drop itself, only for clearing lines.
+     * line clearing. The drop scores 2 points per cell, added before landing.
      *
      * @param event the move event
      * @return DownData containing any line clear results and updated view data
      */
     @Override
     public DownData onHardDropEvent(MoveEvent event) {
-        // 1. Move down as far as possible in the current tick.
-        int cellsDropped = 0;
-        while (board.moveBrickDown()) {
-            cellsDropped++;
-        }
-
-        // 2. Once we can no longer move, treat it as a landing.
-        ClearRow clearRow = handleBrickLanded();
-
-        // Award points for hard drop based on distance (2 points per cell)
-        if (cellsDropped > 0) {
-            board.getScore().addHardDropScore(cellsDropped);
+        ClearRow clearRow = core.hardDrop();
+        if (clearRow != null) {
+            handleBrickLanded();
         }
-
         return new DownData(clearRow, board.getViewData());
     }
 
@@ -174,7 +397,7 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
+        core.moveLeft();
         return board.getViewData();
     }
 
@@ -186,7 +409,21 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
+        core.moveRight();
+        return board.getViewData();
+    }
+
+    /**
+     * Handles auto-repeat shifts: the board moves the brick the whole
+     * distance in one pass and the view is built once.
+     *
+     * @param event the move event
+     * @param cells columns to shift (negative = left)
+     * @return updated view data after shifting
+     */
+    @Override
+    public ViewData onShiftEvent(MoveEvent event, int cells) {
+        core.shift(cells);
         return board.getViewData();
     }
 
@@ -198,7 +435,31 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
+        core.rotateLeft();
+        return board.getViewData();
+    }
+
+    /**
+     * Handles clockwise rotation input.
+     *
+     * @param event the move event
+     * @return updated view data after rotating
+     */
+    @Override
+    public ViewData onRotateClockwiseEvent(MoveEvent event) {
+        core.rotateRight();
+        return board.getViewData();
+    }
+
+    /**
+     * Handles 180 rotation input.
+     *
+     * @param event the move event
+     * @return updated view data after rotating
+     */
+    @Override
+    public ViewData onRotate180Event(MoveEvent event) {
+        core.rotate180();
         return board.getViewData();
     }
 
@@ -211,103 +472,131 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onHoldEvent(MoveEvent event) {
-        board.holdCurrentBrick();
+        if (core.hold()) {
+            requestHint();
+        }
         return board.getViewData();
     }
 
-    // ========================= SURVIVAL / RUSH LOGIC =========================
-
     /**
-     * Handles the logic when a falling brick can no longer move down.
-     * Merges the brick into the board, clears lines, updates score,
-     * and spawns a new brick. Handles mode-specific effects and game over conditions.
+     * Handles rewind input: undoes the last locked piece and respawns it
+     * with the board, queue, hold slot, score and mode progress it had.
+     * The run becomes a practice run and is no longer recorded.
      *
-     * @return ClearRow object if lines were cleared, null otherwise
+     * @param event the move event
+     * @return updated view data, or null if there was nothing to rewind
      */
-    private ClearRow handleBrickLanded() {
-        // Lock brick into background.
-        board.mergeBrickToBackground();
-
-        ClearRow clearRow = board.clearRows();
-        Score score = board.getScore();
+    @Override
+    public ViewData onRewindEvent(MoveEvent event) {
+        if (finished || !core.rewind()) {
+            return null;
+        }
+        refreshGuiBackground();
+        initialiseProgressHud(board.getScore());
+        requestHint();
+        return board.getViewData();
+    }
 
-        if (clearRow != null && clearRow.getLinesRemoved() > 0) {
-            int lines = clearRow.getLinesRemoved();
-            totalLinesCleared += lines;
+    // ========================= SURVIVAL / RUSH LOGIC =========================
 
-            score.registerLinesCleared(
-                    lines,
-                    clearRow.getScoreBonus()
-            );
-        } else {
-            score.registerLandingWithoutClear();
-        }
+    /**
+     * Shows what a lock changed, after the core has merged the brick, cleared
+     * lines, scored, run the mode rules and spawned the next brick: finesse,
+     * mode progress and, if the lock ended the game, the result screen.
+     */
+    private void handleBrickLanded() {
+        int faults = core.getFinesseFaults();
+        int judged = core.getPiecesJudged();
+        boolean fault = core.isLastLockFinesseFault();
+        guiThread.execute(() -> guiController.updateFinesse(faults, judged, fault));
 
-        // Mode-specific effects.
+        Score score = board.getScore();
         if (survivalHandler != null) {
-            survivalHandler.handleBrickLanded(clearRow, score);
             int baseThreshold = config.getMaxNoClearBeforeGarbage();
             if (baseThreshold > 0) {
                 int landingsUntilGarbage = survivalHandler.getLandingsUntilGarbage(score, baseThreshold);
-                guiController.updateSurvivalStatus(survivalHandler.getShields(), landingsUntilGarbage);
+                int shields = survivalHandler.getShields();
+                guiThread.execute(() -> guiController.updateSurvivalStatus(shields, landingsUntilGarbage));
             }
         }
 
-        // Rush-40 goal logic.
-        if (rushHandler != null && !rushHandler.isCompleted()) {
-            boolean milestoneReached = rushHandler.handleLinesCleared(clearRow);
-            
-            if (milestoneReached) {
-                String message = rushHandler.getMilestoneMessage();
-                if (message != null) {
-                    guiController.showRushMilestone(message);
-                }
+        if (rushHandler != null) {
+            String message = core.getMilestoneMessage();
+            if (message != null) {
+                guiThread.execute(() -> guiController.showRushMilestone(message));
             }
-            
-            guiController.updateRushProgress(rushHandler.getLinesCleared(), rushHandler.getTargetLines());
+            int rushLines = rushHandler.getLinesCleared();
+            int rushTarget = rushHandler.getTargetLines();
+            guiThread.execute(() -> guiController.updateRushProgress(rushLines, rushTarget));
+        }
+
+        if (!checkFinished()) {
+            updateVersusStatus();
+        }
+        refreshGuiBackground();
+        requestHint();
+    }
 
-            if (rushHandler.isCompleted()) {
+    /**
+     * Shows the result screen once the core reports the game over: topped
+     * out, Rush-40 goal reached or the CPU topped out.
+     *
+     * @return true if the game just ended
+     */
+    private boolean checkFinished() {
+        if (finished || !core.isFinished()) {
+            return false;
+        }
+        // Top-out is a loss even in Rush-40 if we did not hit targetLines.
+        boolean rushWon = rushHandler != null && rushHandler.isCompleted();
+        int targetLines = (rushHandler != null) ? rushHandler.getTargetLines() : 0;
+        RunRecord run = finishRun(core.isWon());
+        boolean practiceRun = core.isPractice();
+        guiThread.execute(() -> {
+            if (rushWon) {
                 // Show congratulations message for completing Rush 40
                 guiController.showRush40Congratulations();
-                
-                double completionSeconds = rushHandler.getCompletionTimeSeconds();
-                int finalScore = score.scoreProperty().get();
-
-                guiController.showFinalResults(
-                        gameMode,
-                        finalScore,
-                        totalLinesCleared,
-                        rushHandler.getTargetLines(),
-                        completionSeconds,
-                        true
-                );
-
-                guiController.refreshGameBackground(board.getBoardMatrix());
-                return clearRow;
             }
-        }
-
-        // Normal spawn / game over.
-        if (board.createNewBrick()) {
-            double completionSeconds = (rushHandler != null) ? rushHandler.getCompletionTimeSeconds() : -1.0;
-            int finalScore = score.scoreProperty().get();
-            int targetLines = (rushHandler != null) ? rushHandler.getTargetLines() : 0;
-
-            // Top-out is a loss even in Rush-40 if we did not hit targetLines.
-            boolean isWin = (rushHandler != null) && rushHandler.isCompleted();
+            guiController.showFinalResults(run, targetLines, practiceRun);
+        });
+        return true;
+    }
 
-            guiController.showFinalResults(
-                    gameMode,
-                    finalScore,
-                    totalLinesCleared,
-                    targetLines,
-                    completionSeconds,
-                    isWin
-            );
+    /**
+     * Marks the run as over and captures its result.
+     *
+     * @param win whether the mode's goal was reached
+     * @return the run's record
+     */
+    private RunRecord finishRun(boolean win) {
+        finished = true;
+        finishRecording();
+        long timeMillis = (System.nanoTime() - startNanos) / 1_000_000L;
+        if (win && rushHandler != null) {
+            // The best time is the Rush-40 clock, which stops on the winning clear.
+            timeMillis = Math.round(rushHandler.getCompletionTimeSeconds() * 1000);
         }
+        if (opponent != null) {
+            opponent.stop();
+        }
+        int garbageRows = 0;
+        if (survivalHandler != null) {
+            garbageRows = survivalHandler.getGarbageRowsReceived();
+        } else if (versusHandler != null) {
+            garbageRows = versusHandler.getGarbageRowsReceived();
+        }
+        return new RunRecord(gameMode, board.getScore().getScore(), core.getTotalLinesCleared(), timeMillis,
+                seed, System.currentTimeMillis(), win, garbageRows);
+    }
 
-        guiController.refreshGameBackground(board.getBoardMatrix());
-        return clearRow;
+    /**
+     * Redraws the background after a landing. With a logic thread the board
+     * reaches the screen through snapshots instead.
+     */
+    private void refreshGuiBackground() {
+        if (logicThread == null) {
+            guiController.refreshGameBackground(board.getBoardMatrix());
+        }
     }
 
     // ========================= PUBLIC HELPERS =========================
@@ -318,21 +607,61 @@ public class GameController implements InputEventListener {
      * Called from the main menu or GUI restart button.
      */
     public void createNewGame() {
-        if (survivalHandler != null) {
-            survivalHandler.reset();
-        }
-        
-        if (rushHandler != null) {
-            rushHandler.reset();
-            rushHandler.start();
+        finishRecording();
+        if (opponent != null) {
+            opponent.stop();
         }
 
-        totalLinesCleared = 0;
+        core.newGame();
+        startNanos = System.nanoTime();
+        finished = false;
 
-        board.newGame();
+        if (recorder != null) {
+            recorder.start();
+        }
 
-        guiController.refreshGameBackground(board.getBoardMatrix());
+        startOpponent();
+        refreshGuiBackground();
         initialiseProgressHud(board.getScore());
+        guiThread.execute(() -> guiController.updateFinesse(0, 0, false));
+        requestHint();
+    }
+
+    /**
+     * Stops the threads this game started: the hint worker, the CPU opponent
+     * and the logic thread. Called whenever the game scene is torn down,
+     * after {@link #suspendGame()} when leaving to the menu; calling it twice
+     * is harmless.
+     */
+    @Override
+    public void closeGame() {
+        if (hintWorker != null) {
+            hintWorker.shutdown();
+        }
+        if (opponent != null) {
+            opponent.stop();
+        }
+        if (logicThread != null) {
+            logicThread.stop();
+        }
+    }
+
+    /**
+     * Seed of this run's brick sequence and garbage.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Whether the run has ended (top-out or Rush-40 goal reached).
+     *
+     * @return true once the result screen has been requested
+     */
+    public boolean isFinished() {
+        return finished;
     }
 
     /**
@@ -7,9 +7,14 @@ import com.comp2042.models.GameMode;
 import com.comp2042.models.GameSettings;
 import com.comp2042.models.GameState;
 import com.comp2042.models.MoveEvent;
+import com.comp2042.models.Score;
 import com.comp2042.models.ViewData;
 import com.comp2042.helpers.*;
 import com.comp2042.interfaces.InputEventListener;
+import com.comp2042.records.RunRecord;
+import com.comp2042.logic.LogicThread;
+import com.comp2042.logic.RenderSnapshot;
+import com.comp2042.mode.CpuOpponent;
 import com.comp2042.ui.GameOverPanel;
 import com.comp2042.audio.MusicPlayer;
 import com.comp2042.audio.SoundManager;
@@ -17,15 +22,16 @@ import com.comp2042.audio.SoundManager;
 import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.Group;
 import javafx.scene.control.Button;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
+import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 
@@ -61,6 +67,9 @@ public class GuiController implements Initializable {
     @FXML
     private GridPane ghostPanel;        // grid used to display shadow/ghost piece
 
+    @FXML
+    private GridPane hintPanel;         // grid used to display the suggested placement
+
     @FXML
     private GridPane holdBrickPanel;     // grid used to display HOLD preview
 
@@ -102,6 +111,9 @@ public class GuiController implements Initializable {
     @FXML
     private Text progressText;           // generic progress line (Rush / Survival, etc.)
 
+    @FXML
+    private Text finesseText;            // finesse faults / judged pieces
+
     @FXML
     private Text bestText;               // best score / time info (右下 INFO panel)
 
@@ -111,6 +123,18 @@ public class GuiController implements Initializable {
     @FXML
     private Text dangerText;             // warning text when stack is near the top
 
+    @FXML
+    private VBox opponentPanel;          // Versus: panel holding the CPU's board
+
+    @FXML
+    private ImageView opponentView;      // Versus: the CPU's board, drawn as one image
+
+    @FXML
+    private Text opponentText;           // Versus: the CPU's lines and garbage
+
+    @FXML
+    private ImageView playerView;        // Versus: the player's board, drawn as one image
+
     // Pause overlay buttons (wired manually in initialize()).
     @FXML
     private Button resumeButton;
@@ -154,6 +178,11 @@ public class GuiController implements Initializable {
     // Timer configuration and state (moved to GuiTimerHelper).
     private boolean timerEnabled;
 
+    // Set when game logic runs on its own thread; the screen then draws its snapshots.
+    private LogicThread logicThread;
+    private long drawnBoardVersion = -1;
+    private long shownClearCount;
+
     // === GHOST PIECE SUPPORT (landing shadow driven by ViewData from the board) ===
     /** Last ViewData snapshot describing the current falling brick. */
     private ViewData lastViewData;
@@ -165,11 +194,16 @@ public class GuiController implements Initializable {
     private GuiLayoutHelper layoutHelper;
     private GuiHudHelper hudHelper;
     private GuiDangerHelper dangerHelper;
+    private GuiVersusHelper versusHelper;
+    private CpuOpponent opponent;
     private GuiInputHandler inputHandler;
     private GuiStateManager stateManager;
     private GuiNavigationHandler navigationHandler;
     private GuiNotificationHandler notificationHandler;
 
+    // Per-frame bridge from the game's Score to the HUD bindings.
+    private final ScorePublisher scorePublisher = new ScorePublisher();
+
     /**
      * Called from Main.showGameScene() so this controller can access
      * navigation methods like showMainMenu().
@@ -181,24 +215,41 @@ public class GuiController implements Initializable {
         // Initialize helper classes
         colorHelper = new GuiColorHelper(currentMode != null ? currentMode : GameMode.CLASSIC);
         renderingHelper = new GuiRenderingHelper(
-                gamePanel, brickPanel, ghostPanel,
+                gamePanel, brickPanel, ghostPanel, hintPanel,
                 holdBrickPanel, nextBrickPanelTop, nextBrickPanelMid, nextBrickPanelBottom,
                 colorHelper
         );
         timerHelper = new GuiTimerHelper(timerText, this::moveDown);
+        timerHelper.setRenderPulse(this::drawFrame);
+        timerHelper.setInputTick(now -> {
+            if (inputHandler != null) {
+                inputHandler.tick(now, timerHelper.getGravityIntervalNanos());
+            }
+        });
         layoutHelper = new GuiLayoutHelper(
                 gamePanel, brickPanel, ghostPanel,
                 () -> renderingHelper != null ? renderingHelper.getDisplayMatrix() : null
         );
         hudHelper = new GuiHudHelper(
                 scoreText, levelText, linesText, comboText,
-                timerText, progressText, bestText, modeText, modeHintText
+                timerText, progressText, bestText, modeText, modeHintText, finesseText
         );
+        hudHelper.bindScore(scorePublisher.scoreProperty());
+        hudHelper.bindLevel(scorePublisher.levelProperty());
+        hudHelper.bindLines(scorePublisher.linesProperty());
+        hudHelper.bindCombo(scorePublisher.comboProperty());
+        scorePublisher.levelProperty().addListener((obs, oldLevel, newLevel) -> {
+            if (timerHelper != null) {
+                timerHelper.onLevelChanged(newLevel.intValue());
+            }
+        });
         dangerHelper = new GuiDangerHelper(dangerVisibleRows, dangerText, gameBoard, isDanger);
+        versusHelper = new GuiVersusHelper(opponentPanel, opponentView, opponentText, playerView,
+                GameController.BOARD_ROWS, GameController.BOARD_COLUMNS);
         
         // Initialize additional helper classes
         stateManager = new GuiStateManager(isPause, isGameOver, pauseOverlay, gameOverPanel, dangerHelper, colorHelper, currentMode != null ? currentMode : GameMode.CLASSIC);
-        navigationHandler = new GuiNavigationHandler(mainApp, currentMode != null ? currentMode : GameMode.CLASSIC, timerHelper, stateManager);
+        navigationHandler = new GuiNavigationHandler(mainApp, currentMode != null ? currentMode : GameMode.CLASSIC, timerHelper, stateManager, this::suspendGame, this::closeGame);
         notificationHandler = new GuiNotificationHandler(groupNotification);
         inputHandler = new GuiInputHandler(
                 gameSettings,
@@ -227,7 +278,7 @@ public class GuiController implements Initializable {
             // Update rendering helper with new color helper
             if (renderingHelper != null) {
                 renderingHelper = new GuiRenderingHelper(
-                        gamePanel, brickPanel, ghostPanel,
+                        gamePanel, brickPanel, ghostPanel, hintPanel,
                         holdBrickPanel, nextBrickPanelTop, nextBrickPanelMid, nextBrickPanelBottom,
                         colorHelper
                 );
@@ -235,6 +286,11 @@ public class GuiController implements Initializable {
             }
         }
         
+        // Versus draws the player's board the same way as the CPU's.
+        if (versusHelper != null) {
+            versusHelper.setPlayerShown(this.currentMode == GameMode.VERSUS_CPU);
+        }
+
         // Update state manager with new mode
         if (stateManager != null) {
             stateManager = new GuiStateManager(isPause, isGameOver, pauseOverlay, gameOverPanel, dangerHelper, colorHelper, this.currentMode);
@@ -242,7 +298,7 @@ public class GuiController implements Initializable {
         
         // Update navigation handler with new mode
         if (navigationHandler != null) {
-            navigationHandler = new GuiNavigationHandler(mainApp, this.currentMode, timerHelper, stateManager);
+            navigationHandler = new GuiNavigationHandler(mainApp, this.currentMode, timerHelper, stateManager, this::suspendGame, this::closeGame);
         }
 
         // Use HUD helper for mode updates
@@ -269,6 +325,11 @@ public class GuiController implements Initializable {
         if (renderingHelper != null) {
             renderingHelper.setGameState(newState);
         }
+
+        // The CPU only plays while the player can.
+        if (opponent != null) {
+            opponent.setPaused(gameState != GameState.PLAYING);
+        }
     }
 
     @Override
@@ -287,6 +348,11 @@ public class GuiController implements Initializable {
                 inputHandler.handleKeyPressed(event);
             }
         });
+        gamePanel.setOnKeyReleased(event -> {
+            if (inputHandler != null) {
+                inputHandler.handleKeyReleased(event);
+            }
+        });
 
         // Snap to pixel to reduce blur.
         gamePanel.setSnapToPixel(true);
@@ -310,6 +376,14 @@ public class GuiController implements Initializable {
             ghostPanel.setSnapToPixel(true);
         }
 
+        // The hint overlay is shown only once a suggestion has been positioned.
+        if (hintPanel != null) {
+            hintPanel.setVisible(false);
+            hintPanel.setManaged(false);
+            hintPanel.setMouseTransparent(true);
+            hintPanel.setSnapToPixel(true);
+        }
+
         // Wire game-over panel buttons to restart / main menu.
         if (gameOverPanel != null) {
             gameOverPanel.setOnRestart(this::restartSameMode);
@@ -385,9 +459,14 @@ public class GuiController implements Initializable {
             stateManager.resetGameOverState();
         }
         
-        initBackgroundCells(boardMatrix);
-        initFallingBrick(brick);
-        initGhost(brick);
+        if (versusHelper != null && versusHelper.isPlayerShown()) {
+            versusHelper.setPlayerBoard(boardMatrix);
+            versusHelper.setPlayerView(brick);
+        } else {
+            initBackgroundCells(boardMatrix);
+            initFallingBrick(brick);
+            initGhost(brick);
+        }
         initNextBrick(brick);
         initHoldBrick(brick);
 
@@ -492,13 +571,53 @@ public class GuiController implements Initializable {
     // Rendering methods moved to GuiRenderingHelper
     
     private void refreshBrick(ViewData brick) {
+        if (versusHelper != null && versusHelper.isPlayerShown()) {
+            if (gameState == GameState.PLAYING) {
+                lastViewData = brick;
+                versusHelper.setPlayerView(brick);
+                if (renderingHelper != null) {
+                    renderingHelper.refreshNextBrick(brick);
+                    renderingHelper.refreshHoldBrick(brick);
+                }
+            }
+            return;
+        }
         if (renderingHelper != null && layoutHelper != null) {
             renderingHelper.refreshBrick(brick, layoutHelper::updateBrickPanelPosition, layoutHelper::updateGhostPanelPosition);
             lastViewData = renderingHelper.getLastViewData();
         }
     }
 
+    /**
+     * Shows a suggested placement from the hint worker as a second outline.
+     *
+     * @param shape the brick in the suggested rotation
+     * @param x board column of the shape's left edge
+     * @param y board row of the shape's top edge
+     */
+    public void showHint(int[][] shape, int x, int y) {
+        if (renderingHelper != null && layoutHelper != null && layoutHelper.isCalibrated()) {
+            renderingHelper.refreshHint(shape, () -> layoutHelper.updateOverlayPosition(hintPanel, x, y));
+        }
+    }
+
+    /**
+     * Hides the suggested placement while a new one is worked out.
+     */
+    public void hideHint() {
+        if (renderingHelper != null) {
+            renderingHelper.hideHint();
+        }
+    }
+
     public void refreshGameBackground(int[][] board) {
+        if (versusHelper != null && versusHelper.isPlayerShown()) {
+            versusHelper.setPlayerBoard(board);
+            if (dangerHelper != null) {
+                dangerHelper.updateDangerFromBoard(board);
+            }
+            return;
+        }
         if (renderingHelper != null && dangerHelper != null && layoutHelper != null) {
             renderingHelper.refreshGameBackground(board, dangerHelper::updateDangerFromBoard, this::refreshGhost);
         }
@@ -518,6 +637,24 @@ public class GuiController implements Initializable {
         gamePanel.requestFocus();
     }
 
+    /**
+     * One gravity tick from the timer: same follow-up as moveDown, but only
+     * when the brick actually fell or locked.
+     */
+    private void gravityTick() {
+        if (gameState != GameState.PLAYING || eventListener == null) {
+            return;
+        }
+        DownData downData = eventListener.onGravityTick();
+        if (downData == null) {
+            return;
+        }
+        if (notificationHandler != null) {
+            notificationHandler.showScoreBonus(downData);
+        }
+        refreshBrick(downData.getViewData());
+    }
+
     public void setEventListener(InputEventListener eventListener) {
         this.eventListener = eventListener;
         // Update input handler with event listener
@@ -534,9 +671,84 @@ public class GuiController implements Initializable {
                     navigationHandler != null ? navigationHandler::backToMainMenu : this::backToMainMenu,
                     () -> gameState
             );
+            inputHandler.setLogicThread(logicThread);
+        }
+    }
+
+    /**
+     * Runs this game on a logic thread: input is queued to it, its timers
+     * start and stop with the game, and every pulse draws its latest snapshot.
+     * Must be called before {@link #initGameView}.
+     *
+     * @param logicThread the game's logic thread
+     */
+    public void setLogicThread(LogicThread logicThread) {
+        this.logicThread = logicThread;
+        if (timerHelper != null) {
+            timerHelper.setLogicThread(logicThread);
+        }
+        if (inputHandler != null) {
+            inputHandler.setLogicThread(logicThread);
+        }
+    }
+
+    /**
+     * Shows a Versus CPU's board beside the player's, drawn in the same pulse.
+     *
+     * @param opponent the CPU side, or null for no opponent
+     */
+    public void setOpponent(CpuOpponent opponent) {
+        this.opponent = opponent;
+        if (versusHelper != null) {
+            versusHelper.setOpponent(opponent);
+        }
+        if (opponent != null) {
+            opponent.setPaused(gameState != GameState.PLAYING);
+        }
+    }
+
+    /**
+     * Runs once per pulse: publishes the score to the HUD and, with a logic
+     * thread, draws its newest snapshot. In Versus both boards are drawn
+     * here, through one renderer.
+     */
+    private void drawFrame() {
+        if (logicThread != null) {
+            drawLatestSnapshot();
+        } else {
+            scorePublisher.publish();
+        }
+        if (versusHelper != null) {
+            versusHelper.drawLatest();
         }
     }
 
+    /**
+     * Draws the newest snapshot from the logic thread, if there is one.
+     * The logic thread never waits for the screen.
+     */
+    private void drawLatestSnapshot() {
+        RenderSnapshot snapshot = logicThread.pollSnapshot();
+        if (snapshot == null) {
+            return;
+        }
+
+        if (gameState != GameState.GAME_OVER) {
+            refreshBrick(snapshot.getViewData());
+        }
+        if (snapshot.getBoardVersion() != drawnBoardVersion) {
+            drawnBoardVersion = snapshot.getBoardVersion();
+            refreshGameBackground(snapshot.getBoard());
+        }
+        if (snapshot.getClearCount() != shownClearCount) {
+            shownClearCount = snapshot.getClearCount();
+            if (notificationHandler != null) {
+                notificationHandler.showScoreBonus(new DownData(snapshot.getLastClear(), snapshot.getViewData()));
+            }
+        }
+        scorePublisher.publish(snapshot.getScore(), snapshot.getLevel(), snapshot.getLines(), snapshot.getCombo());
+    }
+
     public void applyConfig(GameConfig config) {
         if (config == null) {
             return;
@@ -551,6 +763,7 @@ public class GuiController implements Initializable {
             timerHelper.setFallIntervalMs(fallIntervalMs);
             timerHelper.setLevelSpeedFactor(levelSpeedFactor);
             timerHelper.setTimerEnabled(timerEnabled);
+            timerHelper.setGravity(config.getGravityProfile(), this::gravityTick);
         }
         if (dangerHelper != null) {
             dangerHelper = new GuiDangerHelper(dangerVisibleRows, dangerText, gameBoard, isDanger);
@@ -560,38 +773,20 @@ public class GuiController implements Initializable {
         }
     }
 
-    // HUD binding methods moved to GuiHudHelper
-    public void bindScore(IntegerProperty scoreProperty) {
-        if (hudHelper != null) {
-            hudHelper.bindScore(scoreProperty);
-        }
-    }
-
-    public void bindLevel(IntegerProperty levelProperty) {
-        if (hudHelper != null) {
-            hudHelper.bindLevel(levelProperty);
-        }
-
-        levelProperty.addListener((obs, oldLevel, newLevel) -> {
-            if (timerHelper != null) {
-                timerHelper.onLevelChanged(newLevel.intValue());
-            }
-        });
-    }
-
-    public void bindLines(IntegerProperty linesProperty) {
-        if (hudHelper != null) {
-            hudHelper.bindLines(linesProperty);
-        }
-    }
-
-    public void bindCombo(IntegerProperty comboProperty) {
-        if (hudHelper != null) {
-            hudHelper.bindCombo(comboProperty);
-        }
+    /**
+     * Sets the score shown on the HUD. It is read once per frame, so scoring
+     * itself never touches the scene graph.
+     *
+     * @param score the game's score
+     */
+    public void setScore(Score score) {
+        scorePublisher.setSource(score);
     }
 
     public void gameOver() {
+        // Show the final board and score before the frame timer stops.
+        drawFrame();
+
         if (timerHelper != null) {
             timerHelper.stop();
             timeLine = timerHelper.getTimeLine();
@@ -607,6 +802,11 @@ public class GuiController implements Initializable {
         if (renderingHelper != null) {
             renderingHelper.clearBrickPanel();
             renderingHelper.clearGhostPanel();
+            renderingHelper.clearHintPanel();
+        }
+        if (versusHelper != null && versusHelper.isPlayerShown()) {
+            versusHelper.setPlayerView(null);
+            versusHelper.drawLatest();
         }
 
         SoundManager.playGameOver();
@@ -627,7 +827,7 @@ public class GuiController implements Initializable {
     }
 
     private void togglePause() {
-        if (timerHelper == null || timerHelper.getTimeLine() == null) {
+        if (timerHelper == null || !timerHelper.hasDropTimer()) {
             setGameState(gameState == GameState.PLAYING
                     ? GameState.PAUSED
                     : GameState.PLAYING);
@@ -671,6 +871,7 @@ public class GuiController implements Initializable {
                     navigationHandler != null ? navigationHandler::backToMainMenu : this::backToMainMenu,
                     () -> gameState
             );
+            inputHandler.setLogicThread(logicThread);
         }
     }
 
@@ -693,6 +894,18 @@ public class GuiController implements Initializable {
         }
     }
 
+    private void suspendGame() {
+        if (eventListener != null && !isGameOver.get()) {
+            eventListener.suspendGame();
+        }
+    }
+
+    private void closeGame() {
+        if (eventListener != null) {
+            eventListener.closeGame();
+        }
+    }
+
     // Danger zone methods moved to GuiDangerHelper
 
     // === Progress HUD helpers ===
@@ -716,19 +929,24 @@ public class GuiController implements Initializable {
         }
     }
 
-    // === Best record HUD helpers ===
-    // Moved to GuiHudHelper
+    public void updateVersusStatus(int incoming, int sent) {
+        if (hudHelper != null) {
+            hudHelper.updateVersusStatus(incoming, sent);
+        }
+    }
 
     /**
-     * Updates best score and best Rush-40 time for the given mode.
-     * Called from GameController when a run ends.
+     * Shows the finesse fault count; see GuiHudHelper#updateFinesse.
      */
-    public void updateBestInfo(GameMode mode, int finalScore, double rushCompletionSeconds) {
+    public void updateFinesse(int faults, int piecesJudged, boolean lastWasFault) {
         if (hudHelper != null) {
-            hudHelper.updateBestInfo(mode, finalScore, rushCompletionSeconds);
+            hudHelper.updateFinesse(faults, piecesJudged, lastWasFault);
         }
     }
 
+    // === Best record HUD helpers ===
+    // Moved to GuiHudHelper
+
     /**
      * Refreshes best info for the given mode without highlighting.
      * Called when a new game starts so the player can see their targets.
@@ -744,33 +962,31 @@ public class GuiController implements Initializable {
     /**
      * Shows the final result panel and updates best records.
      *
-     * @param mode              game mode that was played
-     * @param finalScore        score at the end of the run
-     * @param totalLinesCleared total lines cleared during the run
-     * @param targetLines       Rush-40 target (0 for non-target modes)
-     * @param timeSeconds       completion time in seconds ({@code <=0} means "no time")
-     * @param isWin             true if the player achieved the mode's win condition
+     * @param run         the finished run, journalled here unless it is practice
+     * @param targetLines Rush-40 target (0 for non-target modes)
+     * @param practice    true if pieces were rewound; the run is then not recorded
      */
-    public void showFinalResults(GameMode mode,
-                                 int finalScore,
-                                 int totalLinesCleared,
-                                 int targetLines,
-                                 double timeSeconds,
-                                 boolean isWin) {
+    public void showFinalResults(RunRecord run, int targetLines, boolean practice) {
 
-        // Update best score / best Rush-40 time.
-        updateBestInfo(mode, finalScore, timeSeconds);
+        // Journal the run and update best score / best Rush-40 time.
+        String rank = null;
+        if (practice) {
+            rank = "Practice run - not recorded";
+        } else if (hudHelper != null && run.getMode() != null) {
+            rank = hudHelper.recordRun(run);
+        }
 
-        // Populate result panel.
+        // Populate result panel. Only a win's time is shown, as in the HUD's best time.
         if (gameOverPanel != null) {
             gameOverPanel.setResult(
-                    mode,
-                    finalScore,
-                    totalLinesCleared,
+                    run.getMode(),
+                    run.getScore(),
+                    run.getLines(),
                     targetLines,
-                    timeSeconds,
-                    isWin
+                    run.hasBestTime() ? run.getTimeMillis() / 1000.0 : -1.0,
+                    run.isWin()
             );
+            gameOverPanel.setRank(rank);
         }
 
         // Then run the normal game-over flow (stop timers, show overlay).
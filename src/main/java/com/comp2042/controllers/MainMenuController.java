@@ -6,6 +6,7 @@ import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
 import javafx.scene.effect.ColorAdjust;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -21,6 +22,10 @@ import java.util.stream.Collectors;
 
 import com.comp2042.Main;
 import com.comp2042.models.GameMode;
+import com.comp2042.models.GameSettings;
+import com.comp2042.records.RecordsJournal;
+import com.comp2042.records.RunStatistics;
+import com.comp2042.save.SaveGame;
 
 /**
  * Controller for the main menu screen.
@@ -42,6 +47,9 @@ public class MainMenuController implements Initializable {
     @FXML
     private Label titleLabel;
 
+    @FXML
+    private Button resumeButton;
+
     @FXML
     private Button classicButton;
 
@@ -54,6 +62,12 @@ public class MainMenuController implements Initializable {
     @FXML
     private Button rushButton;
 
+    @FXML
+    private Button versusButton;
+
+    @FXML
+    private Button splitScreenButton;
+
     @FXML
     private Button settingsButton;
 
@@ -155,6 +169,54 @@ public class MainMenuController implements Initializable {
 
         // Load maintenance content
         loadMaintenanceContent();
+
+        // Offer to continue a game left unfinished
+        if (resumeButton != null) {
+            SaveGame save = SaveGame.read(SaveGame.defaultFile());
+            if (save != null) {
+                resumeButton.setText("Resume " + save.getMode().getDisplayName());
+                resumeButton.setVisible(true);
+                resumeButton.setManaged(true);
+            }
+        }
+
+        // Per-mode history on the mode buttons
+        installStatsTooltip(classicButton, GameMode.CLASSIC);
+        installStatsTooltip(survivalButton, GameMode.SURVIVAL);
+        installStatsTooltip(hyperButton, GameMode.HYPER);
+        installStatsTooltip(rushButton, GameMode.RUSH_40);
+        installStatsTooltip(versusButton, GameMode.VERSUS_CPU);
+    }
+
+    /**
+     * Shows a summary of the player's past runs when hovering a mode button.
+     * Reads precomputed aggregates, so it costs the same however many runs there are.
+     */
+    private void installStatsTooltip(Button button, GameMode mode) {
+        if (button == null) {
+            return;
+        }
+        RunStatistics stats = RecordsJournal.getInstance().getStatistics(mode);
+        if (stats.getRuns() == 0) {
+            return;
+        }
+
+        StringBuilder text = new StringBuilder();
+        text.append(stats.getRuns()).append(stats.getRuns() == 1 ? " run" : " runs");
+        text.append("\nMedian score ").append(stats.getScoreQuantile(0.5));
+        if (mode == GameMode.RUSH_40 && stats.getTimeHistogram().getTotal() > 0) {
+            long medianSeconds = stats.getTimeQuantile(0.5) / 1000;
+            text.append(String.format("\nMedian time %02d:%02d", medianSeconds / 60, medianSeconds % 60));
+        }
+        if (stats.getAverageLinesPerMinute() > 0) {
+            text.append(String.format("\nLines/min %.1f (recent %.1f)",
+                    stats.getAverageLinesPerMinute(), stats.getRecentLinesPerMinute()));
+        }
+        if (mode == GameMode.SURVIVAL) {
+            text.append(String.format("\nGarbage per run %.1f (most %d)",
+                    stats.getAverageGarbageRows(), stats.getMostGarbageRows()));
+        }
+        button.setTooltip(new Tooltip(text.toString()));
     }
 
     /**
@@ -328,6 +390,18 @@ public class MainMenuController implements Initializable {
 
     // --- Button handlers ---
 
+    @FXML
+    private void handleResume(ActionEvent event) {
+        closeTutorial();
+        closeMaintenance();
+
+        if (mainApp != null && !mainApp.resumeSavedGame()) {
+            // The save vanished or was damaged since the menu was shown.
+            resumeButton.setVisible(false);
+            resumeButton.setManaged(false);
+        }
+    }
+
     @FXML
     private void handleClassic(ActionEvent event) {
         System.out.println("handleClassic called");
@@ -388,6 +462,31 @@ public class MainMenuController implements Initializable {
         }
     }
 
+    @FXML
+    private void handleVersus(ActionEvent event) {
+        // Close any open overlays first
+        closeTutorial();
+        closeMaintenance();
+
+        if (mainApp != null) {
+            mainApp.showGameScene(GameMode.VERSUS_CPU);
+        } else {
+            System.err.println("Error: mainApp is null in handleVersus");
+        }
+    }
+
+    @FXML
+    private void handleSplitScreen(ActionEvent event) {
+        closeTutorial();
+        closeMaintenance();
+
+        if (mainApp != null) {
+            mainApp.showSplitScreenScene(GameSettings.getInstance().getSplitScreenPlayers());
+        } else {
+            System.err.println("Error: mainApp is null in handleSplitScreen");
+        }
+    }
+
     @FXML
     private void handleSettings(ActionEvent event) {
         if (mainApp != null) {
@@ -29,9 +29,12 @@ public class SettingsController {
     @FXML private Button moveLeftButton;
     @FXML private Button moveRightButton;
     @FXML private Button rotateButton;
+    @FXML private Button rotateClockwiseButton;
+    @FXML private Button rotate180Button;
     @FXML private Button softDropButton;
     @FXML private Button hardDropButton;
     @FXML private Button holdButton;
+    @FXML private Button rewindButton;
     @FXML private Button pauseButton;
     @FXML private Button restartButton;
     
@@ -76,9 +79,12 @@ public class SettingsController {
         moveLeftButton.setText(settings.getMoveLeft().getName());
         moveRightButton.setText(settings.getMoveRight().getName());
         rotateButton.setText(settings.getRotate().getName());
+        rotateClockwiseButton.setText(settings.getRotateClockwise().getName());
+        rotate180Button.setText(settings.getRotate180().getName());
         softDropButton.setText(settings.getSoftDrop().getName());
         hardDropButton.setText(settings.getHardDrop().getName());
         holdButton.setText(settings.getHold().getName());
+        rewindButton.setText(settings.getRewind().getName());
         pauseButton.setText(settings.getPause().getName());
         restartButton.setText(settings.getRestart().getName());
     }
@@ -90,9 +96,12 @@ public class SettingsController {
         moveLeftButton.setOnAction(e -> startEditingKey(moveLeftButton, "moveLeft"));
         moveRightButton.setOnAction(e -> startEditingKey(moveRightButton, "moveRight"));
         rotateButton.setOnAction(e -> startEditingKey(rotateButton, "rotate"));
+        rotateClockwiseButton.setOnAction(e -> startEditingKey(rotateClockwiseButton, "rotateClockwise"));
+        rotate180Button.setOnAction(e -> startEditingKey(rotate180Button, "rotate180"));
         softDropButton.setOnAction(e -> startEditingKey(softDropButton, "softDrop"));
         hardDropButton.setOnAction(e -> startEditingKey(hardDropButton, "hardDrop"));
         holdButton.setOnAction(e -> startEditingKey(holdButton, "hold"));
+        rewindButton.setOnAction(e -> startEditingKey(rewindButton, "rewind"));
         pauseButton.setOnAction(e -> startEditingKey(pauseButton, "pause"));
         restartButton.setOnAction(e -> startEditingKey(restartButton, "restart"));
     }
@@ -147,9 +156,12 @@ public class SettingsController {
                         case "moveLeft": settings.setMoveLeft(newKey); break;
                         case "moveRight": settings.setMoveRight(newKey); break;
                         case "rotate": settings.setRotate(newKey); break;
+                        case "rotateClockwise": settings.setRotateClockwise(newKey); break;
+                        case "rotate180": settings.setRotate180(newKey); break;
                         case "softDrop": settings.setSoftDrop(newKey); break;
                         case "hardDrop": settings.setHardDrop(newKey); break;
                         case "hold": settings.setHold(newKey); break;
+                        case "rewind": settings.setRewind(newKey); break;
                         case "pause": settings.setPause(newKey); break;
                         case "restart": settings.setRestart(newKey); break;
                     }
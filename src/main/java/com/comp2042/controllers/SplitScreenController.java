@@ -0,0 +1,256 @@
+package com.comp2042.controllers;
+
+import com.comp2042.Main;
+import com.comp2042.mode.GameCore;
+import com.comp2042.mode.SplitScreenMatch;
+import com.comp2042.models.GameSettings;
+import com.comp2042.models.InputAction;
+import com.comp2042.models.SimpleBoard;
+import com.comp2042.render.FrameRenderer;
+import javafx.animation.AnimationTimer;
+import javafx.fxml.FXML;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.StackPane;
+import javafx.scene.text.Text;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Controller for local split-screen: two to four players on one keyboard.
+ *
+ * Unlike the single-player screen there is no grid of nodes and no Timeline
+ * per board. One AnimationTimer advances the shared {@link SplitScreenMatch}
+ * and then draws every board that changed with one {@link FrameRenderer}
+ * into one shared pixel array, side by side, which backs a single image.
+ * Adding a player adds a frame's worth of tile copies, not a scene graph.
+ *
+ * Keys come from each player's bindings in {@link GameSettings}; P / Esc
+ * pause, and while paused or after a match N starts a new one, Q returns to
+ * the menu and 2-4 change the number of players.
+ */
+public class SplitScreenController {
+
+    /** One player's bound action. */
+    private static final class Binding {
+        final int player;
+        final InputAction action;
+
+        Binding(int player, InputAction action) {
+            this.player = player;
+            this.action = action;
+        }
+    }
+
+    // Smaller cells once three or four boards share the width.
+    private static final int LARGE_CELL_SIZE = 24;
+    private static final int SMALL_CELL_SIZE = 16;
+
+    @FXML
+    private StackPane rootPane;
+
+    @FXML
+    private ImageView boardsView;
+
+    @FXML
+    private HBox statusBox;
+
+    @FXML
+    private Text messageText;
+
+    private Main mainApp;
+    private final Map<KeyCode, Binding> bindings = new HashMap<>();
+    private final PixelFormat<ByteBuffer> format;
+
+    private SplitScreenMatch match;
+    private FrameRenderer renderer;
+    private byte[] pixels;
+    private WritableImage image;
+    private Text[] statusTexts;
+    private long[] drawnChanges;
+    private boolean shownOver;
+    private AnimationTimer timer;
+
+    public SplitScreenController() {
+        int[] argb = new int[FrameRenderer.PALETTE.getMapSize()];
+        FrameRenderer.PALETTE.getRGBs(argb);
+        this.format = PixelFormat.createByteIndexedInstance(argb);
+    }
+
+    /**
+     * Called by Main after loading the FXML; starts the first match.
+     *
+     * @param mainApp the application, for going back to the menu
+     * @param players number of players, 2 to {@link GameSettings#MAX_PLAYERS}
+     */
+    public void init(Main mainApp, int players) {
+        this.mainApp = mainApp;
+        rootPane.setFocusTraversable(true);
+        rootPane.setOnKeyPressed(this::handleKeyPressed);
+        rootPane.setOnKeyReleased(this::handleKeyReleased);
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                pulse(now);
+            }
+        };
+        startMatch(players);
+        timer.start();
+        rootPane.requestFocus();
+    }
+
+    /** Starts a new match, rebuilding the image and key map for the player count. */
+    private void startMatch(int players) {
+        GameSettings settings = GameSettings.getInstance();
+        match = new SplitScreenMatch(players, System.nanoTime(),
+                settings.getDasMs(), settings.getArrMs(), settings.getSoftDropFactor());
+
+        int cellSize = players <= 2 ? LARGE_CELL_SIZE : SMALL_CELL_SIZE;
+        renderer = new FrameRenderer(GameCore.BOARD_ROWS, GameCore.BOARD_COLUMNS, cellSize);
+        int width = renderer.getWidth() * players;
+        pixels = new byte[width * renderer.getHeight()];
+        image = new WritableImage(width, renderer.getHeight());
+        boardsView.setImage(image);
+
+        statusTexts = new Text[players];
+        statusBox.getChildren().clear();
+        for (int i = 0; i < players; i++) {
+            statusTexts[i] = new Text();
+            statusTexts[i].getStyleClass().add("hud-value");
+            statusTexts[i].setWrappingWidth(renderer.getWidth());
+            statusBox.getChildren().add(statusTexts[i]);
+        }
+        drawnChanges = new long[players];
+        for (int i = 0; i < players; i++) {
+            draw(i);
+        }
+        shownOver = false;
+        messageText.setText("");
+        buildBindings(players);
+    }
+
+    /**
+     * Maps every player's keys; if two players share a key, the lower-numbered
+     * one keeps it. Rewind is left out, as a match cannot rewind one board.
+     */
+    private void buildBindings(int players) {
+        GameSettings settings = GameSettings.getInstance();
+        bindings.clear();
+        for (int player = 1; player <= players; player++) {
+            for (InputAction action : InputAction.values()) {
+                if (action == InputAction.REWIND) {
+                    continue;
+                }
+                KeyCode key = settings.getPlayerKey(player, action);
+                if (key != null && !bindings.containsKey(key)) {
+                    bindings.put(key, new Binding(player - 1, action));
+                }
+            }
+        }
+    }
+
+    /** One frame: advance the shared clock, then redraw what changed. */
+    private void pulse(long now) {
+        match.advance(now);
+        for (int i = 0; i < match.getPlayers(); i++) {
+            if (match.getChanges(i) != drawnChanges[i]) {
+                draw(i);
+            }
+        }
+        if (match.isOver() && !shownOver) {
+            shownOver = true;
+            int winner = match.getWinner();
+            messageText.setText((winner >= 0 ? "Player " + (winner + 1) + " wins!" : "Draw!")
+                    + "   N: rematch   Q: menu   2-4: players");
+        }
+    }
+
+    /** Renders one player's board into its slice of the shared image. */
+    private void draw(int player) {
+        GameCore game = match.getGame(player);
+        SimpleBoard board = game.getBoard();
+        int frameWidth = renderer.getWidth();
+        int stride = frameWidth * match.getPlayers();
+        int offset = player * frameWidth;
+        renderer.render(board.getBoardMatrix(), game.isFinished() ? null : board.getViewData(),
+                pixels, offset, stride);
+        image.getPixelWriter().setPixels(offset, 0, frameWidth, renderer.getHeight(),
+                format, pixels, offset, stride);
+        drawnChanges[player] = match.getChanges(player);
+
+        statusTexts[player].setText(game.isFinished()
+                ? String.format("P%d  Topped out", player + 1)
+                : String.format("P%d  Lines %d  Level %d",
+                        player + 1, game.getTotalLinesCleared(), game.getScore().getLevel()));
+    }
+
+    private void handleKeyPressed(KeyEvent event) {
+        KeyCode code = event.getCode();
+        GameSettings settings = GameSettings.getInstance();
+        event.consume();
+        if (code == settings.getPause() || code == settings.getPauseAlt()) {
+            togglePause();
+            return;
+        }
+        if (match.isPaused() || match.isOver()) {
+            handleMenuKey(code);
+            return;
+        }
+        Binding binding = bindings.get(code);
+        if (binding != null) {
+            match.press(binding.player, binding.action, System.nanoTime());
+        }
+    }
+
+    private void handleKeyReleased(KeyEvent event) {
+        Binding binding = bindings.get(event.getCode());
+        if (binding != null) {
+            match.release(binding.player, binding.action, System.nanoTime());
+        }
+        event.consume();
+    }
+
+    private void togglePause() {
+        if (match.isOver()) {
+            return;
+        }
+        if (match.isPaused()) {
+            match.resume(System.nanoTime());
+            messageText.setText("");
+        } else {
+            match.pause();
+            messageText.setText("Paused   P: resume   N: restart   Q: menu   2-4: players");
+        }
+    }
+
+    private void handleMenuKey(KeyCode code) {
+        switch (code) {
+            case N:
+                startMatch(match.getPlayers());
+                break;
+            case Q:
+                timer.stop();
+                if (mainApp != null) {
+                    mainApp.showMainMenu();
+                }
+                break;
+            case DIGIT2:
+            case DIGIT3:
+            case DIGIT4:
+                int players = Integer.parseInt(code.getChar());
+                GameSettings settings = GameSettings.getInstance();
+                settings.setSplitScreenPlayers(players);
+                settings.saveSettings();
+                startMatch(players);
+                break;
+            default:
+                break;
+        }
+    }
+}
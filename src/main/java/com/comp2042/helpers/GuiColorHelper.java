@@ -190,6 +190,27 @@ public class GuiColorHelper {
         }
     }
     
+    /**
+     * Draw a single cell of the hint layer: an outline in the brick's colour
+     * with no fill, so it reads as a second, fainter ghost.
+     *
+     * @param colorCode the color code (0-7)
+     * @param rectangle the rectangle to style
+     */
+    public void setHintRectangleData(int colorCode, Rectangle rectangle) {
+        rectangle.setFill(Color.TRANSPARENT);
+        if (colorCode == 0) {
+            rectangle.setStroke(null);
+            rectangle.getStrokeDashArray().clear();
+        } else {
+            rectangle.setStroke(getFillColor(colorCode));
+            rectangle.setStrokeWidth(2.0);
+            rectangle.getStrokeDashArray().setAll(6.0, 4.0);
+            rectangle.setArcHeight(9);
+            rectangle.setArcWidth(9);
+        }
+    }
+
     public void setCurrentMode(GameMode mode) {
         // Note: This requires recreating the helper, but keeping interface simple
     }
@@ -1,8 +1,11 @@
 package com.comp2042.helpers;
 
-import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.scene.text.Text;
 import com.comp2042.models.GameMode;
+import com.comp2042.records.RecordsJournal;
+import com.comp2042.records.RunRecord;
+import com.comp2042.records.RunStatistics;
 
 /**
  * Helper class for HUD logic extracted from GuiController.
@@ -19,16 +22,10 @@ public class GuiHudHelper {
     private final Text bestText;
     private final Text modeText;
     private final Text modeHintText;
+    private final Text finesseText;
     
-    // === Best records (static so they survive across runs) ===
-    private static final int[] bestScores = new int[GameMode.values().length];
-    private static final double[] bestRushTimes = new double[GameMode.values().length];
-
-    static {
-        for (int i = 0; i < bestRushTimes.length; i++) {
-            bestRushTimes[i] = -1.0; // no record yet
-        }
-    }
+    // Best records come from the on-disk journal, so they survive restarts.
+    private final RecordsJournal records;
     
     /**
      * Creates a new HUD helper with all text components.
@@ -42,6 +39,7 @@ public class GuiHudHelper {
      * @param bestText text component for best score/time display
      * @param modeText text component for mode display
      * @param modeHintText text component for mode hint display
+     * @param finesseText text component for finesse faults (may be null)
      */
     public GuiHudHelper(
             Text scoreText,
@@ -52,7 +50,8 @@ public class GuiHudHelper {
             Text progressText,
             Text bestText,
             Text modeText,
-            Text modeHintText) {
+            Text modeHintText,
+            Text finesseText) {
         this.scoreText = scoreText;
         this.levelText = levelText;
         this.linesText = linesText;
@@ -62,6 +61,8 @@ public class GuiHudHelper {
         this.bestText = bestText;
         this.modeText = modeText;
         this.modeHintText = modeHintText;
+        this.finesseText = finesseText;
+        this.records = RecordsJournal.getInstance();
     }
     
     /**
@@ -92,6 +93,8 @@ public class GuiHudHelper {
                 return "Invisible: faster with dimmed background.";
             case RUSH_40:
                 return "Rush 40: clear 40 lines as fast as possible.";
+            case VERSUS_CPU:
+                return "Versus CPU: clear lines to send garbage; top out the CPU to win.";
             default:
                 return "";
         }
@@ -102,7 +105,7 @@ public class GuiHudHelper {
      *
      * @param scoreProperty the score property to bind
      */
-    public void bindScore(IntegerProperty scoreProperty) {
+    public void bindScore(ReadOnlyIntegerProperty scoreProperty) {
         if (scoreText != null) {
             scoreText.textProperty().bind(scoreProperty.asString("Score %d"));
         }
@@ -113,7 +116,7 @@ public class GuiHudHelper {
      *
      * @param levelProperty the level property to bind
      */
-    public void bindLevel(IntegerProperty levelProperty) {
+    public void bindLevel(ReadOnlyIntegerProperty levelProperty) {
         if (levelText != null) {
             levelText.textProperty().bind(levelProperty.asString("Level %d"));
         }
@@ -124,7 +127,7 @@ public class GuiHudHelper {
      *
      * @param linesProperty the lines property to bind
      */
-    public void bindLines(IntegerProperty linesProperty) {
+    public void bindLines(ReadOnlyIntegerProperty linesProperty) {
         if (linesText != null) {
             linesText.textProperty().bind(linesProperty.asString("Lines %d"));
         }
@@ -135,7 +138,7 @@ public class GuiHudHelper {
      *
      * @param comboProperty the combo property to bind
      */
-    public void bindCombo(IntegerProperty comboProperty) {
+    public void bindCombo(ReadOnlyIntegerProperty comboProperty) {
         if (comboText != null) {
             comboText.textProperty().bind(comboProperty.asString("Combo x%d"));
         }
@@ -187,38 +190,76 @@ public class GuiHudHelper {
 
         progressText.setText(sb.toString());
     }
+
+    /**
+     * Updates the progress text for Versus mode.
+     *
+     * @param incoming garbage rows waiting to rise on the player's board
+     * @param sent rows the player has sent to the CPU
+     */
+    public void updateVersusStatus(int incoming, int sent) {
+        if (progressText == null) {
+            return;
+        }
+        progressText.setText(String.format("Incoming %d, Sent %d", incoming, sent));
+    }
     
     /**
-     * Updates best score and best Rush-40 time for the given mode.
-     * Called from GameController when a run ends.
+     * Updates the finesse fault count. The count turns red while the last
+     * piece locked was a fault.
      *
-     * @param mode the game mode
-     * @param finalScore the final score achieved
-     * @param rushCompletionSeconds the completion time in seconds (for Rush mode)
+     * @param faults finesse faults so far
+     * @param piecesJudged pieces whose placement was judged
+     * @param lastWasFault whether the piece that just locked was a fault
      */
-    public void updateBestInfo(GameMode mode, int finalScore, double rushCompletionSeconds) {
-        if (mode == null) {
+    public void updateFinesse(int faults, int piecesJudged, boolean lastWasFault) {
+        if (finesseText == null) {
             return;
         }
-        int index = mode.ordinal();
-
-        boolean newBestScore = false;
-        boolean newBestTime = false;
-
-        if (finalScore > bestScores[index]) {
-            bestScores[index] = finalScore;
-            newBestScore = true;
+        finesseText.setText(String.format("Finesse %d / %d", faults, piecesJudged));
+        finesseText.getStyleClass().remove("dangerText");
+        if (lastWasFault) {
+            finesseText.getStyleClass().add("dangerText");
         }
+    }
 
-        if (mode == GameMode.RUSH_40 && rushCompletionSeconds > 0.0) {
-            double currentBest = bestRushTimes[index];
-            if (currentBest < 0.0 || rushCompletionSeconds < currentBest) {
-                bestRushTimes[index] = rushCompletionSeconds;
-                newBestTime = true;
-            }
+    /**
+     * Records a finished run in the journal and shows the mode's bests,
+     * highlighting any the run just set.
+     *
+     * @param record the finished run
+     * @return how the run compares with earlier runs of the mode, or null if it is the first
+     */
+    public String recordRun(RunRecord record) {
+        if (record == null || record.getMode() == null) {
+            return null;
         }
+        RunStatistics earlier = records.getStatistics(record.getMode());
+        int newBests = records.record(record);
+        refreshBestInfoForMode(record.getMode(),
+                (newBests & RecordsJournal.NEW_BEST_SCORE) != 0,
+                (newBests & RecordsJournal.NEW_BEST_TIME) != 0);
+        return describeRank(record, earlier);
+    }
 
-        refreshBestInfoForMode(mode, newBestScore, newBestTime);
+    /**
+     * Ranks a run against the runs before it: by time for a timed win,
+     * otherwise by score.
+     *
+     * @param run the finished run
+     * @param earlier statistics of the mode before this run
+     * @return text such as "You beat 83% of your runs", or null if there is nothing to compare with
+     */
+    static String describeRank(RunRecord run, RunStatistics earlier) {
+        if (run.hasBestTime() && earlier.getTimeHistogram().getTotal() > 0) {
+            long percent = Math.round(earlier.getTimeRank(run.getTimeMillis()) * 100);
+            return "Faster than " + percent + "% of your wins";
+        }
+        if (earlier.getRuns() == 0) {
+            return null;
+        }
+        long percent = Math.round(earlier.getScoreRank(run.getScore()) * 100);
+        return "You beat " + percent + "% of your runs";
     }
 
     /**
@@ -238,11 +279,10 @@ public class GuiHudHelper {
             return;
         }
 
-        int index = mode.ordinal();
-        int bestScore = bestScores[index];
+        int bestScore = records.getBestScore(mode);
 
         if (mode == GameMode.RUSH_40) {
-            double bestTime = bestRushTimes[index];
+            double bestTime = records.getBestTimeMillis(mode) / 1000.0;
 
             StringBuilder text = new StringBuilder();
             if (bestTime > 0.0) {
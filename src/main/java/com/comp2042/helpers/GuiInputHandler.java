@@ -5,9 +5,12 @@ import com.comp2042.models.EventSource;
 import com.comp2042.models.EventType;
 import com.comp2042.models.GameSettings;
 import com.comp2042.models.GameState;
+import com.comp2042.models.InputAction;
 import com.comp2042.models.MoveEvent;
 import com.comp2042.models.ViewData;
 import com.comp2042.interfaces.InputEventListener;
+import com.comp2042.logic.AutoRepeat;
+import com.comp2042.logic.LogicThread;
 import com.comp2042.audio.SoundManager;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
@@ -28,6 +31,12 @@ public class GuiInputHandler {
     private final Runnable restartCallback;
     private final Runnable backToMainMenuCallback;
     private final java.util.function.Supplier<GameState> gameStateSupplier;
+
+    // Held-key state and DAS/ARR timing for movement and soft drop.
+    private final AutoRepeat autoRepeat;
+
+    // When set, gameplay keys are queued for this thread instead of run here.
+    private LogicThread logicThread;
     
     /**
      * Creates a new input handler with the specified dependencies.
@@ -64,8 +73,20 @@ public class GuiInputHandler {
         this.restartCallback = restartCallback;
         this.backToMainMenuCallback = backToMainMenuCallback;
         this.gameStateSupplier = gameStateSupplier;
+        this.autoRepeat = new AutoRepeat(gameSettings.getDasMs(), gameSettings.getArrMs(),
+                gameSettings.getSoftDropFactor());
     }
     
+    /**
+     * Sends gameplay keys to a logic thread from now on. Pause, restart and
+     * menu keys are still handled here.
+     *
+     * @param logicThread the logic thread, or null to run input on the FX thread
+     */
+    public void setLogicThread(LogicThread logicThread) {
+        this.logicThread = logicThread;
+    }
+
     /**
      * Centralised key handler that processes keyboard input and delegates to appropriate game actions.
      * Handles movement, rotation, hold, soft/hard drop, pause, and restart based on configured key bindings.
@@ -101,19 +122,31 @@ public class GuiInputHandler {
             return;
         }
 
-        // Move left (uses settings)
+        long now = System.nanoTime();
+
+        if (logicThread != null) {
+            submitKey(code, true, now);
+            event.consume();
+            return;
+        }
+
+        // Move left (uses settings). Held keys repeat from tick(), not from OS key repeat.
         if (code == gameSettings.getMoveLeft()) {
-            refreshBrickCallback.accept(eventListener.onLeftEvent(
-                    new MoveEvent(EventType.LEFT, EventSource.USER)));
-            SoundManager.playMove();
+            if (autoRepeat.press(AutoRepeat.LEFT, now)) {
+                refreshBrickCallback.accept(eventListener.onLeftEvent(
+                        new MoveEvent(EventType.LEFT, EventSource.USER)));
+                SoundManager.playMove();
+            }
             event.consume();
         }
 
         // Move right (uses settings)
         if (code == gameSettings.getMoveRight()) {
-            refreshBrickCallback.accept(eventListener.onRightEvent(
-                    new MoveEvent(EventType.RIGHT, EventSource.USER)));
-            SoundManager.playMove();
+            if (autoRepeat.press(AutoRepeat.RIGHT, now)) {
+                refreshBrickCallback.accept(eventListener.onRightEvent(
+                        new MoveEvent(EventType.RIGHT, EventSource.USER)));
+                SoundManager.playMove();
+            }
             event.consume();
         }
 
@@ -125,6 +158,20 @@ public class GuiInputHandler {
             event.consume();
         }
 
+        if (code == gameSettings.getRotateClockwise()) {
+            refreshBrickCallback.accept(eventListener.onRotateClockwiseEvent(
+                    new MoveEvent(EventType.ROTATE, EventSource.USER)));
+            SoundManager.playRotate();
+            event.consume();
+        }
+
+        if (code == gameSettings.getRotate180()) {
+            refreshBrickCallback.accept(eventListener.onRotate180Event(
+                    new MoveEvent(EventType.ROTATE, EventSource.USER)));
+            SoundManager.playRotate();
+            event.consume();
+        }
+
         // Hold (uses settings)
         if (code == gameSettings.getHold()) {
             refreshBrickCallback.accept(eventListener.onHoldEvent(
@@ -133,10 +180,22 @@ public class GuiInputHandler {
             event.consume();
         }
 
+        // Rewind the last piece (uses settings); the listener redraws the board itself.
+        if (code == gameSettings.getRewind()) {
+            ViewData viewData = eventListener.onRewindEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+            if (viewData != null) {
+                refreshBrickCallback.accept(viewData);
+                SoundManager.playHold();
+            }
+            event.consume();
+        }
+
         // Soft drop (uses settings)
         if (code == gameSettings.getSoftDrop()) {
-            moveDownCallback.accept(new MoveEvent(EventType.DOWN, EventSource.USER));
-            SoundManager.playMove();
+            if (autoRepeat.press(AutoRepeat.SOFT_DROP, now)) {
+                moveDownCallback.accept(new MoveEvent(EventType.DOWN, EventSource.USER));
+                SoundManager.playMove();
+            }
             event.consume();
         }
 
@@ -150,6 +209,127 @@ public class GuiInputHandler {
         }
     }
 
+    /**
+     * Clears the held state of a released movement or soft drop key.
+     *
+     * @param event the key event to process
+     */
+    public void handleKeyReleased(KeyEvent event) {
+        KeyCode code = event.getCode();
+        long now = System.nanoTime();
+
+        if (logicThread != null) {
+            submitKey(code, false, now);
+        }
+
+        if (code == gameSettings.getMoveLeft()) {
+            autoRepeat.release(AutoRepeat.LEFT, now);
+        }
+        if (code == gameSettings.getMoveRight()) {
+            autoRepeat.release(AutoRepeat.RIGHT, now);
+        }
+        if (code == gameSettings.getSoftDrop()) {
+            autoRepeat.release(AutoRepeat.SOFT_DROP, now);
+        }
+    }
+
+    /**
+     * Queues a gameplay key for the logic thread with its timestamp. The
+     * local key state only decides when to play the move sound.
+     */
+    private void submitKey(KeyCode code, boolean pressed, long now) {
+        InputAction action = actionFor(code);
+        if (action == null || !logicThread.submit(action, pressed, now) || !pressed) {
+            return;
+        }
+
+        switch (action) {
+            case MOVE_LEFT:
+                if (autoRepeat.press(AutoRepeat.LEFT, now)) {
+                    SoundManager.playMove();
+                }
+                break;
+            case MOVE_RIGHT:
+                if (autoRepeat.press(AutoRepeat.RIGHT, now)) {
+                    SoundManager.playMove();
+                }
+                break;
+            case SOFT_DROP:
+                if (autoRepeat.press(AutoRepeat.SOFT_DROP, now)) {
+                    SoundManager.playMove();
+                }
+                break;
+            case ROTATE:
+            case ROTATE_CLOCKWISE:
+            case ROTATE_180:
+                SoundManager.playRotate();
+                break;
+            case HOLD:
+            case REWIND:
+                SoundManager.playHold();
+                break;
+            default:
+                break;
+        }
+    }
+
+    private InputAction actionFor(KeyCode code) {
+        if (code == gameSettings.getMoveLeft()) {
+            return InputAction.MOVE_LEFT;
+        }
+        if (code == gameSettings.getMoveRight()) {
+            return InputAction.MOVE_RIGHT;
+        }
+        if (code == gameSettings.getSoftDrop()) {
+            return InputAction.SOFT_DROP;
+        }
+        if (code == gameSettings.getRotate()) {
+            return InputAction.ROTATE;
+        }
+        if (code == gameSettings.getRotateClockwise()) {
+            return InputAction.ROTATE_CLOCKWISE;
+        }
+        if (code == gameSettings.getRotate180()) {
+            return InputAction.ROTATE_180;
+        }
+        if (code == gameSettings.getHold()) {
+            return InputAction.HOLD;
+        }
+        if (code == gameSettings.getHardDrop()) {
+            return InputAction.HARD_DROP;
+        }
+        if (code == gameSettings.getRewind()) {
+            return InputAction.REWIND;
+        }
+        return null;
+    }
+
+    /**
+     * Runs the auto-repeat for held keys. Called from the game tick; all the
+     * columns due this tick are applied as one shift with a single refresh.
+     *
+     * @param nowNanos current time
+     * @param gravityNanos current gravity interval, used for the soft drop speed
+     */
+    public void tick(long nowNanos, long gravityNanos) {
+        if (!canHandleInput() || eventListener == null) {
+            autoRepeat.releaseAll();
+            return;
+        }
+
+        int shift = autoRepeat.pollShift(nowNanos);
+        if (shift != 0) {
+            EventType type = shift < 0 ? EventType.LEFT : EventType.RIGHT;
+            refreshBrickCallback.accept(eventListener.onShiftEvent(
+                    new MoveEvent(type, EventSource.USER), shift));
+        }
+
+        int rows = autoRepeat.pollSoftDrop(nowNanos, gravityNanos);
+        for (int i = 0; i < rows; i++) {
+            moveDownCallback.accept(new MoveEvent(EventType.DOWN, EventSource.USER));
+        }
+    }
+
     /**
      * Key handling when the game has finished.
      * R key restarts, M or ESC returns to main menu.
@@ -165,5 +165,25 @@ public class GuiLayoutHelper {
         ghostPanel.setLayoutX(Math.round(x));
         ghostPanel.setLayoutY(Math.round(y));
     }
+
+    /**
+     * Moves another overlay panel (such as the hint) so that its cell (0, 0)
+     * lines up with the given board cell.
+     *
+     * @param panel the overlay panel
+     * @param boardX board column
+     * @param boardY board row, counting the hidden rows
+     */
+    public void updateOverlayPosition(GridPane panel, int boardX, int boardY) {
+        if (!boardLayoutCalibrated || panel == null) {
+            return;
+        }
+
+        double x = boardOriginX + boardX * boardCellWidth;
+        double y = boardOriginY + (boardY - HIDDEN_TOP_ROWS) * boardCellHeight;
+
+        panel.setLayoutX(Math.round(x));
+        panel.setLayoutY(Math.round(y));
+    }
 }
 
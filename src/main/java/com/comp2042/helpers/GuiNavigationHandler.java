@@ -14,6 +14,8 @@ public class GuiNavigationHandler {
     private final GameMode currentMode;
     private final GuiTimerHelper timerHelper;
     private final GuiStateManager stateManager;
+    private final Runnable onLeaveGame;
+    private final Runnable onCloseGame;
     
     /**
      * Creates a new navigation handler with the specified dependencies.
@@ -22,16 +24,23 @@ public class GuiNavigationHandler {
      * @param currentMode the current game mode
      * @param timerHelper helper for timer management
      * @param stateManager helper for state management
+     * @param onLeaveGame run when leaving to the main menu, after the timers stop (saves the game)
+     * @param onCloseGame run whenever this game's scene is about to be replaced, after
+     *                    {@code onLeaveGame} (stops the game's worker threads)
      */
     public GuiNavigationHandler(
             Main mainApp,
             GameMode currentMode,
             GuiTimerHelper timerHelper,
-            GuiStateManager stateManager) {
+            GuiStateManager stateManager,
+            Runnable onLeaveGame,
+            Runnable onCloseGame) {
         this.mainApp = mainApp;
         this.currentMode = currentMode;
         this.timerHelper = timerHelper;
         this.stateManager = stateManager;
+        this.onLeaveGame = onLeaveGame;
+        this.onCloseGame = onCloseGame;
     }
     
     /**
@@ -46,6 +55,8 @@ public class GuiNavigationHandler {
             timerHelper.stop();
         }
 
+        closeGame();
+
         // Reset game over state in color helper when restarting
         stateManager.resetGameOverState();
 
@@ -60,13 +71,14 @@ public class GuiNavigationHandler {
     }
     
     /**
-     * Navigates to settings screen.
+     * Navigates to settings screen. Coming back starts a new game, so this
+     * one is closed.
      */
     public void goToSettings() {
-        // Pause the game while in settings
         if (timerHelper != null) {
-            timerHelper.pause();
+            timerHelper.stop();
         }
+        closeGame();
         try {
             MusicPlayer.pauseBackgroundMusic();
         } catch (Exception | Error e) {
@@ -81,13 +93,19 @@ public class GuiNavigationHandler {
     }
     
     /**
-     * Navigates back to main menu.
+     * Navigates back to main menu. An unfinished game is saved first so it
+     * can be resumed from the menu.
      */
     public void backToMainMenu() {
         if (timerHelper != null) {
             timerHelper.stop();
         }
 
+        if (onLeaveGame != null) {
+            onLeaveGame.run();
+        }
+        closeGame();
+
         try {
             MusicPlayer.stopBackgroundMusic();
         } catch (Exception | Error e) {
@@ -99,4 +117,10 @@ public class GuiNavigationHandler {
             mainApp.showMainMenu();
         }
     }
+
+    private void closeGame() {
+        if (onCloseGame != null) {
+            onCloseGame.run();
+        }
+    }
 }
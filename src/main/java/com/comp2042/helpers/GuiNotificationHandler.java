@@ -1,7 +1,7 @@
 package com.comp2042.helpers;
 
 import com.comp2042.models.DownData;
-import com.comp2042.ui.NotificationPanel;
+import com.comp2042.ui.NotificationPool;
 import com.comp2042.audio.SoundManager;
 import javafx.scene.Group;
 
@@ -12,14 +12,18 @@ import javafx.scene.Group;
 public class GuiNotificationHandler {
     
     private final Group groupNotification;
+
+    // Reusable popups; null when there is no notification group.
+    private final NotificationPool pool;
     
     /**
-     * Creates a new notification handler.
+     * Creates a new notification handler and its popup pool.
      *
      * @param groupNotification the JavaFX Group container for displaying notifications
      */
     public GuiNotificationHandler(Group groupNotification) {
         this.groupNotification = groupNotification;
+        this.pool = groupNotification != null ? new NotificationPool(groupNotification) : null;
     }
     
     /**
@@ -33,10 +37,7 @@ public class GuiNotificationHandler {
             return;
         }
 
-        String bonusText = "+" + downData.getClearRow().getScoreBonus();
-        NotificationPanel notificationPanel = new NotificationPanel(bonusText);
-        groupNotification.getChildren().add(notificationPanel);
-        notificationPanel.showScore(groupNotification.getChildren());
+        pool.showBonus(downData.getClearRow().getScoreBonus());
 
         SoundManager.playLineClear();
     }
@@ -52,11 +53,8 @@ public class GuiNotificationHandler {
         if (groupNotification == null) {
             return;
         }
-        NotificationPanel notificationPanel = new NotificationPanel(message);
         // Position milestone notifications higher (about 60 pixels above score bonuses)
-        notificationPanel.setLayoutY(143.0); // Original is 203.0, so 203 - 60 = 143
-        groupNotification.getChildren().add(notificationPanel);
-        notificationPanel.showScore(groupNotification.getChildren());
+        pool.showMessage(message, 143.0); // Original is 203.0, so 203 - 60 = 143
         
         // Play a sound for milestone achievement (reuse line clear sound or could add a new one)
         SoundManager.playLineClear();
@@ -70,11 +68,8 @@ public class GuiNotificationHandler {
         if (groupNotification == null) {
             return;
         }
-        NotificationPanel notificationPanel = new NotificationPanel("🎉 Congratulations! You cleared 40 lines! 🎉");
         // Position congratulations message prominently in the center
-        notificationPanel.setLayoutY(100.0);
-        groupNotification.getChildren().add(notificationPanel);
-        notificationPanel.showScore(groupNotification.getChildren());
+        pool.showMessage("🎉 Congratulations! You cleared 40 lines! 🎉", 100.0);
         
         // Play a special sound for completion (using game over sound or could add a new one)
         SoundManager.playGameOver();
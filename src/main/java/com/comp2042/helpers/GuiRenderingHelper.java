@@ -21,6 +21,7 @@ public class GuiRenderingHelper {
     private final GridPane gamePanel;
     private final GridPane brickPanel;
     private final GridPane ghostPanel;
+    private final GridPane hintPanel;
     private final GridPane holdBrickPanel;
     private final GridPane nextBrickPanelTop;
     private final GridPane nextBrickPanelMid;
@@ -30,6 +31,7 @@ public class GuiRenderingHelper {
     private Rectangle[][] displayMatrix;
     private Rectangle[][] rectangles;
     private Rectangle[][] ghostRectangles;
+    private Rectangle[][] hintRectangles;
     private Rectangle[][] nextBrickRectanglesTop;
     private Rectangle[][] nextBrickRectanglesMid;
     private Rectangle[][] nextBrickRectanglesBottom;
@@ -43,6 +45,7 @@ public class GuiRenderingHelper {
      * @param gamePanel the main game board panel
      * @param brickPanel the panel for the falling brick
      * @param ghostPanel the panel for the ghost/shadow piece
+     * @param hintPanel the panel for the suggested placement (may be null)
      * @param holdBrickPanel the panel for the held brick preview
      * @param nextBrickPanelTop the top panel for next brick queue
      * @param nextBrickPanelMid the middle panel for next brick queue
@@ -53,6 +56,7 @@ public class GuiRenderingHelper {
             GridPane gamePanel,
             GridPane brickPanel,
             GridPane ghostPanel,
+            GridPane hintPanel,
             GridPane holdBrickPanel,
             GridPane nextBrickPanelTop,
             GridPane nextBrickPanelMid,
@@ -61,6 +65,7 @@ public class GuiRenderingHelper {
         this.gamePanel = gamePanel;
         this.brickPanel = brickPanel;
         this.ghostPanel = ghostPanel;
+        this.hintPanel = hintPanel;
         this.holdBrickPanel = holdBrickPanel;
         this.nextBrickPanelTop = nextBrickPanelTop;
         this.nextBrickPanelMid = nextBrickPanelMid;
@@ -384,6 +389,52 @@ public class GuiRenderingHelper {
         }
     }
 
+    // === HINT initialisation & refresh ===
+
+    /**
+     * Shows the suggested placement as an outline, the same way as the ghost:
+     * the cells are created once and restyled, and the panel is moved over
+     * the board.
+     *
+     * @param shape the brick in the suggested rotation
+     * @param updateHintPanelPosition callback to move the hint panel to the suggested position
+     */
+    public void refreshHint(int[][] shape, Runnable updateHintPanelPosition) {
+        if (hintPanel == null || shape == null || gameState != GameState.PLAYING) {
+            return;
+        }
+
+        if (hintRectangles == null || hintRectangles.length != shape.length
+                || hintRectangles[0].length != shape[0].length) {
+            hintPanel.getChildren().clear();
+            hintRectangles = new Rectangle[shape.length][shape[0].length];
+            for (int row = 0; row < shape.length; row++) {
+                for (int col = 0; col < shape[row].length; col++) {
+                    Rectangle cell = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                    hintRectangles[row][col] = cell;
+                    hintPanel.add(cell, col, row);
+                }
+            }
+        }
+
+        updateHintPanelPosition.run();
+        for (int row = 0; row < shape.length; row++) {
+            for (int col = 0; col < shape[row].length; col++) {
+                colorHelper.setHintRectangleData(shape[row][col], hintRectangles[row][col]);
+            }
+        }
+        hintPanel.setVisible(true);
+    }
+
+    /**
+     * Hides the suggested placement until the next one arrives.
+     */
+    public void hideHint() {
+        if (hintPanel != null) {
+            hintPanel.setVisible(false);
+        }
+    }
+
     /**
      * Refreshes the falling brick display and related previews.
      *
@@ -449,5 +500,16 @@ public class GuiRenderingHelper {
             ghostRectangles = null;
         }
     }
+
+    /**
+     * Clears the hint panel.
+     */
+    public void clearHintPanel() {
+        if (hintPanel != null) {
+            hintPanel.getChildren().clear();
+            hintPanel.setVisible(false);
+            hintRectangles = null;
+        }
+    }
 }
 
@@ -1,11 +1,14 @@
 package com.comp2042.helpers;
 
+import javafx.animation.AnimationTimer;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.scene.text.Text;
 import javafx.util.Duration;
 import com.comp2042.models.MoveEvent;
 import com.comp2042.models.EventSource;
+import com.comp2042.models.GravityProfile;
+import com.comp2042.logic.LogicThread;
 
 /**
  * Helper class for timer logic extracted from GuiController.
@@ -21,8 +24,26 @@ public class GuiTimerHelper {
     private long timerPausedAccumNanos;
     private boolean timerRunning;
     
+    // Input tick for held-key auto-repeat, well above the usual ARR resolution.
+    private static final double INPUT_TICK_MS = 1000.0 / 120.0;
+
     private Timeline timeLine;
     private Timeline hudTimer;
+    private Timeline inputTimer;
+    private java.util.function.LongConsumer inputTick;
+
+    // Tick-driven gravity; when set it replaces the fixed-interval drop keyframe.
+    private GravityProfile gravityProfile;
+    private Runnable gravityTick;
+    private int level = 1;
+
+    // When set, gravity and input run on this thread and the FX side only draws.
+    private LogicThread logicThread;
+
+    // Per-frame callback, run from an AnimationTimer.
+    private Runnable renderPulse;
+    private AnimationTimer pulseTimer;
+
     private final Text timerText;
     private final java.util.function.Consumer<MoveEvent> moveDownCallback;
     
@@ -73,16 +94,117 @@ public class GuiTimerHelper {
         return timeLine;
     }
     
+    /**
+     * Sets the callback run on every input tick with the current time in nanoseconds.
+     * It starts and stops together with the auto-drop timer.
+     *
+     * @param inputTick the tick callback
+     */
+    public void setInputTick(java.util.function.LongConsumer inputTick) {
+        this.inputTick = inputTick;
+    }
+
+    /**
+     * Sets the gravity table used instead of the fixed drop interval, and the
+     * callback run on every gravity tick. A null profile keeps the drop timer.
+     *
+     * @param gravityProfile gravity table and lock delay, or null
+     * @param gravityTick callback for each of the 60 ticks per second
+     */
+    public void setGravity(GravityProfile gravityProfile, Runnable gravityTick) {
+        this.gravityProfile = gravityProfile;
+        this.gravityTick = gravityTick;
+    }
+
+    /**
+     * Hands gravity and input over to a logic thread. The timers then start,
+     * pause and stop the thread instead of running the drop timeline.
+     *
+     * @param logicThread the logic thread, or null to tick on the FX thread
+     */
+    public void setLogicThread(LogicThread logicThread) {
+        this.logicThread = logicThread;
+    }
+
+    /**
+     * Sets the callback run on every JavaFX pulse while the game runs, used
+     * to push the frame's score and snapshot to the screen.
+     *
+     * @param renderPulse callback run once per frame
+     */
+    public void setRenderPulse(Runnable renderPulse) {
+        this.renderPulse = renderPulse;
+    }
+
+    /**
+     * Whether gravity is running, either on a timeline or on a logic thread.
+     *
+     * @return true once the drop timer or logic thread has been started
+     */
+    public boolean hasDropTimer() {
+        return timeLine != null || (logicThread != null && pulseTimer != null);
+    }
+
+    /**
+     * Current time between gravity steps, including the level speed-up.
+     *
+     * @return the gravity interval in nanoseconds
+     */
+    public long getGravityIntervalNanos() {
+        if (gravityProfile != null) {
+            return gravityProfile.getRowIntervalNanos(level);
+        }
+        double rate = timeLine != null ? timeLine.getRate() : 1.0;
+        return (long) (fallIntervalMs * 1_000_000L / rate);
+    }
+
     /**
      * Starts the automatic drop timer that moves bricks down periodically.
      */
     public void startAutoDropTimer() {
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(fallIntervalMs),
-                ae -> moveDownCallback.accept(new MoveEvent(com.comp2042.models.EventType.DOWN, EventSource.THREAD))
-        ));
+        if (renderPulse != null) {
+            if (pulseTimer == null) {
+                pulseTimer = new AnimationTimer() {
+                    @Override
+                    public void handle(long now) {
+                        renderPulse.run();
+                    }
+                };
+            }
+            pulseTimer.start();
+        }
+
+        if (logicThread != null) {
+            logicThread.start();
+            return;
+        }
+
+        if (gravityProfile != null && gravityTick != null) {
+            // Fixed 60 Hz tick; the level is applied through the gravity table, not the rate.
+            timeLine = new Timeline(new KeyFrame(
+                    Duration.millis(1000.0 / GravityProfile.TICKS_PER_SECOND),
+                    ae -> gravityTick.run()
+            ));
+        } else {
+            timeLine = new Timeline(new KeyFrame(
+                    Duration.millis(fallIntervalMs),
+                    ae -> moveDownCallback.accept(new MoveEvent(com.comp2042.models.EventType.DOWN, EventSource.THREAD))
+            ));
+        }
         timeLine.setCycleCount(Timeline.INDEFINITE);
         timeLine.play();
+
+        if (inputTick != null) {
+            if (inputTimer != null) {
+                inputTimer.stop();
+            }
+            inputTimer = new Timeline(new KeyFrame(
+                    Duration.millis(INPUT_TICK_MS),
+                    ae -> inputTick.accept(System.nanoTime())
+            ));
+            inputTimer.setCycleCount(Timeline.INDEFINITE);
+            inputTimer.play();
+        }
     }
 
     /**
@@ -146,7 +268,8 @@ public class GuiTimerHelper {
      * @param newLevel the new level (affects drop speed)
      */
     public void onLevelChanged(int newLevel) {
-        if (timeLine == null) {
+        level = newLevel;
+        if (timeLine == null || gravityProfile != null) {
             return;
         }
 
@@ -161,6 +284,9 @@ public class GuiTimerHelper {
         if (timeLine != null) {
             timeLine.pause();
         }
+        if (logicThread != null) {
+            logicThread.pause();
+        }
 
         if (timerEnabled && timerRunning) {
             timerPauseStartNanos = System.nanoTime();
@@ -178,6 +304,9 @@ public class GuiTimerHelper {
         if (timeLine != null) {
             timeLine.play();
         }
+        if (logicThread != null) {
+            logicThread.resume();
+        }
 
         if (timerEnabled && !timerRunning) {
             if (timerPauseStartNanos != 0L) {
@@ -200,6 +329,17 @@ public class GuiTimerHelper {
             timeLine.stop();
         }
 
+        if (inputTimer != null) {
+            inputTimer.stop();
+        }
+
+        if (logicThread != null) {
+            logicThread.stop();
+        }
+        if (pulseTimer != null) {
+            pulseTimer.stop();
+        }
+
         if (hudTimer != null) {
             hudTimer.stop();
         }
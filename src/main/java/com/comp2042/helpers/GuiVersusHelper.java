@@ -0,0 +1,155 @@
+package com.comp2042.helpers;
+
+import com.comp2042.mode.CpuOpponent;
+import com.comp2042.models.ViewData;
+import com.comp2042.render.FrameRenderer;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.text.Text;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Draws both boards in Versus mode.
+ *
+ * As in split screen, neither board is a grid of nodes. One
+ * {@link FrameRenderer}, and so one set of pre-drawn cell tiles, renders the
+ * player's board and the CPU's into a reused array of palette indices, and
+ * each is written to its own image in one call. Both are drawn from
+ * {@link #drawLatest()} in the same pulse. The player's image is the board
+ * alone, since the HUD already shows the hold and next previews; the CPU's
+ * is the whole frame, shown at a smaller size.
+ */
+public class GuiVersusHelper {
+
+    private static final int CELL_SIZE = 28;
+    private static final int CPU_CELL_SIZE = 16;
+
+    private final Pane container;
+    private final Text statusText;
+    private final ImageView playerView;
+    private final FrameRenderer renderer;
+    private final byte[] pixels;
+    private final WritableImage image;
+    private final WritableImage playerImage;
+    private final PixelFormat<ByteBuffer> format;
+
+    // The player's board as last set; copied, since a snapshot's rows are reused.
+    private final int[][] playerBoard;
+    private ViewData playerViewData;
+    private boolean playerShown;
+    private boolean playerDirty;
+
+    private CpuOpponent opponent;
+
+    /**
+     * Creates a helper drawing into the given nodes.
+     *
+     * @param container panel holding the CPU's view; shown only while there is an opponent
+     * @param view image view for the CPU's board
+     * @param statusText line under the board for the CPU's lines and garbage (may be null)
+     * @param playerView image view for the player's board; shown only in Versus
+     * @param rows board rows
+     * @param columns board columns
+     */
+    public GuiVersusHelper(Pane container, ImageView view, Text statusText, ImageView playerView,
+                           int rows, int columns) {
+        this.container = container;
+        this.statusText = statusText;
+        this.playerView = playerView;
+        this.renderer = new FrameRenderer(rows, columns, CELL_SIZE);
+        this.pixels = new byte[renderer.getWidth() * renderer.getHeight()];
+        this.image = new WritableImage(renderer.getWidth(), renderer.getHeight());
+        this.playerImage = new WritableImage(renderer.getBoardWidth(), renderer.getBoardHeight());
+        this.playerBoard = new int[rows][columns];
+
+        int[] argb = new int[FrameRenderer.PALETTE.getMapSize()];
+        FrameRenderer.PALETTE.getRGBs(argb);
+        this.format = PixelFormat.createByteIndexedInstance(argb);
+        view.setImage(image);
+        view.setFitWidth(renderer.getWidth() * CPU_CELL_SIZE / CELL_SIZE);
+        view.setPreserveRatio(true);
+        playerView.setImage(playerImage);
+    }
+
+    /**
+     * Sets the opponent to draw, or null to hide the panel.
+     *
+     * @param opponent the CPU side
+     */
+    public void setOpponent(CpuOpponent opponent) {
+        this.opponent = opponent;
+        boolean shown = opponent != null;
+        container.setVisible(shown);
+        container.setManaged(shown);
+    }
+
+    /**
+     * Shows or hides the player's board image. While it is shown, the
+     * player's board is drawn here rather than by the node grid.
+     *
+     * @param shown whether the player's board is drawn as an image
+     */
+    public void setPlayerShown(boolean shown) {
+        this.playerShown = shown;
+        playerView.setVisible(shown);
+        playerView.setManaged(shown);
+    }
+
+    public boolean isPlayerShown() {
+        return playerShown;
+    }
+
+    /**
+     * Sets the player's board, drawn on the next pulse.
+     *
+     * @param board the board matrix; its rows are copied
+     */
+    public void setPlayerBoard(int[][] board) {
+        for (int row = 0; row < playerBoard.length; row++) {
+            System.arraycopy(board[row], 0, playerBoard[row], 0, playerBoard[row].length);
+        }
+        playerDirty = true;
+    }
+
+    /**
+     * Sets the player's active brick and ghost, drawn on the next pulse.
+     *
+     * @param view the brick to draw, or null for the board alone
+     */
+    public void setPlayerView(ViewData view) {
+        this.playerViewData = view;
+        playerDirty = true;
+    }
+
+    /**
+     * Draws whatever changed since the last call: the player's board, if it
+     * was set, and the CPU's newest frame, if it published one. FX thread only.
+     */
+    public void drawLatest() {
+        if (playerShown && playerDirty) {
+            playerDirty = false;
+            renderer.render(playerBoard, playerViewData, pixels);
+            playerImage.getPixelWriter().setPixels(0, 0, renderer.getBoardWidth(), renderer.getBoardHeight(),
+                    format, pixels, renderer.getBoardLeft(), renderer.getWidth());
+        }
+        if (opponent == null) {
+            return;
+        }
+        CpuOpponent.Frame frame = opponent.pollFrame();
+        if (frame == null) {
+            return;
+        }
+        renderer.render(frame.getBoard(), frame.getViewData(), pixels);
+        image.getPixelWriter().setPixels(0, 0, renderer.getWidth(), renderer.getHeight(),
+                format, pixels, 0, renderer.getWidth());
+        if (statusText != null) {
+            statusText.setText(frame.isToppedOut()
+                    ? "CPU topped out"
+                    : String.format("CPU  Lines %d  Incoming %d  Sent %d",
+                            frame.getLines(), frame.getIncoming(), frame.getSent()));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.comp2042.helpers;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import com.comp2042.models.Score;
+
+/**
+ * Bridges the plain-int Score to the HUD's JavaFX bindings.
+ *
+ * The HUD binds to the properties here once. Each frame the game screen calls
+ * {@link #publish}, which copies the current values across in one go, so any
+ * number of score changes within a frame cost a single round of binding
+ * updates, and none at all when nothing changed. FX thread only.
+ */
+public class ScorePublisher {
+
+    private final IntegerProperty score = new SimpleIntegerProperty(0);
+    private final IntegerProperty level = new SimpleIntegerProperty(1);
+    private final IntegerProperty lines = new SimpleIntegerProperty(0);
+    private final IntegerProperty combo = new SimpleIntegerProperty(0);
+
+    private Score source;
+    private long publishedVersion = -1;
+
+    /**
+     * Sets the score read on each frame, and publishes it straight away.
+     *
+     * @param source the game's score, or null to only publish explicit values
+     */
+    public void setSource(Score source) {
+        this.source = source;
+        this.publishedVersion = -1;
+        publish();
+    }
+
+    /**
+     * Copies the source score to the properties if it changed since the last frame.
+     */
+    public void publish() {
+        if (source == null || source.getVersion() == publishedVersion) {
+            return;
+        }
+        publishedVersion = source.getVersion();
+        publish(source.getScore(), source.getLevel(), source.getTotalLines(), source.getCombo());
+    }
+
+    /**
+     * Publishes values read elsewhere, e.g. from a logic thread snapshot.
+     * Properties whose value is unchanged do not notify their listeners.
+     *
+     * @param newScore current score
+     * @param newLevel current level
+     * @param newLines total lines cleared
+     * @param newCombo current combo
+     */
+    public void publish(int newScore, int newLevel, int newLines, int newCombo) {
+        score.set(newScore);
+        level.set(newLevel);
+        lines.set(newLines);
+        combo.set(newCombo);
+    }
+
+    public ReadOnlyIntegerProperty scoreProperty() {
+        return score;
+    }
+
+    public ReadOnlyIntegerProperty levelProperty() {
+        return level;
+    }
+
+    public ReadOnlyIntegerProperty linesProperty() {
+        return lines;
+    }
+
+    public ReadOnlyIntegerProperty comboProperty() {
+        return combo;
+    }
+}
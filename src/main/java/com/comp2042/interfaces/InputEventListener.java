@@ -12,10 +12,76 @@ public interface InputEventListener {
 
     ViewData onRotateEvent(MoveEvent event);
 
+    /**
+     * Auto-repeat shift of several columns at once (negative = left). Listeners
+     * without a faster path fall back to single moves.
+     */
+    default ViewData onShiftEvent(MoveEvent event, int cells) {
+        ViewData view = null;
+        int target = Math.abs(cells);
+        for (int i = 0; i < target; i++) {
+            ViewData next = cells < 0 ? onLeftEvent(event) : onRightEvent(event);
+            if (view != null && next.getxPosition() == view.getxPosition()) {
+                return next;
+            }
+            view = next;
+        }
+        return view;
+    }
+
+    /**
+     * Clockwise rotation. Listeners that only rotate one way fall back to onRotateEvent.
+     */
+    default ViewData onRotateClockwiseEvent(MoveEvent event) {
+        return onRotateEvent(event);
+    }
+
+    /**
+     * Half-turn rotation. Listeners that only rotate one way fall back to onRotateEvent.
+     */
+    default ViewData onRotate180Event(MoveEvent event) {
+        return onRotateEvent(event);
+    }
+
     ViewData onHoldEvent(MoveEvent event);
 
     DownData onDownEvent(MoveEvent event);
 
+    /**
+     * One tick of tick-driven gravity. Listeners that rely on the drop timer
+     * (onDownEvent) instead do nothing here.
+     *
+     * @return what changed, or null if nothing did
+     */
+    default DownData onGravityTick() {
+        return null;
+    }
+
     // NEW: Space key – hard drop all the way down
     DownData onHardDropEvent(MoveEvent event);
+
+    /**
+     * Undo of the last locked piece, for practice. The default cannot rewind
+     * and leaves the game as it is.
+     *
+     * @param event the move event
+     * @return the view after rewinding, or null if nothing changed
+     */
+    default ViewData onRewindEvent(MoveEvent event) {
+        return null;
+    }
+
+    /**
+     * The player is leaving an unfinished game. Listeners that can save the
+     * game do so here; the default does nothing.
+     */
+    default void suspendGame() {
+    }
+
+    /**
+     * The game's screen is being replaced (restart, settings or menu), finished
+     * or not. Listeners stop any threads they started; the default does nothing.
+     */
+    default void closeGame() {
+    }
 }
@@ -0,0 +1,189 @@
+package com.comp2042.logic;
+
+/**
+ * Delayed auto shift (DAS) and auto repeat rate (ARR) for held keys.
+ *
+ * Key presses and releases only flip bits in a small key-state set; the
+ * repeated moves are worked out when the game tick polls, from the time the
+ * key has been held. OS key-repeat events for a key that is already down are
+ * ignored, so holding a key behaves the same on every machine.
+ *
+ * Horizontal input follows the last direction pressed. With ARR 0 a charged
+ * shift is reported as {@link #TO_WALL}, which the board resolves in one sweep.
+ * Soft drop repeats at the gravity interval divided by the soft drop factor.
+ */
+public class AutoRepeat {
+
+    // Key bits.
+    public static final int LEFT = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int SOFT_DROP = 1 << 2;
+
+    /** Shift distance meaning "as far as the brick can go". */
+    public static final int TO_WALL = Integer.MAX_VALUE;
+
+    // Cap on repeats per poll, so a long stall cannot queue up a burst of moves.
+    private static final int MAX_STEPS_PER_POLL = 32;
+
+    private final long dasNanos;
+    private final long arrNanos;
+    private final int softDropFactor;
+
+    private int keys;
+
+    // -1 left, +1 right, 0 none.
+    private int direction;
+    private long shiftPressedAt;
+    private boolean charged;
+    private long nextShiftAt;
+
+    private long softDropPressedAt;
+    private boolean softDropScheduled;
+    private long nextSoftDropAt;
+
+    /**
+     * Creates an engine with the given timings.
+     *
+     * @param dasMs delay before a held direction starts repeating
+     * @param arrMs time between repeated moves; 0 = shift straight to the wall
+     * @param softDropFactor how many times faster than gravity soft drop falls (at least 1)
+     */
+    public AutoRepeat(int dasMs, int arrMs, int softDropFactor) {
+        this.dasNanos = Math.max(0, dasMs) * 1_000_000L;
+        this.arrNanos = Math.max(0, arrMs) * 1_000_000L;
+        this.softDropFactor = Math.max(1, softDropFactor);
+    }
+
+    /**
+     * Records a key press.
+     *
+     * @param key one of the key bits
+     * @param nowNanos current time
+     * @return true if the key was not already held, so the caller should
+     *         perform the action once immediately
+     */
+    public boolean press(int key, long nowNanos) {
+        if ((keys & key) != 0) {
+            return false;
+        }
+        keys |= key;
+        if (key == LEFT || key == RIGHT) {
+            startCharging(key == LEFT ? -1 : 1, nowNanos);
+        } else if (key == SOFT_DROP) {
+            // The interval depends on gravity, so the first repeat is scheduled on the next poll.
+            softDropPressedAt = nowNanos;
+            softDropScheduled = false;
+        }
+        return true;
+    }
+
+    /**
+     * Records a key release. Releasing the active direction while the other
+     * one is still held hands control back to it, with a fresh DAS delay.
+     *
+     * @param key one of the key bits
+     * @param nowNanos current time
+     */
+    public void release(int key, long nowNanos) {
+        keys &= ~key;
+        if (key == LEFT && direction < 0) {
+            direction = 0;
+            if ((keys & RIGHT) != 0) {
+                startCharging(1, nowNanos);
+            }
+        } else if (key == RIGHT && direction > 0) {
+            direction = 0;
+            if ((keys & LEFT) != 0) {
+                startCharging(-1, nowNanos);
+            }
+        }
+    }
+
+    /**
+     * Forgets every held key, e.g. when the game pauses or loses focus.
+     */
+    public void releaseAll() {
+        keys = 0;
+        direction = 0;
+        charged = false;
+    }
+
+    /**
+     * Works out the sideways movement due since the last poll.
+     *
+     * @param nowNanos current time
+     * @return columns to shift (negative = left), {@code ±TO_WALL}, or 0
+     */
+    public int pollShift(long nowNanos) {
+        if (direction == 0) {
+            return 0;
+        }
+        if (!charged) {
+            if (nowNanos - shiftPressedAt < dasNanos) {
+                return 0;
+            }
+            charged = true;
+            nextShiftAt = shiftPressedAt + dasNanos;
+        }
+        if (arrNanos == 0) {
+            // Stay pinned to the wall, including for bricks that spawn while held.
+            return direction * TO_WALL;
+        }
+
+        int steps = 0;
+        while (nextShiftAt <= nowNanos && steps < MAX_STEPS_PER_POLL) {
+            steps++;
+            nextShiftAt += arrNanos;
+        }
+        if (nextShiftAt <= nowNanos) {
+            nextShiftAt = nowNanos + arrNanos;
+        }
+        return direction * steps;
+    }
+
+    /**
+     * Works out the soft drop rows due since the last poll. The first row is
+     * due one soft drop interval after the press, which the caller has
+     * already moved.
+     *
+     * @param nowNanos current time
+     * @param gravityNanos current gravity interval (time per row without soft drop)
+     * @return rows to drop
+     */
+    public int pollSoftDrop(long nowNanos, long gravityNanos) {
+        if ((keys & SOFT_DROP) == 0) {
+            return 0;
+        }
+        long interval = Math.max(1L, gravityNanos / softDropFactor);
+        if (!softDropScheduled) {
+            nextSoftDropAt = softDropPressedAt + interval;
+            softDropScheduled = true;
+        }
+
+        int rows = 0;
+        while (nextSoftDropAt <= nowNanos && rows < MAX_STEPS_PER_POLL) {
+            rows++;
+            nextSoftDropAt += interval;
+        }
+        if (nextSoftDropAt <= nowNanos) {
+            nextSoftDropAt = nowNanos + interval;
+        }
+        return rows;
+    }
+
+    /**
+     * Whether a key is currently held.
+     *
+     * @param key one of the key bits
+     * @return true if held
+     */
+    public boolean isHeld(int key) {
+        return (keys & key) != 0;
+    }
+
+    private void startCharging(int newDirection, long nowNanos) {
+        direction = newDirection;
+        shiftPressedAt = nowNanos;
+        charged = false;
+    }
+}
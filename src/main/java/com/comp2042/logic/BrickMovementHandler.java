@@ -41,12 +41,9 @@ public class BrickMovementHandler {
             return false;
         }
 
-        int[][] snapshot = MatrixOperations.copy(boardMatrix);
-        Point next = new Point(currentOffset);
-        next.translate(dx, dy);
-
-        int nextX = (int) next.getX();
-        int nextY = (int) next.getY();
+        // Collision checks only read the board, so no defensive copy is needed.
+        int nextX = (int) currentOffset.getX() + dx;
+        int nextY = (int) currentOffset.getY() + dy;
         int[][] currentShape = brickRotator.getCurrentShape();
 
         // Prevent moving outside horizontal bounds.
@@ -55,15 +52,59 @@ public class BrickMovementHandler {
         }
 
         // Check for collision with existing blocks.
-        if (collisionDetector.hasCollision(snapshot, currentShape, nextX, nextY)) {
+        if (collisionDetector.hasCollision(boardMatrix, currentShape, nextX, nextY)) {
             return false;
         }
         
         // Move is valid, update position.
-        currentOffset.setLocation(next);
+        currentOffset.setLocation(nextX, nextY);
         return true;
     }
     
+    /**
+     * Shifts the brick sideways by up to {@code cells} columns in one sweep.
+     * Each filled cell scans its row towards the wall once, and the brick
+     * moves by the smallest free distance, so shifting to the wall costs the
+     * same as a single move however far it goes.
+     *
+     * @param currentOffset the current brick position (updated in place)
+     * @param cells columns to shift; negative for left, positive for right
+     * @return number of columns actually moved (always non-negative)
+     */
+    public int shift(Point currentOffset, int cells) {
+        if (currentOffset == null || cells == 0) {
+            return 0;
+        }
+        int direction = cells < 0 ? -1 : 1;
+        int x = (int) currentOffset.getX();
+        int y = (int) currentOffset.getY();
+        int[][] shape = brickRotator.getCurrentShape();
+
+        int limit = Math.abs(cells);
+        for (int i = 0; i < shape.length && limit > 0; i++) {
+            int row = y + i;
+            for (int j = 0; j < shape[i].length; j++) {
+                if (shape[i][j] == 0) {
+                    continue;
+                }
+                if (row < 0 || row >= boardMatrix.length) {
+                    return 0;
+                }
+                int[] boardRow = boardMatrix[row];
+                int free = 0;
+                int col = x + j + direction;
+                while (free < limit && col >= 0 && col < boardRow.length && boardRow[col] == 0) {
+                    free++;
+                    col += direction;
+                }
+                limit = free;
+            }
+        }
+
+        currentOffset.setLocation(x + direction * limit, y);
+        return limit;
+    }
+
     /**
      * Updates the board matrix reference when the board state changes.
      * This is necessary because mergeBrickToBackground() creates a new array.
@@ -3,13 +3,19 @@ package com.comp2042.logic;
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.models.NextShapeInfo;
 
+import java.util.List;
+
 /**
  * Handles rotation logic for Tetris bricks.
  * Manages the current rotation state and provides methods to get the next rotation.
+ *
+ * The rotation shapes are fetched once per brick and reused, so reading the
+ * current shape does not copy the brick's matrices on every call.
  */
 public class BrickRotator {
 
     private Brick brick;
+    private List<int[][]> states;
     private int currentShape = 0;
 
     /**
@@ -18,18 +24,27 @@ public class BrickRotator {
      * @return NextShapeInfo containing the next shape matrix and its rotation index
      */
     public NextShapeInfo getNextShape() {
-        int nextShape = currentShape;
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+        int nextShape = (currentShape + 1) % states.size();
+        return new NextShapeInfo(states.get(nextShape), nextShape);
     }
 
     /**
      * Gets the current rotation shape of the brick.
      *
-     * @return the current shape matrix
+     * @return the current shape matrix (shared; do not modify)
      */
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+        return states.get(currentShape);
+    }
+
+    /**
+     * Gets the shape for a rotation index of the current brick.
+     *
+     * @param index rotation index (0-based)
+     * @return the shape matrix (shared; do not modify)
+     */
+    public int[][] getShape(int index) {
+        return states.get(index);
     }
 
     /**
@@ -41,15 +56,61 @@ public class BrickRotator {
         this.currentShape = currentShape;
     }
 
+    /**
+     * Gets the current rotation index.
+     *
+     * @return the rotation index (0-based)
+     */
+    public int getCurrentIndex() {
+        return currentShape;
+    }
+
+    /**
+     * Gets the number of rotation states of the current brick.
+     *
+     * @return number of states
+     */
+    public int getStateCount() {
+        return states.size();
+    }
+
+    /**
+     * Gets every rotation state of the current brick, in rotation index order.
+     *
+     * @return the rotation shapes
+     */
+    public List<int[][]> getStates() {
+        return states;
+    }
+
+    /**
+     * Gets the brick being rotated.
+     *
+     * @return the current brick
+     */
+    public Brick getBrick() {
+        return brick;
+    }
+
     /**
      * Sets the brick to rotate and resets to the first rotation.
      *
      * @param brick the brick to set
      */
     public void setBrick(Brick brick) {
+        setBrick(brick, brick.getShapeMatrix());
+    }
+
+    /**
+     * Sets the brick to rotate using the given rotation shapes instead of the
+     * brick's own, and resets to the first rotation. Used for SRS orientations.
+     *
+     * @param brick the brick to set
+     * @param states rotation shapes in rotation index order
+     */
+    public void setBrick(Brick brick, List<int[][]> states) {
         this.brick = brick;
+        this.states = states;
         currentShape = 0;
     }
-
-
 }
@@ -0,0 +1,220 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.bricks.BrickCatalog;
+import com.comp2042.models.RotationSystem;
+import com.comp2042.models.SimpleBoard;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fewest inputs that take a freshly spawned brick to each final column and
+ * rotation on an empty board, for counting finesse faults.
+ *
+ * An input is one tap left or right, one turn (either way or half a turn),
+ * or one charged shift to a wall. Distances are found by a breadth-first
+ * search over (rotation, x, y) with the board's own kick tables, once per
+ * rotation system and brick, when the table is built. The results are kept
+ * as one byte per placement in a flat array, so checking a lock is a single
+ * array read and one table can be shared by any number of threads. Rotations
+ * that cover the same cells (the two flat S, Z and I states) count as the
+ * same placement.
+ */
+public final class FinesseTable {
+
+    // Shapes are at most four wide, so x can start up to three columns left of the wall.
+    private static final int X_MARGIN = 3;
+
+    // Every brick has at most four rotation states.
+    private static final int MAX_STATES = 4;
+    private static final byte UNREACHABLE = -1;
+
+    private final int rows;
+    private final int columns;
+    private final int width;
+
+    // Indexed by ((system * TYPE_COUNT + type) * MAX_STATES + rotation) * width + x + X_MARGIN.
+    private final byte[] table;
+    private final int[] stateCounts;
+
+    /**
+     * Builds the tables for both rotation systems.
+     *
+     * @param rows board rows
+     * @param columns board columns
+     */
+    public FinesseTable(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.width = columns + X_MARGIN;
+        int blocks = RotationSystem.values().length * BrickCatalog.TYPE_COUNT;
+        table = new byte[blocks * MAX_STATES * width];
+        stateCounts = new int[blocks];
+        Arrays.fill(table, UNREACHABLE);
+        for (RotationSystem system : RotationSystem.values()) {
+            for (int type = 0; type < BrickCatalog.TYPE_COUNT; type++) {
+                List<int[][]> states = system == RotationSystem.SRS
+                        ? RotationTables.srsStates(type)
+                        : BrickCatalog.byType(type).getShapeMatrix();
+                int block = system.ordinal() * BrickCatalog.TYPE_COUNT + type;
+                stateCounts[block] = states.size();
+                int[][] inputs = build(system, type, states);
+                for (int r = 0; r < inputs.length; r++) {
+                    for (int xi = 0; xi < width; xi++) {
+                        if (inputs[r][xi] != Integer.MAX_VALUE) {
+                            table[(block * MAX_STATES + r) * width + xi] = (byte) inputs[r][xi];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Fewest inputs for a placement.
+     *
+     * @param system rotation rules the brick moved under
+     * @param type brick type id
+     * @param rotation rotation index the brick locked in
+     * @param x column the brick's shape matrix locked at
+     * @return the input count, or -1 if the placement cannot be reached from spawn on an empty board
+     */
+    public int minimalInputs(RotationSystem system, int type, int rotation, int x) {
+        if (type < 0 || type >= BrickCatalog.TYPE_COUNT) {
+            return -1;
+        }
+        int block = system.ordinal() * BrickCatalog.TYPE_COUNT + type;
+        int column = x + X_MARGIN;
+        if (rotation < 0 || rotation >= stateCounts[block] || column < 0 || column >= width) {
+            return -1;
+        }
+        return table[(block * MAX_STATES + rotation) * width + column];
+    }
+
+    private int[][] build(RotationSystem system, int type, List<int[][]> states) {
+        int count = states.size();
+        int[][] empty = new int[rows][columns];
+        CollisionDetector collisions = new CollisionDetector(columns);
+
+        int[] distance = new int[count * width * rows];
+        Arrays.fill(distance, Integer.MAX_VALUE);
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        distance[index(0, SimpleBoard.SPAWN_X, SimpleBoard.SPAWN_Y)] = 0;
+        queue.add(new int[]{0, SimpleBoard.SPAWN_X, SimpleBoard.SPAWN_Y});
+
+        while (!queue.isEmpty()) {
+            int[] at = queue.poll();
+            int r = at[0];
+            int x = at[1];
+            int y = at[2];
+            int next = distance[index(r, x, y)] + 1;
+            int[][] shape = states.get(r);
+
+            // Taps and charged shifts.
+            for (int dx = -1; dx <= 1; dx += 2) {
+                int to = x;
+                while (!collisions.hasCollision(empty, shape, to + dx, y)) {
+                    to += dx;
+                    if (to == x + dx) {
+                        visit(queue, distance, r, to, y, next);
+                    }
+                }
+                if (to != x) {
+                    visit(queue, distance, r, to, y, next);
+                }
+            }
+
+            // Turns, with the first free kick like SimpleBoard.rotateBrick.
+            for (int turns : new int[]{1, -1, 2}) {
+                int to = Math.floorMod(r + turns, count);
+                if (to == r) {
+                    continue;
+                }
+                int[] kicks = RotationTables.kicks(system, type, r, to);
+                for (int k = 0; k < kicks.length; k += 2) {
+                    int kx = x + kicks[k];
+                    int ky = y + kicks[k + 1];
+                    if (!collisions.hasCollision(empty, states.get(to), kx, ky)) {
+                        visit(queue, distance, to, kx, ky, next);
+                        break;
+                    }
+                }
+            }
+        }
+
+        // Best over heights, then over rotations that cover the same cells.
+        int[][] best = new int[count][width];
+        for (int r = 0; r < count; r++) {
+            for (int xi = 0; xi < width; xi++) {
+                int min = Integer.MAX_VALUE;
+                for (int y = 0; y < rows; y++) {
+                    min = Math.min(min, distance[(r * width + xi) * rows + y]);
+                }
+                best[r][xi] = min;
+            }
+        }
+        int[] footprint = new int[count];
+        int[] left = new int[count];
+        for (int r = 0; r < count; r++) {
+            int[][] shape = states.get(r);
+            left[r] = leftColumn(shape);
+            footprint[r] = footprint(shape, left[r]);
+        }
+        int[][] merged = new int[count][width];
+        for (int r = 0; r < count; r++) {
+            for (int xi = 0; xi < width; xi++) {
+                int min = best[r][xi];
+                for (int other = 0; other < count; other++) {
+                    int oxi = xi + left[r] - left[other];
+                    if (other != r && footprint[other] == footprint[r] && oxi >= 0 && oxi < width) {
+                        min = Math.min(min, best[other][oxi]);
+                    }
+                }
+                merged[r][xi] = min;
+            }
+        }
+        return merged;
+    }
+
+    private void visit(ArrayDeque<int[]> queue, int[] distance, int r, int x, int y, int steps) {
+        int i = index(r, x, y);
+        if (distance[i] == Integer.MAX_VALUE) {
+            distance[i] = steps;
+            queue.add(new int[]{r, x, y});
+        }
+    }
+
+    private int index(int r, int x, int y) {
+        return (r * width + x + X_MARGIN) * rows + y;
+    }
+
+    private static int leftColumn(int[][] shape) {
+        int left = Integer.MAX_VALUE;
+        for (int[] row : shape) {
+            for (int c = 0; c < row.length; c++) {
+                if (row[c] != 0) {
+                    left = Math.min(left, c);
+                }
+            }
+        }
+        return left;
+    }
+
+    /** The shape's cells as a bitmask, shifted to its top-left filled row and column. */
+    private static int footprint(int[][] shape, int left) {
+        int top = -1;
+        int mask = 0;
+        for (int r = 0; r < shape.length; r++) {
+            for (int c = 0; c < shape[r].length; c++) {
+                if (shape[r][c] != 0) {
+                    if (top < 0) {
+                        top = r;
+                    }
+                    mask |= 1 << ((r - top) * 4 + (c - left));
+                }
+            }
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,136 @@
+package com.comp2042.logic;
+
+import com.comp2042.models.RotationSystem;
+
+/**
+ * Counts finesse faults as a game is played.
+ *
+ * The inputs spent on each piece are counted as they arrive, and when the
+ * piece locks the count is compared with the {@link FinesseTable} entry for
+ * where it locked; more inputs than the table's is a fault. Taps and turns
+ * each count; a held direction's auto-repeat shifts count once, when they
+ * start moving the piece in a new direction. Soft and hard drops are not
+ * placement inputs. Holding or rewinding brings in a different piece, so
+ * its count starts over.
+ *
+ * Like Gravity this only does the bookkeeping: the caller reports inputs
+ * and the placement the piece locked in.
+ */
+public class FinesseTracker {
+
+    private final FinesseTable table;
+
+    private int pieceInputs;
+    private int direction;
+
+    private int faults;
+    private int piecesJudged;
+
+    /**
+     * Creates a tracker that judges placements against the given table.
+     *
+     * @param table minimal inputs per placement
+     */
+    public FinesseTracker(FinesseTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Records a single tap left or right, whether or not the piece moved.
+     *
+     * @param direction -1 for left, 1 for right
+     */
+    public void onTap(int direction) {
+        pieceInputs++;
+        this.direction = direction;
+    }
+
+    /**
+     * Records an auto-repeat shift. It is a new input only when it moves the
+     * piece in a different direction from the last tap or shift.
+     *
+     * @param moved signed number of columns the piece moved
+     */
+    public void onShift(int moved) {
+        int shifted = Integer.signum(moved);
+        if (shifted != 0 && shifted != direction) {
+            pieceInputs++;
+            direction = shifted;
+        }
+    }
+
+    /**
+     * Records a turn in either direction or a half turn.
+     */
+    public void onRotate() {
+        pieceInputs++;
+    }
+
+    /**
+     * Starts the count over for a piece that did not lock (held or rewound).
+     */
+    public void onNewPiece() {
+        pieceInputs = 0;
+        direction = 0;
+    }
+
+    /**
+     * Judges the piece that is locking and starts the count for the next one.
+     * Placements the table cannot reach from spawn on an empty board (tucks,
+     * spins, bricks pushed by garbage) are not judged.
+     *
+     * @param system rotation rules the piece moved under
+     * @param type BrickCatalog type id of the piece
+     * @param rotation rotation index it locked in
+     * @param x column its shape matrix locked at
+     * @return true if the placement was a finesse fault
+     */
+    public boolean onLock(RotationSystem system, int type, int rotation, int x) {
+        int minimal = table.minimalInputs(system, type, rotation, x);
+        boolean fault = minimal >= 0 && pieceInputs > minimal;
+        if (minimal >= 0) {
+            piecesJudged++;
+        }
+        if (fault) {
+            faults++;
+        }
+        onNewPiece();
+        return fault;
+    }
+
+    /**
+     * Clears all counts for a new game.
+     */
+    public void reset() {
+        onNewPiece();
+        faults = 0;
+        piecesJudged = 0;
+    }
+
+    /**
+     * Finesse faults since the last reset.
+     *
+     * @return fault count
+     */
+    public int getFaults() {
+        return faults;
+    }
+
+    /**
+     * Locked pieces whose placement could be judged since the last reset.
+     *
+     * @return judged piece count
+     */
+    public int getPiecesJudged() {
+        return piecesJudged;
+    }
+
+    /**
+     * Placement inputs spent on the current piece so far.
+     *
+     * @return input count
+     */
+    public int getPieceInputs() {
+        return pieceInputs;
+    }
+}
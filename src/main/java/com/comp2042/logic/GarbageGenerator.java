@@ -0,0 +1,141 @@
+package com.comp2042.logic;
+
+import com.comp2042.models.GarbageProfile;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Produces garbage rows as column bitmasks (bit c set = column c filled).
+ *
+ * Rows are generated into a caller-supplied array so a whole burst can be
+ * handed to the board and inserted in one operation. All randomness comes
+ * from a SplitMix64 state, so the same seed always gives the same garbage.
+ */
+public class GarbageGenerator {
+
+    private final int columns;
+    private final int fullMask;
+    private GarbageProfile profile;
+    private long state;
+
+    // Hole column carried between rows for CLEAN garbage; -1 before the first row.
+    private int lastHole = -1;
+
+    /**
+     * Creates a generator.
+     *
+     * @param columns board width (at most 31)
+     * @param profile garbage pattern to produce
+     * @param seed random seed
+     */
+    public GarbageGenerator(int columns, GarbageProfile profile, long seed) {
+        if (columns <= 1 || columns > 31) {
+            throw new IllegalArgumentException("Columns must be in 2..31");
+        }
+        this.columns = columns;
+        this.fullMask = (1 << columns) - 1;
+        this.profile = profile;
+        this.state = seed;
+    }
+
+    /**
+     * Fills {@code count} rows of garbage, top of the burst first.
+     *
+     * @param masks destination for the row bitmasks
+     * @param count rows to generate
+     */
+    public void fill(int[] masks, int count) {
+        for (int i = 0; i < count; i++) {
+            masks[i] = nextRow();
+        }
+    }
+
+    /**
+     * Generates one garbage row.
+     *
+     * @return the row bitmask
+     */
+    public int nextRow() {
+        double messiness = profile.getMessiness();
+        if (profile.getPattern() == GarbageProfile.Pattern.CLEAN) {
+            if (lastHole < 0 || nextDouble() < messiness) {
+                lastHole = nextInt(columns);
+            }
+            return fullMask & ~(1 << lastHole);
+        }
+
+        int hole = nextInt(columns);
+        int mask = fullMask & ~(1 << hole);
+        if (messiness > 0 && nextDouble() < messiness) {
+            // Second hole anywhere else in the row.
+            int second = (hole + 1 + nextInt(columns - 1)) % columns;
+            mask &= ~(1 << second);
+        }
+        lastHole = hole;
+        return mask;
+    }
+
+    /**
+     * Picks the colour id (1..7) used to draw a burst.
+     *
+     * @return colour id
+     */
+    public int nextColour() {
+        return 1 + nextInt(7);
+    }
+
+    /**
+     * Restarts the random sequence.
+     *
+     * @param seed new seed
+     */
+    public void reseed(long seed) {
+        state = seed;
+        lastHole = -1;
+    }
+
+    /**
+     * Writes the random state for a saved game, so the garbage continues exactly.
+     *
+     * @param out destination buffer
+     */
+    public void saveState(ByteBuffer out) {
+        out.putLong(state);
+        out.put((byte) lastHole);
+    }
+
+    /**
+     * Restores state written by {@link #saveState}.
+     *
+     * @param in source buffer
+     */
+    public void restoreState(ByteBuffer in) {
+        state = in.getLong();
+        lastHole = in.get();
+    }
+
+    public GarbageProfile getProfile() {
+        return profile;
+    }
+
+    public void setProfile(GarbageProfile profile) {
+        this.profile = profile;
+    }
+
+    private int nextInt(int bound) {
+        return (int) ((next() >>> 1) % bound);
+    }
+
+    private double nextDouble() {
+        return (next() >>> 11) * 0x1.0p-53;
+    }
+
+    // SplitMix64
+    private long next() {
+        state += 0x9E3779B97F4A7C15L;
+        long z = state;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
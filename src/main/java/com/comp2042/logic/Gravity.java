@@ -0,0 +1,164 @@
+package com.comp2042.logic;
+
+import com.comp2042.models.GravityProfile;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Tick-driven gravity with lock delay for the active brick.
+ *
+ * Each tick adds the level's gravity to a fractional row counter and lets
+ * the brick fall the whole rows it has earned, capped by its drop distance,
+ * so 20G costs one landing query rather than twenty single-row moves. Once
+ * the brick rests on something the lock delay counts down; successful moves
+ * and rotations on the ground restart it, up to the profile's reset limit.
+ * Falling to a new lowest row gives the brick a fresh set of resets.
+ *
+ * The engine only does the bookkeeping: the caller supplies the drop
+ * distance, moves the brick, and locks it when {@link #isLockDue()}.
+ */
+public class Gravity {
+
+    private final GravityProfile profile;
+    private final int lockDelayTicks;
+
+    private double pendingRows;
+    private int lockTicks;
+    private boolean grounded;
+    private int resetsUsed;
+
+    // Rows fallen since spawn; a new maximum is a new lowest row.
+    private int depth;
+    private int lowestDepth;
+
+    private boolean lockDue;
+
+    /**
+     * Creates an engine for the given profile.
+     *
+     * @param profile gravity table and lock delay settings
+     */
+    public Gravity(GravityProfile profile) {
+        this.profile = profile;
+        this.lockDelayTicks = profile.getLockDelayTicks();
+    }
+
+    /**
+     * Resets all per-brick state. Call whenever a new brick becomes active.
+     */
+    public void onNewBrick() {
+        pendingRows = 0;
+        lockTicks = 0;
+        grounded = false;
+        resetsUsed = 0;
+        depth = 0;
+        lowestDepth = 0;
+        lockDue = false;
+    }
+
+    /**
+     * Advances one tick.
+     *
+     * @param level current level
+     * @param dropDistance rows the brick can fall before landing
+     * @return rows the brick should fall this tick (at most {@code dropDistance})
+     */
+    public int tick(int level, int dropDistance) {
+        pendingRows += profile.getRowsPerTick(level);
+        int rows = (int) Math.min(pendingRows, dropDistance);
+        pendingRows -= rows;
+        noteFall(rows);
+
+        grounded = rows == dropDistance;
+        if (!grounded) {
+            lockTicks = 0;
+            return rows;
+        }
+
+        // Gravity cannot bank rows while resting on the stack.
+        pendingRows = 0;
+        lockTicks++;
+        if (lockTicks >= lockDelayTicks) {
+            lockDue = true;
+        }
+        return rows;
+    }
+
+    /**
+     * Records rows fallen outside gravity, e.g. soft drop.
+     *
+     * @param rows rows fallen
+     */
+    public void noteFall(int rows) {
+        depth += rows;
+        if (depth > lowestDepth) {
+            lowestDepth = depth;
+            resetsUsed = 0;
+            lockTicks = 0;
+        }
+    }
+
+    /**
+     * Records a successful move or rotation. On the ground this restarts the
+     * lock delay while resets remain.
+     */
+    public void onMoved() {
+        if (grounded && lockTicks > 0 && resetsUsed < profile.getMaxLockResets()) {
+            resetsUsed++;
+            lockTicks = 0;
+        }
+    }
+
+    /**
+     * Whether the brick has waited out its lock delay and should lock now.
+     *
+     * @return true if the caller should lock the brick
+     */
+    public boolean isLockDue() {
+        return lockDue;
+    }
+
+    /**
+     * Whether the brick was resting on the stack after the last tick.
+     *
+     * @return true if grounded
+     */
+    public boolean isGrounded() {
+        return grounded;
+    }
+
+    /**
+     * Writes the per-brick state, so a replay keyframe resumes mid-fall with
+     * the same pending rows and lock delay.
+     *
+     * @param out destination buffer
+     */
+    public void saveState(ByteBuffer out) {
+        out.putDouble(pendingRows);
+        out.putShort((short) lockTicks);
+        out.putShort((short) resetsUsed);
+        out.putShort((short) depth);
+        out.putShort((short) lowestDepth);
+        out.put((byte) ((grounded ? 1 : 0) | (lockDue ? 2 : 0)));
+    }
+
+    /**
+     * Restores state written by {@link #saveState}.
+     *
+     * @param in source buffer
+     */
+    public void restoreState(ByteBuffer in) {
+        pendingRows = in.getDouble();
+        lockTicks = in.getShort();
+        resetsUsed = in.getShort();
+        depth = in.getShort();
+        lowestDepth = in.getShort();
+        int flags = in.get();
+        grounded = (flags & 1) != 0;
+        lockDue = (flags & 2) != 0;
+    }
+
+    public GravityProfile getProfile() {
+        return profile;
+    }
+}
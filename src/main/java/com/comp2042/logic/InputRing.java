@@ -0,0 +1,122 @@
+package com.comp2042.logic;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded single-producer/single-consumer queue of timestamped input codes.
+ *
+ * The FX thread offers key events and the logic thread drains them. Each side
+ * only ever writes its own counter, so no locks or CAS loops are needed: the
+ * producer publishes a slot by advancing {@code tail} with an ordered write
+ * after filling it, and the consumer frees slots the same way with
+ * {@code head}. Codes and timestamps live in two preallocated arrays, so
+ * nothing is allocated per event.
+ *
+ * Exactly one thread may call {@link #offer}, and exactly one (possibly
+ * different) thread may call {@link #drain} and {@link #clear}.
+ */
+public final class InputRing {
+
+    /**
+     * Receives drained entries in the order they were offered.
+     */
+    public interface Sink {
+        void accept(int code, long nanos);
+    }
+
+    private final int mask;
+    private final int[] codes;
+    private final long[] times;
+
+    // Next slot to read; written only by the consumer.
+    private final AtomicLong head = new AtomicLong();
+    // Next slot to write; written only by the producer.
+    private final AtomicLong tail = new AtomicLong();
+
+    // Each side's last view of the other's counter, refreshed only when it runs out.
+    private long producerHeadCache;
+    private long consumerTailCache;
+
+    /**
+     * Creates an empty ring.
+     *
+     * @param capacity number of slots; must be a power of two
+     */
+    public InputRing(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.codes = new int[capacity];
+        this.times = new long[capacity];
+    }
+
+    /**
+     * Adds an entry. Producer thread only.
+     *
+     * @param code input code
+     * @param nanos time the input happened
+     * @return false if the ring is full and the entry was dropped
+     */
+    public boolean offer(int code, long nanos) {
+        long t = tail.get();
+        if (t - producerHeadCache >= codes.length) {
+            producerHeadCache = head.get();
+            if (t - producerHeadCache >= codes.length) {
+                return false;
+            }
+        }
+        int slot = (int) t & mask;
+        codes[slot] = code;
+        times[slot] = nanos;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Hands every queued entry to the sink, oldest first. Consumer thread only.
+     *
+     * @param sink receives each entry
+     * @return number of entries drained
+     */
+    public int drain(Sink sink) {
+        long h = head.get();
+        if (h >= consumerTailCache) {
+            consumerTailCache = tail.get();
+            if (h >= consumerTailCache) {
+                return 0;
+            }
+        }
+        int drained = 0;
+        while (h < consumerTailCache) {
+            int slot = (int) h & mask;
+            sink.accept(codes[slot], times[slot]);
+            h++;
+            drained++;
+        }
+        head.lazySet(h);
+        return drained;
+    }
+
+    /**
+     * Discards everything queued so far. Consumer thread only.
+     */
+    public void clear() {
+        consumerTailCache = tail.get();
+        head.lazySet(consumerTailCache);
+    }
+
+    /**
+     * Whether nothing is queued. Safe from either thread, but only a hint
+     * while the other side is running.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return head.get() >= tail.get();
+    }
+
+    public int capacity() {
+        return codes.length;
+    }
+}
@@ -0,0 +1,341 @@
+package com.comp2042.logic;
+
+import com.comp2042.interfaces.InputEventListener;
+import com.comp2042.models.Board;
+import com.comp2042.models.ClearRow;
+import com.comp2042.models.DownData;
+import com.comp2042.models.EventSource;
+import com.comp2042.models.EventType;
+import com.comp2042.models.GravityProfile;
+import com.comp2042.models.InputAction;
+import com.comp2042.models.MoveEvent;
+import com.comp2042.models.Score;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs the game logic on its own thread, away from the JavaFX thread.
+ *
+ * The FX thread only records key presses and releases, with their timestamps,
+ * in an {@link InputRing}. This thread drains the ring, runs auto-repeat and
+ * the 60 Hz gravity tick against the game, and publishes a
+ * {@link RenderSnapshot} through a {@link TripleBuffer} whenever something
+ * visible changed. The FX thread picks up the newest snapshot on each pulse,
+ * so a long layout or CSS pass delays drawing but never gravity or input.
+ *
+ * Everything the game touches (board, score, gravity) belongs to this thread
+ * while it runs; the FX side must only read snapshots.
+ */
+public class LogicThread implements Runnable {
+
+    private static final long TICK_NANOS = 1_000_000_000L / GravityProfile.TICKS_PER_SECOND;
+
+    // Longest sleep between input polls, which bounds the auto-repeat resolution.
+    private static final long MAX_PARK_NANOS = 1_000_000L;
+
+    // Gravity ticks made up at most after a stall (e.g. a GC pause).
+    private static final int MAX_CATCH_UP_TICKS = 6;
+
+    private static final int RING_CAPACITY = 256;
+
+    private static final InputAction[] ACTIONS = InputAction.values();
+
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent SOFT_DROP = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent HOLD = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+    private static final MoveEvent REWIND = new MoveEvent(EventType.DOWN, EventSource.USER);
+
+    private final InputEventListener game;
+    private final Board board;
+    private final GravityProfile gravityProfile;
+    private final AutoRepeat autoRepeat;
+    private final BooleanSupplier finished;
+
+    private final InputRing inputs = new InputRing(RING_CAPACITY);
+    private final TripleBuffer<RenderSnapshot> snapshots = new TripleBuffer<>(RenderSnapshot::new);
+    private final InputRing.Sink applyInput = this::apply;
+
+    private volatile boolean running;
+    private volatile boolean paused;
+    private volatile Thread thread;
+
+    // Logic-thread state.
+    private boolean changed;
+    private long sequence;
+    private int[][] publishedBoard;
+    private long boardVersion;
+    private ClearRow lastClear;
+    private long clearCount;
+
+    /**
+     * Creates the loop; nothing runs until {@link #start()}.
+     *
+     * @param game game logic to drive (called only from the logic thread)
+     * @param board the game's board, read when publishing snapshots
+     * @param gravityProfile the mode's gravity, used to pace soft drop
+     * @param autoRepeat DAS/ARR settings for held keys
+     * @param finished tells the loop the run is over and it should stop
+     */
+    public LogicThread(InputEventListener game, Board board, GravityProfile gravityProfile,
+                       AutoRepeat autoRepeat, BooleanSupplier finished) {
+        this.game = game;
+        this.board = board;
+        this.gravityProfile = gravityProfile;
+        this.autoRepeat = autoRepeat;
+        this.finished = finished;
+    }
+
+    /**
+     * Starts the logic thread. Later calls do nothing.
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this, "game-logic");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Pauses gravity and input; queued and held keys are dropped.
+     */
+    public void pause() {
+        paused = true;
+    }
+
+    /**
+     * Resumes after {@link #pause()}.
+     */
+    public void resume() {
+        paused = false;
+        wake();
+    }
+
+    /**
+     * Asks the loop to finish. Does not wait for it.
+     */
+    public void stop() {
+        running = false;
+        wake();
+    }
+
+    /**
+     * Waits for the loop to exit after {@link #stop()}, after which the game
+     * may be read from other threads.
+     *
+     * @param timeoutMillis longest wait
+     * @return true if the loop is not running
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitStop(long timeoutMillis) throws InterruptedException {
+        Thread t = thread;
+        if (t == null) {
+            return true;
+        }
+        t.join(timeoutMillis);
+        return !t.isAlive();
+    }
+
+    /**
+     * Queues a key press or release for the logic thread. FX thread only.
+     *
+     * @param action the bound action
+     * @param pressed true for a press, false for a release
+     * @param nanos when the key event happened
+     * @return false if the queue was full and the input was dropped
+     */
+    public boolean submit(InputAction action, boolean pressed, long nanos) {
+        boolean queued = inputs.offer(action.ordinal() << 1 | (pressed ? 0 : 1), nanos);
+        wake();
+        return queued;
+    }
+
+    /**
+     * Takes the newest snapshot not yet seen. FX thread only.
+     *
+     * @return the snapshot, or null if nothing changed since the last call
+     */
+    public RenderSnapshot pollSnapshot() {
+        return snapshots.acquire();
+    }
+
+    @Override
+    public void run() {
+        publish();
+        long nextTick = System.nanoTime() + TICK_NANOS;
+
+        try {
+            while (running && !finished.getAsBoolean()) {
+                long now = System.nanoTime();
+                if (paused) {
+                    inputs.clear();
+                    autoRepeat.releaseAll();
+                    nextTick = now + TICK_NANOS;
+                    LockSupport.parkNanos(MAX_PARK_NANOS);
+                    continue;
+                }
+
+                inputs.drain(applyInput);
+                applyAutoRepeat(now);
+
+                int ticks = 0;
+                while (now - nextTick >= 0 && ticks < MAX_CATCH_UP_TICKS && !finished.getAsBoolean()) {
+                    DownData downData = game.onGravityTick();
+                    if (downData != null) {
+                        noteClear(downData);
+                    }
+                    nextTick += TICK_NANOS;
+                    ticks++;
+                }
+                if (now - nextTick >= 0) {
+                    nextTick = now + TICK_NANOS;
+                }
+
+                if (changed) {
+                    publish();
+                }
+                LockSupport.parkNanos(Math.min(nextTick - System.nanoTime(), MAX_PARK_NANOS));
+            }
+            if (changed) {
+                publish();
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Game logic thread stopped: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private void apply(int code, long nanos) {
+        InputAction action = ACTIONS[code >>> 1];
+        boolean pressed = (code & 1) == 0;
+
+        switch (action) {
+            case MOVE_LEFT:
+                if (!pressed) {
+                    autoRepeat.release(AutoRepeat.LEFT, nanos);
+                } else if (autoRepeat.press(AutoRepeat.LEFT, nanos)) {
+                    game.onLeftEvent(LEFT);
+                    changed = true;
+                }
+                break;
+            case MOVE_RIGHT:
+                if (!pressed) {
+                    autoRepeat.release(AutoRepeat.RIGHT, nanos);
+                } else if (autoRepeat.press(AutoRepeat.RIGHT, nanos)) {
+                    game.onRightEvent(RIGHT);
+                    changed = true;
+                }
+                break;
+            case SOFT_DROP:
+                if (!pressed) {
+                    autoRepeat.release(AutoRepeat.SOFT_DROP, nanos);
+                } else if (autoRepeat.press(AutoRepeat.SOFT_DROP, nanos)) {
+                    noteClear(game.onDownEvent(SOFT_DROP));
+                }
+                break;
+            case ROTATE:
+                if (pressed) {
+                    game.onRotateEvent(ROTATE);
+                    changed = true;
+                }
+                break;
+            case ROTATE_CLOCKWISE:
+                if (pressed) {
+                    game.onRotateClockwiseEvent(ROTATE);
+                    changed = true;
+                }
+                break;
+            case ROTATE_180:
+                if (pressed) {
+                    game.onRotate180Event(ROTATE);
+                    changed = true;
+                }
+                break;
+            case HOLD:
+                if (pressed) {
+                    game.onHoldEvent(HOLD);
+                    changed = true;
+                }
+                break;
+            case HARD_DROP:
+                if (pressed) {
+                    noteClear(game.onHardDropEvent(HARD_DROP));
+                }
+                break;
+            case REWIND:
+                if (pressed) {
+                    game.onRewindEvent(REWIND);
+                    changed = true;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void applyAutoRepeat(long now) {
+        int shift = autoRepeat.pollShift(now);
+        if (shift != 0) {
+            game.onShiftEvent(shift < 0 ? LEFT : RIGHT, shift);
+            changed = true;
+        }
+
+        long gravityNanos = gravityProfile.getRowIntervalNanos(board.getScore().getLevel());
+        int rows = autoRepeat.pollSoftDrop(now, gravityNanos);
+        for (int i = 0; i < rows && !finished.getAsBoolean(); i++) {
+            noteClear(game.onDownEvent(SOFT_DROP));
+        }
+    }
+
+    private void noteClear(DownData downData) {
+        changed = true;
+        if (downData != null && downData.getClearRow() != null
+                && downData.getClearRow().getLinesRemoved() > 0) {
+            lastClear = downData.getClearRow();
+            clearCount++;
+        }
+    }
+
+    private void publish() {
+        int[][] live = board.getBoardMatrix();
+        if (publishedBoard == null || !sameRows(live, publishedBoard)) {
+            if (publishedBoard == null) {
+                publishedBoard = new int[live.length][live[0].length];
+            }
+            for (int row = 0; row < live.length; row++) {
+                System.arraycopy(live[row], 0, publishedBoard[row], 0, live[row].length);
+            }
+            boardVersion++;
+        }
+
+        Score score = board.getScore();
+        snapshots.writeSlot().set(++sequence, publishedBoard, boardVersion, board.getViewData(),
+                score.getScore(), score.getLevel(), score.getTotalLines(), score.getCombo(),
+                lastClear, clearCount);
+        snapshots.publish();
+        changed = false;
+    }
+
+    private static boolean sameRows(int[][] a, int[][] b) {
+        for (int row = 0; row < a.length; row++) {
+            if (!Arrays.equals(a[row], b[row])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void wake() {
+        Thread t = thread;
+        if (t != null) {
+            LockSupport.unpark(t);
+        }
+    }
+}
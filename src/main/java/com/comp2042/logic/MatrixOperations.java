@@ -47,7 +47,7 @@ public class MatrixOperations {
 
     private static boolean checkOutOfBound(int[][] matrix, int targetX, int targetY) {
         boolean returnValue = true;
-        if (targetX >= 0 && targetY < matrix.length && targetX < matrix[targetY].length) {
+        if (targetX >= 0 && targetY >= 0 && targetY < matrix.length && targetX < matrix[targetY].length) {
             returnValue = false;
         }
         return returnValue;
@@ -136,6 +136,29 @@ public class MatrixOperations {
         return new ClearRow(clearedRows.size(), tmp, scoreBonus);
     }
 
+    /**
+     * Packs each row of a board matrix into an int bitmask.
+     * Bit {@code c} of a row mask is set when column {@code c} is occupied.
+     * Boards wider than 32 columns are not supported.
+     *
+     * @param matrix the board matrix to pack
+     * @param dest the array receiving one mask per row
+     * @param offset index in {@code dest} where row 0 is written
+     * @param stride distance in {@code dest} between consecutive rows
+     */
+    public static void toRowMasks(final int[][] matrix, int[] dest, int offset, int stride) {
+        for (int row = 0; row < matrix.length; row++) {
+            int mask = 0;
+            int[] cells = matrix[row];
+            for (int col = 0; col < cells.length; col++) {
+                if (cells[col] != 0) {
+                    mask |= 1 << col;
+                }
+            }
+            dest[offset + row * stride] = mask;
+        }
+    }
+
     /**
      * Creates a deep copy of a list of 2D integer arrays.
      * Used for copying brick shape matrices.
@@ -0,0 +1,125 @@
+package com.comp2042.logic;
+
+import com.comp2042.models.ClearRow;
+import com.comp2042.models.ViewData;
+
+/**
+ * Everything the game screen draws for one frame, as published by the logic thread.
+ *
+ * Instances are the reusable slots of a {@link TripleBuffer}: only the logic
+ * thread fills them (package-private setters), and once acquired by the FX
+ * thread a snapshot does not change until the next acquire. The board is a
+ * private copy, so it stays valid however far the live board moves on.
+ */
+public final class RenderSnapshot {
+
+    private long sequence;
+
+    private int[][] board;
+    private long boardVersion = -1;
+
+    private ViewData viewData;
+
+    private int score;
+    private int level;
+    private int lines;
+    private int combo;
+
+    private ClearRow lastClear;
+    private long clearCount;
+
+    /**
+     * Fills the snapshot. The board rows are only copied when this slot
+     * holds an older board version.
+     */
+    void set(long sequence, int[][] board, long boardVersion, ViewData viewData,
+             int score, int level, int lines, int combo,
+             ClearRow lastClear, long clearCount) {
+        this.sequence = sequence;
+        if (this.boardVersion != boardVersion) {
+            if (this.board == null || this.board.length != board.length) {
+                this.board = new int[board.length][];
+            }
+            for (int row = 0; row < board.length; row++) {
+                if (this.board[row] == null || this.board[row].length != board[row].length) {
+                    this.board[row] = new int[board[row].length];
+                }
+                System.arraycopy(board[row], 0, this.board[row], 0, board[row].length);
+            }
+            this.boardVersion = boardVersion;
+        }
+        this.viewData = viewData;
+        this.score = score;
+        this.level = level;
+        this.lines = lines;
+        this.combo = combo;
+        this.lastClear = lastClear;
+        this.clearCount = clearCount;
+    }
+
+    /**
+     * Publish counter; increases with every snapshot.
+     *
+     * @return the sequence number
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Copy of the background matrix. Must not be modified.
+     *
+     * @return the board rows (row 0 = top)
+     */
+    public int[][] getBoard() {
+        return board;
+    }
+
+    /**
+     * Changes whenever the background matrix changes, so the screen only
+     * redraws the background when a brick locks or garbage arrives.
+     *
+     * @return the board version
+     */
+    public long getBoardVersion() {
+        return boardVersion;
+    }
+
+    public ViewData getViewData() {
+        return viewData;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getCombo() {
+        return combo;
+    }
+
+    /**
+     * The most recent line clear, for the score popup.
+     *
+     * @return the last clear, or null if nothing has been cleared yet
+     */
+    public ClearRow getLastClear() {
+        return lastClear;
+    }
+
+    /**
+     * Number of line clears so far; a change means {@link #getLastClear()} is new.
+     *
+     * @return the clear count
+     */
+    public long getClearCount() {
+        return clearCount;
+    }
+}
@@ -0,0 +1,165 @@
+package com.comp2042.logic;
+
+import com.comp2042.models.RotationSystem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Precomputed rotation data: the SRS orientation of every brick and the
+ * wall kick offsets tried for each rotation.
+ *
+ * Everything is built once when the class loads and never changes. Rotation
+ * indices follow the rest of the game: index i is i counter-clockwise turns
+ * from spawn, so SRS state R (one clockwise turn) is index 3 and L is index 1.
+ *
+ * Kick offsets are flat (dx, dy) pairs in board coordinates (dy > 0 is down),
+ * tried in order until one fits. The returned arrays are shared and must not
+ * be modified.
+ */
+public final class RotationTables {
+
+    // Type ids from BrickCatalog.
+    private static final int I_TYPE = 0;
+    private static final int O_TYPE = 3;
+
+    private static final int[] NO_KICK = {0, 0};
+
+    // The original sideways-only kicks.
+    private static final int[] SIMPLE_KICKS = {0, 0, -1, 0, 1, 0, -2, 0, 2, 0};
+
+    // Indexed [from][to] by SRS state: 0 = spawn, 1 = R, 2 = 180, 3 = L.
+    private static final int[][][] JLSTZ_KICKS = new int[4][4][];
+    private static final int[][][] I_KICKS = new int[4][4][];
+    private static final int[][][] HALF_TURN_KICKS = new int[4][4][];
+
+    // Spawn cells (row, col) and rotation box size per type id, SRS orientation.
+    private static final int[][] SPAWN_CELLS = {
+            {1, 0, 1, 1, 1, 2, 1, 3},  // I
+            {0, 0, 1, 0, 1, 1, 1, 2},  // J
+            {0, 2, 1, 0, 1, 1, 1, 2},  // L
+            {0, 1, 0, 2, 1, 1, 1, 2},  // O
+            {0, 1, 0, 2, 1, 0, 1, 1},  // S
+            {0, 1, 1, 0, 1, 1, 1, 2},  // T
+            {0, 0, 0, 1, 1, 1, 1, 2}   // Z
+    };
+    private static final int[] BOX_SIZE = {4, 3, 3, 2, 3, 3, 3};
+
+    private static final List<List<int[][]>> SRS_STATES;
+
+    static {
+        // Published SRS tables, written with y pointing up.
+        put(JLSTZ_KICKS, 0, 1, 0, 0, -1, 0, -1, 1, 0, -2, -1, -2);
+        put(JLSTZ_KICKS, 1, 0, 0, 0, 1, 0, 1, -1, 0, 2, 1, 2);
+        put(JLSTZ_KICKS, 1, 2, 0, 0, 1, 0, 1, -1, 0, 2, 1, 2);
+        put(JLSTZ_KICKS, 2, 1, 0, 0, -1, 0, -1, 1, 0, -2, -1, -2);
+        put(JLSTZ_KICKS, 2, 3, 0, 0, 1, 0, 1, 1, 0, -2, 1, -2);
+        put(JLSTZ_KICKS, 3, 2, 0, 0, -1, 0, -1, -1, 0, 2, -1, 2);
+        put(JLSTZ_KICKS, 3, 0, 0, 0, -1, 0, -1, -1, 0, 2, -1, 2);
+        put(JLSTZ_KICKS, 0, 3, 0, 0, 1, 0, 1, 1, 0, -2, 1, -2);
+
+        put(I_KICKS, 0, 1, 0, 0, -2, 0, 1, 0, -2, -1, 1, 2);
+        put(I_KICKS, 1, 0, 0, 0, 2, 0, -1, 0, 2, 1, -1, -2);
+        put(I_KICKS, 1, 2, 0, 0, -1, 0, 2, 0, -1, 2, 2, -1);
+        put(I_KICKS, 2, 1, 0, 0, 1, 0, -2, 0, 1, -2, -2, 1);
+        put(I_KICKS, 2, 3, 0, 0, 2, 0, -1, 0, 2, 1, -1, -2);
+        put(I_KICKS, 3, 2, 0, 0, -2, 0, 1, 0, -2, -1, 1, 2);
+        put(I_KICKS, 3, 0, 0, 0, 1, 0, -2, 0, 1, -2, -2, 1);
+        put(I_KICKS, 0, 3, 0, 0, -1, 0, 2, 0, -1, 2, 2, -1);
+
+        // SRS has no 180 turns; this is the common SRS+ extension, used for every piece but O.
+        put(HALF_TURN_KICKS, 0, 2, 0, 0, 0, 1, 1, 1, -1, 1, 1, 0, -1, 0);
+        put(HALF_TURN_KICKS, 2, 0, 0, 0, 0, -1, -1, -1, 1, -1, -1, 0, 1, 0);
+        put(HALF_TURN_KICKS, 1, 3, 0, 0, 1, 0, 1, 2, 1, 1, 0, 2, 0, 1);
+        put(HALF_TURN_KICKS, 3, 1, 0, 0, -1, 0, -1, 2, -1, 1, 0, 2, 0, 1);
+
+        List<List<int[][]>> states = new ArrayList<>();
+        for (int type = 0; type < SPAWN_CELLS.length; type++) {
+            states.add(buildStates(type));
+        }
+        SRS_STATES = Collections.unmodifiableList(states);
+    }
+
+    private RotationTables() {
+    }
+
+    /**
+     * Returns the SRS orientations of a brick in rotation index order.
+     * The matrices are 4x4 with cells holding {@code type + 1}, like the brick classes.
+     *
+     * @param type brick type id (0..6)
+     * @return four shared, read-only shapes
+     */
+    public static List<int[][]> srsStates(int type) {
+        return SRS_STATES.get(type);
+    }
+
+    /**
+     * Returns the kick offsets to try for a rotation.
+     *
+     * @param system rotation rules in use
+     * @param type brick type id (0..6)
+     * @param fromIndex rotation index before the turn
+     * @param toIndex rotation index after the turn
+     * @return shared (dx, dy) pairs in the order they should be tried
+     */
+    public static int[] kicks(RotationSystem system, int type, int fromIndex, int toIndex) {
+        if (system != RotationSystem.SRS) {
+            return SIMPLE_KICKS;
+        }
+        if (type == O_TYPE || fromIndex == toIndex) {
+            return NO_KICK;
+        }
+        int from = toSrsState(fromIndex);
+        int to = toSrsState(toIndex);
+        if ((from + 2) % 4 == to) {
+            return HALF_TURN_KICKS[from][to];
+        }
+        return type == I_TYPE ? I_KICKS[from][to] : JLSTZ_KICKS[from][to];
+    }
+
+    private static int toSrsState(int index) {
+        return (4 - (index & 3)) & 3;
+    }
+
+    private static void put(int[][][] table, int from, int to, int... yUpPairs) {
+        // Flip y so positive offsets point down the board.
+        for (int i = 1; i < yUpPairs.length; i += 2) {
+            yUpPairs[i] = -yUpPairs[i];
+        }
+        table[from][to] = yUpPairs;
+    }
+
+    private static List<int[][]> buildStates(int type) {
+        int colour = type + 1;
+        int[][] spawn = new int[4][4];
+        int[] cells = SPAWN_CELLS[type];
+        for (int i = 0; i < cells.length; i += 2) {
+            spawn[cells[i]][cells[i + 1]] = colour;
+        }
+
+        // bySrs[s] is SRS state s: each one a clockwise turn of the previous.
+        int[][][] bySrs = new int[4][][];
+        bySrs[0] = spawn;
+        for (int s = 1; s < 4; s++) {
+            bySrs[s] = type == O_TYPE ? MatrixOperations.copy(spawn) : rotateClockwise(bySrs[s - 1], BOX_SIZE[type]);
+        }
+
+        List<int[][]> byIndex = new ArrayList<>(4);
+        for (int index = 0; index < 4; index++) {
+            byIndex.add(bySrs[toSrsState(index)]);
+        }
+        return Collections.unmodifiableList(byIndex);
+    }
+
+    private static int[][] rotateClockwise(int[][] shape, int box) {
+        int[][] out = new int[4][4];
+        for (int r = 0; r < box; r++) {
+            for (int c = 0; c < box; c++) {
+                out[r][c] = shape[box - 1 - c][r];
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,128 @@
+package com.comp2042.logic;
+
+/**
+ * Bitmask form of a single brick rotation.
+ * Each shape row becomes an int where bit {@code c} is set when shape column {@code c}
+ * is filled, so a placement can be tested or merged against packed board rows
+ * with one AND / OR per row instead of a cell-by-cell scan.
+ */
+public final class ShapeMask {
+
+    private final int[] rowMasks;
+    private final int minCol;
+    private final int maxCol;
+    private final int topRow;
+    private final int bottomRow;
+
+    /**
+     * Builds the mask for a brick shape matrix.
+     *
+     * @param shape the brick shape matrix (rows x columns)
+     */
+    public ShapeMask(int[][] shape) {
+        this.rowMasks = new int[shape.length];
+        int left = Integer.MAX_VALUE;
+        int right = Integer.MIN_VALUE;
+        int top = -1;
+        int bottom = -1;
+
+        for (int row = 0; row < shape.length; row++) {
+            int mask = 0;
+            for (int col = 0; col < shape[row].length; col++) {
+                if (shape[row][col] != 0) {
+                    mask |= 1 << col;
+                    left = Math.min(left, col);
+                    right = Math.max(right, col);
+                }
+            }
+            rowMasks[row] = mask;
+            if (mask != 0) {
+                if (top < 0) {
+                    top = row;
+                }
+                bottom = row;
+            }
+        }
+
+        // Empty shape (should not happen), treat as a zero-width piece at column 0.
+        this.minCol = (left == Integer.MAX_VALUE) ? 0 : left;
+        this.maxCol = (right == Integer.MIN_VALUE) ? 0 : right;
+        this.topRow = Math.max(top, 0);
+        this.bottomRow = Math.max(bottom, 0);
+    }
+
+    /**
+     * Returns the mask of one shape row shifted to the given board column offset.
+     *
+     * @param row the shape row index
+     * @param offsetX the board column where shape column 0 is placed
+     * @return the shifted row mask
+     */
+    public int rowAt(int row, int offsetX) {
+        int mask = rowMasks[row];
+        return offsetX >= 0 ? mask << offsetX : mask >>> -offsetX;
+    }
+
+    /**
+     * Checks whether the shape fits at (offsetX, offsetY) on a packed board.
+     * Cells outside the board count as blocked, matching {@link MatrixOperations#intersect}.
+     *
+     * @param boardMasks packed board rows
+     * @param base index of board row 0 in {@code boardMasks}
+     * @param stride distance between consecutive board rows
+     * @param rows number of board rows
+     * @param columns number of board columns
+     * @param offsetX board column of shape column 0
+     * @param offsetY board row of shape row 0
+     * @return true if every filled cell is inside the board and free
+     */
+    public boolean fits(int[] boardMasks, int base, int stride, int rows, int columns,
+                        int offsetX, int offsetY) {
+        if (offsetX + minCol < 0 || offsetX + maxCol >= columns) {
+            return false;
+        }
+        for (int row = topRow; row <= bottomRow; row++) {
+            int mask = rowMasks[row];
+            if (mask == 0) {
+                continue;
+            }
+            int boardRow = offsetY + row;
+            if (boardRow < 0 || boardRow >= rows) {
+                return false;
+            }
+            if ((boardMasks[base + boardRow * stride] & rowAt(row, offsetX)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of rows in the underlying shape matrix.
+     *
+     * @return the shape height including empty rows
+     */
+    public int height() {
+        return rowMasks.length;
+    }
+
+    /** Leftmost filled shape column. */
+    public int getMinCol() {
+        return minCol;
+    }
+
+    /** Rightmost filled shape column. */
+    public int getMaxCol() {
+        return maxCol;
+    }
+
+    /** First shape row containing a filled cell. */
+    public int getTopRow() {
+        return topRow;
+    }
+
+    /** Last shape row containing a filled cell. */
+    public int getBottomRow() {
+        return bottomRow;
+    }
+}
@@ -0,0 +1,77 @@
+package com.comp2042.logic;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free handoff of the latest value from one writer thread to one reader
+ * thread, using three preallocated slots.
+ *
+ * The writer always owns one slot (back) and the reader another (front); the
+ * third (middle) sits in between. Publishing swaps back and middle and marks
+ * middle fresh; acquiring swaps front and middle if it is fresh. Neither side
+ * ever waits for the other, and a slot is never touched by both at once, so
+ * the writer can fill its slot in place without allocating. A slow reader
+ * simply skips to the newest value.
+ *
+ * @param <T> slot type
+ */
+public final class TripleBuffer<T> {
+
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4;
+
+    private final Object[] slots = new Object[3];
+
+    // Index of the middle slot, plus FRESH when it holds an unread publish.
+    private final AtomicInteger middle = new AtomicInteger(1);
+
+    // Owned by the writer and the reader respectively.
+    private int back = 0;
+    private int front = 2;
+
+    /**
+     * Creates the buffer and its three slots.
+     *
+     * @param factory called three times to create the slots
+     */
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = factory.get();
+        }
+    }
+
+    /**
+     * The slot the writer may fill next. Writer thread only.
+     *
+     * @return the back slot
+     */
+    @SuppressWarnings("unchecked")
+    public T writeSlot() {
+        return (T) slots[back];
+    }
+
+    /**
+     * Makes the back slot the newest value and hands the writer a free slot.
+     * Writer thread only.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Takes the newest published value, if there is one the reader has not
+     * seen yet. The returned slot stays the reader's until the next call.
+     * Reader thread only.
+     *
+     * @return the newest value, or null if nothing was published since the last call
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((middle.get() & FRESH) == 0) {
+            return null;
+        }
+        front = middle.getAndSet(front) & INDEX_MASK;
+        return (T) slots[front];
+    }
+}
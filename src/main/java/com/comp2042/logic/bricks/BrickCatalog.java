@@ -0,0 +1,69 @@
+package com.comp2042.logic.bricks;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Fixed list of the seven standard bricks.
+ *
+ * The index of a brick in this list is its type id, and {@code type + 1} is the
+ * colour value its cells carry in the board matrix (I = 1 ... Z = 7).
+ * Headless simulations use the type id instead of Brick objects.
+ */
+public final class BrickCatalog {
+
+    /** Number of distinct brick types. */
+    public static final int TYPE_COUNT = 7;
+
+    private static final List<Brick> BRICKS = Collections.unmodifiableList(List.of(
+            new IBrick(),
+            new JBrick(),
+            new LBrick(),
+            new OBrick(),
+            new SBrick(),
+            new TBrick(),
+            new ZBrick()
+    ));
+
+    private BrickCatalog() {
+    }
+
+    /**
+     * Returns all bricks ordered by type id.
+     *
+     * @return unmodifiable list of the seven bricks
+     */
+    public static List<Brick> all() {
+        return BRICKS;
+    }
+
+    /**
+     * Returns the brick with the given type id.
+     *
+     * @param type type id (0..6)
+     * @return the brick
+     */
+    public static Brick byType(int type) {
+        return BRICKS.get(type);
+    }
+
+    /**
+     * Returns the type id of a brick, based on the colour of its cells.
+     *
+     * @param brick the brick to identify
+     * @return type id (0..6), or -1 if the brick is null or empty
+     */
+    public static int typeOf(Brick brick) {
+        if (brick == null) {
+            return -1;
+        }
+        for (int[] row : brick.getShapeMatrix().get(0)) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    return cell - 1;
+                }
+            }
+        }
+        return -1;
+    }
+}
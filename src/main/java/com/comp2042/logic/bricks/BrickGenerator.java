@@ -1,5 +1,7 @@
 package com.comp2042.logic.bricks;
 
+import java.nio.ByteBuffer;
+
 /**
  * Provides bricks for the game. Implementations are responsible for
  * the randomisation / bag system and any preview queue.
@@ -26,4 +28,25 @@ public interface BrickGenerator {
      * @return an array of upcoming bricks (length 0..maxCount), never null
      */
     Brick[] getNextQueue(int maxCount);
+
+    /**
+     * Writes the upcoming queue and random state for a saved game.
+     * Generators that cannot be saved keep this default.
+     *
+     * @param out destination buffer
+     * @throws UnsupportedOperationException if the generator cannot be saved
+     */
+    default void saveState(ByteBuffer out) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot be saved");
+    }
+
+    /**
+     * Restores state written by {@link #saveState}.
+     *
+     * @param in source buffer
+     * @throws UnsupportedOperationException if the generator cannot be saved
+     */
+    default void restoreState(ByteBuffer in) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot be saved");
+    }
 }
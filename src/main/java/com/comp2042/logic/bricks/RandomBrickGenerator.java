@@ -1,5 +1,6 @@
 package com.comp2042.logic.bricks;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
@@ -17,15 +18,25 @@ public class RandomBrickGenerator implements BrickGenerator {
     private final List<Brick> brickList;
     private final Deque<Brick> nextBricks = new ArrayDeque<>();
 
+    // SplitMix64 state. Kept as a plain long so seeded games can be replayed exactly.
+    private long randomState;
+
+    /**
+     * Creates a generator with a random seed (normal gameplay).
+     */
     public RandomBrickGenerator() {
-        brickList = new ArrayList<>();
-        brickList.add(new IBrick());
-        brickList.add(new JBrick());
-        brickList.add(new LBrick());
-        brickList.add(new OBrick());
-        brickList.add(new SBrick());
-        brickList.add(new TBrick());
-        brickList.add(new ZBrick());
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a generator whose brick sequence is fully determined by {@code seed}.
+     * Used by headless simulations and tuning runs that must be reproducible.
+     *
+     * @param seed the seed for the brick sequence
+     */
+    public RandomBrickGenerator(long seed) {
+        brickList = new ArrayList<>(BrickCatalog.all());
+        randomState = seed;
 
         // Seed the queue so the game always has upcoming bricks ready.
         fillQueue(DEFAULT_QUEUE_SIZE);
@@ -37,11 +48,23 @@ public class RandomBrickGenerator implements BrickGenerator {
      */
     private void fillQueue(int minSize) {
         while (nextBricks.size() < minSize) {
-            Brick randomBrick = brickList.get(ThreadLocalRandom.current().nextInt(brickList.size()));
+            Brick randomBrick = brickList.get(nextIndex(brickList.size()));
             nextBricks.add(randomBrick);
         }
     }
 
+    /**
+     * Returns a uniformly distributed index in [0, bound) from the SplitMix64 sequence.
+     */
+    private int nextIndex(int bound) {
+        randomState += 0x9E3779B97F4A7C15L;
+        long z = randomState;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z ^= z >>> 31;
+        return (int) ((z >>> 1) % bound);
+    }
+
     @Override
     public Brick getBrick() {
         // Ensure the queue is populated, then consume the head.
@@ -74,4 +97,26 @@ public class RandomBrickGenerator implements BrickGenerator {
 
         return result;
     }
+
+    /**
+     * Writes the random state and the queued bricks as type ids.
+     */
+    @Override
+    public void saveState(ByteBuffer out) {
+        out.putLong(randomState);
+        out.put((byte) nextBricks.size());
+        for (Brick brick : nextBricks) {
+            out.put((byte) BrickCatalog.typeOf(brick));
+        }
+    }
+
+    @Override
+    public void restoreState(ByteBuffer in) {
+        randomState = in.getLong();
+        int size = in.get();
+        nextBricks.clear();
+        for (int i = 0; i < size; i++) {
+            nextBricks.add(BrickCatalog.byType(in.get()));
+        }
+    }
 }
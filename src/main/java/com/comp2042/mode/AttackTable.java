@@ -0,0 +1,36 @@
+package com.comp2042.mode;
+
+/**
+ * Garbage rows a line clear sends to the opponent in Versus mode.
+ *
+ * Both sides use the same table, so the player and the CPU attack by the
+ * same rules: a single sends nothing, a double one row, a triple two and a
+ * Tetris four, and a combo of consecutive clears adds a little on top.
+ */
+public final class AttackTable {
+
+    // Rows sent, indexed by lines cleared at once.
+    private static final int[] LINES = {0, 0, 1, 2, 4};
+
+    // Extra rows, indexed by Score's combo after the clear (1 = first clear in a row).
+    private static final int[] COMBO = {0, 0, 1, 1, 2};
+
+    private AttackTable() {
+    }
+
+    /**
+     * Rows a clear sends.
+     *
+     * @param linesCleared lines removed by the landing
+     * @param combo the clearing side's combo after registering the clear
+     * @return garbage rows to send; 0 when nothing was cleared
+     */
+    public static int attack(int linesCleared, int combo) {
+        if (linesCleared <= 0) {
+            return 0;
+        }
+        int lines = LINES[Math.min(linesCleared, LINES.length - 1)];
+        int bonus = COMBO[Math.max(0, Math.min(combo, COMBO.length - 1))];
+        return lines + bonus;
+    }
+}
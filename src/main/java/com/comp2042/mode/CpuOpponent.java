@@ -0,0 +1,286 @@
+package com.comp2042.mode;
+
+import com.comp2042.bot.EvaluationWeights;
+import com.comp2042.bot.LookaheadBot;
+import com.comp2042.bot.Placement;
+import com.comp2042.logic.RotationTables;
+import com.comp2042.logic.TripleBuffer;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickCatalog;
+import com.comp2042.models.GameMode;
+import com.comp2042.models.RotationSystem;
+import com.comp2042.models.Score;
+import com.comp2042.models.SimpleBoard;
+import com.comp2042.models.ViewData;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The computer side of a Versus game, played on its own board and thread.
+ *
+ * Each piece gets a fixed interval that shrinks as the CPU's level rises.
+ * The first quarter of it is the bot's thinking budget: a
+ * {@link LookaheadBot} looks at the next piece until the deadline and falls
+ * back to the one-piece best, so a slow search costs the CPU strength, never
+ * the player's frame rate. The piece is then turned and shifted into place,
+ * shown for the rest of the interval, and hard dropped. The CPU plays a
+ * Versus {@link GameCore}, the player's rules, and garbage goes both ways
+ * through the core's {@link VersusModeHandler}.
+ *
+ * The board belongs to this thread once started. The screen reads it through
+ * {@link Frame}s published with a {@link TripleBuffer}, the same handoff as
+ * the player's logic thread, and polls {@link #isToppedOut()}.
+ */
+public final class CpuOpponent implements Runnable {
+
+    /**
+     * What the screen draws of the CPU's side for one frame. Filled by the
+     * CPU thread only; stays unchanged once acquired until the next acquire.
+     */
+    public static final class Frame {
+        private int[][] board;
+        private long boardVersion = -1;
+        private ViewData viewData;
+        private int lines;
+        private int level;
+        private int incoming;
+        private int sent;
+        private boolean toppedOut;
+
+        void set(SimpleBoard source, ViewData viewData, VersusModeHandler versus, boolean toppedOut) {
+            long version = source.getVersion();
+            if (boardVersion != version) {
+                int[][] matrix = source.getBoardMatrix();
+                if (board == null) {
+                    board = new int[matrix.length][matrix[0].length];
+                }
+                for (int row = 0; row < matrix.length; row++) {
+                    System.arraycopy(matrix[row], 0, board[row], 0, matrix[row].length);
+                }
+                boardVersion = version;
+            }
+            this.viewData = viewData;
+            Score score = source.getScore();
+            this.lines = score.getTotalLines();
+            this.level = score.getLevel();
+            this.incoming = versus.getIncoming();
+            this.sent = versus.getSent();
+            this.toppedOut = toppedOut;
+        }
+
+        /** Copy of the CPU's board. Must not be modified. */
+        public int[][] getBoard() {
+            return board;
+        }
+
+        /** Changes whenever the board changes, so the background is only redrawn then. */
+        public long getBoardVersion() {
+            return boardVersion;
+        }
+
+        /** The active brick, ghost and previews; null once the CPU has topped out. */
+        public ViewData getViewData() {
+            return viewData;
+        }
+
+        public int getLines() {
+            return lines;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        public int getIncoming() {
+            return incoming;
+        }
+
+        public int getSent() {
+            return sent;
+        }
+
+        public boolean isToppedOut() {
+            return toppedOut;
+        }
+    }
+
+    // Per-piece interval: 900 ms at level 1, 70 ms less per level, never under 200 ms.
+    private static final long BASE_INTERVAL_MS = 900;
+    private static final long INTERVAL_STEP_MS = 70;
+    private static final long MIN_INTERVAL_MS = 200;
+    private static final int THINK_FRACTION = 4;
+
+    private final GameCore core;
+    private final SimpleBoard board;
+    private final VersusModeHandler versus;
+    private final LookaheadBot bot;
+    private final TripleBuffer<Frame> frames = new TripleBuffer<>(Frame::new);
+
+    // Guarded by this.
+    private boolean paused;
+    private boolean stopped;
+    private Thread thread;
+
+    /**
+     * Creates the CPU side; nothing runs until {@link #start()}.
+     *
+     * @param seed seed for the CPU's bricks and garbage
+     */
+    public CpuOpponent(long seed) {
+        this.core = new GameCore(GameMode.VERSUS_CPU, seed);
+        this.board = core.getBoard();
+        this.versus = core.getVersusHandler();
+        this.bot = new LookaheadBot(GameCore.BOARD_ROWS, GameCore.BOARD_COLUMNS, EvaluationWeights.defaults());
+        publish();
+    }
+
+    /**
+     * How long the CPU spends on each piece at a level.
+     *
+     * @param level the CPU's level
+     * @return the interval in milliseconds
+     */
+    public static long pieceIntervalMs(int level) {
+        return Math.max(MIN_INTERVAL_MS, BASE_INTERVAL_MS - (level - 1) * INTERVAL_STEP_MS);
+    }
+
+    /**
+     * Starts the CPU thread. Later calls do nothing.
+     */
+    public synchronized void start() {
+        if (thread != null || stopped) {
+            return;
+        }
+        thread = new Thread(this, "cpu-opponent");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Freezes the CPU, for the pause menu. Its current piece interval is
+     * extended by the time spent paused.
+     *
+     * @param paused true to pause, false to resume
+     */
+    public synchronized void setPaused(boolean paused) {
+        this.paused = paused;
+        notifyAll();
+    }
+
+    /**
+     * Asks the CPU thread to finish. Does not wait for it.
+     */
+    public synchronized void stop() {
+        stopped = true;
+        notifyAll();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!core.isFinished()) {
+                long start = System.nanoTime();
+                long interval = TimeUnit.MILLISECONDS.toNanos(pieceIntervalMs(board.getScore().getLevel()));
+                Placement placement = bot.choose(board.getBoardMatrix(), board.getRotationStates(),
+                        nextRotations(), SimpleBoard.SPAWN_Y, start + interval / THINK_FRACTION);
+                if (placement != null) {
+                    moveTo(placement);
+                    publish();
+                }
+                if (!sleepUntil(start + interval)) {
+                    return;
+                }
+                lockPiece();
+                publish();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            System.err.println("CPU opponent stopped: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /** Turns and shifts the active brick to the placement's rotation and column. */
+    private void moveTo(Placement placement) {
+        for (int turns = 0; turns < 4 && board.getRotationIndex() != placement.getRotation(); turns++) {
+            if (!core.rotateLeft()) {
+                break;
+            }
+        }
+        core.shift(placement.getX() - board.getBrickX());
+    }
+
+    /** Drops and locks the active brick, exchanges garbage and spawns the next one. */
+    private void lockPiece() {
+        core.hardDrop();
+    }
+
+    /** Rotations of the next brick, for the lookahead. */
+    private List<int[][]> nextRotations() {
+        Brick[] upcoming = board.getUpcomingBricks(1);
+        if (upcoming.length == 0) {
+            return null;
+        }
+        if (board.getRotationSystem() == RotationSystem.SRS) {
+            return RotationTables.srsStates(BrickCatalog.typeOf(upcoming[0]));
+        }
+        return upcoming[0].getShapeMatrix();
+    }
+
+    /**
+     * Waits until the deadline, which moves back by any time spent paused.
+     *
+     * @return false if stopped while waiting
+     */
+    private synchronized boolean sleepUntil(long deadline) throws InterruptedException {
+        while (!stopped) {
+            if (paused) {
+                long pausedAt = System.nanoTime();
+                wait();
+                deadline += System.nanoTime() - pausedAt;
+                continue;
+            }
+            long left = deadline - System.nanoTime();
+            if (left <= 0) {
+                return true;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, left);
+        }
+        return false;
+    }
+
+    private void publish() {
+        boolean toppedOut = versus.isToppedOut();
+        frames.writeSlot().set(board, toppedOut ? null : board.getViewData(), versus, toppedOut);
+        frames.publish();
+    }
+
+    /**
+     * Takes the newest frame not yet seen. Screen thread only.
+     *
+     * @return the frame, or null if nothing changed since the last call
+     */
+    public Frame pollFrame() {
+        return frames.acquire();
+    }
+
+    /**
+     * Whether the CPU's stack has reached the top, which wins the game for the player.
+     *
+     * @return true once the CPU has lost
+     */
+    public boolean isToppedOut() {
+        return versus.isToppedOut();
+    }
+
+    /**
+     * The CPU's garbage handler, for linking with the player's.
+     *
+     * @return the handler
+     */
+    public VersusModeHandler getVersus() {
+        return versus;
+    }
+}
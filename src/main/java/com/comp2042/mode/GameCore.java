@@ -0,0 +1,732 @@
+package com.comp2042.mode;
+
+import com.comp2042.logic.FinesseTable;
+import com.comp2042.logic.FinesseTracker;
+import com.comp2042.logic.Gravity;
+import com.comp2042.logic.bricks.BrickCatalog;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.models.ClearRow;
+import com.comp2042.models.GameConfig;
+import com.comp2042.models.GameMode;
+import com.comp2042.models.Score;
+import com.comp2042.models.SimpleBoard;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The rules of one game without JavaFX: a seeded SimpleBoard plus gravity and
+ * lock delay, finesse counting, landing, scoring, the mode handlers and
+ * spawning.
+ *
+ * GameController, HeadlessGame, ReplayGame, CpuOpponent and SplitScreenMatch
+ * all play through this class, so a rule changed here changes for every one
+ * of them. Inputs return what happened (whether the brick moved, the
+ * ClearRow of a lock) and nothing is drawn; callers that show the game read
+ * the board and the handlers afterwards. Once the game has ended every input
+ * is ignored.
+ *
+ * The seed gives the brick sequence; garbage uses its complement, a separate
+ * stream so garbage does not shift the bricks. Not thread safe: the board
+ * belongs to whichever thread plays the game.
+ */
+public final class GameCore {
+
+    /** Board size every game is played on. */
+    public static final int BOARD_ROWS = 25;
+    public static final int BOARD_COLUMNS = 10;
+
+    // Minimal inputs for every placement, built once when the class loads.
+    private static final FinesseTable FINESSE_TABLE = new FinesseTable(BOARD_ROWS, BOARD_COLUMNS);
+
+    /**
+     * Sees each lock as it happens, for callers that keep statistics of their own.
+     */
+    public interface LockListener {
+
+        /** The brick has merged into the stack; its full rows are not cleared yet. */
+        void brickMerged();
+
+        /**
+         * The landing's lines are cleared and the Survival and Versus rules
+         * have run; the Rush-40 goal and the next brick come after.
+         *
+         * @param clearRow the landing's line clear (may report 0 lines)
+         */
+        void brickLanded(ClearRow clearRow);
+    }
+
+    private final GameMode mode;
+    private final GameConfig config;
+    private final SimpleBoard board;
+    private final Gravity gravity;
+    private final FinesseTracker finesse = new FinesseTracker(FINESSE_TABLE);
+
+    private SurvivalModeHandler survivalHandler;
+    private RushModeHandler rushHandler;
+    private VersusModeHandler versusHandler;
+
+    private LockListener lockListener;
+
+    private int totalLinesCleared;
+    private boolean practice;
+    private boolean finished;
+    private boolean won;
+    private long ticks;
+    private int lastTickRows;
+
+    // Per-lock results, read after an input returned a ClearRow.
+    private int piecesPlaced;
+    private int lastType = -1;
+    private int lastRotation;
+    private int lastX;
+    private boolean lastFinesseFault;
+    private String milestoneMessage;
+
+    /**
+     * Creates and starts a game without rewind.
+     *
+     * @param mode the game mode whose GameConfig rules apply
+     * @param seed seed for the brick sequence and garbage rows
+     */
+    public GameCore(GameMode mode, long seed) {
+        this(mode, seed, 0);
+    }
+
+    /**
+     * Creates and starts a game, with its first brick spawned.
+     *
+     * @param mode the game mode whose GameConfig rules apply
+     * @param seed seed for the brick sequence and garbage rows
+     * @param rewindDepth pieces {@link #rewind()} can undo, or 0 for none
+     */
+    public GameCore(GameMode mode, long seed, int rewindDepth) {
+        this.mode = mode;
+        this.config = mode.getConfig();
+        this.board = new SimpleBoard(BOARD_ROWS, BOARD_COLUMNS, new RandomBrickGenerator(seed));
+        board.setGarbageSeed(~seed);
+        board.setRotationSystem(config.getRotationSystem());
+        if (rewindDepth > 0) {
+            board.enableRewind(rewindDepth, this::saveRewindState, this::restoreRewindState);
+        }
+        this.gravity = config.getGravityProfile() != null ? new Gravity(config.getGravityProfile()) : null;
+
+        if (mode == GameMode.SURVIVAL) {
+            survivalHandler = new SurvivalModeHandler(board, config, ~seed);
+        }
+        if (mode == GameMode.RUSH_40 && config.getTargetLinesToWin() > 0) {
+            rushHandler = new RushModeHandler(config.getTargetLinesToWin(), config);
+            rushHandler.start();
+        }
+        if (mode == GameMode.VERSUS_CPU) {
+            versusHandler = new VersusModeHandler(board, config, ~seed);
+        }
+
+        spawn();
+    }
+
+    /**
+     * Starts the game over in the same mode: an empty board, fresh score and
+     * mode progress, and the first brick spawned. Counters run from zero again.
+     */
+    public void newGame() {
+        if (survivalHandler != null) {
+            survivalHandler.reset();
+        }
+        if (rushHandler != null) {
+            rushHandler.reset();
+            rushHandler.start();
+        }
+        if (versusHandler != null) {
+            versusHandler.reset();
+        }
+        totalLinesCleared = 0;
+        practice = false;
+        finished = false;
+        won = false;
+        ticks = 0;
+        piecesPlaced = 0;
+        lastType = -1;
+        finesse.reset();
+
+        board.newGame();
+        if (gravity != null) {
+            gravity.onNewBrick();
+        }
+    }
+
+    /**
+     * Sets the listener told about every lock.
+     *
+     * @param lockListener the listener, or null for none
+     */
+    public void setLockListener(LockListener lockListener) {
+        this.lockListener = lockListener;
+    }
+
+    // ========================= INPUTS =========================
+
+    /**
+     * Runs one gravity tick: lets the brick fall the rows it has earned at the
+     * current level and locks it once its lock delay has run out. In Versus
+     * the game ends as a win here if the opponent has topped out.
+     *
+     * @return the lock's ClearRow, or null if the brick did not lock
+     */
+    public ClearRow tick() {
+        ticks++;
+        lastTickRows = 0;
+        if (finished || checkOpponent() || gravity == null) {
+            return null;
+        }
+        int rows = gravity.tick(board.getScore().getLevel(), board.getDropDistance());
+        if (rows > 0) {
+            board.fallBrick(rows);
+            lastTickRows = rows;
+        }
+        if (gravity.isLockDue()) {
+            return land();
+        }
+        return null;
+    }
+
+    /**
+     * Moves the brick down one row. A player's soft drop scores a point per
+     * row; a timer drop does not. A brick that cannot move locks here only
+     * without tick gravity; with it, the brick waits on the ground for
+     * {@link #tick()} to run out its lock delay.
+     *
+     * @param byPlayer true for a soft drop, false for the drop timer
+     * @return the lock's ClearRow, or null if the brick did not lock
+     */
+    public ClearRow moveDown(boolean byPlayer) {
+        if (finished) {
+            return null;
+        }
+        if (!board.moveBrickDown()) {
+            return gravity == null ? land() : null;
+        }
+        if (byPlayer) {
+            board.getScore().add(1);
+            if (gravity != null) {
+                gravity.noteFall(1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Drops the brick to its landing row and locks it. The drop points are
+     * added before the lock, so the next piece's rewind point includes them.
+     *
+     * @return the lock's ClearRow, or null once the game has ended
+     */
+    public ClearRow hardDrop() {
+        if (finished) {
+            return null;
+        }
+        int cellsDropped = board.hardDropBrick();
+        if (cellsDropped > 0) {
+            board.getScore().addHardDropScore(cellsDropped);
+        }
+        return land();
+    }
+
+    /**
+     * Taps the brick one column left.
+     *
+     * @return true if it moved
+     */
+    public boolean moveLeft() {
+        if (finished) {
+            return false;
+        }
+        finesse.onTap(-1);
+        return noteMoved(board.moveBrickLeft());
+    }
+
+    /**
+     * Taps the brick one column right.
+     *
+     * @return true if it moved
+     */
+    public boolean moveRight() {
+        if (finished) {
+            return false;
+        }
+        finesse.onTap(1);
+        return noteMoved(board.moveBrickRight());
+    }
+
+    /**
+     * Shifts the brick for a held direction's auto-repeat.
+     *
+     * @param cells columns to shift (negative = left)
+     * @return columns actually moved
+     */
+    public int shift(int cells) {
+        if (finished) {
+            return 0;
+        }
+        int moved = board.shiftBrick(cells);
+        finesse.onShift(Integer.signum(cells) * moved);
+        noteMoved(moved > 0);
+        return moved;
+    }
+
+    /**
+     * Turns the brick anticlockwise.
+     *
+     * @return true if it turned
+     */
+    public boolean rotateLeft() {
+        if (finished) {
+            return false;
+        }
+        finesse.onRotate();
+        return noteMoved(board.rotateLeftBrick());
+    }
+
+    /**
+     * Turns the brick clockwise.
+     *
+     * @return true if it turned
+     */
+    public boolean rotateRight() {
+        if (finished) {
+            return false;
+        }
+        finesse.onRotate();
+        return noteMoved(board.rotateRightBrick());
+    }
+
+    /**
+     * Turns the brick half way round.
+     *
+     * @return true if it turned
+     */
+    public boolean rotate180() {
+        if (finished) {
+            return false;
+        }
+        finesse.onRotate();
+        return noteMoved(board.rotate180Brick());
+    }
+
+    /**
+     * Swaps the active brick with the hold slot, once per brick. A refused
+     * hold (already used for this brick) leaves the brick's lock delay and
+     * finesse count alone.
+     *
+     * @return true if the hold happened
+     */
+    public boolean hold() {
+        if (finished || board.getCurrentBrick() == null || board.hasHeldThisTurn()) {
+            return false;
+        }
+        finesse.onNewPiece();
+        board.holdCurrentBrick();
+        if (gravity != null) {
+            gravity.onNewBrick();
+        }
+        return true;
+    }
+
+    /**
+     * Undoes the last locked piece and respawns it with the board, queue,
+     * hold slot, score and mode progress it had. The game becomes a practice
+     * run. Not allowed in Versus, where sent garbage cannot be taken back.
+     *
+     * @return true if a piece was rewound
+     */
+    public boolean rewind() {
+        if (finished || versusHandler != null || board.rewindPieces(1) == 0) {
+            return false;
+        }
+        practice = true;
+        finesse.onNewPiece();
+        if (gravity != null) {
+            gravity.onNewBrick();
+        }
+        return true;
+    }
+
+    /** Lets a successful move or rotation restart the lock delay. */
+    private boolean noteMoved(boolean moved) {
+        if (moved && gravity != null) {
+            gravity.onMoved();
+        }
+        return moved;
+    }
+
+    // ========================= LANDING =========================
+
+    /**
+     * Locks the active brick: judges its finesse, merges it, clears lines,
+     * scores, runs the mode rules and spawns the next brick.
+     */
+    private ClearRow land() {
+        lastType = BrickCatalog.typeOf(board.getCurrentBrick());
+        lastRotation = board.getRotationIndex();
+        lastX = board.getBrickX();
+        piecesPlaced++;
+        milestoneMessage = null;
+        lastFinesseFault = finesse.onLock(board.getRotationSystem(), lastType, lastRotation, lastX);
+        board.mergeBrickToBackground();
+        if (lockListener != null) {
+            lockListener.brickMerged();
+        }
+
+        ClearRow clearRow = board.clearRows();
+        Score score = board.getScore();
+        if (clearRow.getLinesRemoved() > 0) {
+            totalLinesCleared += clearRow.getLinesRemoved();
+            score.registerLinesCleared(clearRow.getLinesRemoved(), clearRow.getScoreBonus());
+        } else {
+            score.registerLandingWithoutClear();
+        }
+
+        if (survivalHandler != null) {
+            survivalHandler.handleBrickLanded(clearRow, score);
+        }
+        // Versus: attack the opponent, or let its garbage rise.
+        if (versusHandler != null) {
+            versusHandler.handleBrickLanded(clearRow, score);
+        }
+        if (lockListener != null) {
+            lockListener.brickLanded(clearRow);
+        }
+        if (checkOpponent()) {
+            return clearRow;
+        }
+
+        if (rushHandler != null && !rushHandler.isCompleted()) {
+            if (rushHandler.handleLinesCleared(clearRow)) {
+                milestoneMessage = rushHandler.getMilestoneMessage();
+            }
+            if (rushHandler.isCompleted()) {
+                won = true;
+                finished = true;
+                return clearRow;
+            }
+        }
+
+        if (gravity != null) {
+            gravity.onNewBrick();
+        }
+        spawn();
+        return clearRow;
+    }
+
+    /** Spawns the next brick; a spawn that collides tops the game out. */
+    private void spawn() {
+        if (board.createNewBrick()) {
+            finished = true;
+            if (versusHandler != null) {
+                versusHandler.markToppedOut();
+            }
+        }
+    }
+
+    /** Versus: ends the game as a win once the opponent has topped out. */
+    private boolean checkOpponent() {
+        if (versusHandler != null && versusHandler.isOpponentToppedOut()) {
+            won = true;
+            finished = true;
+            return true;
+        }
+        return false;
+    }
+
+    // ========================= STATE =========================
+
+    /**
+     * Writes the saved-game state: run counters, the board and the mode
+     * handlers' state. Lock delay is not included.
+     *
+     * @param out destination buffer
+     * @param elapsedNanos play time so far, stored with the state
+     */
+    public void saveState(ByteBuffer out, long elapsedNanos) {
+        out.putInt(totalLinesCleared);
+        out.putLong(elapsedNanos);
+        board.saveState(out);
+        if (survivalHandler != null) {
+            survivalHandler.saveState(out);
+        }
+        if (rushHandler != null) {
+            rushHandler.saveState(out);
+        }
+        out.put((byte) (practice ? 1 : 0));
+    }
+
+    /**
+     * Restores state written by {@link #saveState}. The active brick gets a
+     * fresh lock delay and finesse count; counters kept outside the state
+     * (ticks, pieces placed) are left as they are.
+     *
+     * @param in source buffer
+     * @return the play time stored with the state
+     */
+    public long restoreState(ByteBuffer in) {
+        totalLinesCleared = in.getInt();
+        long elapsedNanos = in.getLong();
+        board.restoreState(in);
+        if (survivalHandler != null) {
+            survivalHandler.restoreState(in);
+        }
+        if (rushHandler != null) {
+            rushHandler.restoreState(in);
+        }
+        practice = in.get() != 0;
+        if (gravity != null) {
+            gravity.onNewBrick();
+        }
+        finesse.onNewPiece();
+        finished = false;
+        won = false;
+        return elapsedNanos;
+    }
+
+    /**
+     * Writes the full state for a replay: the saved-game state followed by
+     * the gravity and lock delay state.
+     *
+     * @param out destination buffer
+     * @param elapsedNanos play time so far, stored with the state
+     */
+    public void saveReplayState(ByteBuffer out, long elapsedNanos) {
+        saveState(out, elapsedNanos);
+        if (gravity != null) {
+            gravity.saveState(out);
+        }
+    }
+
+    /**
+     * Restores state written by {@link #saveReplayState}, lock delay included.
+     *
+     * @param in source buffer
+     * @return the play time stored with the state
+     */
+    public long restoreReplayState(ByteBuffer in) {
+        long elapsedNanos = restoreState(in);
+        if (gravity != null) {
+            gravity.restoreState(in);
+        }
+        return elapsedNanos;
+    }
+
+    /**
+     * Per-piece state kept with the board's rewind history: the run's line
+     * count and the mode handlers' progress.
+     */
+    private void saveRewindState(ByteBuffer out) {
+        out.putInt(totalLinesCleared);
+        if (survivalHandler != null) {
+            survivalHandler.saveState(out);
+        }
+        if (rushHandler != null) {
+            rushHandler.saveState(out);
+        }
+    }
+
+    /**
+     * Reads back what {@link #saveRewindState} wrote. The Rush-40 clock goes
+     * back with it.
+     */
+    private void restoreRewindState(ByteBuffer in) {
+        totalLinesCleared = in.getInt();
+        if (survivalHandler != null) {
+            survivalHandler.restoreState(in);
+        }
+        if (rushHandler != null) {
+            rushHandler.restoreState(in);
+        }
+    }
+
+    // ========================= ACCESSORS =========================
+
+    public GameMode getMode() {
+        return mode;
+    }
+
+    public GameConfig getConfig() {
+        return config;
+    }
+
+    public SimpleBoard getBoard() {
+        return board;
+    }
+
+    public Score getScore() {
+        return board.getScore();
+    }
+
+    /**
+     * The Survival handler.
+     *
+     * @return the handler, or null outside Survival
+     */
+    public SurvivalModeHandler getSurvivalHandler() {
+        return survivalHandler;
+    }
+
+    /**
+     * The Rush-40 handler.
+     *
+     * @return the handler, or null outside Rush-40
+     */
+    public RushModeHandler getRushHandler() {
+        return rushHandler;
+    }
+
+    /**
+     * This side's Versus handler, for linking with the opponent's.
+     *
+     * @return the handler, or null outside Versus
+     */
+    public VersusModeHandler getVersusHandler() {
+        return versusHandler;
+    }
+
+    /**
+     * Whether the mode uses tick gravity; without it the brick only falls on
+     * {@link #moveDown} calls from a drop timer.
+     *
+     * @return true if {@link #tick()} moves the brick
+     */
+    public boolean hasGravity() {
+        return gravity != null;
+    }
+
+    public int getTotalLinesCleared() {
+        return totalLinesCleared;
+    }
+
+    /**
+     * Whether the game has ended: topped out, Rush-40 goal reached or the
+     * Versus opponent topped out.
+     *
+     * @return true once the game is over
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Whether the game ended in a win (Rush-40 goal or the Versus opponent topping out).
+     *
+     * @return true if the game was won
+     */
+    public boolean isWon() {
+        return won;
+    }
+
+    /**
+     * Whether a piece was rewound, making it a practice run.
+     *
+     * @return true for a practice run
+     */
+    public boolean isPractice() {
+        return practice;
+    }
+
+    /**
+     * Gravity ticks played so far.
+     *
+     * @return ticks since the game started
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Sets the tick count, when jumping to a replay keyframe.
+     *
+     * @param ticks ticks since the game started
+     */
+    public void setTicks(long ticks) {
+        this.ticks = ticks;
+    }
+
+    /**
+     * Rows the brick fell on the last {@link #tick()}.
+     *
+     * @return rows fallen
+     */
+    public int getLastTickRows() {
+        return lastTickRows;
+    }
+
+    /**
+     * Bricks locked so far, counting every lock since the game started.
+     *
+     * @return pieces placed
+     */
+    public int getPiecesPlaced() {
+        return piecesPlaced;
+    }
+
+    /**
+     * Type of the last brick that locked.
+     *
+     * @return the BrickCatalog type id, or -1 before the first lock
+     */
+    public int getLastPlacedType() {
+        return lastType;
+    }
+
+    /**
+     * Rotation index the last brick locked in.
+     *
+     * @return the rotation index
+     */
+    public int getLastPlacedRotation() {
+        return lastRotation;
+    }
+
+    /**
+     * Column the last brick's shape matrix locked at.
+     *
+     * @return the x position
+     */
+    public int getLastPlacedX() {
+        return lastX;
+    }
+
+    /**
+     * Pieces that locked with more inputs than their placement needs.
+     *
+     * @return finesse faults
+     * @see FinesseTracker
+     */
+    public int getFinesseFaults() {
+        return finesse.getFaults();
+    }
+
+    /**
+     * Pieces whose placement the finesse table could judge.
+     *
+     * @return pieces judged
+     */
+    public int getPiecesJudged() {
+        return finesse.getPiecesJudged();
+    }
+
+    /**
+     * Whether the last lock was a finesse fault.
+     *
+     * @return true if the last brick took too many inputs
+     */
+    public boolean isLastLockFinesseFault() {
+        return lastFinesseFault;
+    }
+
+    /**
+     * The Rush-40 milestone the last lock reached.
+     *
+     * @return the milestone message, or null if the last lock reached none
+     */
+    public String getMilestoneMessage() {
+        return milestoneMessage;
+    }
+}
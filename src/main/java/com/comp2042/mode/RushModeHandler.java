@@ -2,6 +2,8 @@ package com.comp2042.mode;
 
 import com.comp2042.models.ClearRow;
 
+import java.nio.ByteBuffer;
+
 /**
  * Handles Rush-40 mode-specific logic including line count tracking and milestones.
  * Rush-40 mode challenges players to clear a target number of lines as fast as possible.
@@ -135,6 +137,35 @@ public class RushModeHandler {
         return durationNanos / 1_000_000_000.0;
     }
     
+    /**
+     * Writes progress and the time elapsed so far for a saved game.
+     *
+     * @param out destination buffer
+     */
+    public void saveState(ByteBuffer out) {
+        out.putShort((short) linesCleared);
+        out.putShort((short) lastMilestone);
+        out.put((byte) (completed ? 1 : 0));
+        long end = completed ? endNanos : System.nanoTime();
+        out.putLong(startNanos != 0L ? end - startNanos : 0L);
+    }
+
+    /**
+     * Restores state written by {@link #saveState}. The clock continues from
+     * the saved elapsed time, so time spent suspended does not count.
+     *
+     * @param in source buffer
+     */
+    public void restoreState(ByteBuffer in) {
+        linesCleared = in.getShort();
+        lastMilestone = in.getShort();
+        completed = in.get() != 0;
+        long elapsed = in.getLong();
+        long now = System.nanoTime();
+        startNanos = now - elapsed;
+        endNanos = completed ? now : 0L;
+    }
+
     /**
      * Resets Rush-40 state for a new game.
      */
@@ -0,0 +1,278 @@
+package com.comp2042.mode;
+
+import com.comp2042.logic.AutoRepeat;
+import com.comp2042.models.GameConfig;
+import com.comp2042.models.GameMode;
+import com.comp2042.models.GravityProfile;
+import com.comp2042.models.InputAction;
+
+/**
+ * A local split-screen match: two to four Classic games played side by side
+ * on one keyboard, last one standing wins.
+ *
+ * Each player has a {@link GameCore} (the rules GameController plays by)
+ * and an {@link AutoRepeat} for held keys. One
+ * {@link #advance} call runs auto-repeat for every player and then the
+ * 60 Hz gravity ticks due since the last call, ticking every board together,
+ * so all the boards share one clock and one timer. Nothing is rendered here:
+ * the screen reads each board after advancing, and {@link #getChanges}
+ * tells it which boards need drawing again.
+ *
+ * All players get the same seed, so they see the same bricks. Not thread
+ * safe; call everything from the thread that drives the match.
+ */
+public final class SplitScreenMatch {
+
+    private static final long TICK_NANOS = 1_000_000_000L / GravityProfile.TICKS_PER_SECOND;
+
+    // Gravity ticks made up at most after a stall, as in LogicThread.
+    private static final int MAX_CATCH_UP_TICKS = 6;
+
+    private final GameCore[] games;
+    private final AutoRepeat[] repeats;
+    private final long[] changes;
+    private final GravityProfile gravityProfile;
+
+    private boolean started;
+    private boolean paused;
+    private long nextTick;
+
+    /**
+     * Creates a match; the clock starts on the first {@link #advance}.
+     *
+     * @param players 2 or more
+     * @param seed brick seed shared by every player
+     * @param dasMs delay before a held direction repeats
+     * @param arrMs time between repeated moves
+     * @param softDropFactor how many times faster than gravity soft drop falls
+     */
+    public SplitScreenMatch(int players, long seed, int dasMs, int arrMs, int softDropFactor) {
+        if (players < 2) {
+            throw new IllegalArgumentException("A match needs at least two players: " + players);
+        }
+        this.games = new GameCore[players];
+        this.repeats = new AutoRepeat[players];
+        this.changes = new long[players];
+        for (int i = 0; i < players; i++) {
+            games[i] = new GameCore(GameMode.CLASSIC, seed);
+            repeats[i] = new AutoRepeat(dasMs, arrMs, softDropFactor);
+        }
+        this.gravityProfile = GameConfig.forMode(GameMode.CLASSIC).getGravityProfile();
+    }
+
+    /**
+     * Applies a key press for one player. Ignored while paused or after the match.
+     *
+     * @param player 0-based player index
+     * @param action the bound action
+     * @param nanos when the key went down
+     */
+    public void press(int player, InputAction action, long nanos) {
+        GameCore game = games[player];
+        if (paused || isOver() || game.isFinished()) {
+            return;
+        }
+        AutoRepeat repeat = repeats[player];
+        switch (action) {
+            case MOVE_LEFT:
+                if (repeat.press(AutoRepeat.LEFT, nanos)) {
+                    game.moveLeft();
+                }
+                break;
+            case MOVE_RIGHT:
+                if (repeat.press(AutoRepeat.RIGHT, nanos)) {
+                    game.moveRight();
+                }
+                break;
+            case SOFT_DROP:
+                if (repeat.press(AutoRepeat.SOFT_DROP, nanos)) {
+                    game.moveDown(true);
+                }
+                break;
+            case ROTATE:
+                game.rotateLeft();
+                break;
+            case ROTATE_CLOCKWISE:
+                game.rotateRight();
+                break;
+            case ROTATE_180:
+                game.rotate180();
+                break;
+            case HOLD:
+                game.hold();
+                break;
+            case HARD_DROP:
+                game.hardDrop();
+                break;
+            default:
+                // Rewinding one board would leave the others behind.
+                return;
+        }
+        changes[player]++;
+    }
+
+    /**
+     * Applies a key release for one player.
+     *
+     * @param player 0-based player index
+     * @param action the bound action
+     * @param nanos when the key came up
+     */
+    public void release(int player, InputAction action, long nanos) {
+        switch (action) {
+            case MOVE_LEFT:
+                repeats[player].release(AutoRepeat.LEFT, nanos);
+                break;
+            case MOVE_RIGHT:
+                repeats[player].release(AutoRepeat.RIGHT, nanos);
+                break;
+            case SOFT_DROP:
+                repeats[player].release(AutoRepeat.SOFT_DROP, nanos);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Runs held-key repeats for every player, then every gravity tick due by
+     * {@code nowNanos} on all boards together.
+     *
+     * @param nowNanos current time
+     */
+    public void advance(long nowNanos) {
+        if (!started) {
+            started = true;
+            nextTick = nowNanos + TICK_NANOS;
+        }
+        if (paused || isOver()) {
+            return;
+        }
+        for (int i = 0; i < games.length; i++) {
+            applyAutoRepeat(i, nowNanos);
+        }
+        int ticks = 0;
+        while (nowNanos - nextTick >= 0 && ticks < MAX_CATCH_UP_TICKS && !isOver()) {
+            for (int i = 0; i < games.length; i++) {
+                tick(i);
+            }
+            nextTick += TICK_NANOS;
+            ticks++;
+        }
+        if (nowNanos - nextTick >= 0) {
+            nextTick = nowNanos + TICK_NANOS;
+        }
+    }
+
+    private void applyAutoRepeat(int player, long nowNanos) {
+        GameCore game = games[player];
+        if (game.isFinished()) {
+            return;
+        }
+        AutoRepeat repeat = repeats[player];
+        int shift = repeat.pollShift(nowNanos);
+        if (shift != 0) {
+            game.shift(shift);
+            changes[player]++;
+        }
+        long gravityNanos = gravityProfile.getRowIntervalNanos(game.getScore().getLevel());
+        int rows = repeat.pollSoftDrop(nowNanos, gravityNanos);
+        for (int i = 0; i < rows && !game.isFinished(); i++) {
+            game.moveDown(true);
+            changes[player]++;
+        }
+    }
+
+    /** One gravity tick for one board; counts a change only if the brick fell or locked. */
+    private void tick(int player) {
+        GameCore game = games[player];
+        if (game.isFinished()) {
+            return;
+        }
+        if (game.tick() != null || game.getLastTickRows() > 0 || game.isFinished()) {
+            changes[player]++;
+        }
+    }
+
+    /**
+     * Stops the clock and forgets held keys, for the pause menu.
+     */
+    public void pause() {
+        paused = true;
+        for (AutoRepeat repeat : repeats) {
+            repeat.releaseAll();
+        }
+    }
+
+    /**
+     * Restarts the clock after {@link #pause()}; no ticks are made up for the pause.
+     *
+     * @param nowNanos current time
+     */
+    public void resume(long nowNanos) {
+        paused = false;
+        nextTick = nowNanos + TICK_NANOS;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public int getPlayers() {
+        return games.length;
+    }
+
+    /**
+     * One player's game.
+     *
+     * @param player 0-based player index
+     * @return the game (read only; drive it through this match)
+     */
+    public GameCore getGame(int player) {
+        return games[player];
+    }
+
+    /**
+     * Counter that increases whenever the player's board or brick may look
+     * different; the screen redraws a board only when it moved on.
+     *
+     * @param player 0-based player index
+     * @return the change counter
+     */
+    public long getChanges(int player) {
+        return changes[player];
+    }
+
+    /**
+     * Whether at most one player is still standing.
+     *
+     * @return true once the match is decided
+     */
+    public boolean isOver() {
+        int alive = 0;
+        for (GameCore game : games) {
+            if (!game.isFinished()) {
+                alive++;
+            }
+        }
+        return alive <= 1;
+    }
+
+    /**
+     * The last player standing.
+     *
+     * @return 0-based index of the winner, or -1 if the match is not over or
+     *         the last players topped out on the same tick
+     */
+    public int getWinner() {
+        if (!isOver()) {
+            return -1;
+        }
+        for (int i = 0; i < games.length; i++) {
+            if (!games[i].isFinished()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
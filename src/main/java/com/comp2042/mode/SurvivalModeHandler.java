@@ -1,10 +1,15 @@
 package com.comp2042.mode;
 
+import com.comp2042.logic.GarbageGenerator;
 import com.comp2042.models.Board;
 import com.comp2042.models.ClearRow;
 import com.comp2042.models.GameConfig;
+import com.comp2042.models.GarbageProfile;
 import com.comp2042.models.Score;
 
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Handles Survival mode-specific logic including garbage row pressure and shields.
  * Survival mode adds garbage rows when the player fails to clear lines,
@@ -16,20 +21,40 @@ public class SurvivalModeHandler {
     
     private final Board board;
     private final GameConfig config;
+    private final GarbageGenerator garbageGenerator;
     
     // Survival-mode state
     private int noClearLandingCount = 0;
     private int shields = 0;
+    private int garbageRowsReceived = 0;
+
+    // Reused burst buffer, grown if a burst is ever larger.
+    private int[] burst = new int[16];
     
     /**
-     * Creates a Survival mode handler.
+     * Creates a Survival mode handler with a random garbage seed.
      * 
      * @param board the game board
      * @param config the game configuration
      */
     public SurvivalModeHandler(Board board, GameConfig config) {
+        this(board, config, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a Survival mode handler whose garbage is fully determined by {@code seed}.
+     *
+     * @param board the game board
+     * @param config the game configuration
+     * @param garbageSeed seed for hole positions and colours
+     */
+    public SurvivalModeHandler(Board board, GameConfig config, long garbageSeed) {
         this.board = board;
         this.config = config;
+        GarbageProfile profile = config.getGarbageProfile() != null
+                ? config.getGarbageProfile()
+                : GarbageProfile.singleRow();
+        this.garbageGenerator = new GarbageGenerator(board.getBoardMatrix()[0].length, profile, garbageSeed);
     }
     
     /**
@@ -65,14 +90,29 @@ public class SurvivalModeHandler {
 
         if (noClearLandingCount >= threshold) {
             if (shields > 0) {
+                // A shield absorbs the whole burst.
                 shields--;
             } else {
-                board.addGarbageRow();
+                sendGarbage(garbageGenerator.getProfile().burstSize(score.getLevel()));
             }
             noClearLandingCount = 0;
         }
     }
     
+    /**
+     * Generates a burst and inserts it into the board in one operation.
+     *
+     * @param rows number of garbage rows
+     */
+    private void sendGarbage(int rows) {
+        if (burst.length < rows) {
+            burst = new int[rows];
+        }
+        garbageGenerator.fill(burst, rows);
+        board.addGarbageRows(burst, rows, garbageGenerator.nextColour());
+        garbageRowsReceived += rows;
+    }
+
     /**
      * Computes the current garbage threshold based on the base config and player's level.
      * Higher levels reduce the threshold, making garbage appear faster.
@@ -120,12 +160,46 @@ public class SurvivalModeHandler {
         return shields;
     }
     
+    /**
+     * Total garbage rows pushed onto the board this game (shielded bursts excluded).
+     *
+     * @return rows received
+     */
+    public int getGarbageRowsReceived() {
+        return garbageRowsReceived;
+    }
+
+    /**
+     * Writes the counters and garbage random state for a saved game.
+     *
+     * @param out destination buffer
+     */
+    public void saveState(ByteBuffer out) {
+        out.putShort((short) noClearLandingCount);
+        out.put((byte) shields);
+        out.putInt(garbageRowsReceived);
+        garbageGenerator.saveState(out);
+    }
+
+    /**
+     * Restores state written by {@link #saveState}.
+     *
+     * @param in source buffer
+     */
+    public void restoreState(ByteBuffer in) {
+        noClearLandingCount = in.getShort();
+        shields = in.get();
+        garbageRowsReceived = in.getInt();
+        garbageGenerator.restoreState(in);
+    }
+
     /**
      * Resets Survival mode state for a new game.
      */
     public void reset() {
         noClearLandingCount = 0;
         shields = 0;
+        garbageRowsReceived = 0;
     }
 }
 
@@ -0,0 +1,180 @@
+package com.comp2042.mode;
+
+import com.comp2042.logic.GarbageGenerator;
+import com.comp2042.models.Board;
+import com.comp2042.models.ClearRow;
+import com.comp2042.models.GameConfig;
+import com.comp2042.models.GarbageProfile;
+import com.comp2042.models.Score;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Handles one side of a Versus game: sends garbage to the opponent when its
+ * board clears lines and puts the opponent's garbage on its board.
+ *
+ * Each board has its own handler and the two are linked with
+ * {@link #connect}. Attacks are worked out with {@link AttackTable}. Garbage
+ * sent to a side waits as a pending count until that side lands a brick
+ * without clearing, when up to {@link #MAX_ROWS_PER_LANDING} rows rise at
+ * once; a clear first cancels pending rows and only the rest is sent on.
+ *
+ * The two boards may be played on different threads. Only
+ * {@link #receive} and the getters are called from the other side's thread;
+ * everything else runs on the thread that owns this handler's board.
+ */
+public class VersusModeHandler {
+
+    /** Most pending rows that rise after a single landing; the rest wait for the next. */
+    public static final int MAX_ROWS_PER_LANDING = 8;
+
+    private final Board board;
+    private final GarbageGenerator garbageGenerator;
+    private final AtomicInteger incoming = new AtomicInteger();
+    private final AtomicInteger sent = new AtomicInteger();
+    private final AtomicInteger received = new AtomicInteger();
+    private volatile boolean toppedOut;
+
+    private VersusModeHandler opponent;
+
+    // Reused burst buffer.
+    private final int[] burst = new int[MAX_ROWS_PER_LANDING];
+
+    /**
+     * Creates a handler whose garbage holes are fully determined by {@code seed}.
+     *
+     * @param board the board this side plays on
+     * @param config the game configuration
+     * @param garbageSeed seed for hole positions and colours
+     */
+    public VersusModeHandler(Board board, GameConfig config, long garbageSeed) {
+        this.board = board;
+        GarbageProfile profile = config.getGarbageProfile() != null
+                ? config.getGarbageProfile()
+                : GarbageProfile.singleRow();
+        this.garbageGenerator = new GarbageGenerator(board.getBoardMatrix()[0].length, profile, garbageSeed);
+    }
+
+    /**
+     * Links two sides so each one's attacks reach the other.
+     *
+     * @param opponent the other side's handler
+     */
+    public void connect(VersusModeHandler opponent) {
+        this.opponent = opponent;
+        opponent.opponent = this;
+    }
+
+    /**
+     * Handles Versus effects after a brick on this side lands and its lines
+     * have been registered with the score.
+     *
+     * @param clearRow the result of line clearing (may report 0 lines)
+     * @param score this side's score, for the combo
+     * @return garbage rows put on this board by the landing
+     */
+    public int handleBrickLanded(ClearRow clearRow, Score score) {
+        int linesRemoved = (clearRow != null) ? clearRow.getLinesRemoved() : 0;
+        if (linesRemoved > 0) {
+            int attack = AttackTable.attack(linesRemoved, score.getCombo());
+            // Pending garbage is cancelled first.
+            int remaining = attack - take(attack);
+            if (remaining > 0 && opponent != null) {
+                sent.addAndGet(remaining);
+                opponent.receive(remaining);
+            }
+            return 0;
+        }
+        int rows = take(MAX_ROWS_PER_LANDING);
+        if (rows > 0) {
+            garbageGenerator.fill(burst, rows);
+            board.addGarbageRows(burst, rows, garbageGenerator.nextColour());
+            received.addAndGet(rows);
+        }
+        return rows;
+    }
+
+    /**
+     * Queues garbage for this side. Safe to call from the opponent's thread.
+     *
+     * @param rows rows to add to the pending count
+     */
+    public void receive(int rows) {
+        if (rows > 0) {
+            incoming.addAndGet(rows);
+        }
+    }
+
+    /** Removes up to {@code max} pending rows and returns how many were removed. */
+    private int take(int max) {
+        while (true) {
+            int pending = incoming.get();
+            int taken = Math.min(pending, max);
+            if (taken == 0 || incoming.compareAndSet(pending, pending - taken)) {
+                return taken;
+            }
+        }
+    }
+
+    /**
+     * Garbage rows waiting to rise on this board.
+     *
+     * @return pending rows
+     */
+    public int getIncoming() {
+        return incoming.get();
+    }
+
+    /**
+     * Rows sent to the opponent this game, after cancelling.
+     *
+     * @return rows sent
+     */
+    public int getSent() {
+        return sent.get();
+    }
+
+    /**
+     * Garbage rows that rose on this board this game.
+     *
+     * @return rows received
+     */
+    public int getGarbageRowsReceived() {
+        return received.get();
+    }
+
+    /**
+     * Records that this side's stack reached the top, which loses it the game.
+     */
+    public void markToppedOut() {
+        toppedOut = true;
+    }
+
+    /**
+     * Whether this side has topped out. Safe to call from the opponent's thread.
+     *
+     * @return true once this side has lost
+     */
+    public boolean isToppedOut() {
+        return toppedOut;
+    }
+
+    /**
+     * Whether the linked opponent has topped out, which wins the game for this side.
+     *
+     * @return true once the opponent has lost
+     */
+    public boolean isOpponentToppedOut() {
+        return opponent != null && opponent.isToppedOut();
+    }
+
+    /**
+     * Resets this side for a new game.
+     */
+    public void reset() {
+        incoming.set(0);
+        sent.set(0);
+        received.set(0);
+        toppedOut = false;
+    }
+}
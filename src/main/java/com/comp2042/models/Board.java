@@ -1,5 +1,7 @@
 package com.comp2042.models;
 
+import java.nio.ByteBuffer;
+
 /**
  * Core game board API used by the controller and GUI.
  * Defines the interface for game board implementations.
@@ -16,6 +18,84 @@ public interface Board {
 
     boolean rotateLeftBrick();
 
+    /**
+     * Shifts the active brick sideways by up to {@code cells} columns, stopping
+     * at the first wall or block. The default moves one column at a time;
+     * implementations can find the stopping column in a single pass.
+     *
+     * @param cells columns to shift; negative for left, positive for right
+     * @return number of columns the brick moved
+     */
+    default int shiftBrick(int cells) {
+        int target = Math.abs(cells);
+        int moved = 0;
+        while (moved < target && (cells < 0 ? moveBrickLeft() : moveBrickRight())) {
+            moved++;
+        }
+        return moved;
+    }
+
+    /**
+     * Rotates the active brick one turn clockwise.
+     * The default does nothing, for boards that only rotate one way.
+     *
+     * @return true if the rotation succeeded
+     */
+    default boolean rotateRightBrick() {
+        return false;
+    }
+
+    /**
+     * Rotates the active brick half a turn.
+     * The default does nothing, for boards that only rotate one way.
+     *
+     * @return true if the rotation succeeded
+     */
+    default boolean rotate180Brick() {
+        return false;
+    }
+
+    /**
+     * Drops the active brick straight down to its landing row without locking it.
+     * The default steps down one cell at a time; implementations that already
+     * know the landing row should move the brick there directly.
+     *
+     * @return number of cells the brick fell (used for the hard drop score)
+     */
+    default int hardDropBrick() {
+        int cellsDropped = 0;
+        while (moveBrickDown()) {
+            cellsDropped++;
+        }
+        return cellsDropped;
+    }
+
+    /**
+     * Rows the active brick can fall before it lands.
+     * The default reads it from the ghost position in the view data.
+     *
+     * @return drop distance in rows (0 when resting on the stack)
+     */
+    default int getDropDistance() {
+        ViewData view = getViewData();
+        return view.getGhostYPosition() - view.getyPosition();
+    }
+
+    /**
+     * Lets the active brick fall up to {@code rows} rows without locking it.
+     * The default steps down one row at a time.
+     *
+     * @param rows rows to fall
+     * @return rows actually fallen
+     */
+    default int fallBrick(int rows) {
+        int fallen = 0;
+        while (fallen < rows && moveBrickDown()) {
+            fallen++;
+        }
+        return fallen;
+    }
+
     /**
      * Holds or swaps the current active brick.
      *
@@ -77,6 +157,21 @@ public interface Board {
      */
     void addGarbageRow();
 
+    /**
+     * Pushes a whole burst of garbage in at the bottom in one operation.
+     * The default adds rows one at a time with {@link #addGarbageRow()},
+     * so the masks only shape the garbage on boards that override this.
+     *
+     * @param rowMasks row bitmasks (bit c set = column c filled); the last entry ends up as the bottom row
+     * @param count number of rows from {@code rowMasks} to insert
+     * @param colour colour id used for the filled cells
+     */
+    default void addGarbageRows(int[] rowMasks, int count, int colour) {
+        for (int i = 0; i < count; i++) {
+            addGarbageRow();
+        }
+    }
+
     /**
      * Gets the Score object associated with this board.
      *
@@ -89,4 +184,37 @@ public interface Board {
      * Clears the board matrix and resets the score.
      */
     void newGame();
+
+    /**
+     * Writes everything needed to continue the game later: cells, active and
+     * held brick, upcoming bricks, random state and score.
+     * The default refuses, for boards that cannot be saved.
+     *
+     * @param out destination buffer
+     * @throws UnsupportedOperationException if the board cannot be saved
+     */
+    default void saveState(ByteBuffer out) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot be saved");
+    }
+
+    /**
+     * Replaces the whole game state with one written by {@link #saveState}.
+     *
+     * @param in source buffer
+     * @throws UnsupportedOperationException if the board cannot be saved
+     */
+    default void restoreState(ByteBuffer in) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot be saved");
+    }
+
+    /**
+     * Undoes the last {@code count} locked pieces, if the board keeps a history.
+     * The default keeps none.
+     *
+     * @param count pieces to rewind
+     * @return pieces actually rewound
+     */
+    default int rewindPieces(int count) {
+        return 0;
+    }
 }
@@ -0,0 +1,177 @@
+package com.comp2042.models;
+
+import java.util.Arrays;
+
+/**
+ * Fixed set of row arrays backing a board.
+ *
+ * The row arrays are allocated once and never replaced; only their order in
+ * {@link #view()} changes. Pushing garbage in at the bottom shifts the row
+ * references up with System.arraycopy and reuses the rows that fell off the
+ * top as the new, emptied bottom rows; clearing rows closes the gaps by
+ * moving the remaining references down and reuses the cleared rows, emptied,
+ * at the top. Moving a reference costs the same as any array store, whatever
+ * the board width, and nothing is allocated.
+ *
+ * {@link #view()} is the same top-to-bottom int[][] for the board's lifetime,
+ * and writes through it land in the row arrays, so callers holding the matrix
+ * always see the current board.
+ */
+final class BoardRows {
+
+    private final int columns;
+    private final int[][] view;
+
+    // Holds recycled slot references while the other rows are moved.
+    private final int[][] cleared;
+
+    /**
+     * Allocates every row slot up front.
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     */
+    BoardRows(int rows, int columns) {
+        this.columns = columns;
+        this.view = new int[rows][columns];
+        this.cleared = new int[rows][];
+    }
+
+    /**
+     * Returns the live top-to-bottom view of the rows.
+     *
+     * @return the board matrix (row 0 = top)
+     */
+    int[][] view() {
+        return view;
+    }
+
+    /**
+     * Shifts the rows up by {@code count} in one step. The top {@code count}
+     * rows fall off the board and their arrays become the cleared bottom rows.
+     *
+     * @param count rows to push in (clamped to the board height)
+     */
+    void pushBottom(int count) {
+        int n = Math.min(count, view.length);
+        if (n <= 0) {
+            return;
+        }
+        int keep = view.length - n;
+        System.arraycopy(view, 0, cleared, 0, n);
+        System.arraycopy(view, n, view, 0, keep);
+        for (int i = 0; i < n; i++) {
+            Arrays.fill(cleared[i], 0);
+            view[keep + i] = cleared[i];
+            cleared[i] = null;
+        }
+    }
+
+    /**
+     * Undoes {@link #pushBottom(int)}: shifts the rows down by {@code count},
+     * dropping the bottom rows. Their arrays become cleared rows at the top for
+     * the caller to refill.
+     *
+     * @param count rows to take out (clamped to the board height)
+     */
+    void popBottom(int count) {
+        int n = Math.min(count, view.length);
+        if (n <= 0) {
+            return;
+        }
+        int keep = view.length - n;
+        System.arraycopy(view, keep, cleared, 0, n);
+        System.arraycopy(view, 0, view, n, keep);
+        for (int i = 0; i < n; i++) {
+            Arrays.fill(cleared[i], 0);
+            view[i] = cleared[i];
+            cleared[i] = null;
+        }
+    }
+
+    /**
+     * Removes every full row, dropping the rows above down to fill the gaps.
+     * Cleared row arrays are reused as empty rows at the top.
+     *
+     * @return number of rows removed
+     */
+    int removeFullRows() {
+        int write = view.length - 1;
+        int removed = 0;
+
+        for (int read = view.length - 1; read >= 0; read--) {
+            int[] row = view[read];
+            if (isFull(row)) {
+                cleared[removed++] = row;
+            } else {
+                view[write--] = row;
+            }
+        }
+
+        for (int i = 0; i < removed; i++) {
+            Arrays.fill(cleared[i], 0);
+            view[i] = cleared[i];
+            cleared[i] = null;
+        }
+        return removed;
+    }
+
+    /**
+     * Undoes {@link #removeFullRows()}: puts cleared rows back at the indices
+     * they had before the clear, lifting the rows above them. The top
+     * {@code count} slots, where the clear recycled its rows, are reused as
+     * the reinserted rows and come back empty for the caller to refill.
+     *
+     * @param indices pre-clear row indices, ascending
+     * @param count number of indices to use
+     */
+    void restoreRows(int[] indices, int count) {
+        int n = Math.min(count, view.length);
+        if (n <= 0) {
+            return;
+        }
+        System.arraycopy(view, 0, cleared, 0, n);
+
+        // Top-down: rows only move up, so every row is read before its slot is written.
+        int read = n;
+        int next = 0;
+        for (int write = 0; write < view.length; write++) {
+            if (next < n && indices[next] == write) {
+                Arrays.fill(cleared[next], 0);
+                view[write] = cleared[next];
+                cleared[next] = null;
+                next++;
+            } else {
+                view[write] = view[read++];
+            }
+        }
+    }
+
+    /**
+     * Whether every cell of a row is filled.
+     *
+     * @param row row index (0 = top)
+     * @return true if the row would be cleared
+     */
+    boolean isFull(int row) {
+        return isFull(view[row]);
+    }
+
+    /**
+     * Empties every row in place.
+     */
+    void clear() {
+        for (int[] row : view) {
+            Arrays.fill(row, 0);
+        }
+    }
+
+    private boolean isFull(int[] row) {
+        for (int col = 0; col < columns; col++) {
+            if (row[col] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
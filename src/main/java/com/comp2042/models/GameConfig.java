@@ -49,12 +49,29 @@ public final class GameConfig {
      */
     private final int maxNoClearBeforeGarbage;
 
+    /**
+     * For Survival: pattern and burst size of the garbage rows.
+     * Null for modes that never send garbage.
+     */
+    private final GarbageProfile garbageProfile;
+
     /**
      * For Rush-40: how many lines the player must clear to win.
      * 0 or negative means "not a target-lines mode".
      */
     private final int targetLinesToWin;
 
+    /**
+     * Gravity table (rows per tick by level) and lock delay settings.
+     * Null keeps the old fixed-interval drop timer with instant locking.
+     */
+    private final GravityProfile gravityProfile;
+
+    /**
+     * Rotation rules: the original simple kicks or SRS with 180 turns.
+     */
+    private final RotationSystem rotationSystem;
+
     /**
      * Whether this mode should display a running timer in the HUD.
      */
@@ -66,7 +83,10 @@ public final class GameConfig {
                        int dangerVisibleRows,
                        double backgroundDimFactor,
                        int maxNoClearBeforeGarbage,
+                       GarbageProfile garbageProfile,
                        int targetLinesToWin,
+                       GravityProfile gravityProfile,
+                       RotationSystem rotationSystem,
                        boolean showTimer) {
 
         this.baseFallIntervalMs = baseFallIntervalMs;
@@ -75,7 +95,10 @@ public final class GameConfig {
         this.dangerVisibleRows = dangerVisibleRows;
         this.backgroundDimFactor = backgroundDimFactor;
         this.maxNoClearBeforeGarbage = maxNoClearBeforeGarbage;
+        this.garbageProfile = garbageProfile;
         this.targetLinesToWin = targetLinesToWin;
+        this.gravityProfile = gravityProfile;
+        this.rotationSystem = rotationSystem;
         this.showTimer = showTimer;
     }
 
@@ -92,7 +115,11 @@ public final class GameConfig {
                         3,     // dangerVisibleRows
                         1.0,   // backgroundDimFactor (no dimming)
                         0,     // maxNoClearBeforeGarbage (off)
+                        null,  // garbageProfile (no garbage)
                         0,     // targetLinesToWin (no target)
+                        // Same speed curve as the old drop timer, 500ms lock delay, 15 resets.
+                        GravityProfile.fromFallInterval(400, 0.15, 500, 15),
+                        RotationSystem.SIMPLE, // original sideways kicks
                         true   // showTimer
                 );
             case SURVIVAL:
@@ -105,7 +132,12 @@ public final class GameConfig {
                         3,
                         1.0,   // backgroundDimFactor (no dimming)
                         4,     // after 4 non-clearing landings -> garbage
+                        // Clean garbage whose hole moves 30% of the time;
+                        // bursts grow by one row every 4 levels.
+                        new GarbageProfile(GarbageProfile.Pattern.CLEAN, 0.3, 1, 4),
                         0,
+                        GravityProfile.fromFallInterval(400, 0.15, 500, 15),
+                        RotationSystem.SIMPLE,
                         true   // showTimer
                 );
             case HYPER:
@@ -119,7 +151,13 @@ public final class GameConfig {
                         3,
                         0.35,  // backgroundDimFactor (landed blocks are dimmed)
                         0,
+                        null,
                         0,
+                        // Ramps to 20G by level 10, with a shorter lock delay.
+                        new GravityProfile(new double[]{
+                                0.05, 0.08, 0.12, 0.2, 0.35, 0.6, 1.0, 3.0, 8.0, 20.0
+                        }, 400, 10),
+                        RotationSystem.SIMPLE,
                         true   // showTimer
                 );
             case RUSH_40:
@@ -132,7 +170,28 @@ public final class GameConfig {
                         3,
                         1.0,   // backgroundDimFactor (no dimming)
                         0,
+                        null,
                         40,    // clear 40 lines to win
+                        GravityProfile.fromFallInterval(400, 0.15, 500, 15),
+                        // Sprint players expect standard SRS kicks and 180 turns.
+                        RotationSystem.SRS,
+                        true   // showTimer
+                );
+            case VERSUS_CPU:
+                // Classic speed; garbage only arrives as attacks from the CPU,
+                // so there is no no-clear pressure. Attacks land as clean rows
+                // whose hole moves 30% of the time.
+                return new GameConfig(
+                        400,
+                        1.0,
+                        0.15,
+                        3,
+                        1.0,   // backgroundDimFactor (no dimming)
+                        0,     // no garbage for failing to clear
+                        new GarbageProfile(GarbageProfile.Pattern.CLEAN, 0.3, 1, 0),
+                        0,
+                        GravityProfile.fromFallInterval(400, 0.15, 500, 15),
+                        RotationSystem.SIMPLE,
                         true   // showTimer
                 );
             default:
@@ -169,10 +228,32 @@ public final class GameConfig {
         return maxNoClearBeforeGarbage;
     }
 
+    /**
+     * Garbage pattern for this mode.
+     *
+     * @return the profile, or null if the mode sends no garbage
+     */
+    public GarbageProfile getGarbageProfile() {
+        return garbageProfile;
+    }
+
     public int getTargetLinesToWin() {
         return targetLinesToWin;
     }
 
+    /**
+     * Gravity and lock delay settings for this mode.
+     *
+     * @return the profile, or null to use the fixed-interval drop timer
+     */
+    public GravityProfile getGravityProfile() {
+        return gravityProfile;
+    }
+
+    public RotationSystem getRotationSystem() {
+        return rotationSystem;
+    }
+
     public boolean isShowTimer() {
         return showTimer;
     }
@@ -9,7 +9,8 @@ public enum GameMode {
     CLASSIC("Classic"),
     SURVIVAL("Survival"),
     HYPER("Invisible"),
-    RUSH_40("Rush 40");
+    RUSH_40("Rush 40"),
+    VERSUS_CPU("Versus CPU");
 
     private final String displayName;
 
@@ -3,10 +3,14 @@ package com.comp2042.models;
 import javafx.scene.input.KeyCode;
 
 import java.io.*;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 /**
- * Manages game settings including key bindings.
+ * Manages game settings including key bindings and auto-repeat timings.
  * Settings are persisted to a properties file.
  */
 public class GameSettings {
@@ -17,16 +21,43 @@ public class GameSettings {
     private KeyCode moveLeft = KeyCode.LEFT;
     private KeyCode moveRight = KeyCode.RIGHT;
     private KeyCode rotate = KeyCode.UP;
+    private KeyCode rotateClockwise = KeyCode.X;
+    private KeyCode rotate180 = KeyCode.A;
     private KeyCode softDrop = KeyCode.DOWN;
     private KeyCode hardDrop = KeyCode.SPACE;
     private KeyCode hold = KeyCode.C;
+    private KeyCode rewind = KeyCode.Z;
     private KeyCode pause = KeyCode.P;
     private KeyCode pauseAlt = KeyCode.ESCAPE;
     private KeyCode restart = KeyCode.N;
+
+    // Default auto-repeat handling (milliseconds / multiplier)
+    private int dasMs = 167;
+    private int arrMs = 33;
+    private int softDropFactor = 20;
+
+    // Run game logic on its own thread instead of the JavaFX thread.
+    private boolean logicThread = false;
+
+    // Write a replay file for every finished or suspended game.
+    private boolean recordReplays = false;
+
+    // Outline the bot's suggested placement for the current piece.
+    private boolean showHints = false;
+
+    /** Most players in a local split-screen match. */
+    public static final int MAX_PLAYERS = 4;
+
+    // Players in a split-screen match (2 to MAX_PLAYERS).
+    private int splitScreenPlayers = 2;
+
+    // Key maps of split-screen players 2 to MAX_PLAYERS; player 1 uses the keys above.
+    private final List<EnumMap<InputAction, KeyCode>> playerKeys = new ArrayList<>();
     
     private static GameSettings instance;
     
     private GameSettings() {
+        resetPlayerKeys();
         loadSettings();
     }
     
@@ -51,13 +82,32 @@ public class GameSettings {
                 moveLeft = KeyCode.valueOf(props.getProperty("moveLeft", "LEFT"));
                 moveRight = KeyCode.valueOf(props.getProperty("moveRight", "RIGHT"));
                 rotate = KeyCode.valueOf(props.getProperty("rotate", "UP"));
+                rotateClockwise = KeyCode.valueOf(props.getProperty("rotateClockwise", "X"));
+                rotate180 = KeyCode.valueOf(props.getProperty("rotate180", "A"));
                 softDrop = KeyCode.valueOf(props.getProperty("softDrop", "DOWN"));
                 hardDrop = KeyCode.valueOf(props.getProperty("hardDrop", "SPACE"));
                 hold = KeyCode.valueOf(props.getProperty("hold", "C"));
+                rewind = KeyCode.valueOf(props.getProperty("rewind", "Z"));
                 pause = KeyCode.valueOf(props.getProperty("pause", "P"));
                 pauseAlt = KeyCode.valueOf(props.getProperty("pauseAlt", "ESCAPE"));
                 restart = KeyCode.valueOf(props.getProperty("restart", "N"));
-            } catch (IOException e) {
+                dasMs = Integer.parseInt(props.getProperty("das", "167"));
+                arrMs = Integer.parseInt(props.getProperty("arr", "33"));
+                softDropFactor = Integer.parseInt(props.getProperty("softDropFactor", "20"));
+                logicThread = Boolean.parseBoolean(props.getProperty("logicThread", "false"));
+                recordReplays = Boolean.parseBoolean(props.getProperty("recordReplays", "false"));
+                showHints = Boolean.parseBoolean(props.getProperty("showHints", "false"));
+                setSplitScreenPlayers(Integer.parseInt(props.getProperty("splitScreenPlayers", "2")));
+                for (int player = 2; player <= MAX_PLAYERS; player++) {
+                    EnumMap<InputAction, KeyCode> keys = playerKeys.get(player - 2);
+                    for (InputAction action : InputAction.values()) {
+                        String name = props.getProperty("p" + player + "." + action.name());
+                        if (name != null) {
+                            keys.put(action, KeyCode.valueOf(name));
+                        }
+                    }
+                }
+            } catch (IOException | IllegalArgumentException e) {
                 System.err.println("Failed to load settings: " + e.getMessage());
                 // Use defaults
             }
@@ -72,12 +122,27 @@ public class GameSettings {
         props.setProperty("moveLeft", moveLeft.name());
         props.setProperty("moveRight", moveRight.name());
         props.setProperty("rotate", rotate.name());
+        props.setProperty("rotateClockwise", rotateClockwise.name());
+        props.setProperty("rotate180", rotate180.name());
         props.setProperty("softDrop", softDrop.name());
         props.setProperty("hardDrop", hardDrop.name());
         props.setProperty("hold", hold.name());
+        props.setProperty("rewind", rewind.name());
         props.setProperty("pause", pause.name());
         props.setProperty("pauseAlt", pauseAlt.name());
         props.setProperty("restart", restart.name());
+        props.setProperty("das", Integer.toString(dasMs));
+        props.setProperty("arr", Integer.toString(arrMs));
+        props.setProperty("softDropFactor", Integer.toString(softDropFactor));
+        props.setProperty("logicThread", Boolean.toString(logicThread));
+        props.setProperty("recordReplays", Boolean.toString(recordReplays));
+        props.setProperty("showHints", Boolean.toString(showHints));
+        props.setProperty("splitScreenPlayers", Integer.toString(splitScreenPlayers));
+        for (int player = 2; player <= MAX_PLAYERS; player++) {
+            for (Map.Entry<InputAction, KeyCode> key : playerKeys.get(player - 2).entrySet()) {
+                props.setProperty("p" + player + "." + key.getKey().name(), key.getValue().name());
+            }
+        }
         
         try (FileOutputStream fos = new FileOutputStream(SETTINGS_FILE)) {
             props.store(fos, "TetrisJFX Game Settings");
@@ -127,6 +192,34 @@ public class GameSettings {
      * @param key the KeyCode to set
      */
     public void setRotate(KeyCode key) { this.rotate = key; }
+
+    /**
+     * Gets the key code for rotating clockwise.
+     *
+     * @return the KeyCode for clockwise rotation
+     */
+    public KeyCode getRotateClockwise() { return rotateClockwise; }
+
+    /**
+     * Sets the key code for rotating clockwise.
+     *
+     * @param key the KeyCode to set
+     */
+    public void setRotateClockwise(KeyCode key) { this.rotateClockwise = key; }
+
+    /**
+     * Gets the key code for rotating 180 degrees.
+     *
+     * @return the KeyCode for 180 rotation
+     */
+    public KeyCode getRotate180() { return rotate180; }
+
+    /**
+     * Sets the key code for rotating 180 degrees.
+     *
+     * @param key the KeyCode to set
+     */
+    public void setRotate180(KeyCode key) { this.rotate180 = key; }
     
     /**
      * Gets the key code for soft drop.
@@ -169,6 +262,20 @@ public class GameSettings {
      * @param key the KeyCode to set
      */
     public void setHold(KeyCode key) { this.hold = key; }
+
+    /**
+     * Gets the key code for rewinding the last piece.
+     *
+     * @return the KeyCode for rewind
+     */
+    public KeyCode getRewind() { return rewind; }
+
+    /**
+     * Sets the key code for rewinding the last piece.
+     *
+     * @param key the KeyCode to set
+     */
+    public void setRewind(KeyCode key) { this.rewind = key; }
     
     /**
      * Gets the primary key code for pause.
@@ -211,6 +318,209 @@ public class GameSettings {
      * @param key the KeyCode to set
      */
     public void setRestart(KeyCode key) { this.restart = key; }
+
+    /**
+     * Gets the delayed auto shift: how long a direction is held before it repeats.
+     *
+     * @return DAS in milliseconds
+     */
+    public int getDasMs() { return dasMs; }
+
+    /**
+     * Sets the delayed auto shift.
+     *
+     * @param dasMs DAS in milliseconds (negative values are treated as 0)
+     */
+    public void setDasMs(int dasMs) { this.dasMs = Math.max(0, dasMs); }
+
+    /**
+     * Gets the auto repeat rate: time between repeated moves once DAS has charged.
+     *
+     * @return ARR in milliseconds; 0 means shift straight to the wall
+     */
+    public int getArrMs() { return arrMs; }
+
+    /**
+     * Sets the auto repeat rate.
+     *
+     * @param arrMs ARR in milliseconds (negative values are treated as 0)
+     */
+    public void setArrMs(int arrMs) { this.arrMs = Math.max(0, arrMs); }
+
+    /**
+     * Gets how many times faster than gravity a held soft drop falls.
+     *
+     * @return the soft drop factor
+     */
+    public int getSoftDropFactor() { return softDropFactor; }
+
+    /**
+     * Sets the soft drop factor.
+     *
+     * @param softDropFactor multiplier over gravity (at least 1)
+     */
+    public void setSoftDropFactor(int softDropFactor) { this.softDropFactor = Math.max(1, softDropFactor); }
+
+    /**
+     * Gets whether gravity and input run on a dedicated logic thread, with the
+     * screen drawing published snapshots, instead of on the JavaFX thread.
+     *
+     * @return true if the logic thread is enabled
+     */
+    public boolean isLogicThreadEnabled() { return logicThread; }
+
+    /**
+     * Sets whether to run game logic on its own thread. Takes effect from the next game.
+     *
+     * @param logicThread true to enable the logic thread
+     */
+    public void setLogicThreadEnabled(boolean logicThread) { this.logicThread = logicThread; }
+
+    /**
+     * Gets whether games are recorded to replay files in the replays directory.
+     *
+     * @return true if replays are recorded
+     */
+    public boolean isRecordReplaysEnabled() { return recordReplays; }
+
+    /**
+     * Sets whether to record replays. Takes effect from the next game.
+     *
+     * @param recordReplays true to record replays
+     */
+    public void setRecordReplaysEnabled(boolean recordReplays) { this.recordReplays = recordReplays; }
+
+    /**
+     * Gets whether the suggested placement for the current piece is shown.
+     *
+     * @return true if hints are shown
+     */
+    public boolean isShowHintsEnabled() { return showHints; }
+
+    /**
+     * Sets whether to show placement hints. Takes effect from the next game.
+     *
+     * @param showHints true to show hints
+     */
+    public void setShowHintsEnabled(boolean showHints) { this.showHints = showHints; }
+
+    /**
+     * Gets how many players a split-screen match has.
+     *
+     * @return 2 to MAX_PLAYERS
+     */
+    public int getSplitScreenPlayers() { return splitScreenPlayers; }
+
+    /**
+     * Sets how many players a split-screen match has, clamped to 2..MAX_PLAYERS.
+     *
+     * @param players player count
+     */
+    public void setSplitScreenPlayers(int players) {
+        this.splitScreenPlayers = Math.max(2, Math.min(MAX_PLAYERS, players));
+    }
+
+    /**
+     * Gets a split-screen player's key for an action. Player 1 uses the
+     * single-player bindings; the others have their own maps, read from
+     * {@code p<player>.<ACTION>} entries in the settings file.
+     *
+     * @param player 1 to MAX_PLAYERS
+     * @param action the action
+     * @return the bound key, or null if the action is unbound for that player
+     */
+    public KeyCode getPlayerKey(int player, InputAction action) {
+        if (player == 1) {
+            switch (action) {
+                case MOVE_LEFT: return moveLeft;
+                case MOVE_RIGHT: return moveRight;
+                case SOFT_DROP: return softDrop;
+                case ROTATE: return rotate;
+                case ROTATE_CLOCKWISE: return rotateClockwise;
+                case ROTATE_180: return rotate180;
+                case HOLD: return hold;
+                case HARD_DROP: return hardDrop;
+                case REWIND: return rewind;
+                default: return null;
+            }
+        }
+        checkPlayer(player);
+        return playerKeys.get(player - 2).get(action);
+    }
+
+    /**
+     * Sets a split-screen player's key for an action. Setting player 1's
+     * changes the single-player binding too.
+     *
+     * @param player 1 to MAX_PLAYERS
+     * @param action the action
+     * @param key the key, or null to unbind (players 2 and up only)
+     */
+    public void setPlayerKey(int player, InputAction action, KeyCode key) {
+        if (player == 1) {
+            switch (action) {
+                case MOVE_LEFT: moveLeft = key; break;
+                case MOVE_RIGHT: moveRight = key; break;
+                case SOFT_DROP: softDrop = key; break;
+                case ROTATE: rotate = key; break;
+                case ROTATE_CLOCKWISE: rotateClockwise = key; break;
+                case ROTATE_180: rotate180 = key; break;
+                case HOLD: hold = key; break;
+                case HARD_DROP: hardDrop = key; break;
+                case REWIND: rewind = key; break;
+                default: break;
+            }
+            return;
+        }
+        checkPlayer(player);
+        if (key == null) {
+            playerKeys.get(player - 2).remove(action);
+        } else {
+            playerKeys.get(player - 2).put(action, key);
+        }
+    }
+
+    private static void checkPlayer(int player) {
+        if (player < 1 || player > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Player must be 1 to " + MAX_PLAYERS + ": " + player);
+        }
+    }
+
+    /**
+     * Default keys of players 2-4, chosen to stay clear of player 1's and of
+     * each other: T/F/G/H, I/J/K/L and the number pad. Rewind is left unbound.
+     */
+    private static EnumMap<InputAction, KeyCode> defaultPlayerKeys(int player) {
+        KeyCode[] keys;
+        switch (player) {
+            case 2:
+                keys = new KeyCode[]{KeyCode.F, KeyCode.H, KeyCode.G, KeyCode.T,
+                        KeyCode.Y, KeyCode.R, KeyCode.B, KeyCode.V};
+                break;
+            case 3:
+                keys = new KeyCode[]{KeyCode.J, KeyCode.L, KeyCode.K, KeyCode.I,
+                        KeyCode.O, KeyCode.U, KeyCode.COMMA, KeyCode.M};
+                break;
+            default:
+                keys = new KeyCode[]{KeyCode.NUMPAD4, KeyCode.NUMPAD6, KeyCode.NUMPAD5, KeyCode.NUMPAD8,
+                        KeyCode.NUMPAD9, KeyCode.NUMPAD7, KeyCode.NUMPAD1, KeyCode.NUMPAD0};
+                break;
+        }
+        // In InputAction order: left, right, soft drop, rotate, clockwise, 180, hold, hard drop.
+        EnumMap<InputAction, KeyCode> map = new EnumMap<>(InputAction.class);
+        InputAction[] actions = InputAction.values();
+        for (int i = 0; i < keys.length; i++) {
+            map.put(actions[i], keys[i]);
+        }
+        return map;
+    }
+
+    private void resetPlayerKeys() {
+        playerKeys.clear();
+        for (int player = 2; player <= MAX_PLAYERS; player++) {
+            playerKeys.add(defaultPlayerKeys(player));
+        }
+    }
     
     /**
      * Resets all key bindings to their default values.
@@ -220,12 +530,23 @@ public class GameSettings {
         moveLeft = KeyCode.LEFT;
         moveRight = KeyCode.RIGHT;
         rotate = KeyCode.UP;
+        rotateClockwise = KeyCode.X;
+        rotate180 = KeyCode.A;
         softDrop = KeyCode.DOWN;
         hardDrop = KeyCode.SPACE;
         hold = KeyCode.C;
+        rewind = KeyCode.Z;
         pause = KeyCode.P;
         pauseAlt = KeyCode.ESCAPE;
         restart = KeyCode.N;
+        dasMs = 167;
+        arrMs = 33;
+        softDropFactor = 20;
+        logicThread = false;
+        recordReplays = false;
+        showHints = false;
+        splitScreenPlayers = 2;
+        resetPlayerKeys();
     }
 }
 
@@ -0,0 +1,90 @@
+package com.comp2042.models;
+
+/**
+ * Immutable description of how a mode generates garbage rows.
+ * Read by the garbage generator; held by GameConfig for modes that send garbage.
+ */
+public final class GarbageProfile {
+
+    /**
+     * Shape of the garbage rows.
+     */
+    public enum Pattern {
+        /**
+         * One hole per row. The hole column carries over from row to row (and
+         * burst to burst) and only moves with probability {@code messiness},
+         * so clean garbage can be dug out with vertical pieces.
+         */
+        CLEAN,
+
+        /**
+         * Cheese: every row gets a fresh random hole, plus a second hole with
+         * probability {@code messiness}. Much harder to dig through.
+         */
+        CHEESE
+    }
+
+    private final Pattern pattern;
+    private final double messiness;
+    private final int rowsPerBurst;
+    private final int levelsPerExtraRow;
+
+    /**
+     * Creates a profile.
+     *
+     * @param pattern row pattern
+     * @param messiness probability in [0, 1], see {@link Pattern}
+     * @param rowsPerBurst rows sent each time garbage triggers (at least 1)
+     * @param levelsPerExtraRow every this many levels a burst grows by one row; 0 = never
+     */
+    public GarbageProfile(Pattern pattern, double messiness, int rowsPerBurst, int levelsPerExtraRow) {
+        if (messiness < 0 || messiness > 1) {
+            throw new IllegalArgumentException("Messiness must be in [0, 1]");
+        }
+        if (rowsPerBurst < 1) {
+            throw new IllegalArgumentException("A burst must contain at least one row");
+        }
+        this.pattern = pattern;
+        this.messiness = messiness;
+        this.rowsPerBurst = rowsPerBurst;
+        this.levelsPerExtraRow = levelsPerExtraRow;
+    }
+
+    /**
+     * The original Survival garbage: one row per trigger with a random hole.
+     *
+     * @return single-row cheese profile
+     */
+    public static GarbageProfile singleRow() {
+        return new GarbageProfile(Pattern.CHEESE, 0.0, 1, 0);
+    }
+
+    /**
+     * Number of rows in a burst at the given level.
+     *
+     * @param level current level (1-based)
+     * @return rows to send
+     */
+    public int burstSize(int level) {
+        if (levelsPerExtraRow <= 0) {
+            return rowsPerBurst;
+        }
+        return rowsPerBurst + Math.max(0, level - 1) / levelsPerExtraRow;
+    }
+
+    public Pattern getPattern() {
+        return pattern;
+    }
+
+    public double getMessiness() {
+        return messiness;
+    }
+
+    public int getRowsPerBurst() {
+        return rowsPerBurst;
+    }
+
+    public int getLevelsPerExtraRow() {
+        return levelsPerExtraRow;
+    }
+}
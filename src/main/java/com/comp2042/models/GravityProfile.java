@@ -0,0 +1,116 @@
+package com.comp2042.models;
+
+import java.util.Arrays;
+
+/**
+ * Immutable gravity and lock delay settings for a mode.
+ * Read by the gravity engine; held by GameConfig.
+ *
+ * Gravity is given in rows per logic tick (60 ticks per second), indexed by
+ * level: 1/60 is one row per second, 1.0 is one row per tick and 20.0 ("20G")
+ * drops a brick to the floor the moment it spawns. Levels past the end of the
+ * table use the last entry.
+ */
+public final class GravityProfile {
+
+    /** Logic ticks per second that gravity and lock delay are counted in. */
+    public static final int TICKS_PER_SECOND = 60;
+
+    /** Highest level the game reaches (see Score). */
+    private static final int MAX_LEVEL = 10;
+
+    private final double[] rowsPerTick;
+    private final int lockDelayMs;
+    private final int maxLockResets;
+
+    /**
+     * Creates a profile.
+     *
+     * @param rowsPerTick gravity for level 1, 2, ... in rows per tick (at least one entry)
+     * @param lockDelayMs time a grounded brick waits before locking
+     * @param maxLockResets moves or rotations on the ground that restart the lock delay,
+     *                      per brick and per lowest row reached
+     */
+    public GravityProfile(double[] rowsPerTick, int lockDelayMs, int maxLockResets) {
+        if (rowsPerTick.length == 0) {
+            throw new IllegalArgumentException("Gravity table must have at least one level");
+        }
+        for (double g : rowsPerTick) {
+            if (g < 0) {
+                throw new IllegalArgumentException("Gravity must not be negative");
+            }
+        }
+        this.rowsPerTick = rowsPerTick.clone();
+        this.lockDelayMs = Math.max(0, lockDelayMs);
+        this.maxLockResets = Math.max(0, maxLockResets);
+    }
+
+    /**
+     * Builds a table matching the old timer gravity: one row every
+     * {@code fallIntervalMs}, sped up by {@code levelSpeedFactor} per level.
+     *
+     * @param fallIntervalMs level 1 time per row
+     * @param levelSpeedFactor extra speed per level (0.15 = 15% faster)
+     * @param lockDelayMs lock delay
+     * @param maxLockResets lock delay resets
+     * @return the profile
+     */
+    public static GravityProfile fromFallInterval(int fallIntervalMs, double levelSpeedFactor,
+                                                  int lockDelayMs, int maxLockResets) {
+        double level1 = 1000.0 / TICKS_PER_SECOND / fallIntervalMs;
+        double[] table = new double[MAX_LEVEL];
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            table[i] = level1 * (1.0 + i * levelSpeedFactor);
+        }
+        return new GravityProfile(table, lockDelayMs, maxLockResets);
+    }
+
+    /**
+     * Gravity at the given level.
+     *
+     * @param level current level (1-based)
+     * @return rows per tick
+     */
+    public double getRowsPerTick(int level) {
+        int index = Math.min(Math.max(level, 1), rowsPerTick.length) - 1;
+        return rowsPerTick[index];
+    }
+
+    /**
+     * Time per row at the given level, e.g. to pace soft drop against gravity.
+     *
+     * @param level current level (1-based)
+     * @return nanoseconds per row; very large when the level has no gravity
+     */
+    public long getRowIntervalNanos(int level) {
+        double rows = getRowsPerTick(level);
+        long tickNanos = 1_000_000_000L / TICKS_PER_SECOND;
+        return rows > 0 ? (long) (tickNanos / rows) : Long.MAX_VALUE / 2;
+    }
+
+    /**
+     * Lock delay rounded up to whole ticks.
+     *
+     * @return ticks a grounded brick waits before locking
+     */
+    public int getLockDelayTicks() {
+        return (lockDelayMs * TICKS_PER_SECOND + 999) / 1000;
+    }
+
+    public int getLockDelayMs() {
+        return lockDelayMs;
+    }
+
+    public int getMaxLockResets() {
+        return maxLockResets;
+    }
+
+    public int getLevelCount() {
+        return rowsPerTick.length;
+    }
+
+    @Override
+    public String toString() {
+        return "GravityProfile" + Arrays.toString(rowsPerTick) + " lock " + lockDelayMs + "ms x" + maxLockResets;
+    }
+}
@@ -0,0 +1,16 @@
+package com.comp2042.models;
+
+/**
+ * Gameplay actions a key can be bound to, as queued for the logic thread.
+ */
+public enum InputAction {
+    MOVE_LEFT,
+    MOVE_RIGHT,
+    SOFT_DROP,
+    ROTATE,
+    ROTATE_CLOCKWISE,
+    ROTATE_180,
+    HOLD,
+    HARD_DROP,
+    REWIND
+}
@@ -0,0 +1,285 @@
+package com.comp2042.models;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Bounded history of locked pieces for rewinding a practice game.
+ *
+ * Each entry covers one piece, from its spawn to the next spawn. It holds a
+ * small fixed-size state captured before the piece spawned (hold slot,
+ * generator, score and whatever the owner adds) and a log of the cells that
+ * changed while it was active: cells written by the merge, rows removed by a
+ * clear and rows pushed off the top by garbage. The board itself is never
+ * copied, so an entry takes the same few hundred bytes however full the
+ * board is.
+ *
+ * Entries live in preallocated slots used as a ring; once it is full the
+ * oldest piece is forgotten, so memory stays constant over any session
+ * length. An entry whose log does not fit its slot cannot be undone and acts
+ * as a barrier.
+ */
+final class RewindBuffer {
+
+    /** Bytes available for each entry's start state. */
+    static final int STATE_SIZE = 128;
+
+    // Most rows one piece can log: a four-line clear plus a burst of garbage.
+    private static final int MAX_LOGGED_ROWS = 12;
+
+    // Log records end with [payload length, tag] so they can be walked backwards.
+    private static final int MERGE = 1;
+    private static final int CLEAR = 2;
+    private static final int GARBAGE = 3;
+
+    private final int columns;
+    private final ByteBuffer[] states;
+    private final int[][] logs;
+    private final int[] logLengths;
+    private final boolean[] overflowed;
+
+    // Row indices handed to BoardRows when undoing a clear.
+    private final int[] rowIndices;
+
+    // Slot of the open entry (the active piece), or -1 before the first spawn.
+    private int head = -1;
+
+    // Entries held, including the open one.
+    private int count;
+
+    /**
+     * Allocates every slot up front.
+     *
+     * @param depth number of pieces that can be rewound
+     * @param columns board width
+     */
+    RewindBuffer(int depth, int columns) {
+        int slots = depth + 1;
+        this.columns = columns;
+        this.states = new ByteBuffer[slots];
+        this.logs = new int[slots][16 + MAX_LOGGED_ROWS * (columns + 1)];
+        this.logLengths = new int[slots];
+        this.overflowed = new boolean[slots];
+        this.rowIndices = new int[MAX_LOGGED_ROWS];
+        for (int i = 0; i < slots; i++) {
+            states[i] = ByteBuffer.allocate(STATE_SIZE);
+        }
+    }
+
+    /**
+     * Forgets every entry.
+     */
+    void reset() {
+        head = -1;
+        count = 0;
+    }
+
+    /**
+     * Opens the entry for a piece about to spawn, dropping the oldest entry
+     * if the ring is full.
+     *
+     * @return the entry's cleared state buffer, for the caller to fill
+     */
+    ByteBuffer open() {
+        head = (head + 1) % states.length;
+        count = Math.min(count + 1, states.length);
+        logLengths[head] = 0;
+        overflowed[head] = false;
+        states[head].clear();
+        return states[head];
+    }
+
+    /**
+     * Pieces that can be rewound right now.
+     *
+     * @return entries before the open one, up to the first barrier
+     */
+    int getDepth() {
+        if (head < 0 || overflowed[head]) {
+            return 0;
+        }
+        int depth = 0;
+        int slot = head;
+        while (depth < count - 1) {
+            slot = previous(slot);
+            if (overflowed[slot]) {
+                break;
+            }
+            depth++;
+        }
+        return depth;
+    }
+
+    /**
+     * Logs the cells a merge is about to write.
+     *
+     * @param shape the brick shape
+     * @param x brick column
+     * @param y brick row
+     * @param matrix the board before the merge
+     */
+    void recordMerge(int[][] shape, int x, int y, int[][] matrix) {
+        int start = begin();
+        if (start < 0) {
+            return;
+        }
+        int[] log = logs[head];
+        int end = start;
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                if (shape[i][j] != 0) {
+                    if (!fits(end + 2)) {
+                        return;
+                    }
+                    log[end++] = (y + i) * columns + x + j;
+                    log[end++] = matrix[y + i][x + j];
+                }
+            }
+        }
+        end(start, end, MERGE);
+    }
+
+    /**
+     * Logs the full rows a clear is about to remove.
+     *
+     * @param rows the board's rows before the clear
+     */
+    void recordClear(BoardRows rows) {
+        int start = begin();
+        if (start < 0) {
+            return;
+        }
+        int[][] matrix = rows.view();
+        int[] log = logs[head];
+        int full = 0;
+        for (int r = 0; r < matrix.length; r++) {
+            if (rows.isFull(r)) {
+                if (full == MAX_LOGGED_ROWS || !fits(start + full + 1)) {
+                    overflowed[head] = true;
+                    return;
+                }
+                log[start + full++] = r;
+            }
+        }
+        if (full == 0) {
+            return;
+        }
+        int end = start + full;
+        for (int i = 0; i < full; i++) {
+            if (!fits(end + columns)) {
+                return;
+            }
+            System.arraycopy(matrix[log[start + i]], 0, log, end, columns);
+            end += columns;
+        }
+        end(start, end, CLEAR);
+    }
+
+    /**
+     * Logs the top rows that pushing {@code n} garbage rows will drop.
+     *
+     * @param matrix the board before the push
+     * @param n rows about to be pushed in
+     */
+    void recordGarbage(int[][] matrix, int n) {
+        int start = begin();
+        if (start < 0 || n <= 0) {
+            return;
+        }
+        int[] log = logs[head];
+        int end = start;
+        for (int r = 0; r < n; r++) {
+            if (!fits(end + columns)) {
+                return;
+            }
+            System.arraycopy(matrix[r], 0, log, end, columns);
+            end += columns;
+        }
+        end(start, end, GARBAGE);
+    }
+
+    /**
+     * Rewinds one piece: undoes the open entry's log and the previous entry's,
+     * and makes the previous entry the open one again. Callers check
+     * {@link #getDepth()} first.
+     *
+     * @param rows the board's rows
+     * @return the reopened entry's start state, positioned at its start
+     */
+    ByteBuffer rewind(BoardRows rows) {
+        undo(head, rows);
+        head = previous(head);
+        count--;
+        undo(head, rows);
+        ByteBuffer state = states[head];
+        state.position(0);
+        return state;
+    }
+
+    private int previous(int slot) {
+        return (slot + states.length - 1) % states.length;
+    }
+
+    /** Returns where the next record starts, or -1 if nothing is being logged. */
+    private int begin() {
+        if (head < 0 || overflowed[head]) {
+            return -1;
+        }
+        return logLengths[head];
+    }
+
+    /** Checks that a record ending at {@code end} leaves room for its trailer. */
+    private boolean fits(int end) {
+        if (end + 2 > logs[head].length) {
+            overflowed[head] = true;
+            return false;
+        }
+        return true;
+    }
+
+    private void end(int start, int end, int tag) {
+        int[] log = logs[head];
+        log[end] = end - start;
+        log[end + 1] = tag;
+        logLengths[head] = end + 2;
+    }
+
+    /** Applies an entry's records in reverse, newest first. */
+    private void undo(int slot, BoardRows rows) {
+        int[][] matrix = rows.view();
+        int[] log = logs[slot];
+        int end = logLengths[slot];
+        while (end > 0) {
+            int tag = log[end - 1];
+            int length = log[end - 2];
+            int start = end - 2 - length;
+            switch (tag) {
+                case MERGE:
+                    for (int i = start; i < start + length; i += 2) {
+                        matrix[log[i] / columns][log[i] % columns] = log[i + 1];
+                    }
+                    break;
+                case CLEAR: {
+                    int full = length / (columns + 1);
+                    System.arraycopy(log, start, rowIndices, 0, full);
+                    rows.restoreRows(rowIndices, full);
+                    for (int i = 0; i < full; i++) {
+                        System.arraycopy(log, start + full + i * columns, matrix[rowIndices[i]], 0, columns);
+                    }
+                    break;
+                }
+                case GARBAGE: {
+                    int n = length / columns;
+                    rows.popBottom(n);
+                    for (int r = 0; r < n; r++) {
+                        System.arraycopy(log, start + r * columns, matrix[r], 0, columns);
+                    }
+                    break;
+                }
+                default:
+                    break;
+            }
+            end = start;
+        }
+        logLengths[slot] = 0;
+    }
+}
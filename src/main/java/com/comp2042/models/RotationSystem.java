@@ -0,0 +1,19 @@
+package com.comp2042.models;
+
+/**
+ * Rotation rules a mode plays with. Selected per mode through GameConfig.
+ */
+public enum RotationSystem {
+
+    /**
+     * The original rules: the brick's own rotation shapes, kicked sideways
+     * by 0, -1, +1, -2, +2 columns and never up or down.
+     */
+    SIMPLE,
+
+    /**
+     * Super Rotation System: standard SRS orientations with the per-piece
+     * kick tables (separate I-piece table, no kicks for O) plus 180 kicks.
+     */
+    SRS
+}
@@ -1,7 +1,6 @@
 package com.comp2042.models;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
+import java.nio.ByteBuffer;
 
 /**
  * Tracks score, level, total cleared lines and combo.
@@ -13,6 +12,10 @@ import javafx.beans.property.SimpleIntegerProperty;
  *  - Each landing that clears at least one line increases combo by 1 (up to MAX_COMBO).
  *  - Score bonus for that clear is multiplied by the current combo.
  *  - A landing with no clear resets combo to 0.
+ *
+ * Values are plain ints with no listeners, so scoring is cheap on every
+ * soft drop cell and the score can live on whichever thread runs the game. The HUD reads them once per frame
+ * (see ScorePublisher), using {@link #getVersion()} to skip unchanged frames.
  */
 public final class Score {
 
@@ -20,45 +23,21 @@ public final class Score {
     private static final int MAX_LEVEL = 10;
     private static final int MAX_COMBO = 4;
 
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
-    private final IntegerProperty level = new SimpleIntegerProperty(1);
-    private final IntegerProperty totalLines = new SimpleIntegerProperty(0);
-    private final IntegerProperty combo = new SimpleIntegerProperty(0);
-
-    /**
-     * Gets the score property for JavaFX binding.
-     *
-     * @return the score IntegerProperty
-     */
-    public IntegerProperty scoreProperty() {
-        return score;
-    }
-
-    /**
-     * Gets the level property for JavaFX binding.
-     *
-     * @return the level IntegerProperty
-     */
-    public IntegerProperty levelProperty() {
-        return level;
-    }
+    private int score;
+    private int level = 1;
+    private int totalLines;
+    private int combo;
 
-    /**
-     * Gets the total lines property for JavaFX binding.
-     *
-     * @return the total lines IntegerProperty
-     */
-    public IntegerProperty totalLinesProperty() {
-        return totalLines;
-    }
+    // Bumped on every change so readers can tell cheaply whether anything moved.
+    private long version;
 
     /**
-     * Gets the combo property for JavaFX binding.
+     * Gets the current score.
      *
-     * @return the combo IntegerProperty
+     * @return the score
      */
-    public IntegerProperty comboProperty() {
-        return combo;
+    public int getScore() {
+        return score;
     }
 
     /**
@@ -67,7 +46,7 @@ public final class Score {
      * @return the current level (1-10)
      */
     public int getLevel() {
-        return level.get();
+        return level;
     }
 
     /**
@@ -76,7 +55,7 @@ public final class Score {
      * @return the total lines cleared
      */
     public int getTotalLines() {
-        return totalLines.get();
+        return totalLines;
     }
 
     /**
@@ -85,7 +64,7 @@ public final class Score {
      * @return the combo value (0-4)
      */
     public int getCombo() {
-        return combo.get();
+        return combo;
     }
 
     /**
@@ -95,7 +74,8 @@ public final class Score {
      * @param points the number of points to add
      */
     public void add(int points) {
-        score.set(score.get() + points);
+        score += points;
+        version++;
     }
 
     /**
@@ -142,27 +122,23 @@ public final class Score {
         }
 
         // Track total cleared lines across the whole game.
-        totalLines.set(totalLines.get() + linesRemoved);
+        totalLines += linesRemoved;
 
         // Combo: each consecutive clear increases combo, capped at MAX_COMBO.
-        int newCombo = combo.get() + 1;
-        if (newCombo > MAX_COMBO) {
-            newCombo = MAX_COMBO;
-        }
-        combo.set(newCombo);
+        combo = Math.min(MAX_COMBO, combo + 1);
 
         // Apply combo multiplier to the base score bonus.
-        int comboMultiplier = combo.get(); // 1x, 2x, 3x, 4x...
-        int totalBonus = scoreBonus * comboMultiplier;
-        score.set(score.get() + totalBonus);
+        int comboMultiplier = combo; // 1x, 2x, 3x, 4x...
+        score += scoreBonus * comboMultiplier;
 
         // Level progression based on total cleared lines.
-        int computedLevel = 1 + totalLines.get() / LINES_PER_LEVEL;
+        int computedLevel = 1 + totalLines / LINES_PER_LEVEL;
         int targetLevel = Math.min(MAX_LEVEL, computedLevel);
 
-        if (targetLevel > level.get()) {
-            level.set(targetLevel);
+        if (targetLevel > level) {
+            level = targetLevel;
         }
+        version++;
     }
 
     /**
@@ -174,7 +150,10 @@ public final class Score {
     }
 
     private void resetComboInternal() {
-        combo.set(0);
+        if (combo != 0) {
+            combo = 0;
+            version++;
+        }
     }
 
     /**
@@ -182,9 +161,45 @@ public final class Score {
      * Sets score to 0, level to 1, total lines to 0, and combo to 0.
      */
     public void reset() {
-        score.set(0);
-        level.set(1);
-        totalLines.set(0);
-        combo.set(0);
+        score = 0;
+        level = 1;
+        totalLines = 0;
+        combo = 0;
+        version++;
+    }
+
+    /**
+     * Writes score, level, lines and combo for a saved game.
+     *
+     * @param out destination buffer
+     */
+    public void saveState(ByteBuffer out) {
+        out.putInt(score);
+        out.putInt(totalLines);
+        out.put((byte) level);
+        out.put((byte) combo);
+    }
+
+    /**
+     * Restores values written by {@link #saveState}.
+     *
+     * @param in source buffer
+     */
+    public void restoreState(ByteBuffer in) {
+        score = in.getInt();
+        totalLines = in.getInt();
+        level = in.get();
+        combo = in.get();
+        version++;
+    }
+
+    /**
+     * Change counter: differs between two reads exactly when some value changed
+     * in between (single-threaded use).
+     *
+     * @return the current version
+     */
+    public long getVersion() {
+        return version;
     }
 }
@@ -1,17 +1,22 @@
 package com.comp2042.models;
 
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickCatalog;
 import com.comp2042.logic.bricks.BrickGenerator;
 import com.comp2042.logic.bricks.RandomBrickGenerator;
 import com.comp2042.logic.BrickMovementHandler;
 import com.comp2042.logic.BrickRotator;
 import com.comp2042.logic.CollisionDetector;
+import com.comp2042.logic.GarbageGenerator;
 import com.comp2042.logic.GhostPieceCalculator;
 import com.comp2042.logic.MatrixOperations;
+import com.comp2042.logic.RotationTables;
 
 import java.awt.Point;
-import java.util.Arrays;
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 
 /**
  * Core game model that holds board state, active brick, and score.
@@ -25,15 +30,17 @@ public class SimpleBoard implements Board {
     private final int columns;
 
     // Default brick spawn position (x, y) in grid coordinates.
-    private static final int SPAWN_X = 4;
-    private static final int SPAWN_Y = 1;
+    public static final int SPAWN_X = 4;
+    public static final int SPAWN_Y = 1;
 
     // Core fields
     private final BrickGenerator brickGenerator;
     private final BrickRotator brickRotator;
     private final Score score;
 
-    private int[][] boardMatrix;
+    // Row slots are allocated once; boardMatrix is their live top-to-bottom view.
+    private final BoardRows boardRows;
+    private final int[][] boardMatrix;
     private Point currentOffset;
     
     // Extracted handlers for single responsibility
@@ -46,6 +53,24 @@ public class SimpleBoard implements Board {
     private Brick heldBrick;
     private boolean hasHeldThisTurn;
 
+    // Rotation rules and the active brick's type id (for picking kick tables).
+    private RotationSystem rotationSystem = RotationSystem.SIMPLE;
+    private int currentType = -1;
+
+    // Source of single garbage rows; reseeded by headless games for reproducibility.
+    private final GarbageGenerator garbageGenerator;
+
+    // One-row burst reused by addGarbageRow, so single rows allocate nothing.
+    private final int[] garbageBurst = new int[1];
+
+    // Per-piece history for rewinding; null unless enabled.
+    private RewindBuffer rewind;
+    private Consumer<ByteBuffer> saveRewindExtras;
+    private Consumer<ByteBuffer> restoreRewindExtras;
+
+    // Bumped whenever the settled cells or the active brick change; see getVersion.
+    private volatile long version;
+
     /**
      * Constructs a board with the given logical size.
      * Initializes the board matrix, brick generator, rotator, and score system.
@@ -54,10 +79,25 @@ public class SimpleBoard implements Board {
      * @param columns number of columns (standard Tetris uses 10)
      */
     public SimpleBoard(int rows, int columns) {
+        this(rows, columns, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a board that draws bricks from the given generator.
+     * Headless simulations pass a seeded generator so games are reproducible.
+     *
+     * @param rows           number of rows (including hidden rows at the top for spawn area)
+     * @param columns        number of columns (standard Tetris uses 10)
+     * @param brickGenerator source of upcoming bricks
+     */
+    public SimpleBoard(int rows, int columns, BrickGenerator brickGenerator) {
         this.rows = rows;
         this.columns = columns;
-        this.boardMatrix = new int[rows][columns];
-        this.brickGenerator = new RandomBrickGenerator();
+        this.boardRows = new BoardRows(rows, columns);
+        this.boardMatrix = boardRows.view();
+        this.garbageGenerator = new GarbageGenerator(columns, GarbageProfile.singleRow(),
+                ThreadLocalRandom.current().nextLong());
+        this.brickGenerator = brickGenerator;
         this.brickRotator = new BrickRotator();
         this.score = new Score();
         this.currentBrick = null;
@@ -102,6 +142,73 @@ public class SimpleBoard implements Board {
         return tryMove(1, 0);
     }
 
+    /**
+     * Shifts the current brick sideways in one sweep over its rows instead
+     * of one validated move per column. Used by auto-repeat, where ARR 0
+     * sends the brick straight to the wall.
+     *
+     * @param cells columns to shift; negative for left, positive for right
+     * @return number of columns the brick moved
+     */
+    @Override
+    public int shiftBrick(int cells) {
+        if (currentBrick == null || currentOffset == null) {
+            return 0;
+        }
+        return movementHandler.shift(currentOffset, cells);
+    }
+
+    /**
+     * Teleports the current brick to its landing row in one query, using the
+     * same landing calculation as the ghost piece, instead of stepping down
+     * one validated move at a time.
+     *
+     * @return number of cells the brick fell
+     */
+    @Override
+    public int hardDropBrick() {
+        if (currentBrick == null || currentOffset == null) {
+            return 0;
+        }
+        int x = (int) currentOffset.getX();
+        int y = (int) currentOffset.getY();
+        int landingY = ghostCalculator.computeLandingY(x, y, brickRotator.getCurrentShape());
+        currentOffset.setLocation(x, landingY);
+        return landingY - y;
+    }
+
+    /**
+     * Rows the active brick can fall, read from the column-height profile
+     * in time proportional to the brick's cells.
+     *
+     * @return drop distance in rows
+     */
+    @Override
+    public int getDropDistance() {
+        if (currentBrick == null || currentOffset == null) {
+            return 0;
+        }
+        int x = (int) currentOffset.getX();
+        int y = (int) currentOffset.getY();
+        return ghostCalculator.computeLandingYFromProfile(x, y, brickRotator.getCurrentShape()) - y;
+    }
+
+    /**
+     * Moves the active brick down up to {@code rows} rows in one step, so
+     * high gravity does not test every row on the way down.
+     *
+     * @param rows rows to fall
+     * @return rows actually fallen
+     */
+    @Override
+    public int fallBrick(int rows) {
+        int fallen = Math.min(rows, getDropDistance());
+        if (fallen > 0) {
+            currentOffset.translate(0, fallen);
+        }
+        return Math.max(0, fallen);
+    }
+
     /**
      * Shared helper for moving the brick by a given offset.
      * Delegates to BrickMovementHandler for validation and movement.
@@ -116,48 +223,65 @@ public class SimpleBoard implements Board {
     }
 
     /**
-     * Rotates the current brick to its next orientation.
-     * Uses a wall-kick system: tries rotating in place first, then attempts
-     * horizontal offsets (-1, +1, -2, +2) if the initial rotation would cause a collision.
-     * This provides Tetris-style wall kicks on both left and right edges.
+     * Rotates the current brick one turn counter-clockwise (to the next rotation index).
+     * If the turned brick collides, the kick offsets of the board's rotation
+     * system are tried in order and the first free position is used.
      *
      * @return true if rotation succeeded, false if all positions are blocked
      */
     @Override
     public boolean rotateLeftBrick() {
+        return rotateBrick(1);
+    }
+
+    /**
+     * Rotates the current brick one turn clockwise, with the same kicks.
+     *
+     * @return true if rotation succeeded, false if all positions are blocked
+     */
+    @Override
+    public boolean rotateRightBrick() {
+        return rotateBrick(-1);
+    }
+
+    /**
+     * Rotates the current brick half a turn, with the same kicks.
+     *
+     * @return true if rotation succeeded, false if all positions are blocked
+     */
+    @Override
+    public boolean rotate180Brick() {
+        return rotateBrick(2);
+    }
+
+    /**
+     * Turns the brick by {@code turns} rotation indices and tests each kick
+     * directly against the live board; nothing is copied.
+     *
+     * @return true if some kick position was free
+     */
+    private boolean rotateBrick(int turns) {
         if (currentBrick == null || currentOffset == null) {
             return false;
         }
 
-        int[][] snapshot = MatrixOperations.copy(boardMatrix);
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-        int[][] nextShapeMatrix = nextShape.getShape();
+        int count = brickRotator.getStateCount();
+        int from = brickRotator.getCurrentIndex();
+        int to = Math.floorMod(from + turns, count);
+        int[][] nextShapeMatrix = brickRotator.getShape(to);
+        int[] kicks = RotationTables.kicks(rotationSystem, currentType, from, to);
 
         int currentX = (int) currentOffset.getX();
         int currentY = (int) currentOffset.getY();
 
-        // Candidate horizontal offsets: in place, then small kicks.
-        int[] kicks = {0, -1, 1, -2, 2};
+        for (int k = 0; k < kicks.length; k += 2) {
+            int newX = currentX + kicks[k];
+            int newY = currentY + kicks[k + 1];
 
-        for (int dx : kicks) {
-            int newX = currentX + dx;
-
-            // Must stay inside horizontal bounds.
-            if (!collisionDetector.isWithinHorizontalBounds(nextShapeMatrix, newX)) {
-                continue;
-            }
-
-            boolean conflict = collisionDetector.hasCollision(
-                    snapshot,
-                    nextShapeMatrix,
-                    newX,
-                    currentY
-            );
-
-            if (!conflict) {
-                // Apply this rotation + horizontal shift.
-                brickRotator.setCurrentShape(nextShape.getPosition());
-                currentOffset.setLocation(newX, currentY);
+            // intersect() also rejects cells outside the walls, floor and ceiling.
+            if (!collisionDetector.hasCollision(boardMatrix, nextShapeMatrix, newX, newY)) {
+                brickRotator.setCurrentShape(to);
+                currentOffset.setLocation(newX, newY);
                 return true;
             }
         }
@@ -166,6 +290,53 @@ public class SimpleBoard implements Board {
         return false;
     }
 
+    /**
+     * Selects the rotation rules. The active brick switches to the new
+     * orientations in its spawn rotation, keeping its position.
+     *
+     * @param rotationSystem the rotation system to use
+     */
+    public void setRotationSystem(RotationSystem rotationSystem) {
+        this.rotationSystem = rotationSystem;
+        if (currentBrick != null) {
+            activate(currentBrick);
+        }
+    }
+
+    /**
+     * Returns the rotation rules in use.
+     *
+     * @return the rotation system
+     */
+    public RotationSystem getRotationSystem() {
+        return rotationSystem;
+    }
+
+    /**
+     * Returns every rotation of the active brick under the current rotation
+     * system, in rotation index order. Bots enumerate placements from these.
+     *
+     * @return the rotation shapes (shared; do not modify)
+     */
+    public List<int[][]> getRotationStates() {
+        return brickRotator.getStates();
+    }
+
+    /**
+     * Makes a brick the active one in its spawn rotation, using SRS
+     * orientations when SRS is selected.
+     */
+    private void activate(Brick brick) {
+        version++;
+        currentBrick = brick;
+        currentType = BrickCatalog.typeOf(brick);
+        if (rotationSystem == RotationSystem.SRS) {
+            brickRotator.setBrick(brick, RotationTables.srsStates(currentType));
+        } else {
+            brickRotator.setBrick(brick);
+        }
+    }
+
 
     /**
      * Creates a new brick at the spawn position.
@@ -176,6 +347,9 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean createNewBrick() {
+        if (rewind != null) {
+            writeRewindState(rewind.open());
+        }
         return spawnNewBrickFromGenerator();
     }
 
@@ -185,8 +359,7 @@ public class SimpleBoard implements Board {
      * @return true if the new brick immediately collides with existing blocks
      */
     private boolean spawnNewBrickFromGenerator() {
-        currentBrick = brickGenerator.getBrick();
-        brickRotator.setBrick(currentBrick);
+        activate(brickGenerator.getBrick());
         currentOffset = new Point(SPAWN_X, SPAWN_Y);
 
         // If we already intersect something, the game is over.
@@ -223,10 +396,9 @@ public class SimpleBoard implements Board {
         } else {
             // Swap current and held bricks, then respawn at the top.
             Brick temp = currentBrick;
-            currentBrick = heldBrick;
+            activate(heldBrick);
             heldBrick = temp;
 
-            brickRotator.setBrick(currentBrick);
             currentOffset = new Point(SPAWN_X, SPAWN_Y);
 
             collision = collisionDetector.hasCollision(
@@ -242,16 +414,93 @@ public class SimpleBoard implements Board {
     }
 
     /**
-     * Returns a defensive copy of the board background matrix.
+     * Returns the live board background matrix, not a copy.
      * The matrix represents the static blocks that have been placed on the board.
      *
-     * @return a copy of the board matrix (rows x columns)
+     * The same array is returned for the board's lifetime and always reflects
+     * the current state: line clears and garbage move its row references and
+     * rewrite the recycled rows in place. Callers must not modify it, and
+     * another thread that needs a stable picture must copy it while the board
+     * is not changing, as the logic thread does for RenderSnapshot.
+     *
+     * @return the live board matrix (rows x columns)
      */
     @Override
     public int[][] getBoardMatrix() {
         return boardMatrix;
     }
 
+    /**
+     * Returns the active falling brick, or null before the first spawn.
+     * Bots use it to enumerate every rotation of the current piece.
+     *
+     * @return the current brick
+     */
+    public Brick getCurrentBrick() {
+        return currentBrick;
+    }
+
+    /**
+     * A counter that changes whenever the settled cells or the active brick
+     * change (locks, clears, garbage, spawns, holds, restores and rewinds),
+     * but not when the brick only moves or turns. Work computed from the board
+     * in the background can compare versions to tell whether it is stale.
+     * Safe to read from any thread.
+     *
+     * @return the board version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the active brick's rotation index into {@link #getRotationStates()}.
+     *
+     * @return the rotation index (0 is the spawn rotation)
+     */
+    public int getRotationIndex() {
+        return brickRotator.getCurrentIndex();
+    }
+
+    /**
+     * Returns the column of the active brick's shape matrix, without building
+     * a full {@link ViewData}.
+     *
+     * @return the brick's x position
+     */
+    public int getBrickX() {
+        return (int) currentOffset.getX();
+    }
+
+    /**
+     * Returns the brick in the hold slot, or null if nothing is held.
+     *
+     * @return the held brick
+     */
+    public Brick getHeldBrick() {
+        return heldBrick;
+    }
+
+    /**
+     * Whether hold was already used for the active brick.
+     *
+     * @return true if the hold slot is locked until the next brick spawns
+     */
+    public boolean hasHeldThisTurn() {
+        return hasHeldThisTurn;
+    }
+
+    /**
+     * Returns up to {@code maxCount} upcoming bricks without consuming them.
+     * Index 0 is the next brick to spawn.
+     *
+     * @param maxCount maximum number of bricks to return
+     * @return the upcoming bricks, never null
+     */
+    public Brick[] getUpcomingBricks(int maxCount) {
+        return brickGenerator.getNextQueue(maxCount);
+    }
+
     /**
      * Returns a snapshot of the current view state for rendering.
      * Includes the active brick, its position, next/hold previews, and ghost position.
@@ -322,15 +571,22 @@ public class SimpleBoard implements Board {
      */
     @Override
     public void mergeBrickToBackground() {
-        boardMatrix = MatrixOperations.merge(
-                boardMatrix,
-                brickRotator.getCurrentShape(),
-                (int) currentOffset.getX(),
-                (int) currentOffset.getY()
-        );
-        // Update handler references to the new board matrix
-        movementHandler.updateBoardMatrix(boardMatrix);
-        ghostCalculator.updateBoardMatrix(boardMatrix);
+        // Write the brick's cells straight into the row slots.
+        int[][] shape = brickRotator.getCurrentShape();
+        int x = (int) currentOffset.getX();
+        int y = (int) currentOffset.getY();
+        if (rewind != null) {
+            rewind.recordMerge(shape, x, y, boardMatrix);
+        }
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                if (shape[i][j] != 0) {
+                    boardMatrix[y + i][x + j] = shape[i][j];
+                }
+            }
+        }
+        ghostCalculator.refreshProfile();
+        version++;
         // A new brick will spawn after this, so allow hold again.
         hasHeldThisTurn = false;
     }
@@ -345,14 +601,16 @@ public class SimpleBoard implements Board {
      */
     @Override
     public ClearRow clearRows() {
-        ClearRow result = MatrixOperations.checkRemoving(boardMatrix);
-        if (result != null) {
-            boardMatrix = result.getNewMatrix();
-            // Update handler references to the new board matrix
-            movementHandler.updateBoardMatrix(boardMatrix);
-            ghostCalculator.updateBoardMatrix(boardMatrix);
+        if (rewind != null) {
+            rewind.recordClear(boardRows);
+        }
+        // Full rows are recycled to the top in place; same bonus as MatrixOperations.checkRemoving.
+        int removed = boardRows.removeFullRows();
+        if (removed > 0) {
+            ghostCalculator.refreshProfile();
+            version++;
         }
-        return result;
+        return new ClearRow(removed, boardMatrix, 50 * removed * removed);
     }
 
     /**
@@ -363,28 +621,222 @@ public class SimpleBoard implements Board {
      */
     @Override
     public void addGarbageRow() {
-        // Shift all rows up: row 1 becomes row 0, row 2 becomes row 1, etc.
-        for (int row = 0; row < rows - 1; row++) {
-            boardMatrix[row] = Arrays.copyOf(boardMatrix[row + 1], columns);
+        // Same pattern as before: one random hole, one random colour.
+        garbageBurst[0] = garbageGenerator.nextRow();
+        addGarbageRows(garbageBurst, 1, garbageGenerator.nextColour());
+    }
+
+    /**
+     * Inserts a burst of garbage rows with a single shift of the row references,
+     * however many rows it contains.
+     *
+     * @param rowMasks row bitmasks (bit c set = column c filled); the last entry ends up as the bottom row
+     * @param count number of rows from {@code rowMasks} to insert
+     * @param colour colour id used for the filled cells
+     */
+    @Override
+    public void addGarbageRows(int[] rowMasks, int count, int colour) {
+        int n = Math.min(count, rows);
+        if (rewind != null) {
+            rewind.recordGarbage(boardMatrix, n);
+        }
+        boardRows.pushBottom(n);
+
+        // Only the last n masks fit if the burst is taller than the board.
+        int first = count - n;
+        for (int i = 0; i < n; i++) {
+            int mask = rowMasks[first + i];
+            int[] row = boardMatrix[rows - n + i];
+            for (int x = 0; x < columns; x++) {
+                if ((mask & (1 << x)) != 0) {
+                    row[x] = colour;
+                }
+            }
         }
+        ghostCalculator.refreshProfile();
+        version++;
+    }
+
+    /**
+     * Reseeds the random source used for garbage rows, so simulations that
+     * replay the same seed get the same garbage.
+     *
+     * @param seed the garbage seed
+     */
+    public void setGarbageSeed(long seed) {
+        garbageGenerator.reseed(seed);
+    }
 
-        // Build a new bottom row: one hole and a solid colour everywhere else.
-        int[] garbageRow = new int[columns];
-        Arrays.fill(garbageRow, 0);
+    /**
+     * Writes the board for a saved game. Cells are packed two per byte (colour
+     * ids fit in four bits), so a 25x10 board takes 125 bytes.
+     *
+     * @param out destination buffer
+     */
+    @Override
+    public void saveState(ByteBuffer out) {
+        out.put((byte) rows);
+        out.put((byte) columns);
+        int packed = 0;
+        int cell = 0;
+        for (int[] row : boardMatrix) {
+            for (int value : row) {
+                if (value < 0 || value > 0xF) {
+                    throw new IllegalStateException("Cell value " + value + " cannot be saved");
+                }
+                packed = packed << 4 | value;
+                if ((++cell & 1) == 0) {
+                    out.put((byte) packed);
+                    packed = 0;
+                }
+            }
+        }
+        if ((cell & 1) != 0) {
+            out.put((byte) (packed << 4));
+        }
 
-        // Pick the hole column.
-        int holeIndex = ThreadLocalRandom.current().nextInt(columns);
+        out.put((byte) currentType);
+        out.put((byte) brickRotator.getCurrentIndex());
+        out.putShort((short) (currentOffset != null ? currentOffset.x : SPAWN_X));
+        out.putShort((short) (currentOffset != null ? currentOffset.y : SPAWN_Y));
+        out.put((byte) BrickCatalog.typeOf(heldBrick));
+        out.put((byte) (hasHeldThisTurn ? 1 : 0));
 
-        // Pick a colour id for the entire garbage row (1..7 to match normal bricks).
-        int colourId = ThreadLocalRandom.current().nextInt(1, 8);
+        brickGenerator.saveState(out);
+        garbageGenerator.saveState(out);
+        score.saveState(out);
+    }
 
-        for (int x = 0; x < columns; x++) {
-            if (x != holeIndex) {
-                garbageRow[x] = colourId;
+    /**
+     * Restores a board written by {@link #saveState}. The rotation system
+     * must already match the saved game's.
+     *
+     * @param in source buffer
+     * @throws IllegalArgumentException if the saved board has a different size
+     */
+    @Override
+    public void restoreState(ByteBuffer in) {
+        int savedRows = in.get() & 0xFF;
+        int savedColumns = in.get() & 0xFF;
+        if (savedRows != rows || savedColumns != columns) {
+            throw new IllegalArgumentException("Saved board is " + savedRows + "x" + savedColumns
+                    + ", expected " + rows + "x" + columns);
+        }
+        int packed = 0;
+        int cell = 0;
+        for (int[] row : boardMatrix) {
+            for (int x = 0; x < columns; x++) {
+                if ((cell++ & 1) == 0) {
+                    packed = in.get() & 0xFF;
+                    row[x] = packed >>> 4;
+                } else {
+                    row[x] = packed & 0xF;
+                }
             }
         }
 
-        boardMatrix[rows - 1] = garbageRow;
+        int type = in.get();
+        int rotation = in.get();
+        int x = in.getShort();
+        int y = in.getShort();
+        int heldType = in.get();
+        if (type >= 0) {
+            activate(BrickCatalog.byType(type));
+            brickRotator.setCurrentShape(Math.floorMod(rotation, brickRotator.getStateCount()));
+            currentOffset = new Point(x, y);
+        } else {
+            currentBrick = null;
+            currentType = -1;
+            currentOffset = null;
+        }
+        heldBrick = heldType >= 0 ? BrickCatalog.byType(heldType) : null;
+        hasHeldThisTurn = in.get() != 0;
+
+        brickGenerator.restoreState(in);
+        garbageGenerator.restoreState(in);
+        score.restoreState(in);
+        ghostCalculator.refreshProfile();
+        version++;
+        if (rewind != null) {
+            // The history does not survive a restore; the next spawn starts a new one.
+            rewind.reset();
+        }
+    }
+
+    /**
+     * Starts keeping a history of the last {@code depth} pieces so they can be
+     * undone with {@link #rewindPieces(int)}. The owner can store its own
+     * per-piece state alongside the board's (at most a few dozen bytes),
+     * written before each spawn and read back when a rewind lands on that piece.
+     *
+     * @param depth pieces that can be rewound
+     * @param saveExtras writes the owner's state, or null for none
+     * @param restoreExtras reads back what {@code saveExtras} wrote, or null for none
+     */
+    public void enableRewind(int depth, Consumer<ByteBuffer> saveExtras, Consumer<ByteBuffer> restoreExtras) {
+        this.rewind = new RewindBuffer(depth, columns);
+        this.saveRewindExtras = saveExtras;
+        this.restoreRewindExtras = restoreExtras;
+    }
+
+    /**
+     * Pieces that can be rewound right now.
+     *
+     * @return the history depth, 0 if rewind is disabled
+     */
+    public int getRewindDepth() {
+        return rewind != null ? rewind.getDepth() : 0;
+    }
+
+    /**
+     * Undoes the last {@code count} locked pieces, applying each piece's logged
+     * cell changes in reverse, then puts the board back to the moment the
+     * oldest of them spawned: hold slot, brick queue, garbage source, score and
+     * the owner's extras. The same brick spawns again at the top.
+     *
+     * @param count pieces to rewind
+     * @return pieces actually rewound (fewer if the history is shorter)
+     */
+    @Override
+    public int rewindPieces(int count) {
+        if (rewind == null) {
+            return 0;
+        }
+        int pieces = Math.min(count, rewind.getDepth());
+        if (pieces <= 0) {
+            return 0;
+        }
+        ByteBuffer state = null;
+        for (int i = 0; i < pieces; i++) {
+            state = rewind.rewind(boardRows);
+        }
+
+        int heldType = state.get();
+        heldBrick = heldType >= 0 ? BrickCatalog.byType(heldType) : null;
+        hasHeldThisTurn = false;
+        brickGenerator.restoreState(state);
+        garbageGenerator.restoreState(state);
+        score.restoreState(state);
+        if (restoreRewindExtras != null) {
+            restoreRewindExtras.accept(state);
+        }
+        spawnNewBrickFromGenerator();
+        ghostCalculator.refreshProfile();
+        return pieces;
+    }
+
+    /**
+     * Captures what a rewind to the piece about to spawn has to put back.
+     * The board cells are not included; they are rebuilt from the logs.
+     */
+    private void writeRewindState(ByteBuffer out) {
+        out.put((byte) BrickCatalog.typeOf(heldBrick));
+        brickGenerator.saveState(out);
+        garbageGenerator.saveState(out);
+        score.saveState(out);
+        if (saveRewindExtras != null) {
+            saveRewindExtras.accept(out);
+        }
     }
 
     /**
@@ -404,7 +856,10 @@ public class SimpleBoard implements Board {
      */
     @Override
     public void newGame() {
-        boardMatrix = new int[rows][columns];
+        boardRows.clear();
+        if (rewind != null) {
+            rewind.reset();
+        }
         score.reset();
         currentBrick = null;
         heldBrick = null;
@@ -0,0 +1,128 @@
+package com.comp2042.protocol;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Compact big-endian encoding for bots where text parsing would dominate latency.
+ * Each message is a one-byte tag followed by fixed fields:
+ *
+ * <pre>
+ * 1 START : int rows, int columns, int spawnX, int spawnY
+ * 2 STATE : int id, byte piece, byte hold, byte queueLength, byte[queueLength], short rows, int[rows]
+ * 3 MOVE  : int id, byte rotation, byte x, byte hold (0/1)
+ * 4 END   : int game, int score, int lines, int pieces
+ * </pre>
+ */
+public final class BinaryBotCodec implements BotCodec {
+
+    private static final int TAG_START = 1;
+    private static final int TAG_STATE = 2;
+    private static final int TAG_MOVE = 3;
+    private static final int TAG_END = 4;
+
+    private final DataInputStream in;
+    private final DataOutputStream out;
+
+    /**
+     * Creates a codec over a pair of streams.
+     *
+     * @param in incoming stream
+     * @param out outgoing stream
+     */
+    public BinaryBotCodec(InputStream in, OutputStream out) {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+    }
+
+    @Override
+    public void write(BotMessage message) throws IOException {
+        switch (message.getType()) {
+            case START:
+                out.writeByte(TAG_START);
+                out.writeInt(message.getRows());
+                out.writeInt(message.getColumns());
+                out.writeInt(message.getSpawnX());
+                out.writeInt(message.getSpawnY());
+                break;
+            case STATE:
+                out.writeByte(TAG_STATE);
+                out.writeInt(message.getId());
+                out.writeByte(message.getPiece());
+                out.writeByte(message.getHold());
+                int[] queue = message.getQueue();
+                out.writeByte(queue.length);
+                for (int piece : queue) {
+                    out.writeByte(piece);
+                }
+                int[] board = message.getBoard();
+                out.writeShort(board.length);
+                for (int row : board) {
+                    out.writeInt(row);
+                }
+                break;
+            case MOVE:
+                out.writeByte(TAG_MOVE);
+                out.writeInt(message.getId());
+                out.writeByte(message.getRotation());
+                out.writeByte(message.getX());
+                out.writeByte(message.isHold() ? 1 : 0);
+                break;
+            case END:
+                out.writeByte(TAG_END);
+                out.writeInt(message.getId());
+                out.writeInt(message.getScore());
+                out.writeInt(message.getLines());
+                out.writeInt(message.getPieces());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown message type " + message.getType());
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public BotMessage read() throws IOException {
+        int tag = in.read();
+        if (tag < 0) {
+            return null;
+        }
+        try {
+            switch (tag) {
+                case TAG_START:
+                    return BotMessage.start(in.readInt(), in.readInt(), in.readInt(), in.readInt());
+                case TAG_STATE:
+                    int id = in.readInt();
+                    int piece = in.readByte();
+                    int hold = in.readByte();
+                    int[] queue = new int[in.readUnsignedByte()];
+                    for (int i = 0; i < queue.length; i++) {
+                        queue[i] = in.readByte();
+                    }
+                    int[] board = new int[in.readUnsignedShort()];
+                    for (int i = 0; i < board.length; i++) {
+                        board[i] = in.readInt();
+                    }
+                    return BotMessage.state(id, piece, hold, queue, board);
+                case TAG_MOVE:
+                    return BotMessage.move(in.readInt(), in.readByte(), in.readByte(), in.readByte() != 0);
+                case TAG_END:
+                    return BotMessage.end(in.readInt(), in.readInt(), in.readInt(), in.readInt());
+                default:
+                    throw new IOException("Unknown message tag " + tag);
+            }
+        } catch (EOFException e) {
+            throw new IOException("Stream ended inside a message", e);
+        }
+    }
+}
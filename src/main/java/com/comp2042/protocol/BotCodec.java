@@ -0,0 +1,33 @@
+package com.comp2042.protocol;
+
+import java.io.IOException;
+
+/**
+ * Reads and writes {@link BotMessage}s on one connection.
+ * Writes are buffered until {@link #flush()} so several requests can go out together.
+ */
+public interface BotCodec {
+
+    /**
+     * Buffers a message for sending.
+     *
+     * @param message the message
+     * @throws IOException if the stream fails
+     */
+    void write(BotMessage message) throws IOException;
+
+    /**
+     * Sends everything buffered so far.
+     *
+     * @throws IOException if the stream fails
+     */
+    void flush() throws IOException;
+
+    /**
+     * Blocks for the next message.
+     *
+     * @return the message, or null when the peer closed the stream
+     * @throws IOException if the stream fails or the message is malformed
+     */
+    BotMessage read() throws IOException;
+}
@@ -0,0 +1,95 @@
+package com.comp2042.protocol;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a bot protocol session: one result per game plus move latency.
+ */
+public final class BotMatchReport {
+
+    /**
+     * Final numbers of one game.
+     */
+    public static final class GameResult {
+
+        private final int game;
+        private final int score;
+        private final int lines;
+        private final int pieces;
+        private final boolean won;
+
+        GameResult(int game, int score, int lines, int pieces, boolean won) {
+            this.game = game;
+            this.score = score;
+            this.lines = lines;
+            this.pieces = pieces;
+            this.won = won;
+        }
+
+        public int getGame() {
+            return game;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        public int getLines() {
+            return lines;
+        }
+
+        public int getPieces() {
+            return pieces;
+        }
+
+        public boolean isWon() {
+            return won;
+        }
+    }
+
+    private final List<GameResult> results;
+    private final LatencyStats latency;
+    private final long elapsedNanos;
+
+    BotMatchReport(List<GameResult> results, LatencyStats latency, long elapsedNanos) {
+        this.results = Collections.unmodifiableList(results);
+        this.latency = latency;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /** Results in the order games finished. */
+    public List<GameResult> getResults() {
+        return results;
+    }
+
+    public LatencyStats getLatency() {
+        return latency;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Mean final score over all games.
+     *
+     * @return mean score, 0 with no games
+     */
+    public double getMeanScore() {
+        if (results.isEmpty()) {
+            return 0;
+        }
+        long total = 0;
+        for (GameResult result : results) {
+            total += result.getScore();
+        }
+        return (double) total / results.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("games=%d meanScore=%.1f elapsed=%.2fs %s",
+                results.size(), getMeanScore(), elapsedNanos / 1e9, latency);
+    }
+}
@@ -0,0 +1,166 @@
+package com.comp2042.protocol;
+
+import java.util.Arrays;
+
+/**
+ * One message of the bot protocol. Which fields are meaningful depends on the type.
+ *
+ * <ul>
+ *   <li>{@code START} (engine to bot): board size and spawn position, sent once.</li>
+ *   <li>{@code STATE} (engine to bot): a move request with board, active piece, hold and queue.</li>
+ *   <li>{@code MOVE} (bot to engine): the placement answering a STATE with the same id.</li>
+ *   <li>{@code END} (engine to bot): a game finished; id is the game index.</li>
+ * </ul>
+ *
+ * Pieces are BrickCatalog type ids; -1 means none.
+ */
+public final class BotMessage {
+
+    /**
+     * Message kinds.
+     */
+    public enum Type {
+        START, STATE, MOVE, END
+    }
+
+    private final Type type;
+    private final int id;
+    private final int[] values;
+    private final int[] queue;
+    private final int[] board;
+
+    private BotMessage(Type type, int id, int[] values, int[] queue, int[] board) {
+        this.type = type;
+        this.id = id;
+        this.values = values;
+        this.queue = queue;
+        this.board = board;
+    }
+
+    /**
+     * Creates the session header.
+     *
+     * @param rows board rows
+     * @param columns board columns
+     * @param spawnX spawn column of new pieces
+     * @param spawnY spawn row of new pieces
+     * @return the message
+     */
+    public static BotMessage start(int rows, int columns, int spawnX, int spawnY) {
+        return new BotMessage(Type.START, 0, new int[]{rows, columns, spawnX, spawnY}, null, null);
+    }
+
+    /**
+     * Creates a move request.
+     *
+     * @param id request id the reply must echo
+     * @param piece active piece type
+     * @param hold held piece type, or -1
+     * @param queue upcoming piece types
+     * @param board packed row bitmasks, top row first
+     * @return the message
+     */
+    public static BotMessage state(int id, int piece, int hold, int[] queue, int[] board) {
+        return new BotMessage(Type.STATE, id, new int[]{piece, hold}, queue, board);
+    }
+
+    /**
+     * Creates a move reply.
+     *
+     * @param id id of the request being answered
+     * @param rotation rotation index of the placed piece
+     * @param x board column of the piece's shape column 0
+     * @param hold whether to hold before placing (the placement then applies to the new piece)
+     * @return the message
+     */
+    public static BotMessage move(int id, int rotation, int x, boolean hold) {
+        return new BotMessage(Type.MOVE, id, new int[]{rotation, x, hold ? 1 : 0}, null, null);
+    }
+
+    /**
+     * Creates a game-over notice.
+     *
+     * @param game game index
+     * @param score final score
+     * @param lines lines cleared
+     * @param pieces pieces placed
+     * @return the message
+     */
+    public static BotMessage end(int game, int score, int lines, int pieces) {
+        return new BotMessage(Type.END, game, new int[]{score, lines, pieces}, null, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /** Request id for STATE/MOVE, game index for END. */
+    public int getId() {
+        return id;
+    }
+
+    // START
+    public int getRows() {
+        return values[0];
+    }
+
+    public int getColumns() {
+        return values[1];
+    }
+
+    public int getSpawnX() {
+        return values[2];
+    }
+
+    public int getSpawnY() {
+        return values[3];
+    }
+
+    // STATE
+    public int getPiece() {
+        return values[0];
+    }
+
+    public int getHold() {
+        return values[1];
+    }
+
+    public int[] getQueue() {
+        return queue;
+    }
+
+    public int[] getBoard() {
+        return board;
+    }
+
+    // MOVE
+    public int getRotation() {
+        return values[0];
+    }
+
+    public int getX() {
+        return values[1];
+    }
+
+    public boolean isHold() {
+        return values[2] != 0;
+    }
+
+    // END
+    public int getScore() {
+        return values[0];
+    }
+
+    public int getLines() {
+        return values[1];
+    }
+
+    public int getPieces() {
+        return values[2];
+    }
+
+    @Override
+    public String toString() {
+        return "BotMessage{" + type + ", id=" + id + ", values=" + Arrays.toString(values) + "}";
+    }
+}
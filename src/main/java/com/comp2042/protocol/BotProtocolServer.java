@@ -0,0 +1,286 @@
+package com.comp2042.protocol;
+
+import com.comp2042.logic.MatrixOperations;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickCatalog;
+import com.comp2042.models.GameMode;
+import com.comp2042.models.RotationSystem;
+import com.comp2042.models.SimpleBoard;
+import com.comp2042.sim.HeadlessGame;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Engine side of the bot protocol: plays headless games and asks an external
+ * bot for every placement.
+ *
+ * Up to {@code pipelineDepth} games run at once, each with one outstanding
+ * request, so a bot can receive several requests before answering any and may
+ * answer them in any order (replies are matched by id). Each reply is applied
+ * with the same hold/drop/landing rules as GameController, and the time from
+ * sending a request to receiving its reply is recorded per move.
+ */
+public final class BotProtocolServer {
+
+    /** Upcoming pieces sent with every request (matches the HUD preview). */
+    public static final int QUEUE_LENGTH = 3;
+
+    private final BotCodec codec;
+    private final GameMode mode;
+    private final int games;
+    private final int pipelineDepth;
+    private final int maxPiecesPerGame;
+    private final long seed;
+
+    /**
+     * A game waiting for the bot's reply.
+     */
+    private static final class Session {
+        final int index;
+        final HeadlessGame game;
+        long sentAt;
+
+        Session(int index, HeadlessGame game) {
+            this.index = index;
+            this.game = game;
+        }
+    }
+
+    private final Map<Integer, Session> pending = new HashMap<>();
+    private final List<BotMatchReport.GameResult> results = new ArrayList<>();
+    private final LatencyStats latency = new LatencyStats();
+    private int nextRequestId;
+    private int nextGame;
+
+    /**
+     * Creates a server for one connection.
+     *
+     * @param codec connection to the bot
+     * @param mode game mode whose rules apply
+     * @param games number of games to play
+     * @param pipelineDepth games in flight at once (1 = strict request/reply)
+     * @param maxPiecesPerGame cap so endless modes still finish
+     * @param seed seed of game 0; game n uses seed + n
+     */
+    public BotProtocolServer(BotCodec codec, GameMode mode, int games, int pipelineDepth,
+                             int maxPiecesPerGame, long seed) {
+        if (pipelineDepth <= 0) {
+            throw new IllegalArgumentException("Pipeline depth must be positive");
+        }
+        this.codec = codec;
+        this.mode = mode;
+        this.games = games;
+        this.pipelineDepth = pipelineDepth;
+        this.maxPiecesPerGame = maxPiecesPerGame;
+        this.seed = seed;
+    }
+
+    /**
+     * Plays every game to the end.
+     *
+     * @return per-game results and latency
+     * @throws IOException if the connection fails or the bot breaks the protocol
+     */
+    public BotMatchReport run() throws IOException {
+        long start = System.nanoTime();
+        codec.write(BotMessage.start(HeadlessGame.BOARD_ROWS, HeadlessGame.BOARD_COLUMNS,
+                SimpleBoard.SPAWN_X, SimpleBoard.SPAWN_Y));
+        while (nextGame < games && pending.size() < pipelineDepth) {
+            startGame();
+        }
+        codec.flush();
+
+        while (!pending.isEmpty()) {
+            BotMessage reply = codec.read();
+            if (reply == null) {
+                throw new IOException("Bot disconnected with " + pending.size() + " requests pending");
+            }
+            if (reply.getType() != BotMessage.Type.MOVE) {
+                throw new IOException("Expected a move, got " + reply.getType());
+            }
+            Session session = pending.remove(reply.getId());
+            if (session == null) {
+                throw new IOException("Reply to unknown request " + reply.getId());
+            }
+            latency.record(System.nanoTime() - session.sentAt);
+
+            apply(session.game, reply);
+            if (isFinished(session.game)) {
+                finish(session);
+                if (nextGame < games) {
+                    startGame();
+                }
+            } else {
+                sendState(session);
+            }
+            codec.flush();
+        }
+        return new BotMatchReport(results, latency, System.nanoTime() - start);
+    }
+
+    /**
+     * Same steps as GameController's hold and hard-drop handlers.
+     */
+    private static void apply(HeadlessGame game, BotMessage move) {
+        if (move.isHold()) {
+            game.hold();
+        }
+        if (!game.isGameOver()) {
+            game.play(move.getRotation(), move.getX());
+        }
+    }
+
+    private boolean isFinished(HeadlessGame game) {
+        return game.isGameOver() || game.getPiecesPlaced() >= maxPiecesPerGame;
+    }
+
+    private void startGame() throws IOException {
+        Session session = new Session(nextGame, new HeadlessGame(mode, seed + nextGame));
+        // Rotation indices on the wire refer to the catalogue shapes, so keep simple rotation.
+        session.game.getBoard().setRotationSystem(RotationSystem.SIMPLE);
+        nextGame++;
+        if (isFinished(session.game)) {
+            finish(session);
+        } else {
+            sendState(session);
+        }
+    }
+
+    private void finish(Session session) throws IOException {
+        HeadlessGame game = session.game;
+        int score = game.getScore().getScore();
+        int lines = game.getScore().getTotalLines();
+        results.add(new BotMatchReport.GameResult(session.index, score, lines,
+                game.getPiecesPlaced(), game.isWon()));
+        codec.write(BotMessage.end(session.index, score, lines, game.getPiecesPlaced()));
+    }
+
+    private void sendState(Session session) throws IOException {
+        SimpleBoard board = session.game.getBoard();
+        int[] rows = new int[HeadlessGame.BOARD_ROWS];
+        MatrixOperations.toRowMasks(board.getBoardMatrix(), rows, 0, 1);
+
+        Brick[] upcoming = board.getUpcomingBricks(QUEUE_LENGTH);
+        int[] queue = new int[upcoming.length];
+        for (int i = 0; i < queue.length; i++) {
+            queue[i] = BrickCatalog.typeOf(upcoming[i]);
+        }
+        int hold = BrickCatalog.typeOf(board.getHeldBrick());
+
+        int id = nextRequestId++;
+        codec.write(BotMessage.state(id, BrickCatalog.typeOf(board.getCurrentBrick()), hold, queue, rows));
+        session.sentAt = System.nanoTime();
+        pending.put(id, session);
+    }
+
+    /**
+     * Runs a session from the command line.
+     *
+     * <pre>
+     * --stdio              talk to the bot on this process's stdin/stdout
+     * --port N             accept one bot on 127.0.0.1:N
+     * --exec "cmd args"    launch the bot and talk over its stdin/stdout
+     * --binary             use the binary codec instead of text
+     * --mode M --games N --pipeline N --pieces N --seed N
+     * </pre>
+     *
+     * @param args command line options
+     * @throws IOException if the connection fails
+     */
+    public static void main(String[] args) throws IOException {
+        GameMode mode = GameMode.CLASSIC;
+        int games = 10;
+        int pipeline = 1;
+        int pieces = 1000;
+        long seed = 0;
+        boolean binary = false;
+        String transport = null;
+        String target = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--stdio":
+                    transport = "stdio";
+                    break;
+                case "--port":
+                    transport = "port";
+                    target = args[++i];
+                    break;
+                case "--exec":
+                    transport = "exec";
+                    target = args[++i];
+                    break;
+                case "--binary":
+                    binary = true;
+                    break;
+                case "--mode":
+                    mode = GameMode.valueOf(args[++i]);
+                    break;
+                case "--games":
+                    games = Integer.parseInt(args[++i]);
+                    break;
+                case "--pipeline":
+                    pipeline = Integer.parseInt(args[++i]);
+                    break;
+                case "--pieces":
+                    pieces = Integer.parseInt(args[++i]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        if (transport == null) {
+            System.err.println("Usage: BotProtocolServer (--stdio | --port N | --exec CMD) [--binary] "
+                    + "[--mode M] [--games N] [--pipeline N] [--pieces N] [--seed N]");
+            return;
+        }
+
+        // In stdio mode stdout carries the protocol, so reports always go to stderr.
+        PrintStream log = System.err;
+        BotMatchReport report;
+        if (transport.equals("stdio")) {
+            report = serve(System.in, System.out, binary, mode, games, pipeline, pieces, seed);
+        } else if (transport.equals("port")) {
+            try (ServerSocket server = new ServerSocket(Integer.parseInt(target), 1,
+                    InetAddress.getLoopbackAddress())) {
+                log.println("Waiting for bot on " + server.getLocalSocketAddress());
+                try (Socket socket = server.accept()) {
+                    socket.setTcpNoDelay(true);
+                    report = serve(socket.getInputStream(), socket.getOutputStream(),
+                            binary, mode, games, pipeline, pieces, seed);
+                }
+            }
+        } else {
+            Process process = new ProcessBuilder(target.split("\\s+"))
+                    .redirectError(ProcessBuilder.Redirect.INHERIT)
+                    .start();
+            try {
+                report = serve(process.getInputStream(), process.getOutputStream(),
+                        binary, mode, games, pipeline, pieces, seed);
+            } finally {
+                process.getOutputStream().close();
+                process.destroy();
+            }
+        }
+        log.println(report);
+    }
+
+    private static BotMatchReport serve(InputStream in, OutputStream out, boolean binary, GameMode mode,
+                                        int games, int pipeline, int pieces, long seed) throws IOException {
+        BotCodec codec = binary ? new BinaryBotCodec(in, out) : new TextBotCodec(in, out);
+        return new BotProtocolServer(codec, mode, games, pipeline, pieces, seed).run();
+    }
+}
@@ -0,0 +1,81 @@
+package com.comp2042.protocol;
+
+import com.comp2042.bot.EvaluationWeights;
+import com.comp2042.bot.GreedyBot;
+import com.comp2042.bot.Placement;
+
+import java.io.IOException;
+
+/**
+ * Bot side of the protocol backed by our own {@link GreedyBot}.
+ * Serves as the baseline when benchmarking third-party bots, and as a
+ * reference client for anyone writing one.
+ */
+public final class GreedyBotClient {
+
+    private final BotCodec codec;
+    private final EvaluationWeights weights;
+
+    /**
+     * Creates a client.
+     *
+     * @param codec connection to the engine
+     * @param weights evaluation weights for the bot
+     */
+    public GreedyBotClient(BotCodec codec, EvaluationWeights weights) {
+        this.codec = codec;
+        this.weights = weights;
+    }
+
+    /**
+     * Answers requests until the engine closes the connection.
+     *
+     * @return number of moves sent
+     * @throws IOException if the connection fails or a request arrives before START
+     */
+    public int run() throws IOException {
+        GreedyBot bot = null;
+        int spawnY = 0;
+        int moves = 0;
+
+        BotMessage message;
+        while ((message = codec.read()) != null) {
+            switch (message.getType()) {
+                case START:
+                    bot = new GreedyBot(message.getRows(), message.getColumns(), weights);
+                    spawnY = message.getSpawnY();
+                    break;
+                case STATE:
+                    if (bot == null) {
+                        throw new IOException("State received before start");
+                    }
+                    Placement placement = bot.choose(message.getBoard(), message.getPiece(), spawnY);
+                    // No legal placement: answer anyway so the engine can end the game.
+                    int rotation = placement != null ? placement.getRotation() : 0;
+                    int x = placement != null ? placement.getX() : 0;
+                    codec.write(BotMessage.move(message.getId(), rotation, x, false));
+                    codec.flush();
+                    moves++;
+                    break;
+                default:
+                    // END and anything else need no reply.
+                    break;
+            }
+        }
+        return moves;
+    }
+
+    /**
+     * Runs the client on stdin/stdout, for use with {@code BotProtocolServer --exec}.
+     *
+     * @param args {@code --binary} to use the binary codec
+     * @throws IOException if the connection fails
+     */
+    public static void main(String[] args) throws IOException {
+        boolean binary = args.length > 0 && args[0].equals("--binary");
+        BotCodec codec = binary
+                ? new BinaryBotCodec(System.in, System.out)
+                : new TextBotCodec(System.in, System.out);
+        new GreedyBotClient(codec, EvaluationWeights.defaults()).run();
+    }
+}
@@ -0,0 +1,72 @@
+package com.comp2042.protocol;
+
+import java.util.Arrays;
+
+/**
+ * Collects round-trip latency samples (nanoseconds) and summarises them.
+ * Samples are kept in a growable primitive array, so recording does not box.
+ */
+public final class LatencyStats {
+
+    private long[] samples = new long[256];
+    private int count;
+    private long total;
+    private long max;
+
+    /**
+     * Records one sample.
+     *
+     * @param nanos round-trip time in nanoseconds
+     */
+    public void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        total += nanos;
+        max = Math.max(max, nanos);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Mean latency.
+     *
+     * @return mean in nanoseconds, 0 with no samples
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    public long getMaxNanos() {
+        return max;
+    }
+
+    /**
+     * Latency at the given percentile (nearest rank).
+     *
+     * @param percentile value in [0, 100]
+     * @return latency in nanoseconds, 0 with no samples
+     */
+    public long getPercentileNanos(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return sorted[Math.max(0, Math.min(count - 1, rank - 1))];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("moves=%d mean=%.1fus p50=%.1fus p99=%.1fus max=%.1fus",
+                count,
+                getMeanNanos() / 1e3,
+                getPercentileNanos(50) / 1e3,
+                getPercentileNanos(99) / 1e3,
+                max / 1e3);
+    }
+}
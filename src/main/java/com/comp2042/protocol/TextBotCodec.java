@@ -0,0 +1,165 @@
+package com.comp2042.protocol;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Line-delimited text encoding, easy to drive from any language:
+ *
+ * <pre>
+ * start &lt;rows&gt; &lt;columns&gt; &lt;spawnX&gt; &lt;spawnY&gt;
+ * state &lt;id&gt; &lt;piece&gt; &lt;hold&gt; &lt;queue&gt; &lt;board&gt;
+ * move &lt;id&gt; &lt;rotation&gt; &lt;x&gt; [hold]
+ * end &lt;game&gt; &lt;score&gt; &lt;lines&gt; &lt;pieces&gt;
+ * </pre>
+ *
+ * Pieces are letters (IJLOSTZ), {@code -} for none; the queue is a run of
+ * letters; the board is comma-separated hex row masks, top row first.
+ */
+public final class TextBotCodec implements BotCodec {
+
+    private static final String PIECES = "IJLOSTZ";
+
+    private final BufferedReader reader;
+    private final Writer writer;
+
+    /**
+     * Creates a codec over a pair of streams.
+     *
+     * @param in incoming stream
+     * @param out outgoing stream
+     */
+    public TextBotCodec(InputStream in, OutputStream out) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.US_ASCII));
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public void write(BotMessage message) throws IOException {
+        StringBuilder line = new StringBuilder(64);
+        switch (message.getType()) {
+            case START:
+                line.append("start ").append(message.getRows()).append(' ').append(message.getColumns())
+                        .append(' ').append(message.getSpawnX()).append(' ').append(message.getSpawnY());
+                break;
+            case STATE:
+                line.append("state ").append(message.getId())
+                        .append(' ').append(pieceChar(message.getPiece()))
+                        .append(' ').append(pieceChar(message.getHold()))
+                        .append(' ');
+                int[] queue = message.getQueue();
+                if (queue.length == 0) {
+                    line.append('-');
+                }
+                for (int piece : queue) {
+                    line.append(pieceChar(piece));
+                }
+                line.append(' ');
+                int[] board = message.getBoard();
+                for (int row = 0; row < board.length; row++) {
+                    if (row > 0) {
+                        line.append(',');
+                    }
+                    line.append(Integer.toHexString(board[row]));
+                }
+                break;
+            case MOVE:
+                line.append("move ").append(message.getId()).append(' ').append(message.getRotation())
+                        .append(' ').append(message.getX());
+                if (message.isHold()) {
+                    line.append(" hold");
+                }
+                break;
+            case END:
+                line.append("end ").append(message.getId()).append(' ').append(message.getScore())
+                        .append(' ').append(message.getLines()).append(' ').append(message.getPieces());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown message type " + message.getType());
+        }
+        writer.write(line.append('\n').toString());
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public BotMessage read() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            line = line.trim();
+        } while (line.isEmpty());
+
+        String[] parts = line.split("\\s+");
+        try {
+            switch (parts[0]) {
+                case "start":
+                    return BotMessage.start(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]),
+                            Integer.parseInt(parts[3]), Integer.parseInt(parts[4]));
+                case "state":
+                    return BotMessage.state(Integer.parseInt(parts[1]), pieceType(parts[2]),
+                            pieceType(parts[3]), parseQueue(parts[4]), parseBoard(parts[5]));
+                case "move":
+                    boolean hold = parts.length > 4 && parts[4].equals("hold");
+                    return BotMessage.move(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]),
+                            Integer.parseInt(parts[3]), hold);
+                case "end":
+                    return BotMessage.end(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]),
+                            Integer.parseInt(parts[3]), Integer.parseInt(parts[4]));
+                default:
+                    throw new IOException("Unknown message: " + line);
+            }
+        } catch (RuntimeException e) {
+            // Missing fields or bad numbers.
+            throw new IOException("Malformed message: " + line, e);
+        }
+    }
+
+    private static char pieceChar(int type) {
+        return type < 0 ? '-' : PIECES.charAt(type);
+    }
+
+    private static int pieceType(String token) {
+        if (token.equals("-")) {
+            return -1;
+        }
+        int type = PIECES.indexOf(token.charAt(0));
+        if (type < 0 || token.length() != 1) {
+            throw new IllegalArgumentException("Unknown piece " + token);
+        }
+        return type;
+    }
+
+    private static int[] parseQueue(String token) {
+        if (token.equals("-")) {
+            return new int[0];
+        }
+        int[] queue = new int[token.length()];
+        for (int i = 0; i < queue.length; i++) {
+            queue[i] = pieceType(token.substring(i, i + 1));
+        }
+        return queue;
+    }
+
+    private static int[] parseBoard(String token) {
+        String[] rows = token.split(",");
+        int[] board = new int[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            board[i] = Integer.parseUnsignedInt(rows[i], 16);
+        }
+        return board;
+    }
+}
@@ -0,0 +1,178 @@
+package com.comp2042.records;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-size, mergeable sketch of a distribution of non-negative values.
+ *
+ * Values are counted in logarithmic buckets, each {@link #GROWTH} times wider
+ * than the one before, so a quantile is within 10% of the exact value no
+ * matter how many values were added. 1.2^126 covers every int score and any
+ * realistic time in milliseconds. Memory and query cost depend only on
+ * {@link #BUCKETS}, never on the number of values, and two sketches combine
+ * by adding their counts.
+ */
+public final class LogHistogram {
+
+    /** Number of buckets, including the one for zero. */
+    public static final int BUCKETS = 128;
+
+    /** Ratio between the bounds of consecutive buckets. */
+    static final double GROWTH = 1.2;
+
+    /** Encoded size in bytes. */
+    static final int SIZE = BUCKETS * 8;
+
+    private static final double LOG_GROWTH = Math.log(GROWTH);
+
+    private final long[] counts = new long[BUCKETS];
+    private long total;
+
+    /**
+     * Counts one value.
+     *
+     * @param value the value; negatives count as zero
+     */
+    public void add(long value) {
+        counts[bucketOf(value)]++;
+        total++;
+    }
+
+    /**
+     * Adds every value counted by another sketch.
+     *
+     * @param other sketch to merge in
+     */
+    public void merge(LogHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Fraction of counted values below {@code value}. Values in the same
+     * bucket count as half below, half above.
+     *
+     * @param value value to rank
+     * @return fraction in [0, 1], or 0 if nothing has been counted
+     */
+    public double fractionBelow(long value) {
+        if (total == 0) {
+            return 0.0;
+        }
+        int bucket = bucketOf(value);
+        long below = 0;
+        for (int i = 0; i < bucket; i++) {
+            below += counts[i];
+        }
+        return (below + counts[bucket] / 2.0) / total;
+    }
+
+    /**
+     * Fraction of counted values above {@code value}, with the same tie rule
+     * as {@link #fractionBelow}.
+     *
+     * @param value value to rank
+     * @return fraction in [0, 1], or 0 if nothing has been counted
+     */
+    public double fractionAbove(long value) {
+        if (total == 0) {
+            return 0.0;
+        }
+        return 1.0 - fractionBelow(value);
+    }
+
+    /**
+     * Approximate value at quantile {@code q}.
+     *
+     * @param q quantile in [0, 1]
+     * @return representative value of the bucket holding that quantile, or -1 if empty
+     */
+    public long quantile(double q) {
+        if (total == 0) {
+            return -1;
+        }
+        long rank = (long) Math.ceil(Math.max(0.0, Math.min(1.0, q)) * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= Math.max(rank, 1)) {
+                return representative(i);
+            }
+        }
+        return representative(BUCKETS - 1);
+    }
+
+    /**
+     * Values counted in one bucket.
+     *
+     * @param bucket bucket index
+     * @return count
+     */
+    public long getCount(int bucket) {
+        return counts[bucket];
+    }
+
+    /**
+     * Smallest value that falls into a bucket.
+     *
+     * @param bucket bucket index
+     * @return lower bound
+     */
+    public static long lowerBound(int bucket) {
+        return bucket == 0 ? 0 : (long) Math.ceil(Math.pow(GROWTH, bucket - 1));
+    }
+
+    /**
+     * Bucket a value falls into. Bucket 0 holds zero; bucket {@code i} holds
+     * values in [GROWTH^(i-1), GROWTH^i), with the last bucket open-ended.
+     *
+     * @param value the value
+     * @return bucket index
+     */
+    static int bucketOf(long value) {
+        if (value <= 0) {
+            return 0;
+        }
+        int bucket = 1 + (int) Math.floor(Math.log(value) / LOG_GROWTH);
+        // Guard against rounding right at a bucket edge.
+        if (bucket > 1 && value < lowerBound(bucket)) {
+            bucket--;
+        } else if (bucket + 1 < BUCKETS && value >= lowerBound(bucket + 1)) {
+            bucket++;
+        }
+        return Math.min(bucket, BUCKETS - 1);
+    }
+
+    private static long representative(int bucket) {
+        if (bucket == 0) {
+            return 0;
+        }
+        // Geometric midpoint keeps the relative error the same on both sides.
+        return Math.round(Math.pow(GROWTH, bucket - 0.5));
+    }
+
+    void writeTo(ByteBuffer buffer) {
+        for (long count : counts) {
+            buffer.putLong(count);
+        }
+    }
+
+    void readFrom(ByteBuffer buffer) {
+        total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buffer.getLong();
+            total += counts[i];
+        }
+    }
+
+    void copyFrom(LogHistogram other) {
+        System.arraycopy(other.counts, 0, counts, 0, BUCKETS);
+        total = other.total;
+    }
+}
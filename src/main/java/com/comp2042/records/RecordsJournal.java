@@ -0,0 +1,437 @@
+package com.comp2042.records;
+
+import com.comp2042.models.GameMode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.zip.CRC32;
+
+/**
+ * Durable per-mode records: an append-only journal of every finished run plus
+ * a small index of the bests.
+ *
+ * Journal: fixed-size {@link RunRecord}s appended to one file and never
+ * rewritten. Records are written by a background thread; whatever has queued
+ * up while it was busy is written and fsynced as one batch (group commit), so
+ * the FX thread never waits for the disk.
+ *
+ * Index: per-mode best score, best time and {@link RunStatistics}, plus how
+ * many journal bytes it covers. It is rewritten after each batch through a
+ * temp file and an atomic rename, so startup reads O(modes) values and only
+ * replays journal records written after the index.
+ *
+ * Crash safety: on open, a partial or corrupt record at the end of the journal
+ * is cut off; earlier records are never touched. A missing or corrupt index
+ * is rebuilt from the journal.
+ */
+public final class RecordsJournal implements AutoCloseable {
+
+    /** Flag returned by {@link #record}: the run set a new best score. */
+    public static final int NEW_BEST_SCORE = 1;
+    /** Flag returned by {@link #record}: the run set a new best time. */
+    public static final int NEW_BEST_TIME = 2;
+
+    private static final String JOURNAL_FILE = "tetris_records.journal";
+    private static final String INDEX_FILE = "tetris_records.index";
+
+    private static final int INDEX_MAGIC = 0x54524958; // "TRIX"
+    private static final int INDEX_VERSION = 2;
+
+    private static final RunRecord STOP = new RunRecord(GameMode.CLASSIC, 0, 0, -1, 0, 0, false, 0);
+
+    private static RecordsJournal instance;
+
+    private final Path indexFile;
+    private final FileChannel journal;
+
+    // Bests as seen by callers; includes records not yet on disk. Guarded by this.
+    private final int[] bestScores = new int[GameMode.values().length];
+    private final long[] bestTimes = new long[GameMode.values().length];
+    private final RunStatistics[] statistics = newStatistics();
+    private long recordCount;
+
+    // Writer-thread state: bests, statistics and journal length as of the last commit.
+    private final int[] committedScores;
+    private final long[] committedTimes;
+    private final RunStatistics[] committedStatistics = newStatistics();
+    private long committedLength;
+
+    private final LinkedBlockingQueue<RunRecord> pending = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private long submitted;
+    private long written;
+    private boolean closed;
+
+    /**
+     * Opens (or creates) a journal and its index, recovering from any torn write.
+     *
+     * @param journalFile journal path
+     * @param indexFile index path
+     * @throws IOException if the journal cannot be opened
+     */
+    public RecordsJournal(Path journalFile, Path indexFile) throws IOException {
+        this.indexFile = indexFile;
+        Arrays.fill(bestTimes, -1L);
+
+        this.journal = journalFile != null
+                ? FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE)
+                : null;
+        if (journal != null) {
+            load();
+        }
+
+        committedScores = bestScores.clone();
+        committedTimes = bestTimes.clone();
+        for (int i = 0; i < statistics.length; i++) {
+            committedStatistics[i].copyFrom(statistics[i]);
+        }
+
+        writer = new Thread(this::writeLoop, "records-journal");
+        writer.setDaemon(true);
+        if (journal != null) {
+            writer.start();
+        }
+    }
+
+    /**
+     * Shared journal in the working directory, opened on first use. If it
+     * cannot be opened, records are only kept in memory for this session.
+     *
+     * @return the journal
+     */
+    public static synchronized RecordsJournal getInstance() {
+        if (instance == null) {
+            try {
+                instance = new RecordsJournal(Paths.get(JOURNAL_FILE), Paths.get(INDEX_FILE));
+            } catch (IOException e) {
+                System.err.println("Failed to open records journal: " + e.getMessage());
+                try {
+                    instance = new RecordsJournal(null, null);
+                } catch (IOException impossible) {
+                    throw new IllegalStateException(impossible);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Writes out and closes the shared journal if it was opened. Called on exit.
+     */
+    public static synchronized void closeInstance() {
+        if (instance != null) {
+            instance.close();
+            instance = null;
+        }
+    }
+
+    /**
+     * Records a finished run. Updates the bests and statistics immediately
+     * and queues the record for the writer thread.
+     *
+     * @param record the run
+     * @return {@link #NEW_BEST_SCORE} and/or {@link #NEW_BEST_TIME}, or 0
+     */
+    public synchronized int record(RunRecord record) {
+        int index = record.getMode().ordinal();
+        boolean newScore = record.getScore() > bestScores[index];
+        boolean newTime = record.hasBestTime()
+                && (bestTimes[index] < 0 || record.getTimeMillis() < bestTimes[index]);
+        if (newScore) {
+            bestScores[index] = record.getScore();
+        }
+        if (newTime) {
+            bestTimes[index] = record.getTimeMillis();
+        }
+        statistics[index].add(record);
+        recordCount++;
+
+        if (journal != null && !closed) {
+            submitted++;
+            pending.add(record);
+        }
+        return (newScore ? NEW_BEST_SCORE : 0) | (newTime ? NEW_BEST_TIME : 0);
+    }
+
+    public synchronized int getBestScore(GameMode mode) {
+        return bestScores[mode.ordinal()];
+    }
+
+    /**
+     * Best completion time for a mode.
+     *
+     * @param mode the mode
+     * @return milliseconds, or -1 if no run has a time yet
+     */
+    public synchronized long getBestTimeMillis(GameMode mode) {
+        return bestTimes[mode.ordinal()];
+    }
+
+    /**
+     * Aggregates over every recorded run of a mode.
+     *
+     * @param mode the mode
+     * @return a copy that later records do not change
+     */
+    public synchronized RunStatistics getStatistics(GameMode mode) {
+        return statistics[mode.ordinal()].copy();
+    }
+
+    /**
+     * Runs recorded, including ones loaded from disk.
+     *
+     * @return record count
+     */
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Blocks until every record queued so far is on disk.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public synchronized void flush() throws InterruptedException {
+        while (written < submitted && writer.isAlive()) {
+            wait(100);
+        }
+    }
+
+    /**
+     * Writes out queued records and closes the journal.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        if (journal == null) {
+            return;
+        }
+        pending.add(STOP);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            System.err.println("Failed to close records journal: " + e.getMessage());
+        }
+    }
+
+    // ========================= STARTUP =========================
+
+    private void load() throws IOException {
+        long size = journal.size();
+        long covered = readIndex(size);
+
+        // Replay what the index does not cover, stopping at the first bad record.
+        long validLength = covered;
+        ByteBuffer buffer = ByteBuffer.allocate(RunRecord.SIZE);
+        while (validLength + RunRecord.SIZE <= size) {
+            buffer.clear();
+            readFully(buffer, validLength);
+            buffer.flip();
+            RunRecord record = RunRecord.readFrom(buffer);
+            if (record == null) {
+                break;
+            }
+            applyBest(record);
+            statistics[record.getMode().ordinal()].add(record);
+            validLength += RunRecord.SIZE;
+        }
+
+        if (validLength < size) {
+            System.err.println("Records journal: dropping " + (size - validLength) + " bytes of incomplete data");
+            journal.truncate(validLength);
+            journal.force(true);
+        }
+        recordCount = validLength / RunRecord.SIZE;
+        journal.position(validLength);
+        committedLength = validLength;
+    }
+
+    private void applyBest(RunRecord record) {
+        int index = record.getMode().ordinal();
+        bestScores[index] = Math.max(bestScores[index], record.getScore());
+        if (record.hasBestTime() && (bestTimes[index] < 0 || record.getTimeMillis() < bestTimes[index])) {
+            bestTimes[index] = record.getTimeMillis();
+        }
+    }
+
+    /**
+     * Loads the bests and statistics from the index.
+     *
+     * @return journal bytes covered by the index, or 0 if it has to be rebuilt
+     */
+    private long readIndex(long journalSize) {
+        if (indexFile == null || !Files.isRegularFile(indexFile)) {
+            return 0;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(indexFile));
+            int modes = GameMode.values().length;
+            if (buffer.remaining() != indexSize(modes)) {
+                return 0;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.array(), 0, buffer.remaining() - 4);
+            buffer.position(buffer.limit() - 4);
+            if (buffer.getInt() != (int) crc.getValue()) {
+                return 0;
+            }
+            buffer.rewind();
+            if (buffer.getInt() != INDEX_MAGIC || buffer.getInt() != INDEX_VERSION
+                    || buffer.getInt() != modes) {
+                return 0;
+            }
+            long covered = buffer.getLong();
+            if (covered < 0 || covered > journalSize || covered % RunRecord.SIZE != 0) {
+                return 0;
+            }
+            for (int i = 0; i < modes; i++) {
+                bestScores[i] = buffer.getInt();
+                bestTimes[i] = buffer.getLong();
+                statistics[i].readFrom(buffer);
+            }
+            return covered;
+        } catch (IOException e) {
+            System.err.println("Records index unreadable, rebuilding: " + e.getMessage());
+            Arrays.fill(bestScores, 0);
+            Arrays.fill(bestTimes, -1L);
+            for (int i = 0; i < statistics.length; i++) {
+                statistics[i] = new RunStatistics();
+            }
+            return 0;
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (journal.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of records journal");
+            }
+        }
+    }
+
+    // ========================= WRITER THREAD =========================
+
+    private void writeLoop() {
+        List<RunRecord> batch = new ArrayList<>();
+        boolean stopping = false;
+        while (!stopping) {
+            try {
+                batch.add(pending.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            pending.drainTo(batch);
+
+            int count = batch.size();
+            if (batch.remove(STOP)) {
+                stopping = true;
+            }
+            if (!batch.isEmpty()) {
+                commit(batch);
+            }
+            batch.clear();
+
+            synchronized (this) {
+                written += stopping ? count - 1 : count;
+                notifyAll();
+            }
+        }
+    }
+
+    private void commit(List<RunRecord> batch) {
+        ByteBuffer buffer = ByteBuffer.allocate(batch.size() * RunRecord.SIZE);
+        for (RunRecord record : batch) {
+            record.writeTo(buffer);
+        }
+        buffer.flip();
+
+        try {
+            while (buffer.hasRemaining()) {
+                journal.write(buffer, committedLength + buffer.position());
+            }
+            // One fsync for the whole batch.
+            journal.force(false);
+            committedLength += batch.size() * (long) RunRecord.SIZE;
+
+            for (RunRecord record : batch) {
+                int index = record.getMode().ordinal();
+                committedScores[index] = Math.max(committedScores[index], record.getScore());
+                if (record.hasBestTime()
+                        && (committedTimes[index] < 0 || record.getTimeMillis() < committedTimes[index])) {
+                    committedTimes[index] = record.getTimeMillis();
+                }
+                committedStatistics[index].add(record);
+            }
+            writeIndex();
+        } catch (IOException e) {
+            // The journal is re-validated on the next start, so a failed batch cannot corrupt it.
+            System.err.println("Failed to write records journal: " + e.getMessage());
+        }
+    }
+
+    private void writeIndex() throws IOException {
+        int modes = GameMode.values().length;
+        ByteBuffer buffer = ByteBuffer.allocate(indexSize(modes));
+        buffer.putInt(INDEX_MAGIC);
+        buffer.putInt(INDEX_VERSION);
+        buffer.putInt(modes);
+        buffer.putLong(committedLength);
+        for (int i = 0; i < modes; i++) {
+            buffer.putInt(committedScores[i]);
+            buffer.putLong(committedTimes[i]);
+            committedStatistics[i].writeTo(buffer);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+
+        Path temp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        }
+        try {
+            Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static int indexSize(int modes) {
+        return 4 + 4 + 4 + 8 + modes * (4 + 8 + RunStatistics.SIZE) + 4;
+    }
+
+    private static RunStatistics[] newStatistics() {
+        RunStatistics[] all = new RunStatistics[GameMode.values().length];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = new RunStatistics();
+        }
+        return all;
+    }
+}
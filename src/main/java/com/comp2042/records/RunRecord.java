@@ -0,0 +1,160 @@
+package com.comp2042.records;
+
+import com.comp2042.models.GameMode;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * Result of one finished run, as stored in the records journal.
+ *
+ * On disk every record is exactly {@link #SIZE} bytes, ending in a CRC32 of
+ * the bytes before it, so a record cut short or scrambled by a crash is
+ * detected and dropped without touching the records before it.
+ */
+public final class RunRecord {
+
+    /** Encoded size in bytes. */
+    static final int SIZE = 40;
+
+    private static final int PAYLOAD_SIZE = SIZE - 4;
+    private static final int FLAG_WIN = 1;
+    private static final int MAX_GARBAGE_ROWS = 0xFFFF;
+
+    private final GameMode mode;
+    private final int score;
+    private final int lines;
+    private final long timeMillis;
+    private final long seed;
+    private final long timestamp;
+    private final boolean win;
+    private final int garbageRows;
+
+    /**
+     * Creates a record.
+     *
+     * @param mode mode that was played
+     * @param score final score
+     * @param lines lines cleared
+     * @param timeMillis play time, or -1 if it was not measured
+     * @param seed seed of the brick sequence
+     * @param timestamp when the run ended, in epoch milliseconds
+     * @param win whether the mode's win condition was met
+     * @param garbageRows garbage rows received (Survival), 0 otherwise
+     */
+    public RunRecord(GameMode mode, int score, int lines, long timeMillis,
+                     long seed, long timestamp, boolean win, int garbageRows) {
+        this.mode = mode;
+        this.score = score;
+        this.lines = lines;
+        this.timeMillis = timeMillis;
+        this.seed = seed;
+        this.timestamp = timestamp;
+        this.win = win;
+        // Stored in two bytes on disk.
+        this.garbageRows = Math.max(0, Math.min(garbageRows, MAX_GARBAGE_ROWS));
+    }
+
+    public GameMode getMode() {
+        return mode;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Play time from start to finish. For a won Rush-40 run this is the
+     * completion time.
+     *
+     * @return milliseconds, or -1 if the run has no time
+     */
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public boolean isWin() {
+        return win;
+    }
+
+    /**
+     * Garbage rows pushed onto the board during the run.
+     *
+     * @return rows received, 0 outside Survival
+     */
+    public int getGarbageRows() {
+        return garbageRows;
+    }
+
+    /**
+     * Whether this run's time counts towards the best time: only completed
+     * runs with a recorded time do.
+     *
+     * @return true if the time is a candidate best
+     */
+    public boolean hasBestTime() {
+        return win && timeMillis > 0;
+    }
+
+    /**
+     * Writes the record at the buffer's position, advancing it by {@link #SIZE}.
+     */
+    void writeTo(ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.put((byte) mode.ordinal());
+        buffer.put((byte) (win ? FLAG_WIN : 0));
+        buffer.putShort((short) garbageRows);
+        buffer.putInt(score);
+        buffer.putInt(lines);
+        buffer.putLong(timeMillis);
+        buffer.putLong(seed);
+        buffer.putLong(timestamp);
+        buffer.putInt((int) crc(buffer, start));
+    }
+
+    /**
+     * Reads a record at the buffer's position, advancing it by {@link #SIZE}.
+     *
+     * @return the record, or null if the checksum or mode is invalid
+     */
+    static RunRecord readFrom(ByteBuffer buffer) {
+        int start = buffer.position();
+        long expected = crc(buffer, start);
+        int modeIndex = buffer.get() & 0xFF;
+        int flags = buffer.get();
+        int garbageRows = buffer.getShort() & 0xFFFF;
+        int score = buffer.getInt();
+        int lines = buffer.getInt();
+        long timeMillis = buffer.getLong();
+        long seed = buffer.getLong();
+        long timestamp = buffer.getLong();
+        int stored = buffer.getInt();
+
+        GameMode[] modes = GameMode.values();
+        if (stored != (int) expected || modeIndex >= modes.length) {
+            return null;
+        }
+        return new RunRecord(modes[modeIndex], score, lines, timeMillis, seed, timestamp,
+                (flags & FLAG_WIN) != 0, garbageRows);
+    }
+
+    private static long crc(ByteBuffer buffer, int start) {
+        CRC32 crc = new CRC32();
+        ByteBuffer payload = buffer.duplicate();
+        payload.position(start).limit(start + PAYLOAD_SIZE);
+        crc.update(payload);
+        return crc.getValue();
+    }
+}
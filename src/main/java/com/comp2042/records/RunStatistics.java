@@ -0,0 +1,213 @@
+package com.comp2042.records;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Aggregates over every finished run of one mode.
+ *
+ * Each run is folded in once when it is recorded; nothing keeps the runs
+ * themselves. Score and time distributions are {@link LogHistogram}s and the
+ * rest are running totals, so every query costs the same whether the mode has
+ * ten runs or a million.
+ */
+public final class RunStatistics {
+
+    /** Weight of the newest run in the recent lines-per-minute average. */
+    static final double TREND_WEIGHT = 0.2;
+
+    /** Encoded size in bytes. */
+    static final int SIZE = 8 * 6 + 4 + 2 * LogHistogram.SIZE;
+
+    private final LogHistogram scores = new LogHistogram();
+    // Completion times of won runs, the ones that count towards the best time.
+    private final LogHistogram times = new LogHistogram();
+
+    private long runs;
+    private long wins;
+
+    // Lines and play time of runs that have a play time, for lines per minute.
+    private long timedLines;
+    private long timedMillis;
+    private double recentLinesPerMinute = -1.0;
+
+    private long garbageRows;
+    private int mostGarbageRows;
+
+    /**
+     * Folds one finished run into the aggregates.
+     *
+     * @param record the run
+     */
+    public void add(RunRecord record) {
+        runs++;
+        scores.add(record.getScore());
+        if (record.isWin()) {
+            wins++;
+        }
+        if (record.hasBestTime()) {
+            times.add(record.getTimeMillis());
+        }
+        if (record.getTimeMillis() > 0) {
+            timedLines += record.getLines();
+            timedMillis += record.getTimeMillis();
+            double lpm = record.getLines() * 60_000.0 / record.getTimeMillis();
+            recentLinesPerMinute = recentLinesPerMinute < 0
+                    ? lpm
+                    : recentLinesPerMinute + TREND_WEIGHT * (lpm - recentLinesPerMinute);
+        }
+        garbageRows += record.getGarbageRows();
+        mostGarbageRows = Math.max(mostGarbageRows, record.getGarbageRows());
+    }
+
+    public long getRuns() {
+        return runs;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    /**
+     * Fraction of recorded runs that scored less than {@code score}.
+     *
+     * @param score score to compare
+     * @return fraction in [0, 1], or 0 if there are no runs
+     */
+    public double getScoreRank(int score) {
+        return scores.fractionBelow(score);
+    }
+
+    /**
+     * Fraction of recorded wins that took longer than {@code timeMillis}.
+     *
+     * @param timeMillis completion time to compare
+     * @return fraction in [0, 1], or 0 if there are no timed wins
+     */
+    public double getTimeRank(long timeMillis) {
+        return times.fractionAbove(timeMillis);
+    }
+
+    /**
+     * Approximate score at a quantile, e.g. 0.5 for the median.
+     *
+     * @param q quantile in [0, 1]
+     * @return the score, or -1 if there are no runs
+     */
+    public long getScoreQuantile(double q) {
+        return scores.quantile(q);
+    }
+
+    /**
+     * Approximate completion time of won runs at a quantile.
+     *
+     * @param q quantile in [0, 1]
+     * @return milliseconds, or -1 if there are no timed wins
+     */
+    public long getTimeQuantile(double q) {
+        return times.quantile(q);
+    }
+
+    public LogHistogram getScoreHistogram() {
+        return scores;
+    }
+
+    public LogHistogram getTimeHistogram() {
+        return times;
+    }
+
+    /**
+     * Lines per minute over all timed runs together.
+     *
+     * @return lines per minute, or 0 if no run has a play time
+     */
+    public double getAverageLinesPerMinute() {
+        return timedMillis > 0 ? timedLines * 60_000.0 / timedMillis : 0.0;
+    }
+
+    /**
+     * Lines per minute weighted towards the latest runs.
+     *
+     * @return lines per minute, or 0 if no run has a play time
+     */
+    public double getRecentLinesPerMinute() {
+        return Math.max(recentLinesPerMinute, 0.0);
+    }
+
+    /**
+     * How far recent runs are above (positive) or below (negative) the all-time pace.
+     *
+     * @return difference in lines per minute
+     */
+    public double getLinesPerMinuteTrend() {
+        return getRecentLinesPerMinute() - getAverageLinesPerMinute();
+    }
+
+    /**
+     * Total garbage rows received over all runs.
+     *
+     * @return rows
+     */
+    public long getGarbageRows() {
+        return garbageRows;
+    }
+
+    /**
+     * Average garbage rows received per run.
+     *
+     * @return rows per run, or 0 if there are no runs
+     */
+    public double getAverageGarbageRows() {
+        return runs > 0 ? (double) garbageRows / runs : 0.0;
+    }
+
+    public int getMostGarbageRows() {
+        return mostGarbageRows;
+    }
+
+    /**
+     * Independent copy, safe to read while the original keeps changing.
+     *
+     * @return the copy
+     */
+    public RunStatistics copy() {
+        RunStatistics copy = new RunStatistics();
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    void copyFrom(RunStatistics other) {
+        scores.copyFrom(other.scores);
+        times.copyFrom(other.times);
+        runs = other.runs;
+        wins = other.wins;
+        timedLines = other.timedLines;
+        timedMillis = other.timedMillis;
+        recentLinesPerMinute = other.recentLinesPerMinute;
+        garbageRows = other.garbageRows;
+        mostGarbageRows = other.mostGarbageRows;
+    }
+
+    void writeTo(ByteBuffer buffer) {
+        buffer.putLong(runs);
+        buffer.putLong(wins);
+        buffer.putLong(timedLines);
+        buffer.putLong(timedMillis);
+        buffer.putDouble(recentLinesPerMinute);
+        buffer.putLong(garbageRows);
+        buffer.putInt(mostGarbageRows);
+        scores.writeTo(buffer);
+        times.writeTo(buffer);
+    }
+
+    void readFrom(ByteBuffer buffer) {
+        runs = buffer.getLong();
+        wins = buffer.getLong();
+        timedLines = buffer.getLong();
+        timedMillis = buffer.getLong();
+        recentLinesPerMinute = buffer.getDouble();
+        garbageRows = buffer.getLong();
+        mostGarbageRows = buffer.getInt();
+        scores.readFrom(buffer);
+        times.readFrom(buffer);
+    }
+}
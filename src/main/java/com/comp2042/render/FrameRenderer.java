@@ -0,0 +1,302 @@
+package com.comp2042.render;
+
+import com.comp2042.models.ViewData;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.IndexColorModel;
+import java.util.Arrays;
+
+/**
+ * Draws game frames into plain pixel arrays, without JavaFX, so frames can
+ * be produced on machines with no display.
+ *
+ * It takes the same input as GuiRenderingHelper (the board matrix and a
+ * ViewData) and uses the same colours and hidden rows. A frame is the board
+ * with its grid, the ghost, the active brick, the held brick on the left and
+ * the next queue on the right. Pixels are indices into {@link #PALETTE}, one
+ * byte each, row by row: cells are filled directly rather than through
+ * Graphics2D, and the small fixed palette lets GIF frames be written with no
+ * colour quantisation. Every cell is copied row by row from a tile drawn
+ * once per colour when the renderer is made, rather than filled again each
+ * frame. A renderer keeps no state between frames and its tiles never change,
+ * so one can render on several threads at once.
+ */
+public final class FrameRenderer {
+
+    /** Rows above the visible board, as in the GUI. */
+    public static final int HIDDEN_TOP_ROWS = 3;
+
+    // Palette indices.
+    static final int BACKGROUND = 0;
+    static final int GRID = 8;
+    static final int WHITE = 9;
+    static final int GHOST = 10; // GHOST + colour - 1 for colours 1..7
+    static final int PANEL = 17;
+
+    /** Colours of every frame: GuiColorHelper's brick colours plus the board, grid, ghost and panel shades. */
+    public static final IndexColorModel PALETTE = buildPalette();
+
+    // Side panels are four cells for a preview plus one cell of gap.
+    private static final int SIDE_CELLS = 5;
+    private static final int PREVIEW_CELLS = 4;
+    private static final int NEXT_SHOWN = 3;
+
+    private final int rows;
+    private final int columns;
+    private final int cellSize;
+    private final int width;
+    private final int height;
+
+    // Pre-drawn cells, indexed [edge is WHITE ? 1 : 0][fill], each cellSize x cellSize.
+    private final byte[][][] tiles;
+
+    /**
+     * Creates a renderer for boards of the given size.
+     *
+     * @param rows board rows, including the hidden ones
+     * @param columns board columns
+     * @param cellSize cell edge in pixels
+     */
+    public FrameRenderer(int rows, int columns, int cellSize) {
+        if (cellSize < 2) {
+            throw new IllegalArgumentException("Cells must be at least 2 pixels");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.cellSize = cellSize;
+        this.width = (SIDE_CELLS + columns + SIDE_CELLS) * cellSize;
+        this.height = Math.max(rows - HIDDEN_TOP_ROWS, 1 + NEXT_SHOWN * PREVIEW_CELLS) * cellSize;
+        this.tiles = new byte[2][PANEL + 1][];
+        for (int fill = 0; fill <= PANEL; fill++) {
+            tiles[0][fill] = buildTile(fill, GRID);
+            tiles[1][fill] = buildTile(fill, WHITE);
+        }
+    }
+
+    /**
+     * Renders a frame.
+     *
+     * @param board the board matrix (rows x columns)
+     * @param view the active brick, ghost and previews; null draws the board alone
+     * @param pixels destination, {@link #getWidth()} x {@link #getHeight()} palette indices
+     */
+    public void render(int[][] board, ViewData view, byte[] pixels) {
+        if (pixels.length != width * height) {
+            throw new IllegalArgumentException("Frame buffer must hold " + width * height + " pixels");
+        }
+        render(board, view, pixels, 0, width);
+    }
+
+    /**
+     * Renders a frame into a rectangle of a larger buffer, so several boards
+     * can share one image (split screen).
+     *
+     * @param board the board matrix (rows x columns)
+     * @param view the active brick, ghost and previews; null draws the board alone
+     * @param pixels destination palette indices
+     * @param offset index of the frame's top-left pixel in {@code pixels}
+     * @param stride pixels per row of {@code pixels}, at least {@link #getWidth()}
+     */
+    public void render(int[][] board, ViewData view, byte[] pixels, int offset, int stride) {
+        if (stride < width || offset < 0 || offset + (height - 1) * stride + width > pixels.length) {
+            throw new IllegalArgumentException("Frame does not fit the buffer");
+        }
+        Target target = new Target(pixels, offset, stride);
+        fill(target, 0, 0, width, height, PANEL);
+
+        int boardLeft = SIDE_CELLS * cellSize;
+        for (int row = HIDDEN_TOP_ROWS; row < rows; row++) {
+            for (int col = 0; col < columns; col++) {
+                drawCell(target, boardLeft + col * cellSize, (row - HIDDEN_TOP_ROWS) * cellSize,
+                        colourIndex(board[row][col]), GRID);
+            }
+        }
+        if (view == null) {
+            return;
+        }
+
+        int[][] brick = view.getBrickData();
+        drawShape(target, brick, view.getGhostXPosition(), view.getGhostYPosition(), true);
+        drawShape(target, brick, view.getxPosition(), view.getyPosition(), false);
+
+        if (view.getHoldBrickData() != null) {
+            drawPreview(target, view.getHoldBrickData(), 0, cellSize);
+        }
+        int[][][] next = view.getNextQueue();
+        if (next != null) {
+            int left = (SIDE_CELLS + columns + 1) * cellSize;
+            for (int i = 0; i < next.length && i < NEXT_SHOWN; i++) {
+                drawPreview(target, next[i], left, (1 + i * PREVIEW_CELLS) * cellSize);
+            }
+        }
+    }
+
+    /**
+     * Renders a frame into a new image.
+     *
+     * @param board the board matrix
+     * @param view the active brick, ghost and previews; may be null
+     * @return the frame
+     */
+    public BufferedImage render(int[][] board, ViewData view) {
+        byte[] pixels = new byte[width * height];
+        render(board, view, pixels);
+        return toImage(pixels);
+    }
+
+    /**
+     * Wraps rendered pixels in an indexed image, for ImageIO.
+     *
+     * @param pixels a rendered frame
+     * @return an image holding a copy of the pixels
+     */
+    public BufferedImage toImage(byte[] pixels) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_INDEXED, PALETTE);
+        byte[] data = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+        System.arraycopy(pixels, 0, data, 0, pixels.length);
+        return image;
+    }
+
+    /** Where a frame is drawn: its top-left pixel and the buffer's row length. */
+    private static final class Target {
+        final byte[] pixels;
+        final int offset;
+        final int stride;
+
+        Target(byte[] pixels, int offset, int stride) {
+            this.pixels = pixels;
+            this.offset = offset;
+            this.stride = stride;
+        }
+    }
+
+    /** Draws a brick on the board, skipping cells in the hidden rows. */
+    private void drawShape(Target target, int[][] shape, int x, int y, boolean ghost) {
+        int boardLeft = SIDE_CELLS * cellSize;
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                int row = y + i - HIDDEN_TOP_ROWS;
+                int col = x + j;
+                if (shape[i][j] == 0 || row < 0 || row >= rows - HIDDEN_TOP_ROWS || col < 0 || col >= columns) {
+                    continue;
+                }
+                int colour = colourIndex(shape[i][j]);
+                if (ghost) {
+                    drawCell(target, boardLeft + col * cellSize, row * cellSize,
+                            colour < GRID ? GHOST + colour - 1 : colour, WHITE);
+                } else {
+                    drawCell(target, boardLeft + col * cellSize, row * cellSize, colour, GRID);
+                }
+            }
+        }
+    }
+
+    private void drawPreview(Target target, int[][] shape, int left, int top) {
+        for (int i = 0; i < shape.length && i < PREVIEW_CELLS; i++) {
+            for (int j = 0; j < shape[i].length && j < PREVIEW_CELLS; j++) {
+                if (shape[i][j] != 0) {
+                    drawCell(target, left + j * cellSize, top + i * cellSize, colourIndex(shape[i][j]), GRID);
+                }
+            }
+        }
+    }
+
+    /** Copies the cell's tile into the frame, one row at a time. */
+    private void drawCell(Target target, int x, int y, int fill, int edge) {
+        byte[] tile = tiles[edge == WHITE ? 1 : 0][fill];
+        int start = target.offset + y * target.stride + x;
+        for (int row = 0; row < cellSize; row++) {
+            System.arraycopy(tile, row * cellSize, target.pixels, start + row * target.stride, cellSize);
+        }
+    }
+
+    /** A cell is its fill with a one-pixel edge on the top and left, like the GUI's grid stroke. */
+    private byte[] buildTile(int fill, int edge) {
+        byte[] tile = new byte[cellSize * cellSize];
+        Arrays.fill(tile, (byte) fill);
+        Arrays.fill(tile, 0, cellSize, (byte) edge);
+        for (int row = 1; row < cellSize; row++) {
+            tile[row * cellSize] = (byte) edge;
+        }
+        return tile;
+    }
+
+    private void fill(Target target, int x, int y, int w, int h, int index) {
+        byte value = (byte) index;
+        for (int row = y; row < y + h; row++) {
+            int start = target.offset + row * target.stride + x;
+            Arrays.fill(target.pixels, start, start + w, value);
+        }
+    }
+
+    /** Board values 1..7 are brick colours; anything else draws white, as in GuiColorHelper. */
+    private static int colourIndex(int value) {
+        if (value == 0) {
+            return BACKGROUND;
+        }
+        return value >= 1 && value <= 7 ? value : WHITE;
+    }
+
+    private static IndexColorModel buildPalette() {
+        int[] rgb = new int[PANEL + 1];
+        rgb[BACKGROUND] = 0x05060A;
+        // AQUA, BLUEVIOLET, DARKGREEN, YELLOW, RED, BEIGE, BURLYWOOD
+        int[] bricks = {0x00FFFF, 0x8A2BE2, 0x006400, 0xFFFF00, 0xFF0000, 0xF5F5DC, 0xDEB887};
+        for (int i = 0; i < bricks.length; i++) {
+            rgb[1 + i] = bricks[i];
+            rgb[GHOST + i] = blend(bricks[i], rgb[BACKGROUND], 0.3);
+        }
+        rgb[GRID] = 0x373737;
+        rgb[WHITE] = 0xFFFFFF;
+        rgb[PANEL] = 0x16181F;
+
+        byte[] r = new byte[rgb.length];
+        byte[] g = new byte[rgb.length];
+        byte[] b = new byte[rgb.length];
+        for (int i = 0; i < rgb.length; i++) {
+            r[i] = (byte) (rgb[i] >> 16);
+            g[i] = (byte) (rgb[i] >> 8);
+            b[i] = (byte) rgb[i];
+        }
+        return new IndexColorModel(8, rgb.length, r, g, b);
+    }
+
+    /** The ghost's 30% opacity, flattened onto the board background. */
+    private static int blend(int colour, int under, double alpha) {
+        int result = 0;
+        for (int shift = 16; shift >= 0; shift -= 8) {
+            int top = (colour >> shift) & 0xFF;
+            int bottom = (under >> shift) & 0xFF;
+            result |= (int) Math.round(top * alpha + bottom * (1 - alpha)) << shift;
+        }
+        return result;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    /** X of the board's left edge in a frame, past the hold panel. */
+    public int getBoardLeft() {
+        return SIDE_CELLS * cellSize;
+    }
+
+    /** Width of the board alone, without the side panels. */
+    public int getBoardWidth() {
+        return columns * cellSize;
+    }
+
+    /** Height of the board's visible rows. */
+    public int getBoardHeight() {
+        return (rows - HIDDEN_TOP_ROWS) * cellSize;
+    }
+}
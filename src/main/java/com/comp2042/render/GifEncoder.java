@@ -0,0 +1,235 @@
+package com.comp2042.render;
+
+import java.awt.image.IndexColorModel;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Minimal animated GIF writer for frames of palette indices.
+ *
+ * Each frame is encoded on its own into a complete block (graphic control
+ * extension, image descriptor and LZW data), so frames can be compressed on
+ * several threads and the blocks written in order afterwards. A frame only
+ * stores the rectangle that changed since the previous one and leaves the
+ * rest of the canvas in place, which keeps a game's mostly still board small.
+ */
+final class GifEncoder {
+
+    // The palette is written as a 32-entry global table, so codes start at 5 bits.
+    private static final int TABLE_BITS = 5;
+    private static final int TABLE_SIZE = 1 << TABLE_BITS;
+
+    private static final int MAX_CODE_BITS = 12;
+    private static final int MAX_CODES = 1 << MAX_CODE_BITS;
+    private static final int HASH_SIZE = 5003;
+
+    private GifEncoder() {
+    }
+
+    /**
+     * Writes the file header, the global palette and a loop-forever extension.
+     *
+     * @param out destination
+     * @param width canvas width
+     * @param height canvas height
+     * @param palette colours; at most 32
+     * @throws IOException if writing fails
+     */
+    static void writeHeader(OutputStream out, int width, int height, IndexColorModel palette) throws IOException {
+        if (palette.getMapSize() > TABLE_SIZE) {
+            throw new IllegalArgumentException("GIF palette holds at most " + TABLE_SIZE + " colours");
+        }
+        out.write(new byte[]{'G', 'I', 'F', '8', '9', 'a'});
+        writeShort(out, width);
+        writeShort(out, height);
+        out.write(0x80 | ((TABLE_BITS - 1) << 4) | (TABLE_BITS - 1)); // global table, its size
+        out.write(0); // background colour
+        out.write(0); // no aspect ratio
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            boolean used = i < palette.getMapSize();
+            out.write(used ? palette.getRed(i) : 0);
+            out.write(used ? palette.getGreen(i) : 0);
+            out.write(used ? palette.getBlue(i) : 0);
+        }
+
+        out.write(new byte[]{0x21, (byte) 0xFF, 11});
+        out.write(new byte[]{'N', 'E', 'T', 'S', 'C', 'A', 'P', 'E', '2', '.', '0'});
+        out.write(new byte[]{3, 1, 0, 0, 0}); // loop count 0 = forever
+    }
+
+    static void writeTrailer(OutputStream out) throws IOException {
+        out.write(0x3B);
+    }
+
+    /**
+     * Encodes one frame as the rectangle where it differs from the previous one.
+     *
+     * @param pixels the frame, width x height palette indices
+     * @param previous the frame before it, or null for the first frame
+     * @param width canvas width
+     * @param height canvas height
+     * @param delayCentis how long the frame is shown, in hundredths of a second
+     * @return the complete frame block
+     */
+    static byte[] encodeFrame(byte[] pixels, byte[] previous, int width, int height, int delayCentis) {
+        int left = 0;
+        int top = 0;
+        int right = width - 1;
+        int bottom = height - 1;
+        if (previous != null) {
+            top = height;
+            bottom = -1;
+            left = width;
+            right = -1;
+            for (int y = 0; y < height; y++) {
+                int row = y * width;
+                for (int x = 0; x < width; x++) {
+                    if (pixels[row + x] != previous[row + x]) {
+                        top = Math.min(top, y);
+                        bottom = y;
+                        left = Math.min(left, x);
+                        right = Math.max(right, x);
+                    }
+                }
+            }
+            if (bottom < 0) {
+                // Nothing changed: one unchanged pixel still carries the delay.
+                top = 0;
+                bottom = 0;
+                left = 0;
+                right = 0;
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        out.write(0x21);
+        out.write(0xF9);
+        out.write(4);
+        out.write(1 << 2); // disposal: leave the frame in place
+        writeShort(out, delayCentis);
+        out.write(0);
+        out.write(0);
+
+        out.write(0x2C);
+        writeShort(out, left);
+        writeShort(out, top);
+        writeShort(out, right - left + 1);
+        writeShort(out, bottom - top + 1);
+        out.write(0); // no local table, not interlaced
+
+        out.write(TABLE_BITS);
+        compress(pixels, width, left, top, right - left + 1, bottom - top + 1, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Variable-width LZW over the rectangle's pixels, in 255-byte sub-blocks.
+     * The table is cleared when it fills, as GIF decoders expect.
+     */
+    private static void compress(byte[] pixels, int width, int left, int top, int w, int h,
+                                 ByteArrayOutputStream out) {
+        int clear = 1 << TABLE_BITS;
+        int end = clear + 1;
+        int[] keys = new int[HASH_SIZE];
+        int[] codes = new int[HASH_SIZE];
+        Arrays.fill(keys, -1);
+
+        BitPacker bits = new BitPacker(out);
+        int codeBits = TABLE_BITS + 1;
+        int next = end + 1;
+        bits.write(clear, codeBits);
+
+        int prefix = pixels[top * width + left] & 0xFF;
+        for (int i = 1; i < w * h; i++) {
+            int pixel = pixels[(top + i / w) * width + left + i % w] & 0xFF;
+            int key = (prefix << 8) | pixel;
+            int slot = (key * 31 + pixel) % HASH_SIZE;
+            while (keys[slot] != -1 && keys[slot] != key) {
+                slot = slot + 1 == HASH_SIZE ? 0 : slot + 1;
+            }
+            if (keys[slot] == key) {
+                prefix = codes[slot];
+                continue;
+            }
+
+            bits.write(prefix, codeBits);
+            if (next >= (1 << codeBits) && codeBits < MAX_CODE_BITS) {
+                codeBits++;
+            }
+            if (next < MAX_CODES) {
+                keys[slot] = key;
+                codes[slot] = next++;
+            } else {
+                bits.write(clear, codeBits);
+                Arrays.fill(keys, -1);
+                codeBits = TABLE_BITS + 1;
+                next = end + 1;
+            }
+            prefix = pixel;
+        }
+        bits.write(prefix, codeBits);
+        if (next >= (1 << codeBits) && codeBits < MAX_CODE_BITS) {
+            codeBits++;
+        }
+        bits.write(end, codeBits);
+        bits.finish();
+    }
+
+    private static void writeShort(OutputStream out, int value) throws IOException {
+        out.write(value & 0xFF);
+        out.write((value >> 8) & 0xFF);
+    }
+
+    private static void writeShort(ByteArrayOutputStream out, int value) {
+        out.write(value & 0xFF);
+        out.write((value >> 8) & 0xFF);
+    }
+
+    /** Packs codes least significant bit first into length-prefixed sub-blocks. */
+    private static final class BitPacker {
+        private final ByteArrayOutputStream out;
+        private final byte[] block = new byte[255];
+        private int blockSize;
+        private int buffer;
+        private int bufferBits;
+
+        BitPacker(ByteArrayOutputStream out) {
+            this.out = out;
+        }
+
+        void write(int code, int bits) {
+            buffer |= code << bufferBits;
+            bufferBits += bits;
+            while (bufferBits >= 8) {
+                put(buffer & 0xFF);
+                buffer >>>= 8;
+                bufferBits -= 8;
+            }
+        }
+
+        void finish() {
+            if (bufferBits > 0) {
+                put(buffer & 0xFF);
+            }
+            flushBlock();
+            out.write(0); // end of image data
+        }
+
+        private void put(int value) {
+            block[blockSize++] = (byte) value;
+            if (blockSize == block.length) {
+                flushBlock();
+            }
+        }
+
+        private void flushBlock() {
+            if (blockSize > 0) {
+                out.write(blockSize);
+                out.write(block, 0, blockSize);
+                blockSize = 0;
+            }
+        }
+    }
+}
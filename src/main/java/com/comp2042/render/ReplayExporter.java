@@ -0,0 +1,251 @@
+package com.comp2042.render;
+
+import com.comp2042.models.GravityProfile;
+import com.comp2042.models.SimpleBoard;
+import com.comp2042.models.ViewData;
+import com.comp2042.replay.ReplayGame;
+import com.comp2042.replay.ReplayPlayer;
+import com.comp2042.sim.HeadlessGame;
+
+import javax.imageio.ImageIO;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Exports replays as images with {@link FrameRenderer}: an animated GIF, a
+ * numbered PNG sequence, or a single PNG thumbnail. Needs no display.
+ *
+ * The replay is played forward once on the calling thread, which renders
+ * each frame; compressing frames (LZW for GIF, PNG encoding and writing)
+ * runs on a fork-join pool. At most {@link #getFramesInFlight()} frames are
+ * waiting at a time, so memory stays flat however long the replay is, and
+ * GIF blocks are written in frame order as they complete.
+ *
+ * Command line: {@code ReplayExporter <replay> <output.gif | output.png | directory> [fps] [cell size]}
+ */
+public final class ReplayExporter {
+
+    /** Frames per second unless asked otherwise. */
+    public static final int DEFAULT_FPS = 30;
+
+    /** Cell edge in pixels unless asked otherwise. */
+    public static final int DEFAULT_CELL_SIZE = 16;
+
+    private final FrameRenderer renderer;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private int framesInFlight = 4 * Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Creates an exporter drawing cells of the given size.
+     *
+     * @param cellSize cell edge in pixels
+     */
+    public ReplayExporter(int cellSize) {
+        this.renderer = new FrameRenderer(HeadlessGame.BOARD_ROWS, HeadlessGame.BOARD_COLUMNS, cellSize);
+    }
+
+    /**
+     * Writes the whole replay as a looping animated GIF.
+     *
+     * @param player the replay; played from its start
+     * @param file destination
+     * @param fps frames per second
+     * @return number of frames written
+     * @throws IOException if the replay cannot be read or the file written
+     */
+    public int exportGif(ReplayPlayer player, Path file, int fps) throws IOException {
+        int width = renderer.getWidth();
+        int height = renderer.getHeight();
+        ArrayDeque<Future<byte[]>> pending = new ArrayDeque<>();
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            GifEncoder.writeHeader(out, width, height, FrameRenderer.PALETTE);
+            byte[] previous = null;
+            int frames = frameCount(player, fps);
+            for (int i = 0; i < frames; i++) {
+                byte[] pixels = renderFrame(player, tickOf(i, fps));
+                byte[] before = previous;
+                // Frame delays are whole centiseconds; rounding each frame's end keeps the total exact.
+                int delay = (int) (Math.round((i + 1) * 100.0 / fps) - Math.round(i * 100.0 / fps));
+                pending.add(pool.submit(() -> GifEncoder.encodeFrame(pixels, before, width, height, delay)));
+                previous = pixels;
+                if (pending.size() >= framesInFlight) {
+                    out.write(await(pending.poll()));
+                }
+            }
+            while (!pending.isEmpty()) {
+                out.write(await(pending.poll()));
+            }
+            GifEncoder.writeTrailer(out);
+            return frames;
+        } finally {
+            for (Future<byte[]> future : pending) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Writes the whole replay as {@code frame-00000.png}, {@code frame-00001.png}, ...
+     *
+     * @param player the replay; played from its start
+     * @param directory destination directory, created if missing
+     * @param fps frames per second
+     * @return number of frames written
+     * @throws IOException if the replay cannot be read or a file written
+     */
+    public int exportPngSequence(ReplayPlayer player, Path directory, int fps) throws IOException {
+        Files.createDirectories(directory);
+        ArrayDeque<Future<byte[]>> pending = new ArrayDeque<>();
+        try {
+            int frames = frameCount(player, fps);
+            for (int i = 0; i < frames; i++) {
+                byte[] pixels = renderFrame(player, tickOf(i, fps));
+                Path file = directory.resolve(String.format(Locale.ROOT, "frame-%05d.png", i));
+                pending.add(pool.submit(() -> {
+                    writePng(pixels, file);
+                    return null;
+                }));
+                if (pending.size() >= framesInFlight) {
+                    await(pending.poll());
+                }
+            }
+            while (!pending.isEmpty()) {
+                await(pending.poll());
+            }
+            return frames;
+        } finally {
+            for (Future<byte[]> future : pending) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Writes one frame as a PNG, for thumbnails.
+     *
+     * @param player the replay
+     * @param tick the moment to show, clamped to the replay
+     * @param file destination
+     * @throws IOException if the replay cannot be read or the file written
+     */
+    public void exportThumbnail(ReplayPlayer player, long tick, Path file) throws IOException {
+        writePng(renderFrame(player, tick), file);
+    }
+
+    /** Plays to {@code tick} and renders the game there. */
+    private byte[] renderFrame(ReplayPlayer player, long tick) throws IOException {
+        player.seek(tick);
+        ReplayGame game = player.getGame();
+        SimpleBoard board = game.getBoard();
+        // A finished game's last brick spawned into the stack; show the board alone.
+        ViewData view = game.isFinished() ? null : board.getViewData();
+        byte[] pixels = new byte[renderer.getWidth() * renderer.getHeight()];
+        renderer.render(board.getBoardMatrix(), view, pixels);
+        return pixels;
+    }
+
+    private void writePng(byte[] pixels, Path file) throws IOException {
+        if (!ImageIO.write(renderer.toImage(pixels), "png", file.toFile())) {
+            throw new IOException("No PNG writer available");
+        }
+    }
+
+    private static int frameCount(ReplayPlayer player, int fps) {
+        if (fps <= 0) {
+            throw new IllegalArgumentException("fps must be positive");
+        }
+        return (int) (player.getDurationTicks() * fps / GravityProfile.TICKS_PER_SECOND) + 1;
+    }
+
+    private static long tickOf(int frame, int fps) {
+        return (long) frame * GravityProfile.TICKS_PER_SECOND / fps;
+    }
+
+    private static byte[] await(Future<byte[]> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while exporting", e);
+        } catch (ExecutionException e) {
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+            }
+            throw new IOException("Failed to encode a frame", e.getCause());
+        }
+    }
+
+    /**
+     * Sets the pool frames are encoded on (the common pool by default).
+     *
+     * @param pool the pool
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Caps the number of rendered frames waiting to be encoded or written.
+     *
+     * @param framesInFlight at least 1
+     */
+    public void setFramesInFlight(int framesInFlight) {
+        this.framesInFlight = Math.max(1, framesInFlight);
+    }
+
+    public int getFramesInFlight() {
+        return framesInFlight;
+    }
+
+    public FrameRenderer getRenderer() {
+        return renderer;
+    }
+
+    /**
+     * Exports a replay from the command line. The output's extension picks
+     * the format: .gif for an animation, .png for a thumbnail of the last
+     * frame, anything else is a directory for a PNG sequence.
+     *
+     * @param args replay path, output path, then optional fps and cell size
+     * @throws IOException if the replay cannot be read or the output written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ReplayExporter <replay> <output.gif | output.png | directory> [fps] [cell size]");
+            return;
+        }
+        System.setProperty("java.awt.headless", "true");
+        Path replay = Paths.get(args[0]);
+        Path output = Paths.get(args[1]);
+        int fps = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_FPS;
+        int cellSize = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_CELL_SIZE;
+
+        ReplayExporter exporter = new ReplayExporter(cellSize);
+        String name = output.getFileName().toString().toLowerCase(Locale.ROOT);
+        long start = System.nanoTime();
+        try (ReplayPlayer player = ReplayPlayer.open(replay)) {
+            if (name.endsWith(".png")) {
+                exporter.exportThumbnail(player, player.getDurationTicks(), output);
+                System.out.println("Wrote thumbnail " + output);
+                return;
+            }
+            int frames = name.endsWith(".gif")
+                    ? exporter.exportGif(player, output, fps)
+                    : exporter.exportPngSequence(player, output, fps);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf(Locale.ROOT, "Wrote %d frames in %.2fs%n", frames, seconds);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.comp2042.replay;
+
+/**
+ * Record types in a replay's event stream, one per InputEventListener call.
+ * Stored as the ordinal in one byte, so new types go at the end.
+ */
+public enum ReplayAction {
+    /** A run of gravity ticks; followed by the tick count (1-255). */
+    GRAVITY_TICKS,
+    /** Soft drop by the player (scores a point per row). */
+    SOFT_DROP,
+    /** Drop from the fall timer, not the player. */
+    DROP,
+    HARD_DROP,
+    MOVE_LEFT,
+    MOVE_RIGHT,
+    /** Auto-repeat shift; followed by the signed column count. */
+    SHIFT,
+    ROTATE,
+    ROTATE_CLOCKWISE,
+    ROTATE_180,
+    HOLD,
+    /** A full game state; followed by its length (two bytes) and the state. */
+    STATE
+}
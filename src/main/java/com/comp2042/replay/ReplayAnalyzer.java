@@ -0,0 +1,323 @@
+package com.comp2042.replay;
+
+import com.comp2042.models.GameMode;
+import com.comp2042.models.SimpleBoard;
+import com.comp2042.records.LogHistogram;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Re-simulates recorded games without JavaFX and measures how they were
+ * played: pieces per second, inputs per piece, finesse faults, the highest
+ * stack and garbage cleared.
+ *
+ * A directory is analysed as a stream: its listing is read lazily, a bounded
+ * queue hands files to a fixed pool of workers, and each worker plays one
+ * replay at a time through a {@link ReplayPlayer}, which holds one keyframe
+ * segment. Memory depends on the number of workers, not of replays. Rows for
+ * each game are passed on as games finish, and only per-mode totals are kept.
+ *
+ * Command line: {@code ReplayAnalyzer <directory> [output.tsv] [threads]}
+ */
+public final class ReplayAnalyzer {
+
+    /** File extension of recorded games. */
+    public static final String EXTENSION = ".replay";
+
+    private final int threads;
+
+    /**
+     * Creates an analyzer.
+     *
+     * @param threads workers used by {@link #analyzeDirectory}
+     */
+    public ReplayAnalyzer(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Plays one replay from start to end and measures it.
+     *
+     * Inputs are taps, turns, holds, drops and charged shifts; the repeats of
+     * a held key (auto-repeat shifts, soft drop steps) belong to the press that
+     * started them. Finesse faults are counted by the game's
+     * {@link com.comp2042.logic.FinesseTracker} as it locks each piece.
+     *
+     * @param file the replay
+     * @return its metrics
+     * @throws IOException if the file cannot be read or is not a valid replay
+     */
+    public ReplayMetrics analyze(Path file) throws IOException {
+        try (ReplayPlayer player = ReplayPlayer.open(file)) {
+            ReplayGame game = player.getGame();
+            SimpleBoard board = game.getBoard();
+
+            int firstPiece = game.getPiecesPlaced();
+            int firstFaults = game.getFinesseFaults();
+            int firstGarbage = game.getGarbageLinesCleared();
+            int inputs = 0;
+
+            // The held horizontal direction and the last input
+            int direction = 0;
+            ReplayAction lastInput = null;
+
+            ReplayAction action;
+            int x = board.getBrickX();
+            int pieces = game.getPiecesPlaced();
+            while ((action = player.step()) != null) {
+                switch (action) {
+                    case MOVE_LEFT:
+                    case MOVE_RIGHT:
+                        inputs++;
+                        direction = action == ReplayAction.MOVE_LEFT ? -1 : 1;
+                        break;
+                    case SHIFT: {
+                        int moved = Integer.signum(board.getBrickX() - x);
+                        if (moved != 0 && moved != direction) {
+                            inputs++;
+                            direction = moved;
+                        }
+                        break;
+                    }
+                    case ROTATE:
+                    case ROTATE_CLOCKWISE:
+                    case ROTATE_180:
+                        inputs++;
+                        break;
+                    case HOLD:
+                        inputs++;
+                        direction = 0;
+                        break;
+                    case SOFT_DROP:
+                        if (lastInput != ReplayAction.SOFT_DROP) {
+                            inputs++;
+                        }
+                        break;
+                    case HARD_DROP:
+                        inputs++;
+                        break;
+                    default:
+                        break;
+                }
+                if (action != ReplayAction.GRAVITY_TICKS && action != ReplayAction.DROP
+                        && action != ReplayAction.STATE) {
+                    lastInput = action;
+                }
+
+                if (game.getPiecesPlaced() != pieces) {
+                    pieces = game.getPiecesPlaced();
+                    direction = 0;
+                }
+                x = board.getBrickX();
+            }
+
+            return new ReplayMetrics(file.getFileName().toString(), player.getMode(), player.getDurationTicks(),
+                    pieces - firstPiece, inputs, game.getFinesseFaults() - firstFaults, game.getMaxStackHeight(),
+                    game.getGarbageLinesCleared() - firstGarbage, game.getTotalLinesCleared(),
+                    game.getScore().getScore());
+        }
+    }
+
+    /**
+     * Analyses every replay in a directory in parallel. Each game's metrics go
+     * to {@code sink} as soon as it is done, one call at a time, in whatever
+     * order the games finish. Files that fail to load are reported on stderr
+     * and counted.
+     *
+     * @param directory directory holding {@value #EXTENSION} files
+     * @param sink receives each game's metrics; may be null
+     * @return per-mode totals
+     * @throws IOException if the directory cannot be listed
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public Summary analyzeDirectory(Path directory, Consumer<ReplayMetrics> sink)
+            throws IOException, InterruptedException {
+        Summary summary = new Summary();
+
+        // A full queue makes the listing thread analyse the next file itself,
+        // so the listing never runs more than a few files ahead of the workers.
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 2), new ThreadPoolExecutor.CallerRunsPolicy());
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path file : files) {
+                pool.execute(() -> {
+                    ReplayMetrics metrics;
+                    try {
+                        metrics = analyze(file);
+                    } catch (IOException | RuntimeException e) {
+                        System.err.println("Skipping " + file.getFileName() + ": " + e.getMessage());
+                        synchronized (summary) {
+                            summary.failed++;
+                        }
+                        return;
+                    }
+                    synchronized (summary) {
+                        summary.add(metrics);
+                        if (sink != null) {
+                            sink.accept(metrics);
+                        }
+                    }
+                });
+            }
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+        return summary;
+    }
+
+    /**
+     * Per-mode totals over many games, kept as running sums so they cost the
+     * same however many games are added.
+     */
+    public static final class Summary {
+
+        private final Map<GameMode, ModeTotals> modes = new EnumMap<>(GameMode.class);
+        private int failed;
+
+        void add(ReplayMetrics metrics) {
+            modes.computeIfAbsent(metrics.getMode(), mode -> new ModeTotals()).add(metrics);
+        }
+
+        /**
+         * Games analysed for a mode.
+         *
+         * @param mode the mode
+         * @return number of games
+         */
+        public int getGames(GameMode mode) {
+            ModeTotals totals = modes.get(mode);
+            return totals != null ? totals.games : 0;
+        }
+
+        /**
+         * Games analysed over all modes.
+         *
+         * @return number of games
+         */
+        public int getGames() {
+            int games = 0;
+            for (ModeTotals totals : modes.values()) {
+                games += totals.games;
+            }
+            return games;
+        }
+
+        /**
+         * Files that could not be analysed.
+         *
+         * @return number of skipped files
+         */
+        public int getFailed() {
+            return failed;
+        }
+
+        /**
+         * Prints one row per mode: games, pieces per second over all play time
+         * and for the median game, inputs per piece, finesse faults per 100
+         * pieces, the average and highest stack, and garbage cleared.
+         *
+         * @param out destination
+         */
+        public void print(PrintStream out) {
+            out.printf(Locale.ROOT, "%-10s %7s %8s %8s %10s %8s %9s %9s %9s%n", "mode", "games", "pps",
+                    "pps p50", "inp/piece", "faults%", "avg stack", "max stack", "garbage");
+            for (Map.Entry<GameMode, ModeTotals> entry : modes.entrySet()) {
+                ModeTotals t = entry.getValue();
+                double seconds = t.seconds;
+                out.printf(Locale.ROOT, "%-10s %7d %8.3f %8.3f %10.2f %8.1f %9.1f %9d %9d%n",
+                        entry.getKey(), t.games,
+                        seconds > 0 ? t.pieces / seconds : 0,
+                        t.piecesPerSecondMillis.quantile(0.5) / 1000.0,
+                        t.pieces > 0 ? (double) t.inputs / t.pieces : 0,
+                        t.pieces > 0 ? 100.0 * t.faults / t.pieces : 0,
+                        (double) t.stackSum / t.games,
+                        t.stackMax,
+                        t.garbage);
+            }
+            if (failed > 0) {
+                out.println(failed + " replay(s) could not be read");
+            }
+        }
+    }
+
+    private static final class ModeTotals {
+        private final LogHistogram piecesPerSecondMillis = new LogHistogram();
+        private int games;
+        private double seconds;
+        private long pieces;
+        private long inputs;
+        private long faults;
+        private long stackSum;
+        private int stackMax;
+        private long garbage;
+
+        void add(ReplayMetrics metrics) {
+            games++;
+            seconds += metrics.getSeconds();
+            pieces += metrics.getPieces();
+            inputs += metrics.getInputs();
+            faults += metrics.getFinesseFaults();
+            stackSum += metrics.getMaxStackHeight();
+            stackMax = Math.max(stackMax, metrics.getMaxStackHeight());
+            garbage += metrics.getGarbageCleared();
+            piecesPerSecondMillis.add(Math.round(metrics.getPiecesPerSecond() * 1000));
+        }
+    }
+
+    /**
+     * Analyses a directory of replays from the command line, writing one
+     * row per game to the output file (if given) and the summary to stdout.
+     *
+     * @param args replay directory, then optional output path and thread count
+     * @throws IOException if the directory cannot be listed or the output written
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayAnalyzer <directory> [output.tsv] [threads]");
+            return;
+        }
+        Path directory = Paths.get(args[0]);
+        Path output = args.length > 1 ? Paths.get(args[1]) : null;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        ReplayAnalyzer analyzer = new ReplayAnalyzer(threads);
+        long start = System.nanoTime();
+        Summary summary;
+        if (output != null) {
+            try (BufferedWriter writer = Files.newBufferedWriter(output)) {
+                writer.write(ReplayMetrics.HEADER);
+                writer.newLine();
+                summary = analyzer.analyzeDirectory(directory, metrics -> {
+                    try {
+                        writer.write(metrics.toRow());
+                        writer.newLine();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        } else {
+            summary = analyzer.analyzeDirectory(directory, null);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        summary.print(System.out);
+        System.out.printf(Locale.ROOT, "Analysed %d replays in %.2fs on %d threads%n",
+                summary.getGames(), seconds, threads);
+    }
+}
@@ -0,0 +1,332 @@
+package com.comp2042.replay;
+
+import com.comp2042.models.EventSource;
+import com.comp2042.models.EventType;
+import com.comp2042.models.GameMode;
+import com.comp2042.models.GravityProfile;
+import com.comp2042.models.MoveEvent;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Replay file format: a recorded event stream with periodic keyframes and an
+ * index at the end, so a player can jump anywhere without simulating from the
+ * start.
+ *
+ * Layout:
+ * <pre>
+ *   header   magic "TRPL", version, mode, seed, keyframe interval (ticks)
+ *   records  the recorder's event stream, with a STATE record (a keyframe)
+ *            inserted every interval; tick runs are split to make room
+ *   index    per keyframe: tick (long), file offset of its STATE record (int)
+ *   trailer  index offset, keyframe count, duration in ticks, magic "TRPE"
+ * </pre>
+ *
+ * Keyframes are full ReplayGame states (board, active and held brick, brick
+ * queue, generators, score, mode handler and gravity state), produced by
+ * replaying the recording once while the file is written. Seeking loads the
+ * nearest keyframe at or before the target and simulates at most one interval
+ * forward; see {@link ReplayPlayer}.
+ */
+public final class ReplayFile {
+
+    /** Largest game state a STATE record may hold. */
+    public static final int MAX_STATE_SIZE = 1024;
+
+    /** Default keyframe interval: ten seconds of play. */
+    public static final int KEYFRAME_TICKS = 10 * GravityProfile.TICKS_PER_SECOND;
+
+    static final int MAGIC = 0x5452504C; // "TRPL"
+    static final int END_MAGIC = 0x54525045; // "TRPE"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 4 + 4 + 1 + 8 + 4;
+    static final int INDEX_ENTRY_SIZE = 8 + 4;
+    static final int TRAILER_SIZE = 4 + 4 + 8 + 4;
+
+    private static final String REPLAY_DIRECTORY = "replays";
+
+    private static final ReplayAction[] ACTIONS = ReplayAction.values();
+
+    private static final MoveEvent USER_DOWN = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent TIMER_DOWN = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+
+    private ReplayFile() {
+    }
+
+    /**
+     * Default directory for recorded games, in the working directory.
+     *
+     * @return the replay directory
+     */
+    public static Path defaultDirectory() {
+        return Paths.get(REPLAY_DIRECTORY);
+    }
+
+    /**
+     * Writes a recording to a new file in the default directory on a
+     * background thread, so building the keyframes does not hold up the game.
+     *
+     * @param mode the recorded game's mode
+     * @param seed the recorded game's seed
+     * @param events the recorder's event stream
+     */
+    public static void writeInBackground(GameMode mode, long seed, byte[] events) {
+        Thread writer = new Thread(() -> {
+            try {
+                Path directory = defaultDirectory();
+                Files.createDirectories(directory);
+                String name = mode.name().toLowerCase() + "-" + System.currentTimeMillis() + ".replay";
+                write(directory.resolve(name), mode, seed, events, KEYFRAME_TICKS);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Failed to write replay: " + e.getMessage());
+            }
+        }, "replay-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Writes a recording with keyframes every {@code keyframeTicks} ticks.
+     * The file is written to a temp file and renamed into place.
+     *
+     * @param file destination
+     * @param mode the recorded game's mode
+     * @param seed the recorded game's seed
+     * @param events the recorder's event stream
+     * @param keyframeTicks ticks between keyframes
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if the event stream is malformed
+     */
+    public static void write(Path file, GameMode mode, long seed, byte[] events, int keyframeTicks)
+            throws IOException {
+        if (keyframeTicks <= 0) {
+            throw new IllegalArgumentException("Keyframe interval must be positive");
+        }
+        Builder builder = new Builder(mode, seed, events.length, keyframeTicks);
+        ReplayGame game = builder.game;
+        ByteBuffer in = ByteBuffer.wrap(events);
+
+        while (in.hasRemaining()) {
+            int start = in.position();
+            ReplayAction action = actionOf(in.get(start));
+
+            if (builder.keyframeDue()) {
+                // A recorded state is already a keyframe; otherwise insert one.
+                builder.addKeyframe(action != ReplayAction.STATE);
+            }
+
+            in.get();
+            if (action == ReplayAction.GRAVITY_TICKS) {
+                // Split tick runs at keyframe ticks, so keyframes stay exactly one interval apart
+                int ticks = in.get() & 0xFF;
+                while (ticks > 0) {
+                    int run = game.isFinished() ? ticks : (int) Math.min(ticks, builder.nextKeyframe - game.getTicks());
+                    for (int i = 0; i < run; i++) {
+                        game.onGravityTick();
+                    }
+                    builder.putTicks(run);
+                    ticks -= run;
+                    if (ticks > 0 && builder.keyframeDue()) {
+                        builder.addKeyframe(true);
+                    }
+                }
+                continue;
+            }
+            apply(action, in, game);
+            builder.put(events, start, in.position() - start);
+        }
+
+        ByteBuffer out = builder.finish();
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * The output of {@link #write}: the record stream so far, the keyframe
+     * index and the game replaying the recording.
+     */
+    private static final class Builder {
+        final ReplayGame game;
+        final int keyframeTicks;
+        final ByteBuffer state = ByteBuffer.allocate(MAX_STATE_SIZE);
+        ByteBuffer out;
+        long nextKeyframe;
+
+        long[] keyframeTickList = new long[16];
+        int[] keyframeOffsets = new int[16];
+        int keyframes;
+
+        Builder(GameMode mode, long seed, int eventsLength, int keyframeTicks) {
+            this.game = new ReplayGame(mode, seed);
+            this.keyframeTicks = keyframeTicks;
+            out = ByteBuffer.allocate(HEADER_SIZE + eventsLength + 4096);
+            out.putInt(MAGIC);
+            out.putInt(VERSION);
+            out.put((byte) mode.ordinal());
+            out.putLong(seed);
+            out.putInt(keyframeTicks);
+        }
+
+        boolean keyframeDue() {
+            return !game.isFinished() && game.getTicks() >= nextKeyframe;
+        }
+
+        /** Indexes the current position, writing the game state there if asked to. */
+        void addKeyframe(boolean insertState) {
+            if (keyframes == keyframeOffsets.length) {
+                keyframeTickList = Arrays.copyOf(keyframeTickList, keyframes * 2);
+                keyframeOffsets = Arrays.copyOf(keyframeOffsets, keyframes * 2);
+            }
+            keyframeTickList[keyframes] = game.getTicks();
+            keyframeOffsets[keyframes] = out.position();
+            keyframes++;
+            nextKeyframe = (game.getTicks() / keyframeTicks + 1) * keyframeTicks;
+
+            if (insertState) {
+                state.clear();
+                game.saveState(state);
+                state.flip();
+                ensure(3 + state.remaining());
+                out.put((byte) ReplayAction.STATE.ordinal());
+                out.putShort((short) state.remaining());
+                out.put(state);
+            }
+        }
+
+        void putTicks(int ticks) {
+            ensure(2);
+            out.put((byte) ReplayAction.GRAVITY_TICKS.ordinal());
+            out.put((byte) ticks);
+        }
+
+        void put(byte[] bytes, int offset, int length) {
+            ensure(length);
+            out.put(bytes, offset, length);
+        }
+
+        /** Appends the index and trailer and returns the whole file, ready to write. */
+        ByteBuffer finish() {
+            ensure(keyframes * INDEX_ENTRY_SIZE + TRAILER_SIZE);
+            int indexOffset = out.position();
+            for (int i = 0; i < keyframes; i++) {
+                out.putLong(keyframeTickList[i]);
+                out.putInt(keyframeOffsets[i]);
+            }
+            out.putInt(indexOffset);
+            out.putInt(keyframes);
+            out.putLong(game.getTicks());
+            out.putInt(END_MAGIC);
+            out.flip();
+            return out;
+        }
+
+        private void ensure(int extra) {
+            if (out.remaining() >= extra) {
+                return;
+            }
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(out.capacity() * 2, out.position() + extra));
+            out.flip();
+            grown.put(out);
+            out = grown;
+        }
+    }
+
+    /**
+     * Applies the record whose type byte was just read. Leaves {@code in}
+     * after the record.
+     *
+     * @param action the record type
+     * @param in the stream, positioned after the type byte
+     * @param game the game to apply it to
+     */
+    static void apply(ReplayAction action, ByteBuffer in, ReplayGame game) {
+        switch (action) {
+            case GRAVITY_TICKS: {
+                int ticks = in.get() & 0xFF;
+                for (int i = 0; i < ticks; i++) {
+                    game.onGravityTick();
+                }
+                break;
+            }
+            case SOFT_DROP:
+                game.onDownEvent(USER_DOWN);
+                break;
+            case DROP:
+                game.onDownEvent(TIMER_DOWN);
+                break;
+            case HARD_DROP:
+                game.onHardDropEvent(HARD_DROP);
+                break;
+            case MOVE_LEFT:
+                game.onLeftEvent(LEFT);
+                break;
+            case MOVE_RIGHT:
+                game.onRightEvent(RIGHT);
+                break;
+            case SHIFT: {
+                int cells = in.get();
+                game.onShiftEvent(cells < 0 ? LEFT : RIGHT, cells);
+                break;
+            }
+            case ROTATE:
+                game.onRotateEvent(ROTATE);
+                break;
+            case ROTATE_CLOCKWISE:
+                game.onRotateClockwiseEvent(ROTATE);
+                break;
+            case ROTATE_180:
+                game.onRotate180Event(ROTATE);
+                break;
+            case HOLD:
+                game.onHoldEvent(USER_DOWN);
+                break;
+            case STATE: {
+                int length = in.getShort() & 0xFFFF;
+                game.restoreState(in.slice(in.position(), length));
+                in.position(in.position() + length);
+                break;
+            }
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Decodes a record type byte.
+     *
+     * @param code the stored byte
+     * @return the record type
+     * @throws IllegalArgumentException for an unknown type
+     */
+    static ReplayAction actionOf(byte code) {
+        int index = code & 0xFF;
+        if (index >= ACTIONS.length) {
+            throw new IllegalArgumentException("Unknown replay record type " + index);
+        }
+        return ACTIONS[index];
+    }
+}
@@ -0,0 +1,327 @@
+package com.comp2042.replay;
+
+import com.comp2042.interfaces.InputEventListener;
+import com.comp2042.logic.FinesseTracker;
+import com.comp2042.mode.GameCore;
+import com.comp2042.mode.SurvivalModeHandler;
+import com.comp2042.models.ClearRow;
+import com.comp2042.models.DownData;
+import com.comp2042.models.EventSource;
+import com.comp2042.models.GameMode;
+import com.comp2042.models.GravityProfile;
+import com.comp2042.models.MoveEvent;
+import com.comp2042.models.Score;
+import com.comp2042.models.SimpleBoard;
+import com.comp2042.models.ViewData;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A game driven by the same listener calls as GameController, without
+ * JavaFX, used to play replays back.
+ *
+ * Every call goes to a {@link GameCore}, the same rules GameController plays
+ * by, so feeding it a recorded event stream reproduces the recorded game.
+ * Nothing is rendered, so handlers build no views: they return null, and
+ * DownData only when a brick locked.
+ *
+ * Time is counted in gravity ticks ({@link GravityProfile#TICKS_PER_SECOND}
+ * per second of play); pauses produce no ticks.
+ *
+ * For analysis it also counts what the saved state does not hold: pieces
+ * placed, the last locked placement, finesse faults, the highest stack and
+ * garbage rows cleared. These run on across restored states; after a rewind the garbage
+ * count may include rows the rewind put back.
+ */
+public final class ReplayGame implements InputEventListener {
+
+    private static final long TICK_NANOS = 1_000_000_000L / GravityProfile.TICKS_PER_SECOND;
+
+    private final GameCore core;
+    private final SimpleBoard board;
+
+    // Analysis counters; not part of the saved state.
+    private int maxStackHeight;
+    private int garbageRows;
+    private int garbageLinesCleared;
+    private int garbageReceived;
+
+    /**
+     * Creates a game seeded like GameController, with its first brick spawned.
+     *
+     * @param mode the game mode whose GameConfig rules apply
+     * @param seed seed for the brick sequence and garbage rows
+     */
+    public ReplayGame(GameMode mode, long seed) {
+        this.core = new GameCore(mode, seed);
+        this.board = core.getBoard();
+        core.setLockListener(new GameCore.LockListener() {
+            @Override
+            public void brickMerged() {
+                countMerge();
+            }
+
+            @Override
+            public void brickLanded(ClearRow clearRow) {
+                countGarbageReceived();
+            }
+        });
+    }
+
+    // ========================= INPUT HANDLERS =========================
+
+    @Override
+    public DownData onGravityTick() {
+        return locked(core.tick());
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        return locked(core.moveDown(event.getEventSource() == EventSource.USER));
+    }
+
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        return locked(core.hardDrop());
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        core.moveLeft();
+        return null;
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        core.moveRight();
+        return null;
+    }
+
+    @Override
+    public ViewData onShiftEvent(MoveEvent event, int cells) {
+        core.shift(cells);
+        return null;
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        core.rotateLeft();
+        return null;
+    }
+
+    @Override
+    public ViewData onRotateClockwiseEvent(MoveEvent event) {
+        core.rotateRight();
+        return null;
+    }
+
+    @Override
+    public ViewData onRotate180Event(MoveEvent event) {
+        core.rotate180();
+        return null;
+    }
+
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        core.hold();
+        return null;
+    }
+
+    private static DownData locked(ClearRow clearRow) {
+        return clearRow != null ? new DownData(clearRow, null) : null;
+    }
+
+    /**
+     * Right after a merge: the highest stack so far, and the full rows among
+     * the garbage, which always sits in a block at the bottom.
+     */
+    private void countMerge() {
+        maxStackHeight = Math.max(maxStackHeight, stackHeight());
+        int garbageCleared = countFullRows(GameCore.BOARD_ROWS - garbageRows);
+        garbageRows -= garbageCleared;
+        garbageLinesCleared += garbageCleared;
+        garbageReceived = garbageReceived();
+    }
+
+    /** After the Survival rules ran: adds the garbage rows the landing raised. */
+    private void countGarbageReceived() {
+        int received = garbageReceived();
+        garbageRows = Math.min(GameCore.BOARD_ROWS, garbageRows + received - garbageReceived);
+    }
+
+    private int garbageReceived() {
+        SurvivalModeHandler survival = core.getSurvivalHandler();
+        return survival != null ? survival.getGarbageRowsReceived() : 0;
+    }
+
+    /** Rows from the top of the board down to the highest filled cell. */
+    private int stackHeight() {
+        int[][] matrix = board.getBoardMatrix();
+        for (int row = 0; row < matrix.length; row++) {
+            for (int cell : matrix[row]) {
+                if (cell != 0) {
+                    return matrix.length - row;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private int countFullRows(int fromRow) {
+        int[][] matrix = board.getBoardMatrix();
+        int full = 0;
+        for (int row = Math.max(0, fromRow); row < matrix.length; row++) {
+            boolean filled = true;
+            for (int cell : matrix[row]) {
+                if (cell == 0) {
+                    filled = false;
+                    break;
+                }
+            }
+            if (filled) {
+                full++;
+            }
+        }
+        return full;
+    }
+
+    // ========================= STATE =========================
+
+    /**
+     * Writes the full game state in the layout GameController records for
+     * replays: its saved-game state followed by the gravity state.
+     *
+     * @param out destination buffer
+     */
+    public void saveState(ByteBuffer out) {
+        core.saveReplayState(out, core.getTicks() * TICK_NANOS);
+    }
+
+    /**
+     * Replaces the game state with one written by {@link #saveState} or by
+     * GameController. The tick count is not part of the state and is kept.
+     *
+     * @param in source buffer
+     */
+    public void restoreState(ByteBuffer in) {
+        // The stored elapsed time is ignored; the tick count is the replay's clock.
+        core.restoreReplayState(in);
+    }
+
+    // ========================= ACCESSORS =========================
+
+    public GameMode getMode() {
+        return core.getMode();
+    }
+
+    public SimpleBoard getBoard() {
+        return board;
+    }
+
+    public Score getScore() {
+        return core.getScore();
+    }
+
+    public int getTotalLinesCleared() {
+        return core.getTotalLinesCleared();
+    }
+
+    public boolean isFinished() {
+        return core.isFinished();
+    }
+
+    public boolean isWon() {
+        return core.isWon();
+    }
+
+    /**
+     * Whether the recorded player rewound pieces, making it a practice run.
+     *
+     * @return true for a practice run
+     */
+    public boolean isPractice() {
+        return core.isPractice();
+    }
+
+    /**
+     * Gravity ticks played so far.
+     *
+     * @return ticks since the start of the recording
+     */
+    public long getTicks() {
+        return core.getTicks();
+    }
+
+    /**
+     * Bricks locked so far, counting every lock since the game was created.
+     *
+     * @return pieces placed
+     */
+    public int getPiecesPlaced() {
+        return core.getPiecesPlaced();
+    }
+
+    /**
+     * Type of the last brick that locked.
+     *
+     * @return the BrickCatalog type id, or -1 before the first lock
+     */
+    public int getLastPlacedType() {
+        return core.getLastPlacedType();
+    }
+
+    /**
+     * Rotation index the last brick locked in.
+     *
+     * @return the rotation index
+     */
+    public int getLastPlacedRotation() {
+        return core.getLastPlacedRotation();
+    }
+
+    /**
+     * Column the last brick's shape matrix locked at.
+     *
+     * @return the x position
+     */
+    public int getLastPlacedX() {
+        return core.getLastPlacedX();
+    }
+
+    /**
+     * Pieces that locked with more inputs than their placement needs.
+     *
+     * @return finesse faults
+     * @see FinesseTracker
+     */
+    public int getFinesseFaults() {
+        return core.getFinesseFaults();
+    }
+
+    /**
+     * Highest the stack has been right after a lock, before lines cleared.
+     *
+     * @return the height in rows
+     */
+    public int getMaxStackHeight() {
+        return maxStackHeight;
+    }
+
+    /**
+     * Garbage rows cleared, counted from the rows the Survival handler sent.
+     *
+     * @return garbage lines cleared
+     */
+    public int getGarbageLinesCleared() {
+        return garbageLinesCleared;
+    }
+
+    /**
+     * Sets the tick count, when jumping to a keyframe.
+     *
+     * @param ticks ticks since the start of the recording
+     */
+    void setTicks(long ticks) {
+        core.setTicks(ticks);
+    }
+}
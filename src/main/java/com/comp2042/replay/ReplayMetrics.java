@@ -0,0 +1,109 @@
+package com.comp2042.replay;
+
+import com.comp2042.models.GameMode;
+import com.comp2042.models.GravityProfile;
+
+import java.util.Locale;
+
+/**
+ * What {@link ReplayAnalyzer} measured in one replay.
+ */
+public final class ReplayMetrics {
+
+    /** Column names of {@link #toRow()}, tab separated. */
+    public static final String HEADER =
+            "replay\tmode\tseconds\tpieces\tpieces_per_sec\tinputs_per_piece\tfinesse_faults\tmax_stack\tgarbage_cleared\tlines\tscore";
+
+    private final String name;
+    private final GameMode mode;
+    private final long ticks;
+    private final int pieces;
+    private final int inputs;
+    private final int finesseFaults;
+    private final int maxStackHeight;
+    private final int garbageCleared;
+    private final int lines;
+    private final int score;
+
+    public ReplayMetrics(String name, GameMode mode, long ticks, int pieces, int inputs, int finesseFaults,
+                         int maxStackHeight, int garbageCleared, int lines, int score) {
+        this.name = name;
+        this.mode = mode;
+        this.ticks = ticks;
+        this.pieces = pieces;
+        this.inputs = inputs;
+        this.finesseFaults = finesseFaults;
+        this.maxStackHeight = maxStackHeight;
+        this.garbageCleared = garbageCleared;
+        this.lines = lines;
+        this.score = score;
+    }
+
+    /**
+     * One tab-separated table row, in {@link #HEADER} order.
+     *
+     * @return the row, without a line break
+     */
+    public String toRow() {
+        return String.format(Locale.ROOT, "%s\t%s\t%.1f\t%d\t%.3f\t%.2f\t%d\t%d\t%d\t%d\t%d",
+                name, mode, getSeconds(), pieces, getPiecesPerSecond(), getInputsPerPiece(),
+                finesseFaults, maxStackHeight, garbageCleared, lines, score);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public GameMode getMode() {
+        return mode;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public double getSeconds() {
+        return (double) ticks / GravityProfile.TICKS_PER_SECOND;
+    }
+
+    public int getPieces() {
+        return pieces;
+    }
+
+    public int getInputs() {
+        return inputs;
+    }
+
+    public double getPiecesPerSecond() {
+        return ticks > 0 ? pieces / getSeconds() : 0;
+    }
+
+    public double getInputsPerPiece() {
+        return pieces > 0 ? (double) inputs / pieces : 0;
+    }
+
+    /**
+     * Pieces placed with more inputs than the fewest possible.
+     *
+     * @return finesse faults
+     */
+    public int getFinesseFaults() {
+        return finesseFaults;
+    }
+
+    public int getMaxStackHeight() {
+        return maxStackHeight;
+    }
+
+    public int getGarbageCleared() {
+        return garbageCleared;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,305 @@
+package com.comp2042.replay;
+
+import com.comp2042.models.GameMode;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Plays a replay file back into a {@link ReplayGame}, with random access.
+ *
+ * Opening reads only the header, trailer and keyframe index. Playback then
+ * reads one keyframe segment at a time (the keyframe and the records up to
+ * the next one), so memory does not depend on the replay's length. Seeking
+ * loads the last keyframe at or before the target and simulates forward from
+ * it, which is at most one keyframe interval, however far
+ * into the replay the target is. Moving forward from the current position
+ * continues without reloading.
+ *
+ * A position of tick T means every record before tick T + 1 has been applied.
+ */
+public final class ReplayPlayer implements Closeable {
+
+    private final FileChannel channel;
+    private final GameMode mode;
+    private final long seed;
+    private final int keyframeInterval;
+    private final long durationTicks;
+    private final int indexOffset;
+    private final long[] keyframeTicks;
+    private final int[] keyframeOffsets;
+
+    private final ReplayGame game;
+
+    // The loaded keyframe segment and how far into it playback is.
+    private ByteBuffer segment = ByteBuffer.allocate(8192);
+    private int segmentIndex = -1;
+
+    // Ticks left over from a tick run that was split by a seek target.
+    private int pendingTicks;
+
+    private ReplayPlayer(FileChannel channel, GameMode mode, long seed, int keyframeInterval,
+                         long durationTicks, int indexOffset, long[] keyframeTicks, int[] keyframeOffsets) {
+        this.channel = channel;
+        this.mode = mode;
+        this.seed = seed;
+        this.keyframeInterval = keyframeInterval;
+        this.durationTicks = durationTicks;
+        this.indexOffset = indexOffset;
+        this.keyframeTicks = keyframeTicks;
+        this.keyframeOffsets = keyframeOffsets;
+        this.game = new ReplayGame(mode, seed);
+    }
+
+    /**
+     * Opens a replay and positions it at its start, with its first state
+     * loaded and nothing else played.
+     *
+     * @param file the replay file
+     * @return the player; close it when done
+     * @throws IOException if the file cannot be read or is not a valid replay
+     */
+    public static ReplayPlayer open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            ReplayPlayer player = readIndex(channel);
+            player.loadSegment(0);
+            player.step();
+            return player;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e instanceof IOException ? (IOException) e : new IOException("Invalid replay: " + e.getMessage(), e);
+        }
+    }
+
+    private static ReplayPlayer readIndex(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        if (fileSize < ReplayFile.HEADER_SIZE + ReplayFile.TRAILER_SIZE || fileSize > Integer.MAX_VALUE) {
+            throw new IOException("Not a replay file");
+        }
+
+        ByteBuffer header = readFully(channel, 0, ReplayFile.HEADER_SIZE);
+        if (header.getInt() != ReplayFile.MAGIC || header.getInt() != ReplayFile.VERSION) {
+            throw new IOException("Not a replay file");
+        }
+        int modeIndex = header.get() & 0xFF;
+        long seed = header.getLong();
+        int interval = header.getInt();
+        GameMode[] modes = GameMode.values();
+        if (modeIndex >= modes.length) {
+            throw new IOException("Unknown mode " + modeIndex);
+        }
+
+        ByteBuffer trailer = readFully(channel, fileSize - ReplayFile.TRAILER_SIZE, ReplayFile.TRAILER_SIZE);
+        int indexOffset = trailer.getInt();
+        int count = trailer.getInt();
+        long duration = trailer.getLong();
+        if (trailer.getInt() != ReplayFile.END_MAGIC || count <= 0
+                || indexOffset < ReplayFile.HEADER_SIZE
+                || (long) indexOffset + (long) count * ReplayFile.INDEX_ENTRY_SIZE
+                        != fileSize - ReplayFile.TRAILER_SIZE) {
+            throw new IOException("Damaged replay index");
+        }
+
+        ByteBuffer index = readFully(channel, indexOffset, count * ReplayFile.INDEX_ENTRY_SIZE);
+        long[] ticks = new long[count];
+        int[] offsets = new int[count];
+        for (int i = 0; i < count; i++) {
+            ticks[i] = index.getLong();
+            offsets[i] = index.getInt();
+            boolean ordered = i == 0 ? ticks[i] == 0 && offsets[i] == ReplayFile.HEADER_SIZE
+                    : ticks[i] > ticks[i - 1] && offsets[i] > offsets[i - 1];
+            if (!ordered || offsets[i] >= indexOffset) {
+                throw new IOException("Damaged replay index");
+            }
+        }
+        return new ReplayPlayer(channel, modes[modeIndex], seed, interval, duration, indexOffset, ticks, offsets);
+    }
+
+    /**
+     * Moves playback to a tick. Forward moves within reach continue from the
+     * current position; anything else starts from the nearest keyframe.
+     *
+     * @param tick target tick, clamped to the replay
+     * @throws IOException if the file cannot be read or a record is damaged
+     */
+    public void seek(long tick) throws IOException {
+        long target = Math.max(0, Math.min(tick, durationTicks));
+        int keyframe = keyframeAt(target);
+        if (segmentIndex < 0 || target < game.getTicks() || keyframe > segmentIndex) {
+            loadSegment(keyframe);
+        }
+        try {
+            playTo(target);
+        } catch (RuntimeException e) {
+            throw new IOException("Damaged replay record: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Plays the next record, or one tick of a tick run, so that a caller
+     * walking the whole replay sees the game after every input and every tick.
+     *
+     * @return the type of record played, or null at the end of the replay
+     * @throws IOException if the file cannot be read or a record is damaged
+     */
+    public ReplayAction step() throws IOException {
+        try {
+            if (pendingTicks == 0) {
+                if (!segment.hasRemaining()) {
+                    if (segmentIndex + 1 >= keyframeTicks.length) {
+                        return null;
+                    }
+                    loadSegment(segmentIndex + 1);
+                }
+                ReplayAction action = ReplayFile.actionOf(segment.get());
+                if (action != ReplayAction.GRAVITY_TICKS) {
+                    ReplayFile.apply(action, segment, game);
+                    return action;
+                }
+                pendingTicks = segment.get() & 0xFF;
+                if (pendingTicks == 0) {
+                    return action;
+                }
+            }
+            game.onGravityTick();
+            pendingTicks--;
+            return ReplayAction.GRAVITY_TICKS;
+        } catch (RuntimeException e) {
+            throw new IOException("Damaged replay record: " + e.getMessage(), e);
+        }
+    }
+
+    private void playTo(long target) throws IOException {
+        while (true) {
+            if (pendingTicks > 0) {
+                long room = target - game.getTicks();
+                if (room <= 0) {
+                    return;
+                }
+                int ticks = (int) Math.min(pendingTicks, room);
+                for (int i = 0; i < ticks; i++) {
+                    game.onGravityTick();
+                }
+                pendingTicks -= ticks;
+                continue;
+            }
+
+            if (!segment.hasRemaining()) {
+                int next = segmentIndex + 1;
+                if (next >= keyframeTicks.length || keyframeTicks[next] > target) {
+                    return;
+                }
+                loadSegment(next);
+            }
+
+            ReplayAction action = ReplayFile.actionOf(segment.get(segment.position()));
+            if (action == ReplayAction.GRAVITY_TICKS) {
+                if (game.getTicks() >= target) {
+                    return;
+                }
+                segment.get();
+                pendingTicks = segment.get() & 0xFF;
+            } else {
+                segment.get();
+                ReplayFile.apply(action, segment, game);
+            }
+        }
+    }
+
+    /** Reads keyframe {@code index}'s segment and rewinds the clock to it. */
+    private void loadSegment(int index) throws IOException {
+        int start = keyframeOffsets[index];
+        int end = index + 1 < keyframeOffsets.length ? keyframeOffsets[index + 1] : indexOffset;
+        int length = end - start;
+        if (segment.capacity() < length) {
+            segment = ByteBuffer.allocate(Math.max(length, segment.capacity() * 2));
+        }
+        segment.clear().limit(length);
+        while (segment.hasRemaining()) {
+            if (channel.read(segment, start + segment.position()) < 0) {
+                throw new IOException("Replay ends early");
+            }
+        }
+        segment.flip();
+        if (ReplayFile.actionOf(segment.get(0)) != ReplayAction.STATE) {
+            throw new IOException("Keyframe " + index + " is not a game state");
+        }
+        segmentIndex = index;
+        pendingTicks = 0;
+        game.setTicks(keyframeTicks[index]);
+    }
+
+    /** Last keyframe at or before {@code tick}. */
+    private int keyframeAt(long tick) {
+        int low = 0;
+        int high = keyframeTicks.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (keyframeTicks[mid] <= tick) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Replay ends early");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * The game at the current position. Render or inspect it; do not feed it input.
+     *
+     * @return the replayed game
+     */
+    public ReplayGame getGame() {
+        return game;
+    }
+
+    /**
+     * Current position.
+     *
+     * @return ticks since the start of the replay
+     */
+    public long getTick() {
+        return game.getTicks();
+    }
+
+    public long getDurationTicks() {
+        return durationTicks;
+    }
+
+    public int getKeyframeCount() {
+        return keyframeTicks.length;
+    }
+
+    public int getKeyframeInterval() {
+        return keyframeInterval;
+    }
+
+    public GameMode getMode() {
+        return mode;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
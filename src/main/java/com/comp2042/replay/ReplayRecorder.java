@@ -0,0 +1,205 @@
+package com.comp2042.replay;
+
+import com.comp2042.interfaces.InputEventListener;
+import com.comp2042.models.DownData;
+import com.comp2042.models.EventSource;
+import com.comp2042.models.MoveEvent;
+import com.comp2042.models.ViewData;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Records a game by sitting between the input sources and the game: every
+ * listener call is appended to an in-memory event stream, then passed on.
+ *
+ * A recording starts with the full game state, so it can begin from a fresh,
+ * restarted or resumed game alike, and a rewind is stored as the state it
+ * produced rather than the key press, so playback needs no rewind history.
+ * Runs of gravity ticks are stored as one record with a count. Calls come
+ * from the one thread that runs the game, so nothing is synchronised.
+ */
+public final class ReplayRecorder implements InputEventListener {
+
+    private final InputEventListener game;
+    private final Consumer<ByteBuffer> stateWriter;
+    private final ByteBuffer state = ByteBuffer.allocate(ReplayFile.MAX_STATE_SIZE);
+
+    private byte[] events = new byte[4096];
+    private int size;
+
+    // Position of the count byte of an open tick run, or -1.
+    private int tickRun = -1;
+
+    private boolean recording;
+
+    /**
+     * Wraps a game.
+     *
+     * @param game the game the calls are passed on to
+     * @param stateWriter writes the game's full state, in ReplayGame's layout
+     */
+    public ReplayRecorder(InputEventListener game, Consumer<ByteBuffer> stateWriter) {
+        this.game = game;
+        this.stateWriter = stateWriter;
+    }
+
+    /**
+     * Starts a new recording from the game's current state, dropping any
+     * recording in progress.
+     */
+    public void start() {
+        size = 0;
+        tickRun = -1;
+        recording = true;
+        recordState();
+    }
+
+    /**
+     * Ends the recording.
+     *
+     * @return the recorded event stream, or null if nothing was being recorded
+     */
+    public byte[] finish() {
+        if (!recording) {
+            return null;
+        }
+        recording = false;
+        return Arrays.copyOf(events, size);
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    // ========================= RECORDED CALLS =========================
+
+    @Override
+    public DownData onGravityTick() {
+        if (recording) {
+            if (tickRun >= 0 && events[tickRun] != (byte) 0xFF) {
+                events[tickRun]++;
+            } else {
+                append(ReplayAction.GRAVITY_TICKS);
+                ensureCapacity(1);
+                events[size] = 1;
+                tickRun = size++;
+            }
+        }
+        return game.onGravityTick();
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        record(event.getEventSource() == EventSource.USER ? ReplayAction.SOFT_DROP : ReplayAction.DROP);
+        return game.onDownEvent(event);
+    }
+
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        record(ReplayAction.HARD_DROP);
+        return game.onHardDropEvent(event);
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        record(ReplayAction.MOVE_LEFT);
+        return game.onLeftEvent(event);
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        record(ReplayAction.MOVE_RIGHT);
+        return game.onRightEvent(event);
+    }
+
+    @Override
+    public ViewData onShiftEvent(MoveEvent event, int cells) {
+        if (recording) {
+            append(ReplayAction.SHIFT);
+            ensureCapacity(1);
+            events[size++] = (byte) Math.max(-128, Math.min(127, cells));
+        }
+        return game.onShiftEvent(event, cells);
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        record(ReplayAction.ROTATE);
+        return game.onRotateEvent(event);
+    }
+
+    @Override
+    public ViewData onRotateClockwiseEvent(MoveEvent event) {
+        record(ReplayAction.ROTATE_CLOCKWISE);
+        return game.onRotateClockwiseEvent(event);
+    }
+
+    @Override
+    public ViewData onRotate180Event(MoveEvent event) {
+        record(ReplayAction.ROTATE_180);
+        return game.onRotate180Event(event);
+    }
+
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        record(ReplayAction.HOLD);
+        return game.onHoldEvent(event);
+    }
+
+    /**
+     * Rewinds are recorded as the state they lead to.
+     */
+    @Override
+    public ViewData onRewindEvent(MoveEvent event) {
+        ViewData view = game.onRewindEvent(event);
+        if (view != null && recording) {
+            recordState();
+        }
+        return view;
+    }
+
+    @Override
+    public void suspendGame() {
+        game.suspendGame();
+    }
+
+    @Override
+    public void closeGame() {
+        game.closeGame();
+    }
+
+    // ========================= ENCODING =========================
+
+    private void record(ReplayAction action) {
+        if (recording) {
+            append(action);
+        }
+    }
+
+    private void append(ReplayAction action) {
+        ensureCapacity(1);
+        events[size++] = (byte) action.ordinal();
+        tickRun = -1;
+    }
+
+    private void recordState() {
+        state.clear();
+        stateWriter.accept(state);
+        state.flip();
+        int length = state.remaining();
+        append(ReplayAction.STATE);
+        ensureCapacity(2 + length);
+        events[size++] = (byte) (length >>> 8);
+        events[size++] = (byte) length;
+        state.get(events, size, length);
+        size += length;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > events.length) {
+            events = Arrays.copyOf(events, Math.max(events.length * 2, size + extra));
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.comp2042.save;
+
+import com.comp2042.models.GameMode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * A suspended game: its mode, seed and the binary state written by the game's
+ * {@code saveState} methods.
+ *
+ * On disk: magic, version, mode, seed, state length, the state bytes and a
+ * CRC32 of everything before it. A full Survival game is about 200 bytes.
+ * Files are written to a temp file, forced and renamed over the old save, so a
+ * crash leaves either the old save or the new one, never a mix. A file that
+ * fails any check reads as no save.
+ */
+public final class SaveGame {
+
+    /** Largest state a save may hold. */
+    public static final int MAX_STATE_SIZE = 1024;
+
+    private static final String SAVE_FILE = "tetris_save.bin";
+
+    private static final int MAGIC = 0x54534156; // "TSAV"
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 4 + 4 + 1 + 8 + 2;
+
+    private final GameMode mode;
+    private final long seed;
+    private final byte[] state;
+
+    private SaveGame(GameMode mode, long seed, byte[] state) {
+        this.mode = mode;
+        this.seed = seed;
+        this.state = state;
+    }
+
+    /**
+     * Captures a game by letting {@code writer} fill a state buffer.
+     *
+     * @param mode the game's mode
+     * @param seed the game's seed
+     * @param writer writes the game state into the buffer it is given
+     * @return the save
+     */
+    public static SaveGame capture(GameMode mode, long seed, Consumer<ByteBuffer> writer) {
+        ByteBuffer buffer = ByteBuffer.allocate(MAX_STATE_SIZE);
+        writer.accept(buffer);
+        buffer.flip();
+        byte[] state = new byte[buffer.remaining()];
+        buffer.get(state);
+        return new SaveGame(mode, seed, state);
+    }
+
+    /**
+     * Default save location, in the working directory next to the settings file.
+     *
+     * @return the save path
+     */
+    public static Path defaultFile() {
+        return Paths.get(SAVE_FILE);
+    }
+
+    public GameMode getMode() {
+        return mode;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * The saved state, positioned at its start.
+     *
+     * @return a read-only buffer over the state
+     */
+    public ByteBuffer getState() {
+        return ByteBuffer.wrap(state).asReadOnlyBuffer();
+    }
+
+    /**
+     * Size of the encoded save.
+     *
+     * @return bytes
+     */
+    public int getEncodedSize() {
+        return HEADER_SIZE + state.length + 4;
+    }
+
+    /**
+     * Atomically replaces {@code file} with this save.
+     *
+     * @param file destination
+     * @throws IOException if the save cannot be written
+     */
+    public void write(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(getEncodedSize());
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.put((byte) mode.ordinal());
+        buffer.putLong(seed);
+        buffer.putShort((short) state.length);
+        buffer.put(state);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads a save.
+     *
+     * @param file the save file
+     * @return the save, or null if there is none or it is damaged
+     */
+    public static SaveGame read(Path file) {
+        if (file == null || !Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            if (bytes.length < HEADER_SIZE + 4 || bytes.length > HEADER_SIZE + MAX_STATE_SIZE + 4) {
+                return null;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            CRC32 crc = new CRC32();
+            crc.update(bytes, 0, bytes.length - 4);
+            if (buffer.getInt(bytes.length - 4) != (int) crc.getValue()) {
+                return null;
+            }
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            int modeIndex = buffer.get() & 0xFF;
+            long seed = buffer.getLong();
+            int length = buffer.getShort() & 0xFFFF;
+            GameMode[] modes = GameMode.values();
+            if (modeIndex >= modes.length || length != bytes.length - HEADER_SIZE - 4) {
+                return null;
+            }
+            byte[] state = new byte[length];
+            buffer.get(state);
+            return new SaveGame(modes[modeIndex], seed, state);
+        } catch (IOException e) {
+            System.err.println("Failed to read saved game: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Removes a save, if there is one.
+     *
+     * @param file the save file
+     */
+    public static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.println("Failed to delete saved game: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.comp2042.sim;
+
+import com.comp2042.mode.GameCore;
+import com.comp2042.models.ClearRow;
+import com.comp2042.models.GameConfig;
+import com.comp2042.models.GameMode;
+import com.comp2042.models.Score;
+import com.comp2042.models.SimpleBoard;
+
+/**
+ * A complete game without JavaFX, played by whole placements: a
+ * {@link GameCore}, so the landing, scoring and mode rules are the ones
+ * GameController applies.
+ *
+ * Used by bots, self-play export and tuning runs. Moves are given as final
+ * placements and executed with the normal board inputs (rotate, shift, hard drop).
+ */
+public final class HeadlessGame {
+
+    // Same board size as GameController.
+    public static final int BOARD_ROWS = GameCore.BOARD_ROWS;
+    public static final int BOARD_COLUMNS = GameCore.BOARD_COLUMNS;
+
+    private final GameCore core;
+
+    /**
+     * Creates and starts a game.
+     *
+     * @param mode the game mode whose GameConfig rules apply
+     * @param seed seed for the brick sequence and garbage rows
+     */
+    public HeadlessGame(GameMode mode, long seed) {
+        this.core = new GameCore(mode, seed);
+    }
+
+    /**
+     * Moves the active brick to the given rotation and column, hard drops it and locks it.
+     * If a wall or block stops the brick early it is dropped where it stopped.
+     *
+     * @param rotation number of rotations to apply from the spawn orientation
+     * @param targetX board column offset to shift towards
+     * @return the line clear result, or null if the game is over
+     */
+    public ClearRow play(int rotation, int targetX) {
+        if (core.isFinished()) {
+            return null;
+        }
+
+        for (int i = 0; i < rotation; i++) {
+            core.rotateLeft();
+        }
+
+        int x = core.getBoard().getViewData().getxPosition();
+        while (x > targetX && core.moveLeft()) {
+            x--;
+        }
+        while (x < targetX && core.moveRight()) {
+            x++;
+        }
+        return core.hardDrop();
+    }
+
+    /**
+     * Swaps the active brick with the hold slot, like GameController.onHoldEvent.
+     *
+     * @return true if the hold happened (once per brick)
+     */
+    public boolean hold() {
+        return core.hold();
+    }
+
+    public GameMode getMode() {
+        return core.getMode();
+    }
+
+    public GameConfig getConfig() {
+        return core.getConfig();
+    }
+
+    public SimpleBoard getBoard() {
+        return core.getBoard();
+    }
+
+    public Score getScore() {
+        return core.getScore();
+    }
+
+    public boolean isGameOver() {
+        return core.isFinished();
+    }
+
+    /**
+     * Whether the mode's win condition was reached (Rush-40 target lines).
+     *
+     * @return true if the game ended in a win
+     */
+    public boolean isWon() {
+        return core.isWon();
+    }
+
+    public int getPiecesPlaced() {
+        return core.getPiecesPlaced();
+    }
+}
@@ -0,0 +1,87 @@
+package com.comp2042.sim;
+
+/**
+ * Layout constants shared by {@link SelfPlayDatasetWriter} and {@link SelfPlayDatasetReader}.
+ *
+ * File = 64-byte header followed by fixed-size blocks. Each block holds
+ * {@code blockCapacity} records stored column by column, so every field of every
+ * record sits at a computable offset and can be read straight from the mapping:
+ *
+ * <pre>
+ * header : magic, version, rows, columns, queueLength, blockCapacity, recordCount (long)
+ * block  : boards     int[capacity * rows]   packed row bitmasks, record-major
+ *          scoreDelta int[capacity]
+ *          piece      byte[capacity]         brick type id (BrickCatalog)
+ *          next       byte[capacity * queueLength]
+ *          hold       byte[capacity]         -1 when the hold slot is empty
+ *          rotation   byte[capacity]         chosen placement
+ *          x          byte[capacity]
+ *          lines      byte[capacity]         lines cleared by the placement
+ * </pre>
+ *
+ * All values are little-endian.
+ */
+final class SelfPlayDatasetFormat {
+
+    static final int MAGIC = 0x31534454; // "TDS1" in little-endian byte order
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+
+    // Header field offsets.
+    static final int OFF_MAGIC = 0;
+    static final int OFF_VERSION = 4;
+    static final int OFF_ROWS = 8;
+    static final int OFF_COLUMNS = 12;
+    static final int OFF_QUEUE = 16;
+    static final int OFF_BLOCK_CAPACITY = 20;
+    static final int OFF_RECORD_COUNT = 24;
+
+    final int rows;
+    final int queueLength;
+    final int blockCapacity;
+
+    // Byte offsets of each column inside a block.
+    final long boardsOffset;
+    final long scoreOffset;
+    final long pieceOffset;
+    final long nextOffset;
+    final long holdOffset;
+    final long rotationOffset;
+    final long xOffset;
+    final long linesOffset;
+    final long blockBytes;
+
+    SelfPlayDatasetFormat(int rows, int queueLength, int blockCapacity) {
+        if (blockCapacity <= 0 || blockCapacity % 8 != 0) {
+            throw new IllegalArgumentException("Block capacity must be a positive multiple of 8");
+        }
+        this.rows = rows;
+        this.queueLength = queueLength;
+        this.blockCapacity = blockCapacity;
+
+        long offset = 0;
+        boardsOffset = offset;
+        offset += (long) blockCapacity * rows * Integer.BYTES;
+        scoreOffset = offset;
+        offset += (long) blockCapacity * Integer.BYTES;
+        pieceOffset = offset;
+        offset += blockCapacity;
+        nextOffset = offset;
+        offset += (long) blockCapacity * queueLength;
+        holdOffset = offset;
+        offset += blockCapacity;
+        rotationOffset = offset;
+        offset += blockCapacity;
+        xOffset = offset;
+        offset += blockCapacity;
+        linesOffset = offset;
+        offset += blockCapacity;
+        // Keep every block 8-byte aligned.
+        blockBytes = (offset + 7) & ~7L;
+    }
+
+    /** File position where the given block starts. */
+    long blockStart(long block) {
+        return HEADER_BYTES + block * blockBytes;
+    }
+}
@@ -0,0 +1,156 @@
+package com.comp2042.sim;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only view over a file produced by {@link SelfPlayDatasetWriter}.
+ *
+ * The whole file is mapped once and every accessor reads directly from the
+ * mapping by record index, so scanning a dataset allocates nothing per record.
+ * Only records published by the writer's last flush are visible.
+ */
+public final class SelfPlayDatasetReader implements AutoCloseable {
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final Arena arena;
+    private final MemorySegment data;
+    private final SelfPlayDatasetFormat format;
+    private final int columns;
+    private final long recordCount;
+
+    /**
+     * Maps a dataset file for reading.
+     *
+     * @param path file to read
+     * @throws IOException if the file cannot be opened, mapped or is not a dataset
+     */
+    public SelfPlayDatasetReader(Path path) throws IOException {
+        this.arena = Arena.ofConfined();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < SelfPlayDatasetFormat.HEADER_BYTES) {
+                throw new IOException("Not a self-play dataset: " + path);
+            }
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size, arena);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+
+        if (data.get(INT, SelfPlayDatasetFormat.OFF_MAGIC) != SelfPlayDatasetFormat.MAGIC
+                || data.get(INT, SelfPlayDatasetFormat.OFF_VERSION) != SelfPlayDatasetFormat.VERSION) {
+            arena.close();
+            throw new IOException("Not a self-play dataset: " + path);
+        }
+        format = new SelfPlayDatasetFormat(
+                data.get(INT, SelfPlayDatasetFormat.OFF_ROWS),
+                data.get(INT, SelfPlayDatasetFormat.OFF_QUEUE),
+                data.get(INT, SelfPlayDatasetFormat.OFF_BLOCK_CAPACITY));
+        columns = data.get(INT, SelfPlayDatasetFormat.OFF_COLUMNS);
+
+        // Never trust the count beyond what the file actually holds.
+        long published = data.get(LONG, SelfPlayDatasetFormat.OFF_RECORD_COUNT);
+        long fullBlocks = (data.byteSize() - SelfPlayDatasetFormat.HEADER_BYTES) / format.blockBytes;
+        recordCount = Math.min(published, fullBlocks * format.blockCapacity);
+    }
+
+    public long size() {
+        return recordCount;
+    }
+
+    public int getRows() {
+        return format.rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getQueueLength() {
+        return format.queueLength;
+    }
+
+    /**
+     * Returns one packed board row of a record.
+     *
+     * @param record record index
+     * @param row board row (0 = top)
+     * @return row bitmask, bit c set when column c is filled
+     */
+    public int getBoardRow(long record, int row) {
+        return data.get(INT, base(record) + format.boardsOffset
+                + ((long) slot(record) * format.rows + row) * Integer.BYTES);
+    }
+
+    /**
+     * Copies a record's packed board into {@code dest}.
+     *
+     * @param record record index
+     * @param dest destination, at least {@code getRows()} long
+     */
+    public void copyBoard(long record, int[] dest) {
+        long offset = base(record) + format.boardsOffset + (long) slot(record) * format.rows * Integer.BYTES;
+        MemorySegment.copy(data, INT, offset, dest, 0, format.rows);
+    }
+
+    public int getPiece(long record) {
+        return data.get(ValueLayout.JAVA_BYTE, base(record) + format.pieceOffset + slot(record));
+    }
+
+    /**
+     * Returns an upcoming brick type of a record.
+     *
+     * @param record record index
+     * @param index queue position (0 = next)
+     * @return brick type id, or -1 if the queue was shorter
+     */
+    public int getNext(long record, int index) {
+        return data.get(ValueLayout.JAVA_BYTE,
+                base(record) + format.nextOffset + (long) slot(record) * format.queueLength + index);
+    }
+
+    public int getHold(long record) {
+        return data.get(ValueLayout.JAVA_BYTE, base(record) + format.holdOffset + slot(record));
+    }
+
+    public int getRotation(long record) {
+        return data.get(ValueLayout.JAVA_BYTE, base(record) + format.rotationOffset + slot(record));
+    }
+
+    public int getX(long record) {
+        return data.get(ValueLayout.JAVA_BYTE, base(record) + format.xOffset + slot(record));
+    }
+
+    public int getLinesCleared(long record) {
+        return data.get(ValueLayout.JAVA_BYTE, base(record) + format.linesOffset + slot(record));
+    }
+
+    public int getScoreDelta(long record) {
+        return data.get(INT, base(record) + format.scoreOffset + (long) slot(record) * Integer.BYTES);
+    }
+
+    private long base(long record) {
+        if (record < 0 || record >= recordCount) {
+            throw new IndexOutOfBoundsException("Record " + record + " of " + recordCount);
+        }
+        return format.blockStart(record / format.blockCapacity);
+    }
+
+    private int slot(long record) {
+        return (int) (record % format.blockCapacity);
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+}
@@ -0,0 +1,184 @@
+package com.comp2042.sim;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams self-play records into a memory-mapped columnar file.
+ *
+ * Records are written straight into the current mapped block; nothing is
+ * buffered on the heap. Every {@code flushInterval} records the block is forced
+ * to disk and the header record count is bumped, so a crashed run still leaves
+ * a readable file containing everything up to the last flush.
+ *
+ * Not thread-safe: use one writer per producing thread.
+ */
+public final class SelfPlayDatasetWriter implements AutoCloseable {
+
+    /** Records per block unless configured otherwise. */
+    public static final int DEFAULT_BLOCK_CAPACITY = 4096;
+
+    /** Records between flushes unless configured otherwise. */
+    public static final int DEFAULT_FLUSH_INTERVAL = 1024;
+
+    private final FileChannel channel;
+    private final SelfPlayDatasetFormat format;
+    private final int columns;
+    private final int flushInterval;
+    private final MappedByteBuffer header;
+
+    private MappedByteBuffer block;
+    private long blockIndex = -1;
+    private int slot;
+    private long recordCount;
+    private long flushedCount;
+    private boolean closed;
+
+    /**
+     * Creates (or truncates) a dataset file with default block size and flush interval.
+     *
+     * @param path file to write
+     * @param rows board rows
+     * @param columns board columns (at most 32)
+     * @param queueLength number of upcoming bricks stored per record
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public SelfPlayDatasetWriter(Path path, int rows, int columns, int queueLength) throws IOException {
+        this(path, rows, columns, queueLength, DEFAULT_BLOCK_CAPACITY, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Creates (or truncates) a dataset file.
+     *
+     * @param path file to write
+     * @param rows board rows
+     * @param columns board columns (at most 32)
+     * @param queueLength number of upcoming bricks stored per record
+     * @param blockCapacity records per mapped block (positive multiple of 8)
+     * @param flushInterval records between forced flushes
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public SelfPlayDatasetWriter(Path path, int rows, int columns, int queueLength,
+                                 int blockCapacity, int flushInterval) throws IOException {
+        if (columns <= 0 || columns > Integer.SIZE) {
+            throw new IllegalArgumentException("Columns must be in 1.." + Integer.SIZE);
+        }
+        if (flushInterval <= 0) {
+            throw new IllegalArgumentException("Flush interval must be positive");
+        }
+        this.format = new SelfPlayDatasetFormat(rows, queueLength, blockCapacity);
+        this.columns = columns;
+        this.flushInterval = flushInterval;
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, SelfPlayDatasetFormat.HEADER_BYTES);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(SelfPlayDatasetFormat.OFF_MAGIC, SelfPlayDatasetFormat.MAGIC);
+        header.putInt(SelfPlayDatasetFormat.OFF_VERSION, SelfPlayDatasetFormat.VERSION);
+        header.putInt(SelfPlayDatasetFormat.OFF_ROWS, rows);
+        header.putInt(SelfPlayDatasetFormat.OFF_COLUMNS, columns);
+        header.putInt(SelfPlayDatasetFormat.OFF_QUEUE, queueLength);
+        header.putInt(SelfPlayDatasetFormat.OFF_BLOCK_CAPACITY, blockCapacity);
+        header.putLong(SelfPlayDatasetFormat.OFF_RECORD_COUNT, 0L);
+        header.force();
+    }
+
+    /**
+     * Appends one decision record.
+     *
+     * @param boardRows packed row bitmasks (bit c = column c filled), {@code rows} entries
+     * @param piece active brick type id
+     * @param next upcoming brick type ids; missing entries are stored as -1
+     * @param hold held brick type id, or -1 for none
+     * @param rotation chosen rotation index
+     * @param x chosen column offset
+     * @param linesCleared lines cleared by the placement
+     * @param scoreDelta score gained by the placement
+     * @throws IOException if a new block cannot be mapped or flushed
+     */
+    public void write(int[] boardRows, int piece, int[] next, int hold,
+                      int rotation, int x, int linesCleared, int scoreDelta) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Writer is closed");
+        }
+        if (boardRows.length != format.rows) {
+            throw new IllegalArgumentException("Expected " + format.rows + " board rows");
+        }
+        if (block == null || slot == format.blockCapacity) {
+            nextBlock();
+        }
+
+        int boardBase = (int) (format.boardsOffset + (long) slot * format.rows * Integer.BYTES);
+        for (int row = 0; row < format.rows; row++) {
+            block.putInt(boardBase + row * Integer.BYTES, boardRows[row]);
+        }
+        block.putInt((int) format.scoreOffset + slot * Integer.BYTES, scoreDelta);
+        block.put((int) format.pieceOffset + slot, (byte) piece);
+        int nextBase = (int) format.nextOffset + slot * format.queueLength;
+        for (int i = 0; i < format.queueLength; i++) {
+            int type = next != null && i < next.length ? next[i] : -1;
+            block.put(nextBase + i, (byte) type);
+        }
+        block.put((int) format.holdOffset + slot, (byte) hold);
+        block.put((int) format.rotationOffset + slot, (byte) rotation);
+        block.put((int) format.xOffset + slot, (byte) x);
+        block.put((int) format.linesOffset + slot, (byte) linesCleared);
+
+        slot++;
+        recordCount++;
+        if (recordCount - flushedCount >= flushInterval) {
+            flush();
+        }
+    }
+
+    /**
+     * Forces written records to disk and publishes them in the header.
+     * Data is forced before the count so readers never see unwritten records.
+     */
+    public void flush() {
+        if (block != null) {
+            block.force();
+        }
+        header.putLong(SelfPlayDatasetFormat.OFF_RECORD_COUNT, recordCount);
+        header.force();
+        flushedCount = recordCount;
+    }
+
+    private void nextBlock() throws IOException {
+        if (block != null) {
+            // Finish the old block before dropping our reference to it.
+            block.force();
+        }
+        blockIndex++;
+        block = channel.map(FileChannel.MapMode.READ_WRITE,
+                format.blockStart(blockIndex), format.blockBytes);
+        block.order(ByteOrder.LITTLE_ENDIAN);
+        slot = 0;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        channel.close();
+    }
+}
@@ -0,0 +1,125 @@
+package com.comp2042.sim;
+
+import com.comp2042.bot.EvaluationWeights;
+import com.comp2042.bot.GreedyBot;
+import com.comp2042.bot.Placement;
+import com.comp2042.logic.MatrixOperations;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickCatalog;
+import com.comp2042.models.ClearRow;
+import com.comp2042.models.GameMode;
+import com.comp2042.models.SimpleBoard;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Plays seeded headless games with a {@link GreedyBot} and streams every
+ * decision (state, chosen placement, outcome) into a {@link SelfPlayDatasetWriter}.
+ *
+ * Command line: {@code SelfPlayExporter <output> [games] [mode] [seed]}
+ */
+public final class SelfPlayExporter {
+
+    /** Upcoming bricks stored per record (matches the HUD preview). */
+    public static final int QUEUE_LENGTH = 3;
+
+    private final GameMode mode;
+    private final GreedyBot bot;
+    private final int maxPiecesPerGame;
+
+    // Reused per decision so the export loop does not allocate.
+    private final int[] boardRows = new int[HeadlessGame.BOARD_ROWS];
+    private final int[] nextTypes = new int[QUEUE_LENGTH];
+
+    /**
+     * Creates an exporter.
+     *
+     * @param mode the mode whose rules the games use
+     * @param weights evaluation weights for the bot
+     * @param maxPiecesPerGame cap so endless modes still terminate
+     */
+    public SelfPlayExporter(GameMode mode, EvaluationWeights weights, int maxPiecesPerGame) {
+        this.mode = mode;
+        this.bot = new GreedyBot(HeadlessGame.BOARD_ROWS, HeadlessGame.BOARD_COLUMNS, weights);
+        this.maxPiecesPerGame = maxPiecesPerGame;
+    }
+
+    /**
+     * Plays {@code games} games, seeded {@code seed}, {@code seed + 1}, ... and writes each decision.
+     *
+     * @param writer destination (must use this exporter's board size and queue length)
+     * @param games number of games to play
+     * @param seed seed of the first game
+     * @return number of records written
+     * @throws IOException if the writer fails
+     */
+    public long export(SelfPlayDatasetWriter writer, int games, long seed) throws IOException {
+        long written = 0;
+        for (int g = 0; g < games; g++) {
+            written += playGame(writer, seed + g);
+        }
+        writer.flush();
+        return written;
+    }
+
+    private long playGame(SelfPlayDatasetWriter writer, long seed) throws IOException {
+        HeadlessGame game = new HeadlessGame(mode, seed);
+        SimpleBoard board = game.getBoard();
+        long written = 0;
+
+        while (!game.isGameOver() && game.getPiecesPlaced() < maxPiecesPerGame) {
+            Placement placement = bot.choose(board);
+            if (placement == null) {
+                break;
+            }
+
+            // Capture the state the decision was made from.
+            MatrixOperations.toRowMasks(board.getBoardMatrix(), boardRows, 0, 1);
+            int piece = BrickCatalog.typeOf(board.getCurrentBrick());
+            Brick[] upcoming = board.getUpcomingBricks(QUEUE_LENGTH);
+            for (int i = 0; i < QUEUE_LENGTH; i++) {
+                nextTypes[i] = i < upcoming.length ? BrickCatalog.typeOf(upcoming[i]) : -1;
+            }
+            Brick held = board.getHeldBrick();
+            int hold = held != null ? BrickCatalog.typeOf(held) : -1;
+            int scoreBefore = game.getScore().getScore();
+
+            ClearRow clearRow = game.play(placement.getRotation(), placement.getX());
+
+            int lines = clearRow != null ? clearRow.getLinesRemoved() : 0;
+            int scoreDelta = game.getScore().getScore() - scoreBefore;
+            writer.write(boardRows, piece, nextTypes, hold,
+                    placement.getRotation(), placement.getX(), lines, scoreDelta);
+            written++;
+        }
+        return written;
+    }
+
+    /**
+     * Exports a dataset from the command line.
+     *
+     * @param args output path, then optional game count, mode name and seed
+     * @throws IOException if the file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: SelfPlayExporter <output> [games] [mode] [seed]");
+            return;
+        }
+        Path output = Paths.get(args[0]);
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        GameMode mode = args.length > 2 ? GameMode.valueOf(args[2]) : GameMode.CLASSIC;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+
+        SelfPlayExporter exporter = new SelfPlayExporter(mode, EvaluationWeights.defaults(), 10_000);
+        long start = System.nanoTime();
+        try (SelfPlayDatasetWriter writer = new SelfPlayDatasetWriter(output,
+                HeadlessGame.BOARD_ROWS, HeadlessGame.BOARD_COLUMNS, QUEUE_LENGTH)) {
+            long records = exporter.export(writer, games, seed);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("Wrote %d records from %d games in %.2fs%n", records, games, seconds);
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package com.comp2042.sim;
+
+import com.comp2042.logic.ShapeMask;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickCatalog;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.List;
+
+/**
+ * Steps thousands of independent headless Tetris games in lockstep for self-play.
+ *
+ * All game state lives off-heap in one {@link MemorySegment}, laid out struct-of-arrays:
+ * every game's board rows, then every game's current piece, then every RNG state, and so on.
+ * Boards are packed row bitmasks, so a placement costs one AND per row to test and one OR
+ * per piece row to merge. Stepping allocates nothing on the Java heap.
+ *
+ * An action is a final placement: {@code rotation * columns + column}, where {@code column}
+ * is the board column of the piece's leftmost block. The piece is dropped straight down from
+ * the spawn row, mirroring a hard drop in {@code SimpleBoard}. Out-of-range actions wrap:
+ * the rotation is taken modulo the brick's rotation count and the column modulo the board
+ * width. A column too far right for the piece is then moved left until it fits.
+ *
+ * Finished games are reset automatically inside {@link #step}; the returned done flag tells
+ * the caller that the observation now belongs to a fresh game. Instances are confined to the
+ * creating thread and must be closed to release the off-heap memory.
+ */
+public final class VectorisedEnvironment implements AutoCloseable {
+
+    /** Maximum rotations of any brick; actions are laid out as rotation * columns + column. */
+    public static final int MAX_ROTATIONS = 4;
+
+    // Matches SimpleBoard's spawn row.
+    private static final int SPAWN_Y = 1;
+
+    private final int games;
+    private final int rows;
+    private final int columns;
+    private final int fullRowMask;
+
+    // Precomputed on-heap geometry: [type][rotation], shared by every game.
+    private final ShapeMask[][] shapes;
+
+    private final Arena arena;
+    private final MemorySegment state;
+
+    // Byte offsets of each struct-of-arrays column inside the segment.
+    private final long rngOffset;
+    private final long boardOffset;
+    private final long pieceOffset;
+    private final long nextOffset;
+    private final long scoreOffset;
+    private final long linesOffset;
+    private final long pieceCountOffset;
+    private final long doneOffset;
+
+    /**
+     * Allocates state for {@code games} games and resets them from a base seed.
+     *
+     * @param games number of parallel games
+     * @param rows board rows (same meaning as SimpleBoard, including hidden rows)
+     * @param columns board columns (at most 31)
+     * @param seed base seed; game {@code i} uses a stream derived from {@code seed + i}
+     */
+    public VectorisedEnvironment(int games, int rows, int columns, long seed) {
+        if (columns <= 0 || columns > 31) {
+            throw new IllegalArgumentException("Columns must be between 1 and 31: " + columns);
+        }
+        this.games = games;
+        this.rows = rows;
+        this.columns = columns;
+        this.fullRowMask = (1 << columns) - 1;
+        this.shapes = buildShapes();
+
+        // Longs first so every column stays naturally aligned.
+        long offset = 0;
+        rngOffset = offset;
+        offset += (long) games * Long.BYTES;
+        boardOffset = offset;
+        offset += (long) games * rows * Integer.BYTES;
+        pieceOffset = offset;
+        offset += (long) games * Integer.BYTES;
+        nextOffset = offset;
+        offset += (long) games * Integer.BYTES;
+        scoreOffset = offset;
+        offset += (long) games * Integer.BYTES;
+        linesOffset = offset;
+        offset += (long) games * Integer.BYTES;
+        pieceCountOffset = offset;
+        offset += (long) games * Integer.BYTES;
+        doneOffset = offset;
+        offset += games;
+
+        this.arena = Arena.ofConfined();
+        this.state = arena.allocate(offset, Long.BYTES);
+
+        for (int game = 0; game < games; game++) {
+            resetGame(game, mix(seed + game));
+        }
+    }
+
+    private static ShapeMask[][] buildShapes() {
+        ShapeMask[][] table = new ShapeMask[BrickCatalog.TYPE_COUNT][];
+        for (int type = 0; type < BrickCatalog.TYPE_COUNT; type++) {
+            Brick brick = BrickCatalog.byType(type);
+            List<int[][]> rotations = brick.getShapeMatrix();
+            table[type] = new ShapeMask[rotations.size()];
+            for (int r = 0; r < rotations.size(); r++) {
+                table[type][r] = new ShapeMask(rotations.get(r));
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Applies one action to every game.
+     *
+     * @param actions one placement per game
+     * @param rewards receives the score gained by each game this step
+     * @param done receives 1 for games that topped out (and were reset), 0 otherwise
+     */
+    public void step(int[] actions, float[] rewards, byte[] done) {
+        for (int game = 0; game < games; game++) {
+            int reward = stepGame(game, actions[game]);
+            boolean finished = state.get(ValueLayout.JAVA_BYTE, doneOffset + game) != 0;
+            rewards[game] = reward;
+            done[game] = (byte) (finished ? 1 : 0);
+            if (finished) {
+                resetGame(game, state.get(ValueLayout.JAVA_LONG, rngOffset + (long) game * Long.BYTES));
+            }
+        }
+    }
+
+    private int stepGame(int game, int action) {
+        int type = getCurrentPiece(game);
+        ShapeMask[] rotations = shapes[type];
+
+        int rotation = Math.floorMod(action / columns, MAX_ROTATIONS) % rotations.length;
+        ShapeMask shape = rotations[rotation];
+
+        // Column of the leftmost block -> shape offset, clamped to the board.
+        int column = Math.floorMod(action, columns);
+        int width = shape.getMaxCol() - shape.getMinCol() + 1;
+        column = Math.min(column, columns - width);
+        int x = column - shape.getMinCol();
+
+        long base = boardRowOffset(game, 0);
+        if (!fits(base, shape, x, SPAWN_Y)) {
+            markDone(game);
+            return 0;
+        }
+        int y = SPAWN_Y;
+        while (fits(base, shape, x, y + 1)) {
+            y++;
+        }
+
+        for (int row = shape.getTopRow(); row <= shape.getBottomRow(); row++) {
+            long at = base + (long) (y + row) * Integer.BYTES;
+            state.set(ValueLayout.JAVA_INT, at, state.get(ValueLayout.JAVA_INT, at) | shape.rowAt(row, x));
+        }
+
+        int cleared = clearFullRows(base);
+        // Same reward as MatrixOperations.checkRemoving: 50 * lines^2.
+        int reward = 50 * cleared * cleared;
+        addInt(scoreOffset, game, reward);
+        addInt(linesOffset, game, cleared);
+        addInt(pieceCountOffset, game, 1);
+
+        // Advance the queue: next becomes current, draw a new next.
+        setInt(pieceOffset, game, getInt(nextOffset, game));
+        setInt(nextOffset, game, drawPiece(game));
+
+        // Top-out: the new piece cannot enter the board.
+        ShapeMask spawn = shapes[getCurrentPiece(game)][0];
+        if (!fits(base, spawn, defaultSpawnX(spawn), SPAWN_Y)) {
+            markDone(game);
+        }
+        return reward;
+    }
+
+    private boolean fits(long base, ShapeMask shape, int x, int y) {
+        if (x + shape.getMinCol() < 0 || x + shape.getMaxCol() >= columns) {
+            return false;
+        }
+        for (int row = shape.getTopRow(); row <= shape.getBottomRow(); row++) {
+            int boardRow = y + row;
+            int piece = shape.rowAt(row, x);
+            if (piece == 0) {
+                continue;
+            }
+            if (boardRow < 0 || boardRow >= rows) {
+                return false;
+            }
+            if ((state.get(ValueLayout.JAVA_INT, base + (long) boardRow * Integer.BYTES) & piece) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes full rows by compacting the remaining rows towards the bottom.
+     *
+     * @return number of rows removed
+     */
+    private int clearFullRows(long base) {
+        int write = rows - 1;
+        for (int read = rows - 1; read >= 0; read--) {
+            int mask = state.get(ValueLayout.JAVA_INT, base + (long) read * Integer.BYTES);
+            if (mask == fullRowMask) {
+                continue;
+            }
+            if (write != read) {
+                state.set(ValueLayout.JAVA_INT, base + (long) write * Integer.BYTES, mask);
+            }
+            write--;
+        }
+        int cleared = write + 1;
+        for (int row = 0; row < cleared; row++) {
+            state.set(ValueLayout.JAVA_INT, base + (long) row * Integer.BYTES, 0);
+        }
+        return cleared;
+    }
+
+    private int defaultSpawnX(ShapeMask shape) {
+        // SimpleBoard spawns at x = 4; keep that unless the board is too narrow.
+        int x = Math.min(4, columns - 1 - shape.getMaxCol());
+        return Math.max(x, -shape.getMinCol());
+    }
+
+    private void resetGame(int game, long rngSeed) {
+        state.asSlice(boardRowOffset(game, 0), (long) rows * Integer.BYTES).fill((byte) 0);
+        state.set(ValueLayout.JAVA_LONG, rngOffset + (long) game * Long.BYTES, rngSeed == 0 ? 1L : rngSeed);
+        setInt(pieceOffset, game, drawPiece(game));
+        setInt(nextOffset, game, drawPiece(game));
+        setInt(scoreOffset, game, 0);
+        setInt(linesOffset, game, 0);
+        setInt(pieceCountOffset, game, 0);
+        state.set(ValueLayout.JAVA_BYTE, doneOffset + game, (byte) 0);
+    }
+
+    /**
+     * Draws a uniformly random brick type using the game's xorshift64* state,
+     * matching the uniform choice made by RandomBrickGenerator.
+     */
+    private int drawPiece(int game) {
+        long at = rngOffset + (long) game * Long.BYTES;
+        long x = state.get(ValueLayout.JAVA_LONG, at);
+        x ^= x >>> 12;
+        x ^= x << 25;
+        x ^= x >>> 27;
+        state.set(ValueLayout.JAVA_LONG, at, x);
+        long value = x * 0x2545F4914F6CDD1DL;
+        return (int) ((value >>> 33) % BrickCatalog.TYPE_COUNT);
+    }
+
+    private static long mix(long seed) {
+        // SplitMix64 finaliser so neighbouring seeds start far apart.
+        long z = seed + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private void markDone(int game) {
+        state.set(ValueLayout.JAVA_BYTE, doneOffset + game, (byte) 1);
+    }
+
+    private long boardRowOffset(int game, int row) {
+        return boardOffset + ((long) game * rows + row) * Integer.BYTES;
+    }
+
+    private int getInt(long column, int game) {
+        return state.get(ValueLayout.JAVA_INT, column + (long) game * Integer.BYTES);
+    }
+
+    private void setInt(long column, int game, int value) {
+        state.set(ValueLayout.JAVA_INT, column + (long) game * Integer.BYTES, value);
+    }
+
+    private void addInt(long column, int game, int delta) {
+        setInt(column, game, getInt(column, game) + delta);
+    }
+
+    // ========================= OBSERVATIONS =========================
+
+    /**
+     * Number of distinct actions: {@code MAX_ROTATIONS * columns}.
+     *
+     * @return action count
+     */
+    public int getActionCount() {
+        return MAX_ROTATIONS * columns;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets one packed board row (bit c set when column c is filled).
+     *
+     * @param game game index
+     * @param row board row (0 = top)
+     * @return the row mask
+     */
+    public int getBoardRow(int game, int row) {
+        return state.get(ValueLayout.JAVA_INT, boardRowOffset(game, row));
+    }
+
+    /**
+     * Overwrites one packed board row. Useful for curricula and tests.
+     *
+     * @param game game index
+     * @param row board row (0 = top)
+     * @param mask the row mask
+     */
+    public void setBoardRow(int game, int row, int mask) {
+        state.set(ValueLayout.JAVA_INT, boardRowOffset(game, row), mask & fullRowMask);
+    }
+
+    /**
+     * Copies a game's packed board into {@code dest} starting at {@code offset}.
+     *
+     * @param game game index
+     * @param dest destination array (at least offset + rows long)
+     * @param offset first index to write
+     */
+    public void copyBoard(int game, int[] dest, int offset) {
+        MemorySegment.copy(state, ValueLayout.JAVA_INT, boardRowOffset(game, 0), dest, offset, rows);
+    }
+
+    /** Current brick type id (see BrickCatalog). */
+    public int getCurrentPiece(int game) {
+        return getInt(pieceOffset, game);
+    }
+
+    /**
+     * Forces the current brick of a game. Useful for curricula and tests.
+     *
+     * @param game game index
+     * @param type brick type id (see BrickCatalog)
+     */
+    public void setCurrentPiece(int game, int type) {
+        setInt(pieceOffset, game, type);
+    }
+
+    /** Next brick type id (see BrickCatalog). */
+    public int getNextPiece(int game) {
+        return getInt(nextOffset, game);
+    }
+
+    /** Score accumulated since the game's last reset. */
+    public int getScore(int game) {
+        return getInt(scoreOffset, game);
+    }
+
+    /** Lines cleared since the game's last reset. */
+    public int getLinesCleared(int game) {
+        return getInt(linesOffset, game);
+    }
+
+    /** Pieces placed since the game's last reset. */
+    public int getPiecesPlaced(int game) {
+        return getInt(pieceCountOffset, game);
+    }
+
+    /**
+     * Releases the off-heap state. The environment cannot be used afterwards.
+     */
+    @Override
+    public void close() {
+        arena.close();
+    }
+}
@@ -0,0 +1,469 @@
+package com.comp2042.sim;
+
+import com.comp2042.bot.EvaluationWeights;
+import com.comp2042.bot.GreedyBot;
+import com.comp2042.bot.Placement;
+import com.comp2042.models.GameMode;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Genetic-algorithm tuner for {@link EvaluationWeights}.
+ *
+ * Each generation every candidate plays the same set of seeded headless games
+ * (under the chosen mode's GameConfig) on a fork-join pool; its fitness is the
+ * mean final score. The best candidates survive, the rest are bred by
+ * tournament selection, fitness-weighted crossover and Gaussian mutation.
+ *
+ * All randomness comes from seeds kept in the tuner, so a run resumed from a
+ * checkpoint continues exactly as if it had never stopped.
+ */
+public final class WeightTuner {
+
+    /**
+     * Receives progress after every generation.
+     */
+    public interface ProgressListener {
+
+        /**
+         * Called once a generation has been evaluated.
+         *
+         * @param generation number of generations completed
+         * @param generationsPerSecond throughput since {@link #run} started
+         * @param bestFitness best mean score seen so far
+         * @param best weights that achieved it
+         */
+        void onGeneration(int generation, double generationsPerSecond, double bestFitness, EvaluationWeights best);
+    }
+
+    private static final int CHECKPOINT_VERSION = 1;
+    private static final int TOURNAMENT_SIZE = 3;
+    private static final double MUTATION_RATE = 0.3;
+    private static final double MUTATION_SIGMA = 0.2;
+
+    private final GameMode mode;
+    private final int gamesPerCandidate;
+    private final int maxPiecesPerGame;
+    private final long baseSeed;
+
+    private double[][] population;
+    private final double[] fitness;
+    private int generation;
+    private long rngState;
+    private double bestFitness = Double.NEGATIVE_INFINITY;
+    private double[] bestWeights;
+
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private Path checkpointPath;
+    private ProgressListener progressListener;
+
+    /**
+     * Creates a tuner with a fresh random population.
+     * Candidate 0 starts from {@link EvaluationWeights#defaults()}.
+     *
+     * @param mode game mode whose rules the games use
+     * @param populationSize candidates per generation (at least 2)
+     * @param gamesPerCandidate seeded games each candidate plays per generation
+     * @param maxPiecesPerGame cap so strong candidates still finish quickly
+     * @param seed seed for the whole run
+     */
+    public WeightTuner(GameMode mode, int populationSize, int gamesPerCandidate, int maxPiecesPerGame, long seed) {
+        this(mode, new double[populationSize][], gamesPerCandidate, maxPiecesPerGame, seed);
+        rngState = seed;
+        population[0] = normalise(EvaluationWeights.defaults().toArray());
+        for (int i = 1; i < populationSize; i++) {
+            double[] weights = new double[EvaluationWeights.FEATURE_COUNT];
+            for (int f = 0; f < weights.length; f++) {
+                weights[f] = nextDouble() * 2.0 - 1.0;
+            }
+            population[i] = normalise(weights);
+        }
+    }
+
+    private WeightTuner(GameMode mode, double[][] population, int gamesPerCandidate, int maxPiecesPerGame, long seed) {
+        if (population.length < 2) {
+            throw new IllegalArgumentException("Population must hold at least 2 candidates");
+        }
+        if (gamesPerCandidate <= 0 || maxPiecesPerGame <= 0) {
+            throw new IllegalArgumentException("Games and pieces per game must be positive");
+        }
+        this.mode = mode;
+        this.population = population;
+        this.fitness = new double[population.length];
+        this.gamesPerCandidate = gamesPerCandidate;
+        this.maxPiecesPerGame = maxPiecesPerGame;
+        this.baseSeed = seed;
+    }
+
+    /**
+     * Runs the given number of generations, checkpointing after each one if a
+     * checkpoint path is set.
+     *
+     * @param generations generations to run
+     * @return the best weights found so far
+     * @throws IOException if a checkpoint cannot be written
+     */
+    public EvaluationWeights run(int generations) throws IOException {
+        long start = System.nanoTime();
+        for (int g = 0; g < generations; g++) {
+            step();
+            if (checkpointPath != null) {
+                saveCheckpoint(checkpointPath);
+            }
+            if (progressListener != null) {
+                double seconds = (System.nanoTime() - start) / 1e9;
+                progressListener.onGeneration(generation, (g + 1) / Math.max(seconds, 1e-9),
+                        bestFitness, getBestWeights());
+            }
+        }
+        return getBestWeights();
+    }
+
+    /**
+     * Evaluates the current population and breeds the next one.
+     */
+    public void step() {
+        long gameSeed = mix(baseSeed + (generation + 1) * 0x9E3779B97F4A7C15L);
+        pool.invoke(new EvaluateTask(0, population.length, gameSeed));
+
+        for (int i = 0; i < population.length; i++) {
+            if (fitness[i] > bestFitness) {
+                bestFitness = fitness[i];
+                bestWeights = population[i].clone();
+            }
+        }
+
+        population = breed();
+        generation++;
+    }
+
+    /**
+     * Mean final score of a weight vector over the given seeded games.
+     *
+     * @param weights candidate weights
+     * @param firstSeed seed of the first game; game n uses firstSeed + n
+     * @return mean score
+     */
+    double evaluate(double[] weights, long firstSeed) {
+        GreedyBot bot = new GreedyBot(HeadlessGame.BOARD_ROWS, HeadlessGame.BOARD_COLUMNS,
+                EvaluationWeights.fromArray(weights));
+        long total = 0;
+        for (int n = 0; n < gamesPerCandidate; n++) {
+            HeadlessGame game = new HeadlessGame(mode, firstSeed + n);
+            while (!game.isGameOver() && game.getPiecesPlaced() < maxPiecesPerGame) {
+                Placement placement = bot.choose(game.getBoard());
+                if (placement == null) {
+                    break;
+                }
+                game.play(placement.getRotation(), placement.getX());
+            }
+            total += game.getScore().getScore();
+        }
+        return (double) total / gamesPerCandidate;
+    }
+
+    /**
+     * Splits the population in halves until single candidates remain.
+     */
+    // ForkJoinTask is Serializable, but these tasks only ever run in the pool.
+    @SuppressWarnings("serial")
+    private final class EvaluateTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final long gameSeed;
+
+        EvaluateTask(int from, int to, long gameSeed) {
+            this.from = from;
+            this.to = to;
+            this.gameSeed = gameSeed;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                fitness[from] = evaluate(population[from], gameSeed);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new EvaluateTask(from, mid, gameSeed), new EvaluateTask(mid, to, gameSeed));
+        }
+    }
+
+    private double[][] breed() {
+        int size = population.length;
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        // Stable sort keeps ties deterministic.
+        Arrays.sort(order, (a, b) -> Double.compare(fitness[b], fitness[a]));
+
+        double[][] next = new double[size][];
+        int elites = Math.max(1, size / 10);
+        for (int i = 0; i < elites; i++) {
+            next[i] = population[order[i]].clone();
+        }
+        for (int i = elites; i < size; i++) {
+            int a = tournament();
+            int b = tournament();
+            double[] child = crossover(population[a], fitness[a], population[b], fitness[b]);
+            if (nextDouble() < MUTATION_RATE) {
+                int feature = (int) (nextDouble() * child.length);
+                child[feature] += nextGaussian() * MUTATION_SIGMA;
+            }
+            next[i] = normalise(child);
+        }
+        return next;
+    }
+
+    private int tournament() {
+        int best = -1;
+        for (int i = 0; i < TOURNAMENT_SIZE; i++) {
+            int pick = (int) (nextDouble() * population.length);
+            if (best < 0 || fitness[pick] > fitness[best]) {
+                best = pick;
+            }
+        }
+        return best;
+    }
+
+    private static double[] crossover(double[] a, double fitnessA, double[] b, double fitnessB) {
+        // Lean towards the fitter parent; fall back to an even blend when both scored nothing.
+        double total = Math.max(fitnessA, 0) + Math.max(fitnessB, 0);
+        double weightA = total > 0 ? Math.max(fitnessA, 0) / total : 0.5;
+        double[] child = new double[a.length];
+        for (int i = 0; i < a.length; i++) {
+            child[i] = a[i] * weightA + b[i] * (1.0 - weightA);
+        }
+        return child;
+    }
+
+    /**
+     * Scales a weight vector to unit length. Only the direction matters to a
+     * linear evaluator, so this keeps the search space bounded.
+     */
+    private static double[] normalise(double[] weights) {
+        double length = 0;
+        for (double w : weights) {
+            length += w * w;
+        }
+        length = Math.sqrt(length);
+        if (length == 0) {
+            return weights;
+        }
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] /= length;
+        }
+        return weights;
+    }
+
+    // SplitMix64, so the generator state is a single long that can be checkpointed.
+    private double nextDouble() {
+        rngState += 0x9E3779B97F4A7C15L;
+        return (mix(rngState) >>> 11) * 0x1.0p-53;
+    }
+
+    private double nextGaussian() {
+        // Box-Muller; 1 - u avoids log(0).
+        double u = 1.0 - nextDouble();
+        double v = nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * v);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Writes the full tuner state. The file is written next to the target and
+     * moved into place so an interrupted write never corrupts the last checkpoint.
+     *
+     * @param path checkpoint file
+     * @throws IOException if the file cannot be written
+     */
+    public void saveCheckpoint(Path path) throws IOException {
+        Properties props = new Properties();
+        props.setProperty("version", Integer.toString(CHECKPOINT_VERSION));
+        props.setProperty("mode", mode.name());
+        props.setProperty("gamesPerCandidate", Integer.toString(gamesPerCandidate));
+        props.setProperty("maxPiecesPerGame", Integer.toString(maxPiecesPerGame));
+        props.setProperty("baseSeed", Long.toString(baseSeed));
+        props.setProperty("rngState", Long.toString(rngState));
+        props.setProperty("generation", Integer.toString(generation));
+        props.setProperty("populationSize", Integer.toString(population.length));
+        for (int i = 0; i < population.length; i++) {
+            props.setProperty("population." + i, join(population[i]));
+        }
+        if (bestWeights != null) {
+            props.setProperty("bestFitness", Double.toString(bestFitness));
+            props.setProperty("bestWeights", join(bestWeights));
+        }
+
+        Path absolute = path.toAbsolutePath();
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            props.store(writer, "Weight tuner checkpoint");
+        }
+        try {
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (java.nio.file.AtomicMoveNotSupportedException e) {
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Restores a tuner from a checkpoint. The returned tuner keeps checkpointing to the same file.
+     *
+     * @param path checkpoint file written by {@link #saveCheckpoint}
+     * @return the restored tuner
+     * @throws IOException if the file cannot be read or is not a valid checkpoint
+     */
+    public static WeightTuner resume(Path path) throws IOException {
+        Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            props.load(reader);
+        }
+        try {
+            if (Integer.parseInt(props.getProperty("version")) != CHECKPOINT_VERSION) {
+                throw new IOException("Unsupported checkpoint version in " + path);
+            }
+            int size = Integer.parseInt(props.getProperty("populationSize"));
+            double[][] population = new double[size][];
+            for (int i = 0; i < size; i++) {
+                population[i] = split(props.getProperty("population." + i));
+            }
+            WeightTuner tuner = new WeightTuner(
+                    GameMode.valueOf(props.getProperty("mode")),
+                    population,
+                    Integer.parseInt(props.getProperty("gamesPerCandidate")),
+                    Integer.parseInt(props.getProperty("maxPiecesPerGame")),
+                    Long.parseLong(props.getProperty("baseSeed")));
+            tuner.rngState = Long.parseLong(props.getProperty("rngState"));
+            tuner.generation = Integer.parseInt(props.getProperty("generation"));
+            if (props.getProperty("bestWeights") != null) {
+                tuner.bestFitness = Double.parseDouble(props.getProperty("bestFitness"));
+                tuner.bestWeights = split(props.getProperty("bestWeights"));
+            }
+            tuner.checkpointPath = path;
+            return tuner;
+        } catch (RuntimeException e) {
+            // Missing keys or malformed numbers.
+            throw new IOException("Corrupt checkpoint " + path, e);
+        }
+    }
+
+    private static String join(double[] values) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(values[i]);
+        }
+        return sb.toString();
+    }
+
+    private static double[] split(String text) {
+        String[] parts = text.split(",");
+        double[] values = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Double.parseDouble(parts[i].trim());
+        }
+        if (values.length != EvaluationWeights.FEATURE_COUNT) {
+            throw new IllegalArgumentException("Expected " + EvaluationWeights.FEATURE_COUNT + " weights");
+        }
+        return values;
+    }
+
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public void setCheckpointPath(Path checkpointPath) {
+        this.checkpointPath = checkpointPath;
+    }
+
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    public GameMode getMode() {
+        return mode;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    /**
+     * Returns the best weights seen so far, or the first candidate before any generation ran.
+     *
+     * @return best weights
+     */
+    public EvaluationWeights getBestWeights() {
+        return EvaluationWeights.fromArray(bestWeights != null ? bestWeights : population[0]);
+    }
+
+    /**
+     * Returns a copy of the population that the next generation will evaluate.
+     *
+     * @return candidate weight vectors
+     */
+    public double[][] getPopulation() {
+        double[][] copy = new double[population.length][];
+        for (int i = 0; i < population.length; i++) {
+            copy[i] = population[i].clone();
+        }
+        return copy;
+    }
+
+    /**
+     * Runs a tuning session from the command line, resuming if the checkpoint already exists.
+     *
+     * @param args checkpoint path, then optional generations, mode, population and games per candidate
+     * @throws IOException if the checkpoint cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: WeightTuner <checkpoint> [generations] [mode] [population] [games]");
+            return;
+        }
+        Path checkpoint = Paths.get(args[0]);
+        int generations = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+        WeightTuner tuner;
+        if (Files.exists(checkpoint)) {
+            tuner = resume(checkpoint);
+            System.out.println("Resuming at generation " + tuner.getGeneration());
+        } else {
+            GameMode mode = args.length > 2 ? GameMode.valueOf(args[2]) : GameMode.CLASSIC;
+            int population = args.length > 3 ? Integer.parseInt(args[3]) : 50;
+            int games = args.length > 4 ? Integer.parseInt(args[4]) : 5;
+            tuner = new WeightTuner(mode, population, games, 500, System.nanoTime());
+            tuner.setCheckpointPath(checkpoint);
+        }
+
+        tuner.setProgressListener((generation, perSecond, best, weights) ->
+                System.out.printf("gen %d  %.3f gen/s  best %.1f  %s%n", generation, perSecond, best, weights));
+        EvaluationWeights best = tuner.run(generations);
+        System.out.println("Best weights: " + best);
+    }
+}
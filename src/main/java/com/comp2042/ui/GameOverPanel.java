@@ -25,6 +25,7 @@ public class GameOverPanel extends StackPane {
     private final Label scoreLabel;
     private final Label linesLabel;
     private final Label timeLabel;
+    private final Label rankLabel;
 
     public GameOverPanel() {
         setAlignment(Pos.CENTER);
@@ -53,6 +54,9 @@ public class GameOverPanel extends StackPane {
         timeLabel = new Label();
         timeLabel.getStyleClass().add("hud-value");
 
+        rankLabel = new Label();
+        rankLabel.getStyleClass().add("hud-value");
+
         // Restart button: retry the same mode - using pause-button style
         Button restartButton = new Button("Restart");
         restartButton.getStyleClass().add("pause-button");
@@ -94,7 +98,8 @@ public class GameOverPanel extends StackPane {
                 modeLabel,
                 scoreLabel,
                 linesLabel,
-                timeLabel
+                timeLabel,
+                rankLabel
         );
         
         // Buttons container
@@ -120,6 +125,7 @@ public class GameOverPanel extends StackPane {
         scoreLabel.setText("");
         linesLabel.setText("");
         timeLabel.setText("");
+        rankLabel.setText("");
     }
 
     /**
@@ -171,6 +177,15 @@ public class GameOverPanel extends StackPane {
         }
     }
 
+    /**
+     * Shows how the run compares with the player's earlier runs.
+     *
+     * @param text e.g. "You beat 83% of your runs", or null to show nothing
+     */
+    public void setRank(String text) {
+        rankLabel.setText(text != null ? text : "");
+    }
+
     /**
      * Set callback used when the user presses the Restart button.
      */
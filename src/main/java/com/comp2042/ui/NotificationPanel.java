@@ -3,10 +3,7 @@ package com.comp2042.ui;
 import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.animation.TranslateTransition;
-import javafx.collections.ObservableList;
-import javafx.event.ActionEvent;
-import javafx.event.EventHandler;
-import javafx.scene.Node;
+import javafx.scene.CacheHint;
 import javafx.scene.control.Label;
 import javafx.scene.effect.Effect;
 import javafx.scene.effect.Glow;
@@ -14,33 +11,68 @@ import javafx.scene.layout.BorderPane;
 import javafx.scene.paint.Color;
 import javafx.util.Duration;
 
+/**
+ * Floating text popup that rises and fades out.
+ *
+ * The label, effect and transitions are created once, so a panel can be
+ * shown again with new text (see NotificationPool) without allocating. The
+ * panel is cached as a bitmap while it animates, so the glow is rendered once
+ * per text change rather than on every frame of the fade.
+ */
 public class NotificationPanel extends BorderPane {
 
+    // Effects hold no per-node state, so every popup shares one.
+    private static final Effect GLOW = new Glow(0.6);
+
+    private final Label label;
+    private final TranslateTransition rise;
+    private final ParallelTransition transition;
+    private Runnable onFinished;
+
     public NotificationPanel(String text) {
         setMinHeight(200);
         setMinWidth(220);
-        final Label score = new Label(text);
-        score.getStyleClass().add("bonusStyle");
-        final Effect glow = new Glow(0.6);
-        score.setEffect(glow);
-        score.setTextFill(Color.WHITE);
-        setCenter(score);
+        label = new Label(text);
+        label.getStyleClass().add("bonusStyle");
+        label.setEffect(GLOW);
+        label.setTextFill(Color.WHITE);
+        setCenter(label);
 
-    }
+        setCache(true);
+        setCacheHint(CacheHint.SPEED);
 
-    public void showScore(ObservableList<Node> list) {
-        FadeTransition ft = new FadeTransition(Duration.millis(2000), this);
-        TranslateTransition tt = new TranslateTransition(Duration.millis(2500), this);
-        tt.setToY(this.getLayoutY() - 40);
-        ft.setFromValue(1);
-        ft.setToValue(0);
-        ParallelTransition transition = new ParallelTransition(tt, ft);
-        transition.setOnFinished(new EventHandler<ActionEvent>() {
-            @Override
-            public void handle(ActionEvent event) {
-                list.remove(NotificationPanel.this);
+        FadeTransition fade = new FadeTransition(Duration.millis(2000), this);
+        fade.setFromValue(1);
+        fade.setToValue(0);
+        rise = new TranslateTransition(Duration.millis(2500), this);
+        transition = new ParallelTransition(rise, fade);
+        transition.setOnFinished(event -> {
+            if (onFinished != null) {
+                onFinished.run();
             }
         });
-        transition.play();
+    }
+
+    /**
+     * Changes the popup text.
+     *
+     * @param text the new text
+     */
+    public void setText(String text) {
+        label.setText(text);
+    }
+
+    /**
+     * Starts (or restarts) the rise-and-fade animation from the beginning.
+     *
+     * @param onFinished run when the animation completes (not when it is restarted)
+     */
+    public void play(Runnable onFinished) {
+        transition.stop();
+        this.onFinished = onFinished;
+        setOpacity(1);
+        setTranslateY(0);
+        rise.setToY(getLayoutY() - 40);
+        transition.playFromStart();
     }
 }
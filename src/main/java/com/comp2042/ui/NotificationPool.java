@@ -0,0 +1,143 @@
+package com.comp2042.ui;
+
+import javafx.scene.Group;
+
+/**
+ * Fixed set of reusable popups for score bonuses and messages.
+ *
+ * All panels are created and added to the group once, then shown and hidden
+ * instead of being created and removed per clear. At most {@link #MAX_VISIBLE}
+ * popups are on screen. When they are all busy, a score bonus is merged into a
+ * visible popup with the same value ("+300 x3"), and anything else replaces
+ * the oldest popup, so fast combo play never piles up live animations.
+ */
+public class NotificationPool {
+
+    /** Popups that can be visible at once. */
+    public static final int MAX_VISIBLE = 3;
+
+    private final NotificationPanel[] panels = new NotificationPanel[MAX_VISIBLE];
+
+    // Per slot: score bonus shown (-1 for a message), clears merged into it, and start order.
+    private final int[] bonus = new int[MAX_VISIBLE];
+    private final int[] count = new int[MAX_VISIBLE];
+    private final long[] startedAt = new long[MAX_VISIBLE];
+    private final boolean[] active = new boolean[MAX_VISIBLE];
+    private final Runnable[] onFinished = new Runnable[MAX_VISIBLE];
+
+    private long starts;
+
+    /**
+     * Creates the panels and adds them, hidden, to the group.
+     *
+     * @param group container the popups are drawn in
+     */
+    public NotificationPool(Group group) {
+        for (int i = 0; i < MAX_VISIBLE; i++) {
+            NotificationPanel panel = new NotificationPanel("");
+            panel.setVisible(false);
+            panel.setMouseTransparent(true);
+            panels[i] = panel;
+            group.getChildren().add(panel);
+
+            int slot = i;
+            onFinished[i] = () -> {
+                active[slot] = false;
+                panels[slot].setVisible(false);
+            };
+        }
+    }
+
+    /**
+     * Shows a line clear bonus, merging it into a matching popup if every slot is busy.
+     *
+     * @param points the bonus
+     */
+    public void showBonus(int points) {
+        int slot = freeSlot();
+        if (slot < 0) {
+            slot = slotShowing(points);
+            if (slot >= 0) {
+                count[slot]++;
+                start(slot, "+" + points + " x" + count[slot], 0.0);
+                return;
+            }
+            slot = oldestSlot();
+        }
+        bonus[slot] = points;
+        count[slot] = 1;
+        start(slot, "+" + points, 0.0);
+    }
+
+    /**
+     * Shows a text message, replacing the oldest popup if every slot is busy.
+     *
+     * @param text the message
+     * @param layoutY vertical position within the group
+     */
+    public void showMessage(String text, double layoutY) {
+        int slot = freeSlot();
+        if (slot < 0) {
+            slot = oldestSlot();
+        }
+        bonus[slot] = -1;
+        count[slot] = 1;
+        start(slot, text, layoutY);
+    }
+
+    /**
+     * Number of popups currently on screen.
+     *
+     * @return visible popups
+     */
+    public int getVisibleCount() {
+        int visible = 0;
+        for (boolean a : active) {
+            if (a) {
+                visible++;
+            }
+        }
+        return visible;
+    }
+
+    private void start(int slot, String text, double layoutY) {
+        NotificationPanel panel = panels[slot];
+        panel.setText(text);
+        panel.setLayoutY(layoutY);
+        panel.setVisible(true);
+        // Newest popup on top.
+        panel.toFront();
+        active[slot] = true;
+        startedAt[slot] = ++starts;
+        panel.play(onFinished[slot]);
+    }
+
+    private int freeSlot() {
+        for (int i = 0; i < MAX_VISIBLE; i++) {
+            if (!active[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int slotShowing(int points) {
+        int found = -1;
+        for (int i = 0; i < MAX_VISIBLE; i++) {
+            if (active[i] && bonus[i] == points && (found < 0 || startedAt[i] > startedAt[found])) {
+                found = i;
+            }
+        }
+        return found;
+    }
+
+    private int oldestSlot() {
+        int oldest = 0;
+        for (int i = 1; i < MAX_VISIBLE; i++) {
+            if (startedAt[i] < startedAt[oldest]) {
+                oldest = i;
+            }
+        }
+        return oldest;
+    }
+}
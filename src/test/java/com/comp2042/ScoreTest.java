@@ -4,6 +4,7 @@ import com.comp2042.models.Score;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 class ScoreTest {
 
@@ -16,7 +17,7 @@ class ScoreTest {
 
         score.reset();
 
-        assertEquals(0, score.scoreProperty().get(), "Score should reset to 0");
+        assertEquals(0, score.getScore(), "Score should reset to 0");
         assertEquals(1, score.getLevel(), "Level should reset to 1");
         assertEquals(0, score.getTotalLines(), "Total lines should reset to 0");
         assertEquals(0, score.getCombo(), "Combo should reset to 0");
@@ -90,6 +91,23 @@ class ScoreTest {
         score.registerLinesCleared(1, 100);
 
         // Total score: 100 + 200 = 300
-        assertEquals(300, score.scoreProperty().get(), "Score should reflect combo multiplier");
+        assertEquals(300, score.getScore(), "Score should reflect combo multiplier");
+    }
+
+    @Test
+    void versionChangesOnlyWhenAValueChanges() {
+        Score score = new Score();
+        long start = score.getVersion();
+
+        score.registerLandingWithoutClear(); // combo already 0
+        assertEquals(start, score.getVersion(), "No-op landing should not mark the score changed");
+
+        score.add(1);
+        long afterAdd = score.getVersion();
+        assertNotEquals(start, afterAdd, "Adding points should mark the score changed");
+
+        score.getScore();
+        score.getLevel();
+        assertEquals(afterAdd, score.getVersion(), "Reading values should not mark the score changed");
     }
 }
@@ -0,0 +1,100 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.models.SimpleBoard;
+import com.comp2042.models.ViewData;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SimpleBoard hard drop.
+ * Tests the single-step hard drop against the cell-by-cell default.
+ */
+public class SimpleBoardHardDropTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    @Test
+    void hardDropBrick_emptyBoard_landsOnGhostRow() {
+        // Given: a fresh board with a spawned brick
+        SimpleBoard board = new SimpleBoard(ROWS, COLUMNS, new RandomBrickGenerator(1L));
+        board.createNewBrick();
+        ViewData before = board.getViewData();
+
+        // When: hard dropping
+        int cells = board.hardDropBrick();
+
+        // Then: the brick sits where the ghost was and the distance is reported
+        ViewData after = board.getViewData();
+        assertEquals(before.getGhostYPosition(), after.getyPosition());
+        assertEquals(before.getGhostYPosition() - before.getyPosition(), cells);
+        assertFalse(board.moveBrickDown(), "Brick should be resting after a hard drop");
+    }
+
+    @Test
+    void hardDropBrick_withGarbage_matchesSteppingDown() {
+        // Given: two identical boards with the same bricks and garbage
+        SimpleBoard fast = new SimpleBoard(ROWS, COLUMNS, new RandomBrickGenerator(5L));
+        SimpleBoard slow = new SimpleBoard(ROWS, COLUMNS, new RandomBrickGenerator(5L));
+        fast.setGarbageSeed(9L);
+        slow.setGarbageSeed(9L);
+        fast.createNewBrick();
+        slow.createNewBrick();
+
+        for (int piece = 0; piece < 30; piece++) {
+            if (piece % 3 == 0) {
+                fast.addGarbageRow();
+                slow.addGarbageRow();
+            }
+            for (int i = 0; i < piece % 4; i++) {
+                fast.moveBrickLeft();
+                slow.moveBrickLeft();
+            }
+
+            // When: one board teleports and the other steps
+            int fastCells = fast.hardDropBrick();
+            int slowCells = 0;
+            while (slow.moveBrickDown()) {
+                slowCells++;
+            }
+
+            // Then: same distance and same resting position
+            assertEquals(slowCells, fastCells, "Piece " + piece);
+            assertEquals(slow.getViewData().getyPosition(), fast.getViewData().getyPosition());
+
+            fast.mergeBrickToBackground();
+            slow.mergeBrickToBackground();
+            fast.clearRows();
+            slow.clearRows();
+            if (fast.createNewBrick() | slow.createNewBrick()) {
+                break;
+            }
+        }
+    }
+
+    @Test
+    void fallBrick_manyRows_stopsWhereHardDropWould() {
+        // Given: two identical boards with garbage
+        SimpleBoard falling = new SimpleBoard(ROWS, COLUMNS, new RandomBrickGenerator(8L));
+        SimpleBoard dropped = new SimpleBoard(ROWS, COLUMNS, new RandomBrickGenerator(8L));
+        falling.setGarbageSeed(4L);
+        dropped.setGarbageSeed(4L);
+        for (int i = 0; i < 6; i++) {
+            falling.addGarbageRow();
+            dropped.addGarbageRow();
+        }
+        falling.createNewBrick();
+        dropped.createNewBrick();
+
+        // When: falling 20 rows at once (20G) vs hard dropping
+        int fallen = falling.fallBrick(20);
+        int cells = dropped.hardDropBrick();
+
+        // Then: same landing row, and nothing left to fall
+        assertEquals(cells, fallen);
+        assertEquals(dropped.getViewData().getyPosition(), falling.getViewData().getyPosition());
+        assertEquals(0, falling.getDropDistance());
+    }
+}
@@ -1,5 +1,7 @@
 package com.comp2042;
 
+import com.comp2042.logic.AutoRepeat;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
 import com.comp2042.models.SimpleBoard;
 import com.comp2042.models.ViewData;
 import org.junit.jupiter.api.BeforeEach;
@@ -211,5 +213,59 @@ public class SimpleBoardMovementTest {
         assertEquals(initialRows, afterRows, 
                 "Shape dimensions should not change");
     }
-}
 
+    @Test
+    void shiftBrick_toWall_matchesSteppingLeft() {
+        // Given: two identical boards with the same bricks and garbage
+        SimpleBoard fast = new SimpleBoard(25, 10, new RandomBrickGenerator(9L));
+        SimpleBoard slow = new SimpleBoard(25, 10, new RandomBrickGenerator(9L));
+        fast.setGarbageSeed(3L);
+        slow.setGarbageSeed(3L);
+        for (int i = 0; i < 18; i++) {
+            fast.addGarbageRow();
+            slow.addGarbageRow();
+        }
+        fast.createNewBrick();
+        slow.createNewBrick();
+
+        // When: one shifts to the wall in a single sweep, the other steps
+        int moved = fast.shiftBrick(-AutoRepeat.TO_WALL);
+        int stepped = 0;
+        while (slow.moveBrickLeft()) {
+            stepped++;
+        }
+
+        // Then: both stop in the same column
+        assertEquals(stepped, moved);
+        assertEquals(slow.getViewData().getxPosition(), fast.getViewData().getxPosition());
+    }
+
+    @Test
+    void shiftBrick_stopsBeforeBlock() {
+        // Given: a block two columns right of the brick's rightmost cell in every row
+        int[][] matrix = board.getBoardMatrix();
+        ViewData view = board.getViewData();
+        int[][] shape = view.getBrickData();
+        int rightmost = 0;
+        for (int[] row : shape) {
+            for (int j = 0; j < row.length; j++) {
+                if (row[j] != 0) {
+                    rightmost = Math.max(rightmost, j);
+                }
+            }
+        }
+        int blockColumn = view.getxPosition() + rightmost + 3;
+        if (blockColumn < 10) {
+            for (int y = 0; y < 25; y++) {
+                matrix[y][blockColumn] = 9;
+            }
+        }
+
+        // When: asking for far more columns than are free
+        int moved = board.shiftBrick(50);
+
+        // Then: the brick moved up to the block (or the wall)
+        assertEquals(Math.min(blockColumn, 10) - 1 - (view.getxPosition() + rightmost), moved);
+        assertFalse(board.moveBrickRight());
+    }
+}
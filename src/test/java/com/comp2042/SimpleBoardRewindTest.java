@@ -0,0 +1,213 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickCatalog;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.models.SimpleBoard;
+import com.comp2042.models.ViewData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SimpleBoard rewind.
+ * Tests that undoing pieces restores the board, hold, queue and score exactly,
+ * across line clears and garbage, and that the history stays bounded.
+ */
+public class SimpleBoardRewindTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    private static SimpleBoard newBoard(int depth) {
+        SimpleBoard board = new SimpleBoard(ROWS, COLUMNS, new RandomBrickGenerator(77L));
+        board.setGarbageSeed(78L);
+        board.enableRewind(depth, null, null);
+        board.createNewBrick();
+        return board;
+    }
+
+    /**
+     * Locks one piece the way GameController does. Every third piece fills the
+     * bottom row around the dropped brick with garbage so it clears a line.
+     */
+    private static void lockPiece(SimpleBoard board, int i) {
+        if (i % 4 == 1) {
+            board.holdCurrentBrick();
+        }
+        if (i % 2 == 0) {
+            board.moveBrickLeft();
+            board.rotateLeftBrick();
+        }
+        board.getScore().addHardDropScore(board.hardDropBrick());
+        if (i % 3 == 0) {
+            fillBottomRowAround(board);
+        }
+        board.mergeBrickToBackground();
+        if (board.clearRows().getLinesRemoved() > 0) {
+            board.getScore().registerLinesCleared(1, 50);
+        } else {
+            board.getScore().registerLandingWithoutClear();
+        }
+        if (i % 5 == 4) {
+            board.addGarbageRow();
+        }
+        board.createNewBrick();
+    }
+
+    /** Pushes in a garbage row with holes exactly under the brick's bottom cells. */
+    private static void fillBottomRowAround(SimpleBoard board) {
+        ViewData view = board.getViewData();
+        int[][] shape = view.getBrickData();
+        int mask = (1 << COLUMNS) - 1;
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                if (shape[i][j] != 0 && view.getyPosition() + i == ROWS - 1) {
+                    mask &= ~(1 << (view.getxPosition() + j));
+                }
+            }
+        }
+        if (mask != (1 << COLUMNS) - 1 && isEmpty(board.getBoardMatrix())) {
+            board.addGarbageRows(new int[]{mask}, 1, 8);
+        }
+    }
+
+    private static boolean isEmpty(int[][] matrix) {
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /** Everything a rewind has to put back. */
+    private static final class Snapshot {
+        final int[][] cells;
+        final int score;
+        final int lines;
+        final int held;
+        final int current;
+        final int[] upcoming;
+
+        Snapshot(SimpleBoard board) {
+            int[][] matrix = board.getBoardMatrix();
+            cells = new int[matrix.length][];
+            for (int r = 0; r < matrix.length; r++) {
+                cells[r] = matrix[r].clone();
+            }
+            score = board.getScore().getScore();
+            lines = board.getScore().getTotalLines();
+            held = BrickCatalog.typeOf(board.getHeldBrick());
+            current = BrickCatalog.typeOf(board.getCurrentBrick());
+            Brick[] next = board.getUpcomingBricks(5);
+            upcoming = new int[next.length];
+            for (int i = 0; i < next.length; i++) {
+                upcoming[i] = BrickCatalog.typeOf(next[i]);
+            }
+        }
+
+        void assertMatches(SimpleBoard board, String message) {
+            Snapshot now = new Snapshot(board);
+            assertArrayEquals(cells, now.cells, message);
+            assertEquals(score, now.score, message);
+            assertEquals(lines, now.lines, message);
+            assertEquals(held, now.held, message);
+            assertEquals(current, now.current, message);
+            assertArrayEquals(upcoming, now.upcoming, message);
+            assertFalse(board.hasHeldThisTurn(), message);
+            assertEquals(SimpleBoard.SPAWN_X, board.getViewData().getxPosition(), message);
+        }
+    }
+
+    @Test
+    void rewind_restoresEveryEarlierPieceExactly() {
+        // Given: twelve pieces with holds, line clears and garbage, snapshotted at each spawn
+        SimpleBoard board = newBoard(16);
+        List<Snapshot> spawns = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            spawns.add(new Snapshot(board));
+            lockPiece(board, i);
+        }
+        assertTrue(board.getScore().getTotalLines() > 0, "The sequence should clear lines");
+
+        // When / Then: each rewind lands on the previous spawn
+        for (int i = 11; i >= 0; i--) {
+            assertEquals(1, board.rewindPieces(1));
+            spawns.get(i).assertMatches(board, "piece " + i);
+        }
+        assertEquals(0, board.rewindPieces(1), "Nothing before the first piece");
+    }
+
+    @Test
+    void rewindSeveral_thenReplay_givesTheSameGame() {
+        SimpleBoard board = newBoard(16);
+        for (int i = 0; i < 6; i++) {
+            lockPiece(board, i);
+        }
+        Snapshot afterSix = new Snapshot(board);
+        for (int i = 6; i < 10; i++) {
+            lockPiece(board, i);
+        }
+
+        // When: undoing four pieces at once and playing them again
+        assertEquals(4, board.rewindPieces(4));
+        afterSix.assertMatches(board, "after rewinding four");
+        for (int i = 6; i < 10; i++) {
+            lockPiece(board, i);
+        }
+        Snapshot replayed = new Snapshot(board);
+
+        // Then: a fresh game playing the same moves ends the same way
+        SimpleBoard reference = newBoard(16);
+        for (int i = 0; i < 10; i++) {
+            lockPiece(reference, i);
+        }
+        replayed.assertMatches(reference, "replayed");
+    }
+
+    @Test
+    void history_isBoundedByDepth() {
+        SimpleBoard board = newBoard(4);
+        for (int i = 0; i < 40; i++) {
+            lockPiece(board, i);
+        }
+
+        assertEquals(4, board.getRewindDepth());
+        assertEquals(4, board.rewindPieces(10));
+        assertEquals(0, board.rewindPieces(1));
+    }
+
+    @Test
+    void extras_areSavedAndRestoredWithEachPiece() {
+        int[] counter = {0};
+        SimpleBoard board = new SimpleBoard(ROWS, COLUMNS, new RandomBrickGenerator(5L));
+        board.enableRewind(8, out -> out.putInt(counter[0]), in -> counter[0] = in.getInt());
+        board.createNewBrick();
+        for (int i = 0; i < 3; i++) {
+            counter[0] += 10;
+            lockPiece(board, i);
+        }
+
+        board.rewindPieces(2);
+
+        assertEquals(10, counter[0]);
+    }
+
+    @Test
+    void rewindDisabled_doesNothing() {
+        SimpleBoard board = new SimpleBoard(ROWS, COLUMNS);
+        board.createNewBrick();
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        board.createNewBrick();
+
+        assertEquals(0, board.rewindPieces(1));
+        assertEquals(0, board.getRewindDepth());
+    }
+}
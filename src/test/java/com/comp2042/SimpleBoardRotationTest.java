@@ -0,0 +1,150 @@
+package com.comp2042;
+
+import com.comp2042.logic.RotationTables;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickCatalog;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.models.RotationSystem;
+import com.comp2042.models.SimpleBoard;
+import com.comp2042.models.ViewData;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SimpleBoard rotation.
+ * Tests clockwise, counter-clockwise and 180 turns with SRS kicks.
+ */
+public class SimpleBoardRotationTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+    private static final int I_TYPE = 0;
+    private static final int T_TYPE = 5;
+
+    @Test
+    void defaultRotationSystem_isSimpleWithBrickShapes() {
+        SimpleBoard board = boardOf(T_TYPE, RotationSystem.SIMPLE);
+
+        assertEquals(RotationSystem.SIMPLE, board.getRotationSystem());
+        assertArrayEquals(BrickCatalog.byType(T_TYPE).getShapeMatrix().get(0), board.getViewData().getBrickData());
+    }
+
+    @Test
+    void srs_clockwiseThenCounterClockwise_returnsToSpawn() {
+        SimpleBoard board = boardOf(T_TYPE, RotationSystem.SRS);
+        ViewData spawn = board.getViewData();
+
+        assertTrue(board.rotateRightBrick());
+        // Clockwise from spawn is SRS state R, stored at rotation index 3.
+        assertArrayEquals(RotationTables.srsStates(T_TYPE).get(3), board.getViewData().getBrickData());
+
+        assertTrue(board.rotateLeftBrick());
+        assertArrayEquals(spawn.getBrickData(), board.getViewData().getBrickData());
+        assertEquals(spawn.getxPosition(), board.getViewData().getxPosition());
+        assertEquals(spawn.getyPosition(), board.getViewData().getyPosition());
+    }
+
+    @Test
+    void srs_rotate180Twice_returnsToSpawn() {
+        SimpleBoard board = boardOf(T_TYPE, RotationSystem.SRS);
+        int[][] spawnShape = board.getViewData().getBrickData();
+
+        assertTrue(board.rotate180Brick());
+        assertArrayEquals(RotationTables.srsStates(T_TYPE).get(2), board.getViewData().getBrickData());
+        assertTrue(board.rotate180Brick());
+        assertArrayEquals(spawnShape, board.getViewData().getBrickData());
+    }
+
+    @Test
+    void srs_blockedTurn_kicksUpTwoRows() {
+        // Given: a T in state L at (4, 10)
+        SimpleBoard board = boardOf(T_TYPE, RotationSystem.SRS);
+        assertTrue(board.rotateLeftBrick());
+        for (int i = 0; i < 9; i++) {
+            assertTrue(board.moveBrickDown());
+        }
+        assertEquals(10, board.getViewData().getyPosition());
+
+        // And: blocks that stop the first three L->0 kicks
+        int[][] matrix = board.getBoardMatrix();
+        matrix[11][6] = 9;
+        matrix[11][3] = 9;
+        matrix[12][3] = 9;
+
+        // When: turning clockwise back to spawn
+        assertTrue(board.rotateRightBrick());
+
+        // Then: the fourth kick (0, +2 up) was used
+        ViewData after = board.getViewData();
+        assertArrayEquals(RotationTables.srsStates(T_TYPE).get(0), after.getBrickData());
+        assertEquals(4, after.getxPosition());
+        assertEquals(8, after.getyPosition());
+    }
+
+    @Test
+    void srs_iPieceAgainstLeftWall_usesITable() {
+        // Given: a vertical I (state R) in the leftmost column
+        SimpleBoard board = boardOf(I_TYPE, RotationSystem.SRS);
+        assertTrue(board.rotateRightBrick());
+        while (board.moveBrickLeft()) {
+            // slide to the wall
+        }
+        assertEquals(-2, board.getViewData().getxPosition());
+
+        // When: turning clockwise to the flat state 2
+        assertTrue(board.rotateRightBrick());
+
+        // Then: the I table's third kick (+2, 0) pushed it off the wall
+        assertEquals(0, board.getViewData().getxPosition());
+        assertArrayEquals(RotationTables.srsStates(I_TYPE).get(2), board.getViewData().getBrickData());
+    }
+
+    @Test
+    void rotation_neverModifiesTheBoard() {
+        SimpleBoard board = boardOf(T_TYPE, RotationSystem.SRS);
+        int[][] matrix = board.getBoardMatrix();
+        matrix[ROWS - 1][0] = 9;
+
+        board.rotateRightBrick();
+        board.rotate180Brick();
+        board.rotateLeftBrick();
+
+        assertSame(matrix, board.getBoardMatrix());
+        assertEquals(9, matrix[ROWS - 1][0]);
+        assertEquals(0, matrix[ROWS - 1][1]);
+    }
+
+    private static SimpleBoard boardOf(int type, RotationSystem system) {
+        SimpleBoard board = new SimpleBoard(ROWS, COLUMNS, new FixedGenerator(type));
+        board.setRotationSystem(system);
+        board.createNewBrick();
+        return board;
+    }
+
+    /**
+     * Always hands out the same brick type.
+     */
+    private static class FixedGenerator implements BrickGenerator {
+        private final Brick brick;
+
+        FixedGenerator(int type) {
+            this.brick = BrickCatalog.byType(type);
+        }
+
+        @Override
+        public Brick getBrick() {
+            return brick;
+        }
+
+        @Override
+        public Brick getNextBrick() {
+            return brick;
+        }
+
+        @Override
+        public Brick[] getNextQueue(int maxCount) {
+            return new Brick[]{brick};
+        }
+    }
+}
@@ -42,7 +42,7 @@ public class SimpleBoardTest {
         }
 
         // And: score should be reset to zero
-        int score = board.getScore().scoreProperty().get();
+        int score = board.getScore().getScore();
         assertEquals(0, score, "Score should be reset by newGame()");
     }
 
@@ -144,4 +144,32 @@ public class SimpleBoardTest {
         assertTrue(spawnY <= 2,
                 "Brick should spawn near the top of the board, but was at y=" + spawnY);
     }
+
+    /**
+     * getVersion() should change when the settled cells or the active brick
+     * change, and stay put while the brick only moves.
+     */
+    @Test
+    void getVersion_changesWithBoardNotWithMoves() {
+        SimpleBoard board = new SimpleBoard(25, 10);
+        board.createNewBrick();
+        long spawned = board.getVersion();
+
+        board.moveBrickLeft();
+        board.rotateLeftBrick();
+        board.moveBrickDown();
+        assertEquals(spawned, board.getVersion(), "Moves and turns keep the version");
+
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        long merged = board.getVersion();
+        assertNotEquals(spawned, merged, "A lock changes the version");
+
+        board.createNewBrick();
+        assertNotEquals(merged, board.getVersion(), "A spawn changes the version");
+
+        long beforeGarbage = board.getVersion();
+        board.addGarbageRow();
+        assertNotEquals(beforeGarbage, board.getVersion(), "Garbage changes the version");
+    }
 }
@@ -0,0 +1,70 @@
+package com.comp2042.bot;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the BatchBoardEvaluator paths on random boards: the
+ * Vector API path against the bit-parallel path it falls back to, with the
+ * scalar reference for scale. 40 candidates is about one brick's placements,
+ * 1600 a lookahead's.
+ *
+ * Not a unit test. Run it from the test classpath, for example:
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main BatchBoardEvaluatorBenchmark"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BatchBoardEvaluatorBenchmark {
+
+    @Param({"40", "1600"})
+    int candidates;
+
+    private final BatchBoardEvaluator evaluator = new BatchBoardEvaluator();
+    private final EvaluationWeights weights = EvaluationWeights.defaults();
+    private CandidateBatch batch;
+
+    @Setup
+    public void setUp() {
+        if (!BatchBoardEvaluator.isVectorAvailable()) {
+            throw new IllegalStateException("Fork without --add-modules jdk.incubator.vector");
+        }
+        batch = BatchBoardEvaluatorTest.randomBatch(candidates, new Random(42));
+    }
+
+    @Benchmark
+    public double vector() {
+        evaluator.evaluateVector(batch, weights);
+        return batch.scoresArray()[0];
+    }
+
+    @Benchmark
+    public double swar() {
+        evaluator.evaluateSwar(batch, weights);
+        return batch.scoresArray()[0];
+    }
+
+    @Benchmark
+    public double scalar() {
+        evaluator.evaluateScalar(batch, weights);
+        return batch.scoresArray()[0];
+    }
+}
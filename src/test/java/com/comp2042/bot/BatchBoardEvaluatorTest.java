@@ -0,0 +1,199 @@
+package com.comp2042.bot;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for BatchBoardEvaluator and PlacementEnumerator.
+ * Checks the Vector API and bit-parallel paths against the scalar reference path.
+ */
+public class BatchBoardEvaluatorTest {
+
+    private static final int ROWS = 20;
+    private static final int COLUMNS = 10;
+
+    private BatchBoardEvaluator evaluator;
+    private EvaluationWeights weights;
+
+    @BeforeEach
+    void setUp() {
+        evaluator = new BatchBoardEvaluator();
+        weights = EvaluationWeights.defaults();
+    }
+
+    @Test
+    void evaluate_knownBoard_computesExpectedFeatures() {
+        // Given: column 0 has height 3 with a hole, column 1 height 1, bottom row full
+        int[][] matrix = new int[ROWS][COLUMNS];
+        matrix[ROWS - 3][0] = 1;
+        for (int col = 0; col < COLUMNS; col++) {
+            matrix[ROWS - 1][col] = 1;
+        }
+
+        CandidateBatch batch = batchOf(matrix);
+
+        // When: evaluating
+        evaluator.evaluate(batch, weights);
+
+        // Then: heights are 3 + 9 * 1, one hole, bumpiness |3-1| = 2, one full line
+        assertEquals(12, batch.getAggregateHeight(0));
+        assertEquals(1, batch.getHoles(0));
+        assertEquals(2, batch.getBumpiness(0));
+        assertEquals(1, batch.getCompletedLines(0));
+    }
+
+    @Test
+    void evaluate_randomBoards_matchesScalarPath() {
+        Random random = new Random(42);
+        CandidateBatch batch = new CandidateBatch(200, ROWS, COLUMNS);
+        int[] masks = new int[ROWS];
+
+        for (int i = 0; i < 200; i++) {
+            for (int row = 0; row < ROWS; row++) {
+                // Denser towards the bottom, with occasional full rows.
+                masks[row] = (row > ROWS / 2 && random.nextInt(8) == 0)
+                        ? (1 << COLUMNS) - 1
+                        : (row > random.nextInt(ROWS) ? random.nextInt(1 << COLUMNS) : 0);
+            }
+            batch.add(masks, 0, 1, 0, 0, 0);
+        }
+
+        evaluator.evaluate(batch, weights);
+        int[][] fast = snapshot(batch);
+
+        evaluator.evaluateScalar(batch, weights);
+        int[][] slow = snapshot(batch);
+
+        for (int i = 0; i < batch.size(); i++) {
+            assertArrayEquals(slow[i], fast[i], "Feature mismatch for board " + i);
+        }
+    }
+
+    @Test
+    void evaluateVector_randomBoards_matchesScalarPath() {
+        assumeTrue(BatchBoardEvaluator.isVectorAvailable(), "needs --add-modules jdk.incubator.vector");
+
+        // An odd count leaves candidates after the last whole vector.
+        CandidateBatch batch = randomBatch(203, new Random(7));
+
+        evaluator.evaluateVector(batch, weights);
+        int[][] vector = snapshot(batch);
+        double[] vectorScores = batch.scoresArray().clone();
+
+        evaluator.evaluateScalar(batch, weights);
+        int[][] slow = snapshot(batch);
+
+        for (int i = 0; i < batch.size(); i++) {
+            assertArrayEquals(slow[i], vector[i], "Feature mismatch for board " + i);
+            assertEquals(batch.scoresArray()[i], vectorScores[i], "Score mismatch for board " + i);
+        }
+    }
+
+    @Test
+    void evaluateSwar_randomBoards_matchesScalarPath() {
+        CandidateBatch batch = randomBatch(203, new Random(11));
+
+        evaluator.evaluateSwar(batch, weights);
+        int[][] swar = snapshot(batch);
+
+        evaluator.evaluateScalar(batch, weights);
+        int[][] slow = snapshot(batch);
+
+        for (int i = 0; i < batch.size(); i++) {
+            assertArrayEquals(slow[i], swar[i], "Feature mismatch for board " + i);
+        }
+    }
+
+    @Test
+    void enumerate_squareOnEmptyBoard_producesNineFlatPlacements() {
+        // Given: the O brick (one rotation, 2 columns wide)
+        int[][] square = {
+                {0, 0, 0, 0},
+                {0, 4, 4, 0},
+                {0, 4, 4, 0},
+                {0, 0, 0, 0}
+        };
+        PlacementEnumerator enumerator = new PlacementEnumerator(ROWS, COLUMNS);
+        CandidateBatch batch = new CandidateBatch(64, ROWS, COLUMNS);
+
+        // When: enumerating placements on an empty board
+        int count = enumerator.enumerate(new int[ROWS][COLUMNS], Collections.singletonList(square), 1, batch);
+        evaluator.evaluate(batch, weights);
+
+        // Then: 9 columns, each landing on the floor with no holes
+        assertEquals(9, count);
+        for (int i = 0; i < count; i++) {
+            assertEquals(4, batch.getAggregateHeight(i));
+            assertEquals(0, batch.getHoles(i));
+            assertEquals(ROWS - 3, batch.getOffsetY(i), "Square should rest on the floor");
+        }
+    }
+
+    @Test
+    void bestIndex_prefersPlacementThatCompletesLine() {
+        // Given: bottom row full except the last two columns
+        int[][] matrix = new int[ROWS][COLUMNS];
+        for (int col = 0; col < COLUMNS - 2; col++) {
+            matrix[ROWS - 1][col] = 1;
+        }
+        int[][] square = {
+                {0, 0, 0, 0},
+                {0, 4, 4, 0},
+                {0, 4, 4, 0},
+                {0, 0, 0, 0}
+        };
+        PlacementEnumerator enumerator = new PlacementEnumerator(ROWS, COLUMNS);
+        CandidateBatch batch = new CandidateBatch(64, ROWS, COLUMNS);
+        enumerator.enumerate(matrix, Collections.singletonList(square), 1, batch);
+
+        // When: scoring
+        evaluator.evaluate(batch, weights);
+        int best = batch.bestIndex();
+
+        // Then: the square goes into the gap (shape column 1 lands on board column 8)
+        assertEquals(COLUMNS - 3, batch.getOffsetX(best));
+        assertEquals(1, batch.getCompletedLines(best));
+    }
+
+    /** Random boards, denser towards the bottom, with occasional full rows. */
+    static CandidateBatch randomBatch(int count, Random random) {
+        CandidateBatch batch = new CandidateBatch(count, ROWS, COLUMNS);
+        int[] masks = new int[ROWS];
+        for (int i = 0; i < count; i++) {
+            for (int row = 0; row < ROWS; row++) {
+                masks[row] = (row > ROWS / 2 && random.nextInt(8) == 0)
+                        ? (1 << COLUMNS) - 1
+                        : (row > random.nextInt(ROWS) ? random.nextInt(1 << COLUMNS) : 0);
+            }
+            batch.add(masks, 0, 1, 0, 0, 0);
+        }
+        return batch;
+    }
+
+    private static CandidateBatch batchOf(int[][] matrix) {
+        CandidateBatch batch = new CandidateBatch(1, ROWS, COLUMNS);
+        int[] masks = new int[ROWS];
+        com.comp2042.logic.MatrixOperations.toRowMasks(matrix, masks, 0, 1);
+        batch.add(masks, 0, 1, 0, 0, 0);
+        return batch;
+    }
+
+    private static int[][] snapshot(CandidateBatch batch) {
+        int[][] features = new int[batch.size()][];
+        for (int i = 0; i < batch.size(); i++) {
+            features[i] = new int[]{
+                    batch.getAggregateHeight(i),
+                    batch.getHoles(i),
+                    batch.getBumpiness(i),
+                    batch.getCompletedLines(i)
+            };
+        }
+        return features;
+    }
+}
@@ -0,0 +1,82 @@
+package com.comp2042.bot;
+
+import com.comp2042.models.SimpleBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HintWorker.
+ * Tests that hints match the bot's choice and that stale requests are dropped.
+ */
+public class HintWorkerTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    @Test
+    void request_deliversTheBotsPlacementForThatVersion() throws InterruptedException {
+        // Given: a board with an uneven stack
+        SimpleBoard board = new SimpleBoard(ROWS, COLUMNS);
+        board.createNewBrick();
+        int[][] matrix = board.getBoardMatrix();
+        for (int col = 0; col < COLUMNS - 2; col++) {
+            matrix[ROWS - 1][col] = 1;
+        }
+        BlockingQueue<HintWorker.Hint> hints = new LinkedBlockingQueue<>();
+        HintWorker worker = new HintWorker(ROWS, COLUMNS, EvaluationWeights.defaults(), hints::add);
+
+        try {
+            // When
+            assertTrue(worker.request(board.getVersion(), matrix, board.getRotationStates(), SimpleBoard.SPAWN_Y));
+            assertFalse(worker.request(board.getVersion(), matrix, board.getRotationStates(), SimpleBoard.SPAWN_Y),
+                    "The same version is not searched twice");
+            HintWorker.Hint hint = hints.poll(5, TimeUnit.SECONDS);
+
+            // Then
+            assertNotNull(hint);
+            assertEquals(board.getVersion(), hint.getVersion());
+            Placement expected = new GreedyBot(ROWS, COLUMNS, EvaluationWeights.defaults())
+                    .choose(matrix, board.getRotationStates(), SimpleBoard.SPAWN_Y);
+            assertSame(board.getRotationStates().get(expected.getRotation()), hint.getShape());
+            assertEquals(expected.getX(), hint.getX());
+            assertEquals(expected.getY(), hint.getY());
+        } finally {
+            worker.shutdown();
+        }
+    }
+
+    @Test
+    void request_newVersionSupersedesOlderRequests() throws InterruptedException {
+        SimpleBoard board = new SimpleBoard(ROWS, COLUMNS);
+        board.createNewBrick();
+        BlockingQueue<HintWorker.Hint> hints = new LinkedBlockingQueue<>();
+        HintWorker worker = new HintWorker(ROWS, COLUMNS, EvaluationWeights.defaults(), hints::add);
+
+        try {
+            // Many versions in a row: only results for the latest may arrive after it was asked for
+            for (long version = 1; version <= 50; version++) {
+                worker.request(version, board.getBoardMatrix(), board.getRotationStates(), SimpleBoard.SPAWN_Y);
+            }
+            HintWorker.Hint last = null;
+            HintWorker.Hint hint;
+            while ((hint = hints.poll(1, TimeUnit.SECONDS)) != null) {
+                last = hint;
+            }
+            assertNotNull(last);
+            assertEquals(50, last.getVersion());
+
+            // A cancelled request delivers nothing
+            worker.request(51, board.getBoardMatrix(), board.getRotationStates(), SimpleBoard.SPAWN_Y);
+            worker.cancel();
+            HintWorker.Hint late = hints.poll(200, TimeUnit.MILLISECONDS);
+            assertTrue(late == null || late.getVersion() == 51, "Only an already running search may finish");
+        } finally {
+            worker.shutdown();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.comp2042.bot;
+
+import com.comp2042.logic.bricks.BrickCatalog;
+import com.comp2042.models.SimpleBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LookaheadBot.
+ * Tests the fallback when the deadline has passed and a full two-piece search.
+ */
+public class LookaheadBotTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    /** A bumpy stack, so placements score differently. */
+    private static int[][] board() {
+        int[][] matrix = new int[ROWS][COLUMNS];
+        for (int col = 0; col < COLUMNS - 1; col++) {
+            for (int row = ROWS - 1 - col % 3; row < ROWS; row++) {
+                matrix[row][col] = 1;
+            }
+        }
+        return matrix;
+    }
+
+    @Test
+    void choose_pastDeadline_fallsBackToTheOnePieceBest() {
+        int[][] matrix = board();
+        List<int[][]> rotations = BrickCatalog.byType(2).getShapeMatrix();
+        List<int[][]> next = BrickCatalog.byType(0).getShapeMatrix();
+        LookaheadBot bot = new LookaheadBot(ROWS, COLUMNS, EvaluationWeights.defaults());
+
+        Placement chosen = bot.choose(matrix, rotations, next, SimpleBoard.SPAWN_Y, System.nanoTime() - 1);
+
+        Placement greedy = new GreedyBot(ROWS, COLUMNS, EvaluationWeights.defaults())
+                .choose(matrix, rotations, SimpleBoard.SPAWN_Y);
+        assertEquals(0, bot.getLastRefined());
+        assertEquals(greedy.getRotation(), chosen.getRotation());
+        assertEquals(greedy.getX(), chosen.getX());
+        assertEquals(greedy.getY(), chosen.getY());
+    }
+
+    @Test
+    void choose_withTime_refinesEveryPlacement() {
+        int[][] matrix = board();
+        List<int[][]> rotations = BrickCatalog.byType(2).getShapeMatrix();
+        List<int[][]> next = BrickCatalog.byType(0).getShapeMatrix();
+        LookaheadBot bot = new LookaheadBot(ROWS, COLUMNS, EvaluationWeights.defaults());
+        CandidateBatch batch = new CandidateBatch(64, ROWS, COLUMNS);
+        int candidates = new PlacementEnumerator(ROWS, COLUMNS).enumerate(matrix, rotations, SimpleBoard.SPAWN_Y, batch);
+
+        Placement chosen = bot.choose(matrix, rotations, next, SimpleBoard.SPAWN_Y, Long.MAX_VALUE);
+
+        assertNotNull(chosen);
+        assertEquals(candidates, bot.getLastRefined());
+        assertEquals(0, matrix[ROWS - 4][COLUMNS - 1], "The board is left unchanged");
+    }
+}
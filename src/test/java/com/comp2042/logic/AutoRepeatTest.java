@@ -0,0 +1,90 @@
+package com.comp2042.logic;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AutoRepeat.
+ * Tests DAS charging, ARR repeats, ARR 0 and soft drop timing.
+ */
+class AutoRepeatTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void press_ignoresOsKeyRepeat() {
+        AutoRepeat repeat = new AutoRepeat(100, 20, 10);
+
+        assertTrue(repeat.press(AutoRepeat.LEFT, 0));
+        assertFalse(repeat.press(AutoRepeat.LEFT, 30 * MS), "Repeated press while held is not a new tap");
+        assertTrue(repeat.isHeld(AutoRepeat.LEFT));
+    }
+
+    @Test
+    void pollShift_waitsForDasThenRepeatsAtArr() {
+        // Given: DAS 100ms, ARR 20ms, right held from t=0
+        AutoRepeat repeat = new AutoRepeat(100, 20, 10);
+        repeat.press(AutoRepeat.RIGHT, 0);
+
+        // Then: nothing before DAS, one move when it charges, then one per 20ms
+        assertEquals(0, repeat.pollShift(99 * MS));
+        assertEquals(1, repeat.pollShift(100 * MS));
+        assertEquals(0, repeat.pollShift(110 * MS));
+        assertEquals(3, repeat.pollShift(165 * MS));
+    }
+
+    @Test
+    void pollShift_arrZeroShiftsToWall() {
+        AutoRepeat repeat = new AutoRepeat(50, 0, 10);
+        repeat.press(AutoRepeat.LEFT, 0);
+
+        assertEquals(0, repeat.pollShift(10 * MS));
+        assertEquals(-AutoRepeat.TO_WALL, repeat.pollShift(50 * MS));
+        assertEquals(-AutoRepeat.TO_WALL, repeat.pollShift(60 * MS), "Stays pinned while held");
+    }
+
+    @Test
+    void release_handsBackToOtherHeldDirectionWithFreshDas() {
+        // Given: left held and charged, then right pressed on top
+        AutoRepeat repeat = new AutoRepeat(100, 0, 10);
+        repeat.press(AutoRepeat.LEFT, 0);
+        assertEquals(-AutoRepeat.TO_WALL, repeat.pollShift(100 * MS));
+        repeat.press(AutoRepeat.RIGHT, 200 * MS);
+
+        // When: right is released while left is still down
+        repeat.release(AutoRepeat.RIGHT, 250 * MS);
+
+        // Then: left charges again from the release
+        assertEquals(0, repeat.pollShift(300 * MS));
+        assertEquals(-AutoRepeat.TO_WALL, repeat.pollShift(350 * MS));
+
+        repeat.release(AutoRepeat.LEFT, 400 * MS);
+        assertEquals(0, repeat.pollShift(500 * MS));
+    }
+
+    @Test
+    void pollSoftDrop_fallsAtGravityDividedByFactor() {
+        // Given: gravity 400ms, factor 20 -> one row every 20ms after the press
+        AutoRepeat repeat = new AutoRepeat(100, 20, 20);
+        repeat.press(AutoRepeat.SOFT_DROP, 0);
+
+        assertEquals(0, repeat.pollSoftDrop(10 * MS, 400 * MS));
+        assertEquals(1, repeat.pollSoftDrop(20 * MS, 400 * MS));
+        assertEquals(2, repeat.pollSoftDrop(60 * MS, 400 * MS));
+
+        repeat.release(AutoRepeat.SOFT_DROP, 70 * MS);
+        assertEquals(0, repeat.pollSoftDrop(200 * MS, 400 * MS));
+    }
+
+    @Test
+    void poll_longStall_isCapped() {
+        AutoRepeat repeat = new AutoRepeat(0, 1, 1);
+        repeat.press(AutoRepeat.RIGHT, 0);
+
+        int steps = repeat.pollShift(10_000 * MS);
+
+        assertTrue(steps > 0 && steps <= 32, "A stall should not release thousands of moves");
+        assertEquals(0, repeat.pollShift(10_000 * MS));
+    }
+}
@@ -0,0 +1,90 @@
+package com.comp2042.logic;
+
+import com.comp2042.models.RotationSystem;
+import com.comp2042.models.SimpleBoard;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FinesseTable and FinesseTracker.
+ * Tests minimal input counts and judging locked placements against them.
+ */
+class FinesseTrackerTest {
+
+    private static final FinesseTable TABLE = new FinesseTable(25, 10);
+    private static final int T = 5;
+    private static final int SPAWN = SimpleBoard.SPAWN_X;
+
+    @Test
+    void minimalInputs_countsTapsTurnsAndWallShifts() {
+        assertEquals(0, TABLE.minimalInputs(RotationSystem.SRS, T, 0, SPAWN));
+        assertEquals(1, TABLE.minimalInputs(RotationSystem.SRS, T, 0, SPAWN - 1));
+        assertEquals(2, TABLE.minimalInputs(RotationSystem.SRS, T, 0, SPAWN - 2));
+        assertEquals(1, TABLE.minimalInputs(RotationSystem.SRS, T, 0, 0), "Charged shift to the left wall");
+        assertEquals(1, TABLE.minimalInputs(RotationSystem.SRS, T, 2, SPAWN), "Half turn");
+        assertEquals(-1, TABLE.minimalInputs(RotationSystem.SRS, T, 0, 20));
+        assertEquals(-1, TABLE.minimalInputs(RotationSystem.SRS, -1, 0, SPAWN));
+    }
+
+    @Test
+    void onLock_moreInputsThanTable_isFault() {
+        FinesseTracker tracker = new FinesseTracker(TABLE);
+
+        // One tap left is minimal
+        tracker.onTap(-1);
+        assertFalse(tracker.onLock(RotationSystem.SRS, T, 0, SPAWN - 1));
+
+        // Left, right, left for the same column wastes two inputs
+        tracker.onTap(-1);
+        tracker.onTap(1);
+        tracker.onTap(-1);
+        assertTrue(tracker.onLock(RotationSystem.SRS, T, 0, SPAWN - 1));
+
+        assertEquals(1, tracker.getFaults());
+        assertEquals(2, tracker.getPiecesJudged());
+        assertEquals(0, tracker.getPieceInputs(), "Locking starts the next piece's count");
+    }
+
+    @Test
+    void onShift_countsOnlyNewDirections() {
+        FinesseTracker tracker = new FinesseTracker(TABLE);
+
+        // A tap then its auto-repeat to the wall is one charged shift
+        tracker.onTap(-1);
+        tracker.onShift(-2);
+        tracker.onShift(-1);
+        tracker.onShift(0);
+        assertEquals(1, tracker.getPieceInputs());
+        assertFalse(tracker.onLock(RotationSystem.SRS, T, 0, 0));
+
+        // Shifting back the other way is a second input
+        tracker.onShift(-4);
+        tracker.onShift(3);
+        assertEquals(2, tracker.getPieceInputs());
+    }
+
+    @Test
+    void onNewPieceAndUnreachablePlacements_areNotJudged() {
+        FinesseTracker tracker = new FinesseTracker(TABLE);
+
+        // Inputs spent before a hold do not count against the held-in piece
+        tracker.onRotate();
+        tracker.onRotate();
+        tracker.onNewPiece();
+        assertFalse(tracker.onLock(RotationSystem.SRS, T, 0, SPAWN));
+
+        // A placement the table cannot reach is skipped
+        tracker.onRotate();
+        tracker.onRotate();
+        assertFalse(tracker.onLock(RotationSystem.SRS, T, 0, 20));
+        assertEquals(1, tracker.getPiecesJudged());
+
+        tracker.onTap(1);
+        tracker.onTap(-1);
+        assertTrue(tracker.onLock(RotationSystem.SRS, T, 0, SPAWN));
+        tracker.reset();
+        assertEquals(0, tracker.getFaults());
+        assertEquals(0, tracker.getPiecesJudged());
+    }
+}
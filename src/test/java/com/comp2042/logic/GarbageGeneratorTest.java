@@ -0,0 +1,104 @@
+package com.comp2042.logic;
+
+import com.comp2042.models.GarbageProfile;
+import com.comp2042.models.SimpleBoard;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GarbageGenerator.
+ * Tests clean and cheese patterns, hole persistence, seeding and burst insertion.
+ */
+public class GarbageGeneratorTest {
+
+    private static final int COLUMNS = 10;
+    private static final int FULL = (1 << COLUMNS) - 1;
+
+    @Test
+    void clean_zeroMessiness_keepsSameHoleColumn() {
+        GarbageGenerator generator = new GarbageGenerator(COLUMNS,
+                new GarbageProfile(GarbageProfile.Pattern.CLEAN, 0.0, 1, 0), 3L);
+        int[] rows = new int[12];
+
+        generator.fill(rows, rows.length);
+
+        for (int row : rows) {
+            assertEquals(rows[0], row, "Hole should never move with zero messiness");
+            assertEquals(COLUMNS - 1, Integer.bitCount(row), "Exactly one hole per row");
+        }
+    }
+
+    @Test
+    void clean_fullMessiness_movesHole() {
+        GarbageGenerator generator = new GarbageGenerator(COLUMNS,
+                new GarbageProfile(GarbageProfile.Pattern.CLEAN, 1.0, 1, 0), 3L);
+        int[] rows = new int[50];
+
+        generator.fill(rows, rows.length);
+
+        boolean moved = false;
+        for (int i = 1; i < rows.length; i++) {
+            moved |= rows[i] != rows[0];
+        }
+        assertTrue(moved, "Hole should move when every row re-rolls it");
+    }
+
+    @Test
+    void cheese_fullMessiness_hasTwoHoles() {
+        GarbageGenerator generator = new GarbageGenerator(COLUMNS,
+                new GarbageProfile(GarbageProfile.Pattern.CHEESE, 1.0, 1, 0), 11L);
+
+        for (int i = 0; i < 100; i++) {
+            int row = generator.nextRow();
+            assertEquals(COLUMNS - 2, Integer.bitCount(row));
+            assertEquals(0, row & ~FULL, "No bits outside the board");
+        }
+    }
+
+    @Test
+    void sameSeed_sameGarbage() {
+        GarbageProfile profile = new GarbageProfile(GarbageProfile.Pattern.CLEAN, 0.4, 1, 0);
+        GarbageGenerator a = new GarbageGenerator(COLUMNS, profile, 99L);
+        GarbageGenerator b = new GarbageGenerator(COLUMNS, profile, 99L);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.nextRow(), b.nextRow());
+        }
+    }
+
+    @Test
+    void addGarbageRows_insertsWholeBurstAtBottom() {
+        // Given: a board with one marked block near the bottom
+        SimpleBoard board = new SimpleBoard(25, COLUMNS);
+        int[][] matrix = board.getBoardMatrix();
+        matrix[24][0] = 5;
+        GarbageGenerator generator = new GarbageGenerator(COLUMNS,
+                new GarbageProfile(GarbageProfile.Pattern.CHEESE, 0.0, 12, 0), 1L);
+        int[] burst = new int[12];
+        generator.fill(burst, burst.length);
+
+        // When: inserting a 12-row burst
+        board.addGarbageRows(burst, burst.length, 8);
+
+        // Then: the old bottom row moved up 12 and the burst fills the bottom in order
+        assertEquals(5, matrix[12][0]);
+        for (int i = 0; i < burst.length; i++) {
+            int[] row = matrix[13 + i];
+            for (int x = 0; x < COLUMNS; x++) {
+                boolean filled = (burst[i] & (1 << x)) != 0;
+                assertEquals(filled ? 8 : 0, row[x], "Row " + i + " column " + x);
+            }
+        }
+    }
+
+    @Test
+    void burstSize_growsEveryConfiguredLevels() {
+        GarbageProfile profile = new GarbageProfile(GarbageProfile.Pattern.CLEAN, 0.0, 2, 3);
+
+        assertEquals(2, profile.burstSize(1));
+        assertEquals(2, profile.burstSize(3));
+        assertEquals(3, profile.burstSize(4));
+        assertEquals(5, profile.burstSize(10));
+    }
+}
@@ -145,5 +145,85 @@ public class GhostPieceCalculatorTest {
         // Should land above the block at row 15
         assertTrue(landingY < 15, "Should use updated board matrix for calculation");
     }
-}
 
+    @Test
+    void computeLandingY_overhang_stopsUnderneathLedge() {
+        // Given: a ledge at row 10 that covers column 3, with empty space below it
+        boardMatrix[10][2] = 1;
+        boardMatrix[10][3] = 1;
+        int[][] shape = {{1, 1}, {1, 1}};
+
+        // When: dropping a square that starts below the ledge
+        int landingY = calculator.computeLandingY(3, 12, shape);
+
+        // Then: it falls to the floor, the ledge above does not matter
+        assertEquals(BOARD_ROWS - 2, landingY);
+    }
+
+    @Test
+    void computeLandingY_matchesSteppingDownWithIntersect() {
+        // Given: ragged boards with holes, like garbage rows
+        java.util.Random random = new java.util.Random(31);
+        int[][][] shapes = {
+                {{1, 1, 1, 1}},
+                {{0, 1, 0}, {1, 1, 1}},
+                {{1, 0}, {1, 1}, {0, 1}},
+                {{0, 0, 1}, {1, 1, 1}}
+        };
+
+        for (int trial = 0; trial < 500; trial++) {
+            for (int row = 0; row < BOARD_ROWS; row++) {
+                for (int col = 0; col < BOARD_COLUMNS; col++) {
+                    boardMatrix[row][col] = row > 8 && random.nextInt(3) == 0 ? 1 : 0;
+                }
+            }
+            int[][] shape = shapes[random.nextInt(shapes.length)];
+            int startX = random.nextInt(BOARD_COLUMNS - shape[0].length + 1);
+            int startY = random.nextInt(4);
+
+            // When: comparing against the original one-row-at-a-time walk
+            int expected = startY;
+            while (expected + 1 < BOARD_ROWS
+                    && !MatrixOperations.intersect(boardMatrix, shape, startX, expected + 1)) {
+                expected++;
+            }
+
+            // Then: both agree
+            assertEquals(expected, calculator.computeLandingY(startX, startY, shape), "Trial " + trial);
+        }
+    }
+
+    @Test
+    void computeLandingYFromProfile_matchesColumnScan() {
+        // Given: random stacks, with bricks both above the surface and tucked under it
+        java.util.Random random = new java.util.Random(47);
+        int[][][] shapes = {
+                {{1, 1, 1, 1}},
+                {{0, 1, 0}, {1, 1, 1}},
+                {{1, 0}, {1, 1}, {0, 1}},
+                {{0, 0, 1}, {1, 1, 1}}
+        };
+
+        int compared = 0;
+        for (int trial = 0; trial < 1000; trial++) {
+            for (int row = 0; row < BOARD_ROWS; row++) {
+                for (int col = 0; col < BOARD_COLUMNS; col++) {
+                    boardMatrix[row][col] = row > 8 && random.nextInt(3) == 0 ? 1 : 0;
+                }
+            }
+            calculator.refreshProfile();
+            int[][] shape = shapes[random.nextInt(shapes.length)];
+            int startX = random.nextInt(BOARD_COLUMNS - shape[0].length + 1);
+            int startY = random.nextInt(15);
+            if (MatrixOperations.intersect(boardMatrix, shape, startX, startY)) {
+                continue;
+            }
+
+            // Then: the profile shortcut agrees with the full scan
+            assertEquals(calculator.computeLandingY(startX, startY, shape),
+                    calculator.computeLandingYFromProfile(startX, startY, shape), "Trial " + trial);
+            compared++;
+        }
+        assertTrue(compared > 100);
+    }
+}
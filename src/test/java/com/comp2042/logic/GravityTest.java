@@ -0,0 +1,98 @@
+package com.comp2042.logic;
+
+import com.comp2042.models.GravityProfile;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Gravity.
+ * Tests fractional gravity, 20G and lock delay with move resets.
+ */
+class GravityTest {
+
+    @Test
+    void tick_fractionalGravity_accumulatesWholeRows() {
+        // Given: a quarter row per tick
+        Gravity gravity = new Gravity(new GravityProfile(new double[]{0.25}, 500, 15));
+        gravity.onNewBrick();
+
+        // When: ticking eight times high above the stack
+        int fallen = 0;
+        for (int i = 0; i < 8; i++) {
+            fallen += gravity.tick(1, 20);
+        }
+
+        // Then: exactly two rows fell
+        assertEquals(2, fallen);
+        assertFalse(gravity.isGrounded());
+    }
+
+    @Test
+    void tick_twentyG_dropsWholeDistanceInOneTick() {
+        Gravity gravity = new Gravity(new GravityProfile(new double[]{20.0}, 500, 15));
+        gravity.onNewBrick();
+
+        assertEquals(17, gravity.tick(1, 17));
+        assertTrue(gravity.isGrounded());
+        assertFalse(gravity.isLockDue(), "Landing starts the lock delay, it does not lock");
+    }
+
+    @Test
+    void tick_levelPastTable_usesLastEntry() {
+        Gravity gravity = new Gravity(new GravityProfile(new double[]{0.0, 2.0}, 0, 0));
+        gravity.onNewBrick();
+
+        assertEquals(0, gravity.tick(1, 10));
+        assertEquals(2, gravity.tick(9, 10));
+    }
+
+    @Test
+    void lockDelay_expiresAfterConfiguredTicks() {
+        // Given: 100ms lock delay = 6 ticks, brick already on the ground
+        Gravity gravity = new Gravity(new GravityProfile(new double[]{0.0}, 100, 15));
+        gravity.onNewBrick();
+
+        for (int i = 0; i < 5; i++) {
+            gravity.tick(1, 0);
+            assertFalse(gravity.isLockDue());
+        }
+        gravity.tick(1, 0);
+        assertTrue(gravity.isLockDue());
+    }
+
+    @Test
+    void onMoved_resetsLockDelayUpToLimit() {
+        // Given: 2-tick lock delay and two resets
+        Gravity gravity = new Gravity(new GravityProfile(new double[]{0.0}, 20, 2));
+        gravity.onNewBrick();
+
+        // When: moving on the ground after every tick
+        int ticks = 0;
+        while (!gravity.isLockDue() && ticks < 100) {
+            gravity.tick(1, 0);
+            ticks++;
+            gravity.onMoved();
+        }
+
+        // Then: each reset bought one more tick before the third lock attempt went through
+        assertEquals(4, ticks);
+    }
+
+    @Test
+    void newLowestRow_restoresResets() {
+        Gravity gravity = new Gravity(new GravityProfile(new double[]{0.0}, 20, 1));
+        gravity.onNewBrick();
+        gravity.tick(1, 0);
+        gravity.onMoved();
+
+        // Falling a row (e.g. off a ledge by soft drop) restarts the lock delay and the reset count.
+        gravity.noteFall(1);
+        gravity.tick(1, 0);
+        gravity.onMoved();
+        gravity.tick(1, 0);
+        assertFalse(gravity.isLockDue());
+        gravity.tick(1, 0);
+        assertTrue(gravity.isLockDue());
+    }
+}
@@ -0,0 +1,118 @@
+package com.comp2042.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InputRing.
+ * Tests FIFO order, the full-ring case, wrap-around and a two-thread handoff.
+ */
+class InputRingTest {
+
+    @Test
+    void drain_returnsEntriesInOfferOrderWithTimestamps() {
+        InputRing ring = new InputRing(8);
+        ring.offer(3, 100L);
+        ring.offer(5, 200L);
+
+        List<Long> seen = new ArrayList<>();
+        int drained = ring.drain((code, nanos) -> {
+            seen.add((long) code);
+            seen.add(nanos);
+        });
+
+        assertEquals(2, drained);
+        assertEquals(List.of(3L, 100L, 5L, 200L), seen);
+        assertTrue(ring.isEmpty());
+        assertEquals(0, ring.drain((code, nanos) -> fail("Nothing left to drain")));
+    }
+
+    @Test
+    void offer_fullRing_rejectsUntilDrained() {
+        // Given: a ring of four with every slot used
+        InputRing ring = new InputRing(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.offer(i, i));
+        }
+
+        // Then: the fifth entry is refused, and accepted once there is room
+        assertFalse(ring.offer(4, 4L));
+        ring.drain((code, nanos) -> { });
+        assertTrue(ring.offer(4, 4L));
+    }
+
+    @Test
+    void offer_wrapsAroundManyTimes() {
+        InputRing ring = new InputRing(4);
+        int[] expected = {0};
+
+        for (int i = 0; i < 100; i++) {
+            ring.offer(i, i);
+            if (i % 3 == 2) {
+                ring.drain((code, nanos) -> assertEquals(expected[0]++, code));
+            }
+        }
+        ring.drain((code, nanos) -> assertEquals(expected[0]++, code));
+
+        assertEquals(100, expected[0]);
+    }
+
+    @Test
+    void clear_dropsQueuedEntries() {
+        InputRing ring = new InputRing(4);
+        ring.offer(1, 1L);
+        ring.offer(2, 2L);
+
+        ring.clear();
+
+        assertTrue(ring.isEmpty());
+        assertEquals(0, ring.drain((code, nanos) -> fail("Cleared entries must not be drained")));
+    }
+
+    @Test
+    void constructor_rejectsNonPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new InputRing(6));
+    }
+
+    @Test
+    void producerAndConsumerThreads_seeEveryEntryOnceInOrder() throws InterruptedException {
+        // Given: a small ring, so the producer keeps hitting the full case
+        InputRing ring = new InputRing(16);
+        int total = 50_000;
+        long deadline = System.nanoTime() + 10_000_000_000L;
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < total; i++) {
+                while (!ring.offer(i, -i)) {
+                    if (System.nanoTime() > deadline) {
+                        return;
+                    }
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+
+        // When: this thread drains until everything has arrived
+        int[] next = {0};
+        boolean[] ordered = {true};
+        while (next[0] < total && System.nanoTime() < deadline) {
+            int drained = ring.drain((code, nanos) -> {
+                ordered[0] &= code == next[0] && nanos == -code;
+                next[0]++;
+            });
+            if (drained == 0) {
+                Thread.yield();
+            }
+        }
+        producer.join();
+
+        // Then: nothing lost, duplicated or reordered
+        assertEquals(total, next[0]);
+        assertTrue(ordered[0]);
+    }
+}
@@ -0,0 +1,81 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.bricks.BrickCatalog;
+import com.comp2042.models.RotationSystem;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RotationTables.
+ * Tests the SRS orientations and the precomputed kick offsets.
+ */
+class RotationTablesTest {
+
+    private static final int I_TYPE = 0;
+    private static final int O_TYPE = 3;
+    private static final int T_TYPE = 5;
+
+    @Test
+    void srsStates_fourShapesOfFourCellsInBrickColour() {
+        for (int type = 0; type < BrickCatalog.TYPE_COUNT; type++) {
+            List<int[][]> states = RotationTables.srsStates(type);
+            assertEquals(4, states.size());
+            for (int[][] shape : states) {
+                int cells = 0;
+                for (int[] row : shape) {
+                    for (int cell : row) {
+                        if (cell != 0) {
+                            assertEquals(type + 1, cell);
+                            cells++;
+                        }
+                    }
+                }
+                assertEquals(4, cells, "Type " + type + " should have four cells per state");
+            }
+        }
+    }
+
+    @Test
+    void srsStates_tClockwiseIsStemRight() {
+        // Index 3 is one clockwise turn (state R): the stem points right.
+        int[][] r = RotationTables.srsStates(T_TYPE).get(3);
+        assertArrayEquals(new int[]{0, 6, 0, 0}, r[0]);
+        assertArrayEquals(new int[]{0, 6, 6, 0}, r[1]);
+        assertArrayEquals(new int[]{0, 6, 0, 0}, r[2]);
+    }
+
+    @Test
+    void kicks_iTableFlipsYToBoardCoordinates() {
+        // SRS 0->R for I: (0,0) (-2,0) (+1,0) (-2,-1) (+1,+2) with y up.
+        assertArrayEquals(new int[]{0, 0, -2, 0, 1, 0, -2, 1, 1, -2},
+                RotationTables.kicks(RotationSystem.SRS, I_TYPE, 0, 3));
+    }
+
+    @Test
+    void kicks_oPieceNeverKicks() {
+        assertArrayEquals(new int[]{0, 0}, RotationTables.kicks(RotationSystem.SRS, O_TYPE, 0, 3));
+    }
+
+    @Test
+    void kicks_simpleSystemKeepsSidewaysKicks() {
+        assertArrayEquals(new int[]{0, 0, -1, 0, 1, 0, -2, 0, 2, 0},
+                RotationTables.kicks(RotationSystem.SIMPLE, T_TYPE, 0, 1));
+    }
+
+    @Test
+    void kicks_everySrsTurnStartsInPlace() {
+        for (int type = 0; type < BrickCatalog.TYPE_COUNT; type++) {
+            for (int from = 0; from < 4; from++) {
+                for (int to = 0; to < 4; to++) {
+                    int[] kicks = RotationTables.kicks(RotationSystem.SRS, type, from, to);
+                    assertEquals(0, kicks.length % 2);
+                    assertEquals(0, kicks[0]);
+                    assertEquals(0, kicks[1]);
+                }
+            }
+        }
+    }
+}
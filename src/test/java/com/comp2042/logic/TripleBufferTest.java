@@ -0,0 +1,90 @@
+package com.comp2042.logic;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TripleBuffer.
+ * Tests latest-wins handoff and that writer and reader never share a slot.
+ */
+class TripleBufferTest {
+
+    private static final class Slot {
+        long value;
+    }
+
+    @Test
+    void acquire_beforeAnyPublish_returnsNull() {
+        TripleBuffer<Slot> buffer = new TripleBuffer<>(Slot::new);
+
+        assertNull(buffer.acquire());
+    }
+
+    @Test
+    void acquire_returnsNewestPublishOnce() {
+        // Given: three publishes before the reader looks
+        TripleBuffer<Slot> buffer = new TripleBuffer<>(Slot::new);
+        for (long v = 1; v <= 3; v++) {
+            buffer.writeSlot().value = v;
+            buffer.publish();
+        }
+
+        // Then: the reader skips straight to the last one, and only sees it once
+        Slot slot = buffer.acquire();
+        assertNotNull(slot);
+        assertEquals(3, slot.value);
+        assertNull(buffer.acquire());
+    }
+
+    @Test
+    void writeSlot_isNeverTheSlotTheReaderHolds() {
+        TripleBuffer<Slot> buffer = new TripleBuffer<>(Slot::new);
+
+        for (int i = 0; i < 10; i++) {
+            buffer.writeSlot().value = i;
+            buffer.publish();
+            Slot held = buffer.acquire();
+
+            assertNotSame(held, buffer.writeSlot());
+            buffer.writeSlot().value = -1;
+            assertEquals(i, held.value, "Writing the next value must not disturb the acquired one");
+        }
+    }
+
+    @Test
+    void writerAndReaderThreads_readerOnlySeesIncreasingCompleteValues() throws InterruptedException {
+        // Given: each slot holds a value and its negation, written in two steps
+        TripleBuffer<long[]> buffer = new TripleBuffer<>(() -> new long[2]);
+        int total = 50_000;
+
+        Thread writer = new Thread(() -> {
+            for (long v = 1; v <= total; v++) {
+                long[] slot = buffer.writeSlot();
+                slot[0] = v;
+                slot[1] = -v;
+                buffer.publish();
+            }
+        });
+        writer.start();
+
+        // When: reading until the last value shows up
+        long last = 0;
+        boolean consistent = true;
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (last < total && System.nanoTime() < deadline) {
+            long[] slot = buffer.acquire();
+            if (slot != null) {
+                consistent &= slot[1] == -slot[0] && slot[0] > last;
+                last = slot[0];
+            } else {
+                Thread.yield();
+            }
+        }
+        writer.join();
+
+        // Then: never a torn or stale value
+        assertEquals(total, last);
+        assertTrue(consistent);
+    }
+}
@@ -0,0 +1,168 @@
+package com.comp2042.mode;
+
+import com.comp2042.logic.bricks.BrickCatalog;
+import com.comp2042.models.ClearRow;
+import com.comp2042.models.GameMode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GameCore.
+ * Tests how a Versus game ends on either side, the lock delay and finesse
+ * count on a grounded or held brick, how a game ends, rewinding, and
+ * starting over.
+ */
+public class GameCoreTest {
+
+    private static final long SEED = 42L;
+
+    /** Hard drops until the game is over. */
+    private static void topOut(GameCore core) {
+        for (int i = 0; i < 500 && !core.isFinished(); i++) {
+            core.hardDrop();
+        }
+        assertTrue(core.isFinished(), "Stack should reach the top");
+    }
+
+    /** Soft drops the active brick until it rests on the floor. */
+    private static void groundBrick(GameCore core) {
+        while (core.getBoard().getDropDistance() > 0) {
+            assertNull(core.moveDown(true));
+        }
+    }
+
+    @Test
+    void versus_opponentToppingOutWinsTheGame() {
+        // Given: two linked Versus sides
+        GameCore player = new GameCore(GameMode.VERSUS_CPU, SEED);
+        GameCore cpu = new GameCore(GameMode.VERSUS_CPU, SEED);
+        player.getVersusHandler().connect(cpu.getVersusHandler());
+
+        // When: the CPU tops out
+        topOut(cpu);
+
+        // Then: the CPU lost, and the player wins on the next tick without locking
+        assertFalse(cpu.isWon());
+        assertTrue(cpu.getVersusHandler().isToppedOut());
+        assertNull(player.tick());
+        assertTrue(player.isFinished());
+        assertTrue(player.isWon());
+        assertFalse(player.getVersusHandler().isToppedOut());
+    }
+
+    @Test
+    void groundedSoftDrop_waitsForTheLockDelay() {
+        // Given: a brick soft dropped onto the floor
+        GameCore core = new GameCore(GameMode.CLASSIC, SEED);
+        groundBrick(core);
+        int lockDelay = core.getConfig().getGravityProfile().getLockDelayTicks();
+
+        // When: soft drop stays held through every tick but the last of the lock delay
+        for (int tick = 1; tick < lockDelay; tick++) {
+            assertNull(core.moveDown(true));
+            assertNull(core.tick());
+        }
+
+        // Then: the brick has not locked, and locks on the tick the delay runs out
+        assertEquals(0, core.getPiecesPlaced());
+        assertNull(core.moveDown(true));
+        assertNotNull(core.tick());
+        assertEquals(1, core.getPiecesPlaced());
+    }
+
+    @Test
+    void refusedHold_doesNotResetLockDelay() {
+        // Given: a grounded brick whose hold is already used
+        GameCore core = new GameCore(GameMode.CLASSIC, SEED);
+        assertTrue(core.hold());
+        groundBrick(core);
+        int lockDelay = core.getConfig().getGravityProfile().getLockDelayTicks();
+
+        // When: hold is pressed on every tick
+        for (int tick = 0; tick <= lockDelay && core.getPiecesPlaced() == 0; tick++) {
+            assertFalse(core.hold());
+            core.tick();
+        }
+
+        // Then: the brick still locks once its lock delay runs out
+        assertEquals(1, core.getPiecesPlaced());
+    }
+
+    @Test
+    void refusedHold_keepsTheBricksFinesseInputs() {
+        // Given: a brick moved back and forth, which wastes four inputs
+        GameCore core = new GameCore(GameMode.CLASSIC, SEED);
+        assertTrue(core.hold());
+        core.moveLeft();
+        core.moveRight();
+        core.moveLeft();
+        core.moveRight();
+
+        // When: hold is pressed again, refused, before the brick locks
+        assertFalse(core.hold());
+        core.hardDrop();
+
+        // Then: the wasted inputs still count as a fault
+        assertEquals(1, core.getPiecesPlaced());
+        assertEquals(1, core.getFinesseFaults());
+    }
+
+    @Test
+    void rewind_undoesTheLockAndMakesAPracticeRun() {
+        // Given: one locked piece
+        GameCore core = new GameCore(GameMode.CLASSIC, SEED, 4);
+        int type = BrickCatalog.typeOf(core.getBoard().getCurrentBrick());
+        ClearRow clearRow = core.hardDrop();
+        assertNotNull(clearRow);
+
+        // When
+        assertTrue(core.rewind());
+
+        // Then: the same brick is back over an empty board, in a practice run
+        assertTrue(core.isPractice());
+        assertEquals(type, BrickCatalog.typeOf(core.getBoard().getCurrentBrick()));
+        for (int[] row : core.getBoard().getBoardMatrix()) {
+            for (int cell : row) {
+                assertEquals(0, cell);
+            }
+        }
+    }
+
+    @Test
+    void rewind_refusedInVersus() {
+        GameCore core = new GameCore(GameMode.VERSUS_CPU, SEED, 4);
+        core.hardDrop();
+
+        assertFalse(core.rewind());
+        assertFalse(core.isPractice());
+    }
+
+    @Test
+    void finishedGame_ignoresInput() {
+        GameCore core = new GameCore(GameMode.CLASSIC, SEED);
+        topOut(core);
+        int placed = core.getPiecesPlaced();
+
+        assertNull(core.hardDrop());
+        assertNull(core.moveDown(true));
+        assertFalse(core.moveLeft());
+        assertFalse(core.hold());
+        assertEquals(placed, core.getPiecesPlaced());
+        assertFalse(core.isWon());
+    }
+
+    @Test
+    void newGame_startsOverAfterTopOut() {
+        GameCore core = new GameCore(GameMode.CLASSIC, SEED);
+        topOut(core);
+
+        core.newGame();
+
+        assertFalse(core.isFinished());
+        assertEquals(0, core.getPiecesPlaced());
+        assertEquals(0, core.getTotalLinesCleared());
+        assertEquals(0, core.getScore().getScore());
+        assertNotNull(core.hardDrop());
+    }
+}
@@ -0,0 +1,79 @@
+package com.comp2042.mode;
+
+import com.comp2042.models.InputAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SplitScreenMatch.
+ * Tests that input reaches only its player's board, that the boards share
+ * one gravity clock, and how the winner is decided.
+ */
+public class SplitScreenMatchTest {
+
+    private static final long TICK = 1_000_000_000L / 60;
+
+    private SplitScreenMatch match;
+
+    @BeforeEach
+    void setUp() {
+        match = new SplitScreenMatch(3, 42L, 170, 50, 20);
+        match.advance(0);
+    }
+
+    @Test
+    void testInputMovesOnlyThatPlayersBrick() {
+        int before = match.getGame(1).getBoard().getBrickX();
+
+        match.press(1, InputAction.MOVE_LEFT, 1);
+
+        assertEquals(before - 1, match.getGame(1).getBoard().getBrickX());
+        assertEquals(before, match.getGame(0).getBoard().getBrickX());
+        assertEquals(before, match.getGame(2).getBoard().getBrickX());
+        assertTrue(match.getChanges(1) > 0);
+        assertEquals(0, match.getChanges(0));
+    }
+
+    @Test
+    void testBoardsShareOneClock() {
+        match.advance(10 * TICK);
+
+        for (int i = 0; i < match.getPlayers(); i++) {
+            assertEquals(match.getGame(0).getTicks(), match.getGame(i).getTicks());
+        }
+        assertTrue(match.getGame(0).getTicks() > 0);
+    }
+
+    @Test
+    void testPauseStopsTheClock() {
+        match.pause();
+        match.advance(100 * TICK);
+        assertEquals(0, match.getGame(0).getTicks());
+
+        match.press(0, InputAction.HARD_DROP, 100 * TICK);
+        assertEquals(0, match.getGame(0).getPiecesPlaced());
+    }
+
+    @Test
+    void testLastPlayerStandingWins() {
+        for (int i = 0; i < 200 && !match.getGame(0).isFinished(); i++) {
+            match.press(0, InputAction.HARD_DROP, i);
+        }
+        assertTrue(match.getGame(0).isFinished());
+        assertFalse(match.isOver());
+        assertEquals(-1, match.getWinner());
+
+        for (int i = 0; i < 200 && !match.getGame(2).isFinished(); i++) {
+            match.press(2, InputAction.HARD_DROP, i);
+        }
+        assertTrue(match.isOver());
+        assertEquals(1, match.getWinner());
+    }
+
+    @Test
+    void testNeedsTwoPlayers() {
+        assertThrows(IllegalArgumentException.class, () -> new SplitScreenMatch(1, 1L, 170, 50, 20));
+    }
+}
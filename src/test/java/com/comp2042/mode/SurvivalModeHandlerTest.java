@@ -193,6 +193,25 @@ public class SurvivalModeHandlerTest {
     }
     
     // Mock Board for testing
+    @Test
+    void handleBrickLanded_highLevel_sendsLargerBurst() {
+        // Given: a seeded handler and a player well past level 1
+        SurvivalModeHandler burstHandler = new SurvivalModeHandler(board, config, 7L);
+        score.registerLinesCleared(100, 0);
+        int expected = config.getGarbageProfile().burstSize(score.getLevel());
+        assertTrue(expected > 1, "Burst should grow with level");
+
+        // When: landing without clears until garbage triggers once
+        int threshold = burstHandler.computeGarbageThreshold(score, config.getMaxNoClearBeforeGarbage());
+        for (int i = 0; i < threshold; i++) {
+            burstHandler.handleBrickLanded(null, score);
+        }
+
+        // Then: the whole burst arrives at once and is counted
+        assertEquals(expected, board.getGarbageRowCount());
+        assertEquals(expected, burstHandler.getGarbageRowsReceived());
+    }
+
     private static class MockBoard implements Board {
         private int garbageRowCount = 0;
         
@@ -0,0 +1,118 @@
+package com.comp2042.mode;
+
+import com.comp2042.models.ClearRow;
+import com.comp2042.models.GameConfig;
+import com.comp2042.models.GameMode;
+import com.comp2042.models.Score;
+import com.comp2042.models.SimpleBoard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for VersusModeHandler and AttackTable.
+ * Tests attack sizes, cancelling, and garbage rising on a non-clearing landing.
+ */
+public class VersusModeHandlerTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    private SimpleBoard playerBoard;
+    private SimpleBoard cpuBoard;
+    private VersusModeHandler player;
+    private VersusModeHandler cpu;
+    private Score score;
+
+    @BeforeEach
+    void setUp() {
+        GameConfig config = GameConfig.forMode(GameMode.VERSUS_CPU);
+        playerBoard = new SimpleBoard(ROWS, COLUMNS);
+        cpuBoard = new SimpleBoard(ROWS, COLUMNS);
+        player = new VersusModeHandler(playerBoard, config, 1L);
+        cpu = new VersusModeHandler(cpuBoard, config, 2L);
+        player.connect(cpu);
+        score = new Score();
+    }
+
+    /** Clears {@code lines} on the player's side, registering them with the score first. */
+    private void playerClears(int lines) {
+        score.registerLinesCleared(lines, 50 * lines * lines);
+        player.handleBrickLanded(new ClearRow(lines, new int[ROWS][COLUMNS], 50 * lines * lines), score);
+    }
+
+    @Test
+    void attack_followsLinesAndCombo() {
+        assertEquals(0, AttackTable.attack(0, 0));
+        assertEquals(0, AttackTable.attack(1, 1), "A single sends nothing");
+        assertEquals(1, AttackTable.attack(2, 1));
+        assertEquals(2, AttackTable.attack(3, 1));
+        assertEquals(4, AttackTable.attack(4, 1));
+        assertEquals(5, AttackTable.attack(4, 2), "A second clear in a row adds a row");
+        assertEquals(6, AttackTable.attack(4, 4));
+    }
+
+    @Test
+    void handleBrickLanded_clearSendsGarbageToOpponent() {
+        // When: the player clears a Tetris
+        playerClears(4);
+
+        // Then
+        assertEquals(4, cpu.getIncoming());
+        assertEquals(4, player.getSent());
+        assertEquals(0, player.getIncoming());
+    }
+
+    @Test
+    void handleBrickLanded_clearCancelsPendingGarbageFirst() {
+        // Given: three rows waiting for the player
+        player.receive(3);
+
+        // When: a Tetris (4 rows) is cleared
+        playerClears(4);
+
+        // Then: 3 rows cancel, 1 is sent
+        assertEquals(0, player.getIncoming());
+        assertEquals(1, cpu.getIncoming());
+        assertEquals(1, player.getSent());
+    }
+
+    @Test
+    void handleBrickLanded_noClearRaisesPendingRows() {
+        // Given
+        player.receive(VersusModeHandler.MAX_ROWS_PER_LANDING + 2);
+        score.registerLandingWithoutClear();
+
+        // When
+        int risen = player.handleBrickLanded(new ClearRow(0, playerBoard.getBoardMatrix(), 0), score);
+
+        // Then: a burst is capped and the rest waits for the next landing
+        assertEquals(VersusModeHandler.MAX_ROWS_PER_LANDING, risen);
+        assertEquals(2, player.getIncoming());
+        assertEquals(VersusModeHandler.MAX_ROWS_PER_LANDING, player.getGarbageRowsReceived());
+        int[][] matrix = playerBoard.getBoardMatrix();
+        for (int row = ROWS - risen; row < ROWS; row++) {
+            int holes = 0;
+            for (int col = 0; col < COLUMNS; col++) {
+                if (matrix[row][col] == 0) {
+                    holes++;
+                }
+            }
+            assertEquals(1, holes, "Garbage row " + row + " should have one hole");
+        }
+        assertEquals(0, matrix[ROWS - risen - 1][0], "Rows above the burst stay empty");
+    }
+
+    @Test
+    void reset_clearsCounts() {
+        playerClears(4);
+        player.receive(2);
+
+        player.reset();
+
+        assertEquals(0, player.getIncoming());
+        assertEquals(0, player.getSent());
+        assertEquals(0, player.getGarbageRowsReceived());
+    }
+}
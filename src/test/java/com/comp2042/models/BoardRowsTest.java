@@ -0,0 +1,161 @@
+package com.comp2042.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BoardRows.
+ * Tests in-place garbage insertion and row removal on the recycled row slots.
+ */
+public class BoardRowsTest {
+
+    private static final int ROWS = 6;
+    private static final int COLUMNS = 4;
+
+    @Test
+    void pushBottom_shiftsRowsUpAndRecyclesTopSlot() {
+        // Given: each row tagged with its index in column 0
+        BoardRows rows = new BoardRows(ROWS, COLUMNS);
+        int[][] view = rows.view();
+        for (int r = 0; r < ROWS; r++) {
+            view[r][0] = r + 1;
+        }
+        int[] top = view[0];
+
+        // When: pushing one row in at the bottom
+        rows.pushBottom(1);
+        int[] bottom = view[ROWS - 1];
+
+        // Then: rows moved up one, the old top slot is the cleared bottom row
+        assertSame(top, bottom);
+        assertSame(bottom, view[ROWS - 1]);
+        assertArrayEquals(new int[COLUMNS], bottom);
+        for (int r = 0; r < ROWS - 1; r++) {
+            assertEquals(r + 2, view[r][0]);
+        }
+    }
+
+    @Test
+    void removeFullRows_keepsOrderOfSurvivors() {
+        // Given: rows 2 and 4 full, others tagged
+        BoardRows rows = new BoardRows(ROWS, COLUMNS);
+        int[][] view = rows.view();
+        for (int r = 0; r < ROWS; r++) {
+            view[r][0] = r + 1;
+        }
+        Arrays.fill(view[2], 9);
+        Arrays.fill(view[4], 9);
+
+        // When
+        int removed = rows.removeFullRows();
+
+        // Then: two empty rows on top, survivors in their original order below
+        assertEquals(2, removed);
+        assertArrayEquals(new int[COLUMNS], view[0]);
+        assertArrayEquals(new int[COLUMNS], view[1]);
+        assertEquals(1, view[2][0]);
+        assertEquals(2, view[3][0]);
+        assertEquals(4, view[4][0]);
+        assertEquals(6, view[5][0]);
+    }
+
+    @Test
+    void restoreRows_undoesRemoveFullRows() {
+        // Given: rows 1 and 4 full, others tagged, and the board cleared
+        BoardRows rows = new BoardRows(ROWS, COLUMNS);
+        int[][] view = rows.view();
+        for (int r = 0; r < ROWS; r++) {
+            view[r][0] = r + 1;
+        }
+        Arrays.fill(view[1], 9);
+        Arrays.fill(view[4], 9);
+        int[][] before = copy(view);
+        rows.removeFullRows();
+
+        // When: reinserting at the old indices and refilling them
+        rows.restoreRows(new int[]{1, 4}, 2);
+        Arrays.fill(view[1], 9);
+        Arrays.fill(view[4], 9);
+
+        // Then: the board is back as it was
+        assertArrayEquals(before, view);
+    }
+
+    @Test
+    void popBottom_undoesPushBottom() {
+        BoardRows rows = new BoardRows(ROWS, COLUMNS);
+        int[][] view = rows.view();
+        for (int r = 0; r < ROWS; r++) {
+            view[r][0] = r + 1;
+        }
+        int[][] before = copy(view);
+
+        rows.pushBottom(2);
+        rows.popBottom(2);
+        view[0][0] = 1;
+        view[1][0] = 2;
+
+        assertArrayEquals(before, view);
+    }
+
+    @Test
+    void operations_neverAllocateNewRows() {
+        BoardRows rows = new BoardRows(ROWS, COLUMNS);
+        int[][] view = rows.view();
+        Set<int[]> slots = Collections.newSetFromMap(new IdentityHashMap<>());
+        Collections.addAll(slots, view);
+
+        for (int i = 0; i < 20; i++) {
+            rows.pushBottom(1);
+            Arrays.fill(view[ROWS - 1], 1);
+            if (i % 3 == 0) {
+                rows.removeFullRows();
+            }
+        }
+
+        // Same outer array, same row slots, each exactly once.
+        assertSame(view, rows.view());
+        Set<int[]> after = Collections.newSetFromMap(new IdentityHashMap<>());
+        Collections.addAll(after, view);
+        assertEquals(slots, after);
+    }
+
+    @Test
+    void simpleBoard_garbageAndClears_keepLiveMatrix() {
+        // Given: a board matrix held by a caller
+        SimpleBoard board = new SimpleBoard(25, 10);
+        int[][] matrix = board.getBoardMatrix();
+
+        // When: garbage arrives and then the bottom row is completed and cleared
+        board.addGarbageRow();
+        int filled = 0;
+        for (int col = 0; col < 10; col++) {
+            if (matrix[24][col] != 0) {
+                filled++;
+            }
+        }
+        assertEquals(9, filled, "Garbage should be visible through the held matrix");
+
+        Arrays.fill(matrix[24], 3);
+        ClearRow clear = board.clearRows();
+
+        // Then: the same matrix reflects the cleared board
+        assertSame(matrix, board.getBoardMatrix());
+        assertEquals(1, clear.getLinesRemoved());
+        assertArrayEquals(new int[10], matrix[24]);
+    }
+
+    private static int[][] copy(int[][] matrix) {
+        int[][] copy = new int[matrix.length][];
+        for (int r = 0; r < matrix.length; r++) {
+            copy[r] = matrix[r].clone();
+        }
+        return copy;
+    }
+}
@@ -35,6 +35,35 @@ class GameConfigTest {
         assertEquals(4, config.getMaxNoClearBeforeGarbage());
         assertEquals(0, config.getTargetLinesToWin());
         assertTrue(config.isShowTimer());
+        assertNotNull(config.getGarbageProfile());
+        assertEquals(GarbageProfile.Pattern.CLEAN, config.getGarbageProfile().getPattern());
+    }
+
+    @Test
+    void testOnlySurvivalSendsGarbage() {
+        assertNull(GameConfig.forMode(GameMode.CLASSIC).getGarbageProfile());
+        assertNull(GameConfig.forMode(GameMode.HYPER).getGarbageProfile());
+        assertNull(GameConfig.forMode(GameMode.RUSH_40).getGarbageProfile());
+    }
+
+    @Test
+    void testOnlyRush40UsesSrs() {
+        assertEquals(RotationSystem.SIMPLE, GameConfig.forMode(GameMode.CLASSIC).getRotationSystem());
+        assertEquals(RotationSystem.SIMPLE, GameConfig.forMode(GameMode.SURVIVAL).getRotationSystem());
+        assertEquals(RotationSystem.SIMPLE, GameConfig.forMode(GameMode.HYPER).getRotationSystem());
+        assertEquals(RotationSystem.SRS, GameConfig.forMode(GameMode.RUSH_40).getRotationSystem());
+    }
+
+    @Test
+    void testEveryModeHasGravityAndHyperReaches20G() {
+        for (GameMode mode : GameMode.values()) {
+            GravityProfile gravity = GameConfig.forMode(mode).getGravityProfile();
+            assertNotNull(gravity, mode + " should use tick gravity");
+            assertTrue(gravity.getLockDelayMs() > 0);
+        }
+        assertEquals(20.0, GameConfig.forMode(GameMode.HYPER).getGravityProfile().getRowsPerTick(10), 1e-9);
+        // Classic level 1 keeps the old 400ms drop: 1/24 row per tick.
+        assertEquals(1.0 / 24, GameConfig.forMode(GameMode.CLASSIC).getGravityProfile().getRowsPerTick(1), 1e-9);
     }
 
     @Test
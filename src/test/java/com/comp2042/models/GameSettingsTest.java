@@ -137,4 +137,40 @@ class GameSettingsTest {
         // Note: Loading is tested implicitly through the constructor
         // which calls loadSettings()
     }
+
+    @Test
+    void testPlayerOneKeysAreTheSinglePlayerBindings() {
+        assertEquals(KeyCode.LEFT, settings.getPlayerKey(1, InputAction.MOVE_LEFT));
+        assertEquals(KeyCode.SPACE, settings.getPlayerKey(1, InputAction.HARD_DROP));
+
+        settings.setPlayerKey(1, InputAction.MOVE_LEFT, KeyCode.A);
+        assertEquals(KeyCode.A, settings.getMoveLeft());
+    }
+
+    @Test
+    void testDefaultPlayerKeysDoNotOverlap() {
+        settings.resetToDefaults();
+        java.util.Set<KeyCode> seen = new java.util.HashSet<>();
+        for (int player = 1; player <= GameSettings.MAX_PLAYERS; player++) {
+            for (InputAction action : InputAction.values()) {
+                KeyCode key = settings.getPlayerKey(player, action);
+                if (key != null) {
+                    assertTrue(seen.add(key), "Key " + key + " is bound twice");
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSetPlayerKeyAndPlayerCount() {
+        settings.setPlayerKey(3, InputAction.HOLD, KeyCode.SLASH);
+        assertEquals(KeyCode.SLASH, settings.getPlayerKey(3, InputAction.HOLD));
+
+        settings.setSplitScreenPlayers(9);
+        assertEquals(GameSettings.MAX_PLAYERS, settings.getSplitScreenPlayers());
+        settings.setSplitScreenPlayers(1);
+        assertEquals(2, settings.getSplitScreenPlayers());
+
+        assertThrows(IllegalArgumentException.class, () -> settings.getPlayerKey(5, InputAction.HOLD));
+    }
 }
@@ -0,0 +1,174 @@
+package com.comp2042.protocol;
+
+import com.comp2042.bot.EvaluationWeights;
+import com.comp2042.bot.GreedyBot;
+import com.comp2042.bot.Placement;
+import com.comp2042.models.GameMode;
+import com.comp2042.sim.HeadlessGame;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the bot protocol: codecs, BotProtocolServer and GreedyBotClient.
+ */
+public class BotProtocolServerTest {
+
+    private static final int PIECES = 40;
+
+    @Test
+    void textCodec_roundTripsEveryMessageType() throws IOException {
+        assertRoundTrip(false);
+    }
+
+    @Test
+    void binaryCodec_roundTripsEveryMessageType() throws IOException {
+        assertRoundTrip(true);
+    }
+
+    @Test
+    void textCodec_writesReadableLines() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BotCodec codec = new TextBotCodec(new ByteArrayInputStream(new byte[0]), out);
+
+        codec.write(BotMessage.state(7, 5, -1, new int[]{0, 3}, new int[]{0, 0x3ff}));
+        codec.write(BotMessage.move(7, 1, 4, true));
+        codec.flush();
+
+        assertEquals("state 7 T - IO 0,3ff\nmove 7 1 4 hold\n", out.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void run_overLoopbackSocketWithPipelining_matchesLocalPlay() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (ServerSocket listener = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            // Given: a greedy bot client connected over a loopback socket
+            Future<Integer> client = executor.submit(() -> {
+                try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), listener.getLocalPort())) {
+                    BotCodec codec = new TextBotCodec(socket.getInputStream(), socket.getOutputStream());
+                    return new GreedyBotClient(codec, EvaluationWeights.defaults()).run();
+                }
+            });
+
+            // When: the server plays 4 games, 3 in flight at once
+            BotMatchReport report;
+            try (Socket socket = listener.accept()) {
+                BotCodec codec = new TextBotCodec(socket.getInputStream(), socket.getOutputStream());
+                report = new BotProtocolServer(codec, GameMode.CLASSIC, 4, 3, PIECES, 100L).run();
+            }
+
+            // Then: every move was timed and each game matches playing the bot in-process
+            assertEquals(4, report.getResults().size());
+            int totalPieces = 0;
+            for (BotMatchReport.GameResult result : report.getResults()) {
+                totalPieces += result.getPieces();
+                assertEquals(playLocally(100L + result.getGame()), result.getScore(),
+                        "Game " + result.getGame() + " should score the same as local play");
+            }
+            assertEquals(totalPieces, report.getLatency().getCount());
+            assertEquals(totalPieces, client.get().intValue());
+            assertTrue(report.getLatency().getMaxNanos() > 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void run_replyToUnknownRequest_throws() {
+        ByteArrayInputStream in = new ByteArrayInputStream("move 99 0 0\n".getBytes(StandardCharsets.US_ASCII));
+        BotCodec codec = new TextBotCodec(in, OutputStream.nullOutputStream());
+        BotProtocolServer server = new BotProtocolServer(codec, GameMode.CLASSIC, 1, 1, PIECES, 1L);
+
+        assertThrows(IOException.class, server::run);
+    }
+
+    @Test
+    void run_botDisconnects_throws() {
+        BotCodec codec = new TextBotCodec(new ByteArrayInputStream(new byte[0]), OutputStream.nullOutputStream());
+        BotProtocolServer server = new BotProtocolServer(codec, GameMode.CLASSIC, 1, 1, PIECES, 1L);
+
+        assertThrows(IOException.class, server::run);
+    }
+
+    @Test
+    void latencyStats_percentiles() {
+        LatencyStats stats = new LatencyStats();
+        for (int i = 1; i <= 100; i++) {
+            stats.record(i);
+        }
+
+        assertEquals(50, stats.getPercentileNanos(50));
+        assertEquals(99, stats.getPercentileNanos(99));
+        assertEquals(100, stats.getMaxNanos());
+        assertEquals(50.5, stats.getMeanNanos(), 1e-9);
+    }
+
+    private static int playLocally(long seed) {
+        HeadlessGame game = new HeadlessGame(GameMode.CLASSIC, seed);
+        GreedyBot bot = new GreedyBot(HeadlessGame.BOARD_ROWS, HeadlessGame.BOARD_COLUMNS,
+                EvaluationWeights.defaults());
+        while (!game.isGameOver() && game.getPiecesPlaced() < PIECES) {
+            Placement placement = bot.choose(game.getBoard());
+            game.play(placement.getRotation(), placement.getX());
+        }
+        return game.getScore().getScore();
+    }
+
+    private static void assertRoundTrip(boolean binary) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BotCodec writer = binary
+                ? new BinaryBotCodec(new ByteArrayInputStream(new byte[0]), out)
+                : new TextBotCodec(new ByteArrayInputStream(new byte[0]), out);
+        writer.write(BotMessage.start(25, 10, 4, 1));
+        writer.write(BotMessage.state(3, 6, 2, new int[]{0, 1, 4}, new int[]{0, 0x201, 0x3ff}));
+        writer.write(BotMessage.state(4, 0, -1, new int[0], new int[]{0}));
+        writer.write(BotMessage.move(3, 2, -1, true));
+        writer.write(BotMessage.end(1, 1200, 9, 40));
+        writer.flush();
+
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        BotCodec reader = binary
+                ? new BinaryBotCodec(in, OutputStream.nullOutputStream())
+                : new TextBotCodec(in, OutputStream.nullOutputStream());
+
+        BotMessage start = reader.read();
+        assertEquals(BotMessage.Type.START, start.getType());
+        assertEquals(25, start.getRows());
+        assertEquals(1, start.getSpawnY());
+
+        BotMessage state = reader.read();
+        assertEquals(3, state.getId());
+        assertEquals(6, state.getPiece());
+        assertEquals(2, state.getHold());
+        assertArrayEquals(new int[]{0, 1, 4}, state.getQueue());
+        assertArrayEquals(new int[]{0, 0x201, 0x3ff}, state.getBoard());
+
+        BotMessage emptyHold = reader.read();
+        assertEquals(-1, emptyHold.getHold());
+        assertEquals(0, emptyHold.getQueue().length);
+
+        BotMessage move = reader.read();
+        assertEquals(BotMessage.Type.MOVE, move.getType());
+        assertEquals(2, move.getRotation());
+        assertEquals(-1, move.getX());
+        assertTrue(move.isHold());
+
+        BotMessage end = reader.read();
+        assertEquals(1200, end.getScore());
+        assertEquals(40, end.getPieces());
+
+        assertNull(reader.read(), "End of stream should read as null");
+    }
+}
@@ -0,0 +1,84 @@
+package com.comp2042.records;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LogHistogram.
+ * Tests bucketing, ranks, quantile accuracy and merging.
+ */
+class LogHistogramTest {
+
+    @Test
+    void bucketOf_isMonotonicAndMatchesLowerBounds() {
+        int previous = 0;
+        for (long value = 0; value < 200_000; value += 7) {
+            int bucket = LogHistogram.bucketOf(value);
+            assertTrue(bucket >= previous, "Buckets must not go down at " + value);
+            assertTrue(value >= LogHistogram.lowerBound(bucket), "Below its bucket at " + value);
+            previous = bucket;
+        }
+        assertEquals(LogHistogram.BUCKETS - 1, LogHistogram.bucketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    void quantile_isWithinTenPercent() {
+        // Given: scores 1..100000
+        LogHistogram histogram = new LogHistogram();
+        for (int i = 1; i <= 100_000; i++) {
+            histogram.add(i);
+        }
+
+        // Then: quantiles are close to the exact answer
+        for (double q : new double[]{0.1, 0.5, 0.9, 0.99}) {
+            double exact = q * 100_000;
+            double estimate = histogram.quantile(q);
+            assertEquals(exact, estimate, exact * 0.1, "q=" + q);
+        }
+    }
+
+    @Test
+    void fractionBelow_ranksAgainstCountedValues() {
+        LogHistogram histogram = new LogHistogram();
+        for (int i = 0; i < 10; i++) {
+            histogram.add(100);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.add(10_000);
+        }
+
+        assertEquals(0.0, histogram.fractionBelow(10), 1e-9);
+        assertEquals(0.5, histogram.fractionBelow(1_000), 1e-9);
+        assertEquals(1.0, histogram.fractionBelow(1_000_000), 1e-9);
+        assertEquals(0.5, histogram.fractionAbove(1_000), 1e-9);
+    }
+
+    @Test
+    void emptyHistogram_answersWithoutData() {
+        LogHistogram histogram = new LogHistogram();
+
+        assertEquals(0.0, histogram.fractionBelow(50));
+        assertEquals(-1, histogram.quantile(0.5));
+    }
+
+    @Test
+    void merge_equalsAddingEverythingToOne() {
+        LogHistogram a = new LogHistogram();
+        LogHistogram b = new LogHistogram();
+        LogHistogram all = new LogHistogram();
+        for (int i = 0; i < 500; i++) {
+            a.add(i * 3L);
+            b.add(i * 11L);
+            all.add(i * 3L);
+            all.add(i * 11L);
+        }
+
+        a.merge(b);
+
+        assertEquals(all.getTotal(), a.getTotal());
+        for (int i = 0; i < LogHistogram.BUCKETS; i++) {
+            assertEquals(all.getCount(i), a.getCount(i), "bucket " + i);
+        }
+    }
+}
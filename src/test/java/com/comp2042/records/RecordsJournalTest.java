@@ -0,0 +1,181 @@
+package com.comp2042.records;
+
+import com.comp2042.models.GameMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RecordsJournal.
+ * Tests bests and statistics across reopen, torn-write recovery and index rebuild.
+ */
+class RecordsJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private RecordsJournal open() throws IOException {
+        return new RecordsJournal(dir.resolve("runs.journal"), dir.resolve("runs.index"));
+    }
+
+    private static RunRecord run(GameMode mode, int score, long timeMillis, boolean win) {
+        return new RunRecord(mode, score, 40, timeMillis, 42L, 1_700_000_000_000L, win, 0);
+    }
+
+    @Test
+    void record_reportsNewBestsOnlyWhenBeaten() throws IOException {
+        try (RecordsJournal journal = open()) {
+            assertEquals(RecordsJournal.NEW_BEST_SCORE | RecordsJournal.NEW_BEST_TIME,
+                    journal.record(run(GameMode.RUSH_40, 500, 90_000, true)));
+            assertEquals(0, journal.record(run(GameMode.RUSH_40, 400, 95_000, true)));
+            assertEquals(RecordsJournal.NEW_BEST_TIME,
+                    journal.record(run(GameMode.RUSH_40, 100, 80_000, true)));
+            assertEquals(0, journal.record(run(GameMode.RUSH_40, 100, 10_000, false)),
+                    "A lost run's time does not count");
+        }
+    }
+
+    @Test
+    void bests_surviveReopen() throws Exception {
+        // Given: runs in two modes, written and closed
+        try (RecordsJournal journal = open()) {
+            journal.record(run(GameMode.CLASSIC, 1200, -1, false));
+            journal.record(run(GameMode.CLASSIC, 800, -1, false));
+            journal.record(run(GameMode.RUSH_40, 300, 75_500, true));
+            journal.flush();
+        }
+
+        // When: reopening
+        try (RecordsJournal journal = open()) {
+            // Then: bests and run count come back
+            assertEquals(1200, journal.getBestScore(GameMode.CLASSIC));
+            assertEquals(300, journal.getBestScore(GameMode.RUSH_40));
+            assertEquals(75_500, journal.getBestTimeMillis(GameMode.RUSH_40));
+            assertEquals(-1, journal.getBestTimeMillis(GameMode.CLASSIC));
+            assertEquals(3, journal.getRecordCount());
+        }
+    }
+
+    @Test
+    void tornTail_isDroppedAndEarlierRecordsKept() throws Exception {
+        try (RecordsJournal journal = open()) {
+            journal.record(run(GameMode.SURVIVAL, 900, -1, false));
+            journal.flush();
+        }
+        // Given: a crash mid-write left half a record, and no index covering it
+        Path journalFile = dir.resolve("runs.journal");
+        Files.write(journalFile, new byte[RunRecord.SIZE / 2], StandardOpenOption.APPEND);
+        Files.delete(dir.resolve("runs.index"));
+
+        try (RecordsJournal journal = open()) {
+            assertEquals(900, journal.getBestScore(GameMode.SURVIVAL));
+            assertEquals(1, journal.getRecordCount());
+            assertEquals(RunRecord.SIZE, Files.size(journalFile), "Partial record should be cut off");
+
+            // And: appending after recovery works
+            journal.record(run(GameMode.SURVIVAL, 950, -1, false));
+            journal.flush();
+        }
+        try (RecordsJournal journal = open()) {
+            assertEquals(950, journal.getBestScore(GameMode.SURVIVAL));
+            assertEquals(2, journal.getRecordCount());
+        }
+    }
+
+    @Test
+    void corruptRecord_stopsReplayAtThatRecord() throws Exception {
+        try (RecordsJournal journal = open()) {
+            journal.record(run(GameMode.CLASSIC, 100, -1, false));
+            journal.record(run(GameMode.CLASSIC, 5000, -1, false));
+            journal.flush();
+        }
+        // Given: the second record's score bytes are scrambled and the index is gone
+        Path journalFile = dir.resolve("runs.journal");
+        byte[] bytes = Files.readAllBytes(journalFile);
+        bytes[RunRecord.SIZE + 5] ^= 0x7F;
+        Files.write(journalFile, bytes);
+        Files.delete(dir.resolve("runs.index"));
+
+        try (RecordsJournal journal = open()) {
+            assertEquals(100, journal.getBestScore(GameMode.CLASSIC));
+            assertEquals(1, journal.getRecordCount());
+        }
+    }
+
+    @Test
+    void corruptIndex_isRebuiltFromJournal() throws Exception {
+        try (RecordsJournal journal = open()) {
+            journal.record(run(GameMode.HYPER, 700, -1, false));
+            journal.flush();
+        }
+        Files.write(dir.resolve("runs.index"), new byte[]{1, 2, 3});
+
+        try (RecordsJournal journal = open()) {
+            assertEquals(700, journal.getBestScore(GameMode.HYPER));
+        }
+    }
+
+    @Test
+    void statistics_surviveReopenWithAndWithoutIndex() throws Exception {
+        // Given: ten Survival runs with growing scores, play time and garbage
+        try (RecordsJournal journal = open()) {
+            for (int i = 1; i <= 10; i++) {
+                journal.record(new RunRecord(GameMode.SURVIVAL, i * 1000, i * 10, 60_000,
+                        i, 1_700_000_000_000L, false, i));
+            }
+            journal.flush();
+        }
+
+        // When: reopening from the index, then again after losing it
+        RunStatistics fromIndex;
+        try (RecordsJournal journal = open()) {
+            fromIndex = journal.getStatistics(GameMode.SURVIVAL);
+        }
+        Files.delete(dir.resolve("runs.index"));
+        RunStatistics replayed;
+        try (RecordsJournal journal = open()) {
+            replayed = journal.getStatistics(GameMode.SURVIVAL);
+        }
+
+        // Then: both give the same aggregates
+        for (RunStatistics stats : new RunStatistics[]{fromIndex, replayed}) {
+            assertEquals(10, stats.getRuns());
+            assertEquals(0.75, stats.getScoreRank(8000), 0.1);
+            assertEquals(55.0, stats.getAverageLinesPerMinute(), 1e-9);
+            assertTrue(stats.getLinesPerMinuteTrend() > 0, "Later runs were faster");
+            assertEquals(55, stats.getGarbageRows());
+            assertEquals(10, stats.getMostGarbageRows());
+        }
+    }
+
+    @Test
+    void getStatistics_returnsACopy() throws IOException {
+        try (RecordsJournal journal = open()) {
+            RunStatistics before = journal.getStatistics(GameMode.CLASSIC);
+            journal.record(run(GameMode.CLASSIC, 100, -1, false));
+
+            assertEquals(0, before.getRuns());
+            assertEquals(1, journal.getStatistics(GameMode.CLASSIC).getRuns());
+        }
+    }
+
+    @Test
+    void index_holdsBestsEvenWhenJournalReplayIsNotNeeded() throws Exception {
+        try (RecordsJournal journal = open()) {
+            journal.record(run(GameMode.CLASSIC, 321, -1, false));
+            journal.flush();
+        }
+
+        // The index covers the whole journal, so its bests are used as they are.
+        assertTrue(Files.size(dir.resolve("runs.index")) > 0);
+        try (RecordsJournal journal = open()) {
+            assertEquals(321, journal.getBestScore(GameMode.CLASSIC));
+        }
+    }
+}
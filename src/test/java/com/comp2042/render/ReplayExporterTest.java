@@ -0,0 +1,213 @@
+package com.comp2042.render;
+
+import com.comp2042.models.EventSource;
+import com.comp2042.models.EventType;
+import com.comp2042.models.GameMode;
+import com.comp2042.models.MoveEvent;
+import com.comp2042.models.SimpleBoard;
+import com.comp2042.models.ViewData;
+import com.comp2042.replay.ReplayFile;
+import com.comp2042.replay.ReplayGame;
+import com.comp2042.replay.ReplayPlayer;
+import com.comp2042.replay.ReplayRecorder;
+import com.comp2042.sim.HeadlessGame;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Node;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FrameRenderer and ReplayExporter.
+ * Tests frame contents and that exported GIFs and PNGs decode to the rendered frames.
+ */
+class ReplayExporterTest {
+
+    private static final int CELL = 8;
+    private static final int FPS = 10;
+    private static final MoveEvent MOVE = new MoveEvent(EventType.LEFT, EventSource.USER);
+
+    @TempDir
+    Path dir;
+
+    /** Records a few seconds of random play. */
+    private Path recordGame() throws IOException {
+        ReplayGame live = new ReplayGame(GameMode.CLASSIC, 5L);
+        ReplayRecorder recorder = new ReplayRecorder(live, live::saveState);
+        recorder.start();
+        Random random = new Random(9);
+        for (int tick = 0; tick < 8 * 60 && !live.isFinished(); tick++) {
+            switch (random.nextInt(40)) {
+                case 0: recorder.onLeftEvent(MOVE); break;
+                case 1: recorder.onRightEvent(MOVE); break;
+                case 2: recorder.onRotateEvent(MOVE); break;
+                case 3: recorder.onHoldEvent(MOVE); break;
+                case 4: recorder.onHardDropEvent(MOVE); break;
+                default: break;
+            }
+            recorder.onGravityTick();
+        }
+        Path file = dir.resolve("game.replay");
+        ReplayFile.write(file, GameMode.CLASSIC, 5L, recorder.finish(), ReplayFile.KEYFRAME_TICKS);
+        return file;
+    }
+
+    private static int pixelOf(FrameRenderer renderer, byte[] pixels, int x, int y) {
+        return pixels[y * renderer.getWidth() + x];
+    }
+
+    @Test
+    void render_drawsBoardBrickAndGhost() {
+        // Given: one settled red cell in the bottom row and a brick in the air
+        FrameRenderer renderer = new FrameRenderer(HeadlessGame.BOARD_ROWS, HeadlessGame.BOARD_COLUMNS, CELL);
+        int[][] board = new int[HeadlessGame.BOARD_ROWS][HeadlessGame.BOARD_COLUMNS];
+        board[HeadlessGame.BOARD_ROWS - 1][0] = 5;
+        int[][] brick = {{4, 4}, {4, 4}};
+        ViewData view = new ViewData(brick, 3, 5, null, null, null, 3, 20);
+        byte[] pixels = new byte[renderer.getWidth() * renderer.getHeight()];
+
+        // When
+        renderer.render(board, view, pixels);
+
+        // Then: sample the middle of cells; the board starts five cells in
+        int left = 5 * CELL + CELL / 2;
+        int rowOf0 = -FrameRenderer.HIDDEN_TOP_ROWS;
+        assertEquals(5, pixelOf(renderer, pixels, left, (HeadlessGame.BOARD_ROWS - 1 + rowOf0) * CELL + CELL / 2));
+        assertEquals(4, pixelOf(renderer, pixels, left + 3 * CELL, (5 + rowOf0) * CELL + CELL / 2));
+        assertEquals(FrameRenderer.GHOST + 3, pixelOf(renderer, pixels, left + 3 * CELL, (20 + rowOf0) * CELL + CELL / 2));
+        assertEquals(FrameRenderer.BACKGROUND, pixelOf(renderer, pixels, left + 8 * CELL, 10 * CELL + CELL / 2));
+        assertEquals(FrameRenderer.GRID, pixelOf(renderer, pixels, 5 * CELL, 0));
+        assertEquals(FrameRenderer.PANEL, pixelOf(renderer, pixels, 0, 0));
+    }
+
+    @Test
+    void render_sideBySideMatchesSeparateFrames() {
+        // Given: two different boards and one buffer holding both frames in a row
+        FrameRenderer renderer = new FrameRenderer(HeadlessGame.BOARD_ROWS, HeadlessGame.BOARD_COLUMNS, CELL);
+        int[][] first = new int[HeadlessGame.BOARD_ROWS][HeadlessGame.BOARD_COLUMNS];
+        int[][] second = new int[HeadlessGame.BOARD_ROWS][HeadlessGame.BOARD_COLUMNS];
+        first[HeadlessGame.BOARD_ROWS - 1][0] = 5;
+        second[HeadlessGame.BOARD_ROWS - 1][9] = 2;
+        int width = renderer.getWidth();
+        int height = renderer.getHeight();
+        byte[] shared = new byte[2 * width * height];
+
+        // When
+        renderer.render(first, null, shared, 0, 2 * width);
+        renderer.render(second, null, shared, width, 2 * width);
+
+        // Then: each half is the frame rendered on its own
+        byte[] alone = new byte[width * height];
+        renderer.render(first, null, alone);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                assertEquals(alone[y * width + x], shared[y * 2 * width + x], "first frame at " + x + "," + y);
+            }
+        }
+        renderer.render(second, null, alone);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                assertEquals(alone[y * width + x], shared[y * 2 * width + width + x], "second frame at " + x + "," + y);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> renderer.render(first, null, shared, width + 1, 2 * width));
+    }
+
+    @Test
+    void exportGif_decodesToTheRenderedFrames() throws IOException {
+        // Given
+        Path replay = recordGame();
+        Path gif = dir.resolve("game.gif");
+        ReplayExporter exporter = new ReplayExporter(CELL);
+        exporter.setFramesInFlight(2);
+        FrameRenderer renderer = exporter.getRenderer();
+
+        // When
+        int frames;
+        try (ReplayPlayer player = ReplayPlayer.open(replay)) {
+            frames = exporter.exportGif(player, gif, FPS);
+            assertEquals(player.getDurationTicks() * FPS / 60 + 1, frames);
+        }
+
+        // Then: paint each decoded frame onto a canvas and compare with a fresh render
+        ImageReader reader = ImageIO.getImageReadersByFormatName("gif").next();
+        try (ImageInputStream in = ImageIO.createImageInputStream(gif.toFile());
+             ReplayPlayer player = ReplayPlayer.open(replay)) {
+            reader.setInput(in);
+            assertEquals(frames, reader.getNumImages(true));
+            BufferedImage canvas = new BufferedImage(renderer.getWidth(), renderer.getHeight(),
+                    BufferedImage.TYPE_INT_RGB);
+            for (int i = 0; i < frames; i++) {
+                BufferedImage part = reader.read(i);
+                Node descriptor = descriptorOf(reader.getImageMetadata(i));
+                int x = Integer.parseInt(attribute(descriptor, "imageLeftPosition"));
+                int y = Integer.parseInt(attribute(descriptor, "imageTopPosition"));
+                canvas.getGraphics().drawImage(part, x, y, null);
+
+                player.seek((long) i * 60 / FPS);
+                SimpleBoard board = player.getGame().getBoard();
+                ViewData view = player.getGame().isFinished() ? null : board.getViewData();
+                BufferedImage expected = renderer.render(board.getBoardMatrix(), view);
+                assertSameImage(expected, canvas, "frame " + i);
+            }
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    @Test
+    void exportPngSequenceAndThumbnail_writeReadableImages() throws IOException {
+        Path replay = recordGame();
+        ReplayExporter exporter = new ReplayExporter(CELL);
+        FrameRenderer renderer = exporter.getRenderer();
+
+        try (ReplayPlayer player = ReplayPlayer.open(replay)) {
+            int frames = exporter.exportPngSequence(player, dir.resolve("frames"), FPS);
+            exporter.exportThumbnail(player, Long.MAX_VALUE, dir.resolve("thumb.png"));
+
+            try (java.util.stream.Stream<Path> files = Files.list(dir.resolve("frames"))) {
+                assertEquals(frames, files.count());
+            }
+            BufferedImage last = ImageIO.read(dir.resolve("frames").resolve(
+                    String.format("frame-%05d.png", frames - 1)).toFile());
+            BufferedImage thumb = ImageIO.read(dir.resolve("thumb.png").toFile());
+            assertEquals(renderer.getWidth(), thumb.getWidth());
+            assertEquals(renderer.getHeight(), thumb.getHeight());
+            assertSameImage(last, thumb, "last frame");
+        }
+    }
+
+    private static Node descriptorOf(IIOMetadata metadata) {
+        Node root = metadata.getAsTree("javax_imageio_gif_image_1.0");
+        for (Node child = root.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeName().equals("ImageDescriptor")) {
+                return child;
+            }
+        }
+        throw new AssertionError("No image descriptor");
+    }
+
+    private static String attribute(Node node, String name) {
+        return node.getAttributes().getNamedItem(name).getNodeValue();
+    }
+
+    private static void assertSameImage(BufferedImage expected, BufferedImage actual, String what) {
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                if ((expected.getRGB(x, y) & 0xFFFFFF) != (actual.getRGB(x, y) & 0xFFFFFF)) {
+                    fail(what + " differs at (" + x + ", " + y + ")");
+                }
+            }
+        }
+    }
+}
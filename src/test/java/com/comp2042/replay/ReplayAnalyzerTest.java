@@ -0,0 +1,99 @@
+package com.comp2042.replay;
+
+import com.comp2042.models.EventSource;
+import com.comp2042.models.EventType;
+import com.comp2042.models.GameMode;
+import com.comp2042.models.MoveEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ReplayAnalyzer.
+ * Tests the metrics of a scripted game and a parallel pass over a directory.
+ */
+class ReplayAnalyzerTest {
+
+    private static final MoveEvent MOVE = new MoveEvent(EventType.LEFT, EventSource.USER);
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Records eight hard-dropped pieces: even pieces take one tap left (no
+     * wasted input), odd ones go left, right, right (two wasted inputs).
+     */
+    private void recordScriptedGame(Path file, long seed) throws IOException {
+        ReplayGame live = new ReplayGame(GameMode.CLASSIC, seed);
+        ReplayRecorder recorder = new ReplayRecorder(live, live::saveState);
+        recorder.start();
+        for (int piece = 0; piece < 8; piece++) {
+            for (int tick = 0; tick < 10; tick++) {
+                recorder.onGravityTick();
+            }
+            recorder.onLeftEvent(MOVE);
+            if (piece % 2 == 1) {
+                recorder.onRightEvent(MOVE);
+                recorder.onRightEvent(MOVE);
+            }
+            recorder.onHardDropEvent(MOVE);
+        }
+        for (int tick = 0; tick < 10; tick++) {
+            recorder.onGravityTick();
+        }
+        ReplayFile.write(file, GameMode.CLASSIC, seed, recorder.finish(), ReplayFile.KEYFRAME_TICKS);
+    }
+
+    @Test
+    void analyze_measuresScriptedGame() throws IOException {
+        // Given
+        Path file = dir.resolve("scripted" + ReplayAnalyzer.EXTENSION);
+        recordScriptedGame(file, 11L);
+
+        // When
+        ReplayMetrics metrics = new ReplayAnalyzer(1).analyze(file);
+
+        // Then
+        assertEquals(GameMode.CLASSIC, metrics.getMode());
+        assertEquals(90, metrics.getTicks());
+        assertEquals(8, metrics.getPieces());
+        assertEquals(4 * 2 + 4 * 4, metrics.getInputs());
+        assertEquals(3.0, metrics.getInputsPerPiece(), 1e-9);
+        assertEquals(4, metrics.getFinesseFaults());
+        assertEquals(8 / 1.5, metrics.getPiecesPerSecond(), 1e-9);
+        assertTrue(metrics.getMaxStackHeight() >= 2, "Eight pieces should stack up");
+        assertEquals(0, metrics.getGarbageCleared());
+    }
+
+    @Test
+    void analyzeDirectory_analysesEveryReplayAndSkipsDamagedOnes() throws IOException, InterruptedException {
+        // Given: several replays and one damaged file
+        int games = 12;
+        for (int i = 0; i < games; i++) {
+            recordScriptedGame(dir.resolve("game-" + i + ReplayAnalyzer.EXTENSION), i);
+        }
+        Files.write(dir.resolve("broken" + ReplayAnalyzer.EXTENSION), new byte[]{1, 2, 3});
+        Files.write(dir.resolve("notes.txt"), new byte[]{1});
+
+        // When
+        List<ReplayMetrics> rows = new ArrayList<>();
+        ReplayAnalyzer.Summary summary = new ReplayAnalyzer(4).analyzeDirectory(dir, rows::add);
+
+        // Then
+        assertEquals(games, rows.size());
+        assertEquals(games, summary.getGames());
+        assertEquals(games, summary.getGames(GameMode.CLASSIC));
+        assertEquals(1, summary.getFailed());
+        for (ReplayMetrics metrics : rows) {
+            assertEquals(8, metrics.getPieces(), metrics.getName());
+            assertEquals(4, metrics.getFinesseFaults(), metrics.getName());
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.comp2042.replay;
+
+import com.comp2042.logic.bricks.BrickCatalog;
+import com.comp2042.models.EventSource;
+import com.comp2042.models.EventType;
+import com.comp2042.models.GameMode;
+import com.comp2042.models.MoveEvent;
+import com.comp2042.models.SimpleBoard;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ReplayRecorder, ReplayFile and ReplayPlayer.
+ * Tests that seeking anywhere, in any order, lands on exactly the recorded game.
+ */
+class ReplayFileTest {
+
+    private static final long SEED = 2024L;
+    private static final int KEYFRAME_TICKS = 120;
+
+    private static final MoveEvent USER_DOWN = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent MOVE = new MoveEvent(EventType.LEFT, EventSource.USER);
+
+    @TempDir
+    Path dir;
+
+    /** Board cells, brick, hold and score at one tick. */
+    private static final class Snapshot {
+        final long tick;
+        final int[][] cells;
+        final int current;
+        final int x;
+        final int y;
+        final int held;
+        final int score;
+        final int lines;
+
+        Snapshot(ReplayGame game) {
+            SimpleBoard board = game.getBoard();
+            tick = game.getTicks();
+            int[][] matrix = board.getBoardMatrix();
+            cells = new int[matrix.length][];
+            for (int r = 0; r < matrix.length; r++) {
+                cells[r] = matrix[r].clone();
+            }
+            current = BrickCatalog.typeOf(board.getCurrentBrick());
+            x = board.getViewData().getxPosition();
+            y = board.getViewData().getyPosition();
+            held = BrickCatalog.typeOf(board.getHeldBrick());
+            score = game.getScore().getScore();
+            lines = game.getTotalLinesCleared();
+        }
+
+        void assertMatches(ReplayGame game) {
+            Snapshot now = new Snapshot(game);
+            String at = "tick " + tick;
+            assertEquals(tick, now.tick, at);
+            assertArrayEquals(cells, now.cells, at);
+            assertEquals(current, now.current, at);
+            assertEquals(x, now.x, at);
+            assertEquals(y, now.y, at);
+            assertEquals(held, now.held, at);
+            assertEquals(score, now.score, at);
+            assertEquals(lines, now.lines, at);
+        }
+    }
+
+    /**
+     * Plays a random Survival game through a recorder, snapshotting the live
+     * game at some ticks, and writes the replay.
+     */
+    private List<Snapshot> recordGame(Path file, int maxTicks) throws IOException {
+        ReplayGame live = new ReplayGame(GameMode.SURVIVAL, SEED);
+        ReplayRecorder recorder = new ReplayRecorder(live, live::saveState);
+        recorder.start();
+
+        Random random = new Random(7);
+        List<Snapshot> snapshots = new ArrayList<>();
+        boolean newPiece = true;
+        while (!live.isFinished() && live.getTicks() < maxTicks) {
+            // Place each piece at a random rotation and column, with some noise
+            if (newPiece) {
+                for (int turns = random.nextInt(4); turns > 0; turns--) {
+                    recorder.onRotateClockwiseEvent(MOVE);
+                }
+                recorder.onShiftEvent(MOVE, random.nextInt(11) - 5);
+                newPiece = false;
+            }
+            if (random.nextInt(30) == 0) {
+                switch (random.nextInt(7)) {
+                    case 0: recorder.onLeftEvent(MOVE); break;
+                    case 1: recorder.onRightEvent(MOVE); break;
+                    case 2: recorder.onRotateEvent(MOVE); break;
+                    case 3: recorder.onRotate180Event(MOVE); break;
+                    case 4: recorder.onHoldEvent(MOVE); break;
+                    case 5: newPiece = recorder.onDownEvent(USER_DOWN) != null; break;
+                    default: newPiece = recorder.onHardDropEvent(MOVE) != null; break;
+                }
+            }
+            if (random.nextInt(40) == 0) {
+                snapshots.add(new Snapshot(live));
+            }
+            newPiece |= recorder.onGravityTick() != null;
+        }
+        snapshots.add(new Snapshot(live));
+
+        ReplayFile.write(file, GameMode.SURVIVAL, SEED, recorder.finish(), KEYFRAME_TICKS);
+        return snapshots;
+    }
+
+    @Test
+    void seekingInAnyOrder_landsOnTheRecordedGame() throws IOException {
+        // Given: a few minutes of play with keyframes every two seconds
+        Path file = dir.resolve("game.replay");
+        List<Snapshot> snapshots = recordGame(file, 3 * 60 * 60);
+
+        try (ReplayPlayer player = ReplayPlayer.open(file)) {
+            assertEquals(GameMode.SURVIVAL, player.getMode());
+            assertEquals(SEED, player.getSeed());
+            assertTrue(player.getDurationTicks() > 10 * KEYFRAME_TICKS, "Expected a long game");
+            assertEquals(player.getDurationTicks() / KEYFRAME_TICKS + 1, player.getKeyframeCount(), 1);
+
+            // When / Then: jumping around, backwards and forwards
+            Collections.shuffle(snapshots, new Random(3));
+            for (Snapshot snapshot : snapshots) {
+                player.seek(snapshot.tick);
+                snapshot.assertMatches(player.getGame());
+            }
+        }
+    }
+
+    @Test
+    void playingTickByTick_matchesSeeking() throws IOException {
+        Path file = dir.resolve("game.replay");
+        List<Snapshot> snapshots = recordGame(file, 60 * 60);
+
+        try (ReplayPlayer player = ReplayPlayer.open(file)) {
+            int next = 0;
+            for (long tick = 0; tick <= player.getDurationTicks() && next < snapshots.size(); tick++) {
+                player.seek(tick);
+                while (next < snapshots.size() && snapshots.get(next).tick == tick) {
+                    snapshots.get(next++).assertMatches(player.getGame());
+                }
+            }
+            assertEquals(snapshots.size(), next, "Every snapshot tick should be reached");
+        }
+    }
+
+    @Test
+    void seek_isClampedToTheReplay() throws IOException {
+        Path file = dir.resolve("game.replay");
+        List<Snapshot> snapshots = recordGame(file, 30 * 60);
+        Snapshot last = snapshots.get(snapshots.size() - 1);
+
+        try (ReplayPlayer player = ReplayPlayer.open(file)) {
+            player.seek(Long.MAX_VALUE);
+            last.assertMatches(player.getGame());
+            player.seek(-5);
+            assertEquals(0, player.getTick());
+        }
+    }
+
+    @Test
+    void damagedFile_isRejected() throws IOException {
+        Path file = dir.resolve("game.replay");
+        recordGame(file, 10 * 60);
+        byte[] bytes = Files.readAllBytes(file);
+
+        Files.write(file, java.util.Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(IOException.class, () -> ReplayPlayer.open(file));
+
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> ReplayPlayer.open(file));
+    }
+}
@@ -0,0 +1,158 @@
+package com.comp2042.save;
+
+import com.comp2042.logic.bricks.BrickCatalog;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.models.ClearRow;
+import com.comp2042.models.GameConfig;
+import com.comp2042.models.GameMode;
+import com.comp2042.models.SimpleBoard;
+import com.comp2042.models.ViewData;
+import com.comp2042.mode.RushModeHandler;
+import com.comp2042.mode.SurvivalModeHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SaveGame and the saveState/restoreState methods it stores.
+ * Tests that a restored game continues exactly like the original.
+ */
+class SaveGameTest {
+
+    private static final long SEED = 1234L;
+
+    @TempDir
+    Path dir;
+
+    private static SimpleBoard newBoard() {
+        SimpleBoard board = new SimpleBoard(25, 10, new RandomBrickGenerator(SEED));
+        board.setGarbageSeed(~SEED);
+        board.createNewBrick();
+        return board;
+    }
+
+    /** Plays a fixed sequence of moves so the board has cells, a hold and a score. */
+    private static void play(SimpleBoard board, int bricks) {
+        for (int i = 0; i < bricks; i++) {
+            if (i % 3 == 0) {
+                board.moveBrickLeft();
+                board.moveBrickLeft();
+            } else if (i % 3 == 1) {
+                board.rotateLeftBrick();
+                board.moveBrickRight();
+            }
+            if (i == 2) {
+                board.holdCurrentBrick();
+            }
+            board.getScore().addHardDropScore(board.hardDropBrick());
+            board.mergeBrickToBackground();
+            board.clearRows();
+            board.createNewBrick();
+        }
+        board.addGarbageRow();
+        board.moveBrickRight();
+        board.rotateLeftBrick();
+    }
+
+    private static void assertSameGame(SimpleBoard expected, SimpleBoard actual) {
+        assertArrayEquals(expected.getBoardMatrix(), actual.getBoardMatrix());
+        ViewData a = expected.getViewData();
+        ViewData b = actual.getViewData();
+        assertArrayEquals(a.getBrickData(), b.getBrickData());
+        assertEquals(a.getxPosition(), b.getxPosition());
+        assertEquals(a.getyPosition(), b.getyPosition());
+        assertEquals(BrickCatalog.typeOf(expected.getHeldBrick()), BrickCatalog.typeOf(actual.getHeldBrick()));
+        assertEquals(expected.hasHeldThisTurn(), actual.hasHeldThisTurn());
+        assertEquals(expected.getScore().getScore(), actual.getScore().getScore());
+        assertEquals(expected.getScore().getTotalLines(), actual.getScore().getTotalLines());
+    }
+
+    @Test
+    void restoredBoard_continuesExactlyLikeTheOriginal() {
+        // Given: a game in progress
+        SimpleBoard original = newBoard();
+        play(original, 12);
+
+        // When: saving and restoring into a fresh board
+        ByteBuffer buffer = ByteBuffer.allocate(SaveGame.MAX_STATE_SIZE);
+        original.saveState(buffer);
+        buffer.flip();
+        SimpleBoard restored = new SimpleBoard(25, 10, new RandomBrickGenerator(99L));
+        restored.restoreState(buffer);
+
+        // Then: the state matches, and stays identical as both games go on
+        assertFalse(buffer.hasRemaining(), "Restore should read everything that was saved");
+        assertSameGame(original, restored);
+        play(original, 8);
+        play(restored, 8);
+        assertSameGame(original, restored);
+    }
+
+    @Test
+    void savedSurvivalGame_isAFewHundredBytes() {
+        SimpleBoard board = newBoard();
+        play(board, 5);
+        SurvivalModeHandler survival = new SurvivalModeHandler(board, GameConfig.forMode(GameMode.SURVIVAL), 7L);
+
+        SaveGame save = SaveGame.capture(GameMode.SURVIVAL, SEED, out -> {
+            board.saveState(out);
+            survival.saveState(out);
+        });
+
+        assertTrue(save.getEncodedSize() < 300, "Save was " + save.getEncodedSize() + " bytes");
+    }
+
+    @Test
+    void rushHandler_keepsProgressAndElapsedTime() throws InterruptedException {
+        RushModeHandler rush = new RushModeHandler(40, null);
+        rush.start();
+        Thread.sleep(20);
+
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        rush.saveState(buffer);
+        buffer.flip();
+        RushModeHandler restored = new RushModeHandler(40, null);
+        restored.restoreState(buffer);
+        restored.handleLinesCleared(new ClearRow(40, new int[1][1], 0));
+
+        assertTrue(restored.isCompleted());
+        assertTrue(restored.getCompletionTimeSeconds() >= 0.02, "Time before the save still counts");
+    }
+
+    @Test
+    void writeThenRead_roundTrips() throws Exception {
+        Path file = dir.resolve("save.bin");
+        SaveGame save = SaveGame.capture(GameMode.RUSH_40, SEED, out -> out.putInt(42).put((byte) 7));
+
+        save.write(file);
+        SaveGame read = SaveGame.read(file);
+
+        assertNotNull(read);
+        assertEquals(GameMode.RUSH_40, read.getMode());
+        assertEquals(SEED, read.getSeed());
+        ByteBuffer state = read.getState();
+        assertEquals(42, state.getInt());
+        assertEquals(7, state.get());
+        assertFalse(Files.exists(dir.resolve("save.bin.tmp")), "Temp file should be renamed away");
+    }
+
+    @Test
+    void damagedOrMissingSave_readsAsNone() throws Exception {
+        Path file = dir.resolve("save.bin");
+        assertNull(SaveGame.read(file));
+
+        SaveGame.capture(GameMode.CLASSIC, SEED, out -> out.putLong(5L)).write(file);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(file, bytes);
+        assertNull(SaveGame.read(file), "A flipped bit must fail the checksum");
+
+        Files.write(file, new byte[]{1, 2, 3});
+        assertNull(SaveGame.read(file), "A truncated file is not a save");
+    }
+}
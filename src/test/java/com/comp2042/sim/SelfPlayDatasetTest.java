@@ -0,0 +1,111 @@
+package com.comp2042.sim;
+
+import com.comp2042.bot.EvaluationWeights;
+import com.comp2042.models.GameMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SelfPlayDatasetWriter, SelfPlayDatasetReader and SelfPlayExporter.
+ * Tests round trips across blocks, flush visibility and seeded self-play export.
+ */
+public class SelfPlayDatasetTest {
+
+    private static final int ROWS = 4;
+    private static final int COLUMNS = 10;
+    private static final int QUEUE = 3;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void roundTrip_acrossSeveralBlocks_readsBackEveryField() throws IOException {
+        Path file = tempDir.resolve("data.bin");
+        int records = 20;
+
+        // Given: block capacity 8, so 20 records span three blocks
+        try (SelfPlayDatasetWriter writer = new SelfPlayDatasetWriter(file, ROWS, COLUMNS, QUEUE, 8, 5)) {
+            for (int i = 0; i < records; i++) {
+                int[] rows = {i, i << 1, i << 2, 0b1111111111};
+                int hold = i % 2 == 0 ? -1 : i % 7;
+                writer.write(rows, i % 7, new int[]{1, 2, 3}, hold, i % 4, i % 10 - 1, i % 5, i * 100);
+            }
+        }
+
+        // When/Then: every field is read back from the mapping unchanged
+        try (SelfPlayDatasetReader reader = new SelfPlayDatasetReader(file)) {
+            assertEquals(records, reader.size());
+            assertEquals(ROWS, reader.getRows());
+            assertEquals(COLUMNS, reader.getColumns());
+
+            int[] board = new int[ROWS];
+            for (int i = 0; i < records; i++) {
+                reader.copyBoard(i, board);
+                assertArrayEquals(new int[]{i, i << 1, i << 2, 0b1111111111}, board);
+                assertEquals(i << 2, reader.getBoardRow(i, 2));
+                assertEquals(i % 7, reader.getPiece(i));
+                assertEquals(2, reader.getNext(i, 1));
+                assertEquals(i % 2 == 0 ? -1 : i % 7, reader.getHold(i));
+                assertEquals(i % 4, reader.getRotation(i));
+                assertEquals(i % 10 - 1, reader.getX(i), "Negative offsets should survive");
+                assertEquals(i % 5, reader.getLinesCleared(i));
+                assertEquals(i * 100, reader.getScoreDelta(i));
+            }
+        }
+    }
+
+    @Test
+    void reader_onlySeesFlushedRecords() throws IOException {
+        Path file = tempDir.resolve("partial.bin");
+
+        try (SelfPlayDatasetWriter writer = new SelfPlayDatasetWriter(file, ROWS, COLUMNS, QUEUE, 8, 4)) {
+            // Given: 6 records with a flush every 4
+            for (int i = 0; i < 6; i++) {
+                writer.write(new int[ROWS], 0, null, -1, 0, 0, 0, 0);
+            }
+
+            // Then: a reader opened mid-run sees only the first flush
+            try (SelfPlayDatasetReader reader = new SelfPlayDatasetReader(file)) {
+                assertEquals(4, reader.size());
+                assertEquals(-1, reader.getNext(0, 0), "Missing queue entries are stored as -1");
+                assertThrows(IndexOutOfBoundsException.class, () -> reader.getPiece(4));
+            }
+        }
+    }
+
+    @Test
+    void export_sameSeed_producesIdenticalDatasets() throws IOException {
+        Path first = tempDir.resolve("a.bin");
+        Path second = tempDir.resolve("b.bin");
+
+        long countA = exportTo(first);
+        long countB = exportTo(second);
+
+        assertTrue(countA > 0, "Bot should place at least one brick");
+        assertEquals(countA, countB);
+        try (SelfPlayDatasetReader a = new SelfPlayDatasetReader(first);
+             SelfPlayDatasetReader b = new SelfPlayDatasetReader(second)) {
+            assertEquals(countA, a.size());
+            for (long i = 0; i < a.size(); i++) {
+                assertEquals(a.getPiece(i), b.getPiece(i));
+                assertEquals(a.getX(i), b.getX(i));
+                assertEquals(a.getScoreDelta(i), b.getScoreDelta(i));
+                assertEquals(a.getBoardRow(i, HeadlessGame.BOARD_ROWS - 1),
+                        b.getBoardRow(i, HeadlessGame.BOARD_ROWS - 1));
+            }
+        }
+    }
+
+    private static long exportTo(Path file) throws IOException {
+        SelfPlayExporter exporter = new SelfPlayExporter(GameMode.CLASSIC, EvaluationWeights.defaults(), 50);
+        try (SelfPlayDatasetWriter writer = new SelfPlayDatasetWriter(file,
+                HeadlessGame.BOARD_ROWS, HeadlessGame.BOARD_COLUMNS, SelfPlayExporter.QUEUE_LENGTH)) {
+            return exporter.export(writer, 2, 42L);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.comp2042.sim;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for VectorisedEnvironment.
+ * Tests lockstep stepping, rewards, resets and determinism.
+ */
+public class VectorisedEnvironmentTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+    private static final int O_BRICK = 3;
+    private static final int I_BRICK = 0;
+
+    private VectorisedEnvironment env;
+
+    @AfterEach
+    void tearDown() {
+        if (env != null) {
+            env.close();
+        }
+    }
+
+    @Test
+    void step_squareOnEmptyBoard_landsOnFloor() {
+        env = new VectorisedEnvironment(1, ROWS, COLUMNS, 7L);
+        env.setCurrentPiece(0, O_BRICK);
+
+        // Action: rotation 0, leftmost block in column 0.
+        env.step(new int[]{0}, new float[1], new byte[1]);
+
+        assertEquals(0b11, env.getBoardRow(0, ROWS - 1), "Square should fill columns 0-1 of the bottom row");
+        assertEquals(0b11, env.getBoardRow(0, ROWS - 2));
+        assertEquals(1, env.getPiecesPlaced(0));
+    }
+
+    @Test
+    void step_completingLine_rewardsAndClears() {
+        env = new VectorisedEnvironment(1, ROWS, COLUMNS, 7L);
+        // Bottom row full except columns 0-3, then drop a flat I brick there.
+        env.setBoardRow(0, ROWS - 1, 0b1111110000);
+        env.setCurrentPiece(0, I_BRICK);
+
+        float[] rewards = new float[1];
+        byte[] done = new byte[1];
+        env.step(new int[]{0}, rewards, done);
+
+        assertEquals(50f, rewards[0], "Single line clear should reward 50 points");
+        assertEquals(0, done[0]);
+        assertEquals(0, env.getBoardRow(0, ROWS - 1), "Cleared row should be removed");
+        assertEquals(1, env.getLinesCleared(0));
+    }
+
+    @Test
+    void step_toppedOutGame_reportsDoneAndResets() {
+        env = new VectorisedEnvironment(2, ROWS, COLUMNS, 7L);
+        // Fill game 0 up to the spawn area; game 1 stays empty.
+        for (int row = 1; row < ROWS; row++) {
+            env.setBoardRow(0, row, 0b0111111111);
+        }
+
+        byte[] done = new byte[2];
+        env.step(new int[]{0, 0}, new float[2], done);
+
+        assertEquals(1, done[0], "Blocked spawn should end the game");
+        assertEquals(0, done[1], "Other games are unaffected");
+        assertEquals(0, env.getBoardRow(0, ROWS - 1), "Finished game should be reset");
+        assertEquals(0, env.getPiecesPlaced(0));
+    }
+
+    @Test
+    void step_sameSeed_isDeterministic() {
+        int games = 64;
+        int[] actions = new int[games];
+        float[] rewards = new float[games];
+        byte[] done = new byte[games];
+        int[] boardA = new int[ROWS];
+        int[] boardB = new int[ROWS];
+
+        try (VectorisedEnvironment a = new VectorisedEnvironment(games, ROWS, COLUMNS, 99L);
+             VectorisedEnvironment b = new VectorisedEnvironment(games, ROWS, COLUMNS, 99L)) {
+            for (int step = 0; step < 200; step++) {
+                for (int g = 0; g < games; g++) {
+                    actions[g] = (step * 7 + g) % a.getActionCount();
+                }
+                a.step(actions, rewards, done);
+                b.step(actions, rewards, done);
+            }
+            for (int g = 0; g < games; g++) {
+                a.copyBoard(g, boardA, 0);
+                b.copyBoard(g, boardB, 0);
+                assertArrayEquals(boardA, boardB, "Game " + g + " should match");
+                assertEquals(a.getCurrentPiece(g), b.getCurrentPiece(g));
+            }
+        }
+    }
+}
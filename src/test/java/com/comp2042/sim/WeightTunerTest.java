@@ -0,0 +1,112 @@
+package com.comp2042.sim;
+
+import com.comp2042.bot.EvaluationWeights;
+import com.comp2042.models.GameMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WeightTuner.
+ * Tests progress reporting, determinism and checkpoint resume.
+ */
+public class WeightTunerTest {
+
+    private static final int POPULATION = 6;
+    private static final int GAMES = 2;
+    private static final int PIECES = 30;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void run_reportsProgressEveryGeneration() throws IOException {
+        WeightTuner tuner = new WeightTuner(GameMode.CLASSIC, POPULATION, GAMES, PIECES, 1L);
+        List<Integer> generations = new ArrayList<>();
+        tuner.setProgressListener((generation, perSecond, best, weights) -> {
+            generations.add(generation);
+            assertTrue(perSecond > 0);
+        });
+
+        tuner.run(2);
+
+        assertEquals(List.of(1, 2), generations);
+        assertTrue(tuner.getBestFitness() >= 0, "Best fitness should be a real score");
+    }
+
+    @Test
+    void run_sameSeedOnDifferentPools_givesSameResult() throws IOException {
+        WeightTuner first = new WeightTuner(GameMode.CLASSIC, POPULATION, GAMES, PIECES, 9L);
+        WeightTuner second = new WeightTuner(GameMode.CLASSIC, POPULATION, GAMES, PIECES, 9L);
+        ForkJoinPool singleThread = new ForkJoinPool(1);
+        try {
+            second.setPool(singleThread);
+
+            first.run(2);
+            second.run(2);
+        } finally {
+            singleThread.shutdown();
+        }
+
+        assertEquals(first.getBestFitness(), second.getBestFitness());
+        assertArrayEquals(first.getBestWeights().toArray(), second.getBestWeights().toArray());
+    }
+
+    @Test
+    void resume_fromCheckpoint_continuesExactly() throws IOException {
+        Path checkpoint = tempDir.resolve("tuner.properties");
+
+        // Given: one run of 3 generations, and one stopped after 1 and resumed for 2 more
+        WeightTuner straight = new WeightTuner(GameMode.SURVIVAL, POPULATION, GAMES, PIECES, 5L);
+        straight.run(3);
+
+        WeightTuner interrupted = new WeightTuner(GameMode.SURVIVAL, POPULATION, GAMES, PIECES, 5L);
+        interrupted.setCheckpointPath(checkpoint);
+        interrupted.run(1);
+        assertTrue(Files.exists(checkpoint));
+
+        WeightTuner resumed = WeightTuner.resume(checkpoint);
+        assertEquals(1, resumed.getGeneration());
+        assertEquals(GameMode.SURVIVAL, resumed.getMode());
+        resumed.run(2);
+
+        // Then: both end in the same state
+        assertEquals(3, resumed.getGeneration());
+        assertEquals(straight.getBestFitness(), resumed.getBestFitness());
+        double[][] expected = straight.getPopulation();
+        double[][] actual = resumed.getPopulation();
+        for (int i = 0; i < POPULATION; i++) {
+            assertArrayEquals(expected[i], actual[i]);
+        }
+    }
+
+    @Test
+    void resume_corruptFile_throwsIOException() throws IOException {
+        Path checkpoint = tempDir.resolve("bad.properties");
+        Files.writeString(checkpoint, "version=1\npopulationSize=abc\n");
+
+        assertThrows(IOException.class, () -> WeightTuner.resume(checkpoint));
+    }
+
+    @Test
+    void getBestWeights_beforeRunning_returnsDefaultDirection() {
+        WeightTuner tuner = new WeightTuner(GameMode.CLASSIC, POPULATION, GAMES, PIECES, 3L);
+
+        double[] best = tuner.getBestWeights().toArray();
+        double[] defaults = EvaluationWeights.defaults().toArray();
+
+        // Same direction as the hand-tuned defaults, scaled to unit length.
+        double ratio = best[0] / defaults[0];
+        for (int i = 0; i < best.length; i++) {
+            assertEquals(defaults[i] * ratio, best[i], 1e-9);
+        }
+    }
+}